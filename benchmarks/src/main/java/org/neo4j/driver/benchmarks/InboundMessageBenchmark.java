@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.benchmarks.Payloads.Payload;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
+import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.ResponseMessageHandler;
+import org.neo4j.driver.internal.messaging.v5.MessageFormatV5;
+
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+/**
+ * Decoding of a chunked result stream, as it arrives from the network, into records. Covers de-chunking, message
+ * assembly and unpacking, but not dispatching to response handlers.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class InboundMessageBenchmark
+{
+    private static final int RECORD_FIELDS = 5;
+
+    @Param( {"PROPERTIES", "NODES", "RELATIONSHIPS", "PATHS"} )
+    public Payload payload;
+
+    @Param( {"100"} )
+    public int records;
+
+    @Param( {"1024", "65535"} )
+    public int maxChunkSize;
+
+    private final ByteBufInput input = new ByteBufInput();
+    private final MessageFormat.Reader reader = new MessageFormatV5().newReader( input );
+    private final CountingResponseHandler handler = new CountingResponseHandler();
+
+    private EmbeddedChannel channel;
+    private ByteBuf stream;
+
+    @Setup
+    public void setUp()
+    {
+        channel = new EmbeddedChannel( new ChunkDecoder( DEV_NULL_LOGGING ), new MessageDecoder() );
+        input.setChannel( channel );
+
+        List<ByteBuf> messages = new ArrayList<>();
+        for ( int i = 0; i < records; i++ )
+        {
+            messages.add( Payloads.recordMessage( payload, RECORD_FIELDS ) );
+        }
+        messages.add( Payloads.successMessage() );
+        stream = Payloads.chunked( messages, maxChunkSize );
+        messages.forEach( ByteBuf::release );
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        channel.finishAndReleaseAll();
+        stream.release();
+    }
+
+    @Benchmark
+    public int decode() throws IOException
+    {
+        handler.records = 0;
+        channel.writeInbound( stream.retainedDuplicate() );
+
+        ByteBuf message;
+        while ( (message = channel.readInbound()) != null )
+        {
+            input.start( message );
+            try
+            {
+                reader.read( handler );
+            }
+            finally
+            {
+                input.stop();
+                message.release();
+            }
+        }
+        return handler.records;
+    }
+
+    private static class CountingResponseHandler implements ResponseMessageHandler
+    {
+        int records;
+        Value[] lastRecord;
+
+        @Override
+        public void handleSuccessMessage( Map<String,Value> meta )
+        {
+        }
+
+        @Override
+        public void handleRecordMessage( Value[] fields )
+        {
+            records++;
+            lastRecord = fields;
+        }
+
+        @Override
+        public void handleFailureMessage( String code, String message )
+        {
+            throw new IllegalStateException( code + ": " + message );
+        }
+
+        @Override
+        public void handleIgnoredMessage()
+        {
+            throw new IllegalStateException( "Unexpected IGNORED" );
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.messaging.ValuePacker;
+import org.neo4j.driver.internal.messaging.ValueUnpacker;
+import org.neo4j.driver.internal.messaging.v5.ValuePackerV5;
+import org.neo4j.driver.internal.messaging.v5.ValueUnpackerV5;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
+import org.neo4j.driver.internal.value.ListValue;
+
+/**
+ * Packing and unpacking of inline blobs, which go through the blob value codec of Bolt V5.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class InlineBlobBenchmark
+{
+    @Param( {"1024", "65536", "1048576"} )
+    public int blobSize;
+
+    private final ByteBufInput input = new ByteBufInput();
+    private final ValueUnpacker unpacker = new ValueUnpackerV5( input );
+
+    private ByteBuf buf;
+    private ValuePacker packer;
+    private Value blobs;
+    private ByteBuf packedBlobs;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        buf = Unpooled.buffer( blobSize + 1024 );
+        packer = new ValuePackerV5( new ByteBufOutput( buf ) );
+        // values are unpacked as fields of a record, which is a list
+        blobs = new ListValue( Payloads.inlineBlob( blobSize ) );
+        packedBlobs = packV5().copy();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        buf.release();
+        packedBlobs.release();
+    }
+
+    @Benchmark
+    public ByteBuf packV5() throws IOException
+    {
+        buf.clear();
+        packer.pack( blobs );
+        return buf;
+    }
+
+    @Benchmark
+    public Value[] unpackV5() throws IOException
+    {
+        input.start( packedBlobs.duplicate() );
+        try
+        {
+            return unpacker.unpackArray();
+        }
+        finally
+        {
+            input.stop();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
+
+/**
+ * Raw PackStream encoding and decoding of the most common types, without the value layer on top.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class PackStreamBenchmark
+{
+    private static final String[] STRINGS = {"name", "Person #42", "person42@example.com", "KNOWS",
+            "A longer text property that does not fit into a tiny string and needs a size marker"};
+    private static final long[] INTEGERS = {0, 42, -17, 1_000, 70_000, 5_000_000_000L};
+
+    private final ByteBuf buf = Unpooled.buffer( 1024 );
+    private final PackStream.Packer packer = new PackStream.Packer( new ByteBufOutput( buf ) );
+    private final ByteBufInput input = new ByteBufInput();
+    private final PackStream.Unpacker unpacker = new PackStream.Unpacker( input );
+
+    private ByteBuf packedStrings;
+    private ByteBuf packedIntegers;
+    private ByteBuf packedMap;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        packStrings();
+        packedStrings = buf.copy();
+        packIntegers();
+        packedIntegers = buf.copy();
+        packMap();
+        packedMap = buf.copy();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        buf.release();
+        packedStrings.release();
+        packedIntegers.release();
+        packedMap.release();
+    }
+
+    @Benchmark
+    public ByteBuf packStrings() throws IOException
+    {
+        buf.clear();
+        for ( String string : STRINGS )
+        {
+            packer.pack( string );
+        }
+        return buf;
+    }
+
+    @Benchmark
+    public ByteBuf packIntegers() throws IOException
+    {
+        buf.clear();
+        for ( long integer : INTEGERS )
+        {
+            packer.pack( integer );
+        }
+        return buf;
+    }
+
+    @Benchmark
+    public ByteBuf packMap() throws IOException
+    {
+        buf.clear();
+        packer.packMapHeader( STRINGS.length );
+        for ( int i = 0; i < STRINGS.length; i++ )
+        {
+            packer.pack( STRINGS[i] );
+            packer.pack( INTEGERS[i] );
+        }
+        return buf;
+    }
+
+    @Benchmark
+    public void unpackStrings( Blackhole blackhole ) throws IOException
+    {
+        input.start( packedStrings.duplicate() );
+        for ( int i = 0; i < STRINGS.length; i++ )
+        {
+            blackhole.consume( unpacker.unpackString() );
+        }
+        input.stop();
+    }
+
+    @Benchmark
+    public void unpackIntegers( Blackhole blackhole ) throws IOException
+    {
+        input.start( packedIntegers.duplicate() );
+        for ( int i = 0; i < INTEGERS.length; i++ )
+        {
+            blackhole.consume( unpacker.unpackLong() );
+        }
+        input.stop();
+    }
+
+    @Benchmark
+    public void unpackMap( Blackhole blackhole ) throws IOException
+    {
+        input.start( packedMap.duplicate() );
+        long size = unpacker.unpackMapHeader();
+        for ( long i = 0; i < size; i++ )
+        {
+            blackhole.consume( unpacker.unpackString() );
+            blackhole.consume( unpacker.unpackLong() );
+        }
+        input.stop();
+    }
+}
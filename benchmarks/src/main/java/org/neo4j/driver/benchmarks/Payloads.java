@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.blob.BlobId;
+import org.neo4j.blob.MimeType;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
+import org.neo4j.driver.internal.messaging.response.SuccessMessage;
+import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
+import org.neo4j.driver.internal.value.InlineBlob;
+import org.neo4j.driver.internal.value.InternalBlobValue;
+import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.MapValue;
+
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.CHUNK_HEADER_SIZE_BYTES;
+import static org.neo4j.driver.internal.messaging.v1.MessageFormatV1.NODE;
+import static org.neo4j.driver.internal.messaging.v1.MessageFormatV1.PATH;
+import static org.neo4j.driver.internal.messaging.v1.MessageFormatV1.RELATIONSHIP;
+import static org.neo4j.driver.internal.messaging.v1.MessageFormatV1.UNBOUND_RELATIONSHIP;
+
+/**
+ * Payloads shared by benchmarks, shaped like results of typical graph queries. Graph entities can not be packed by the
+ * driver, so they are written the way the database writes them.
+ */
+public final class Payloads
+{
+    public enum Payload
+    {
+        PROPERTIES, NODES, RELATIONSHIPS, PATHS
+    }
+
+    private static final int PATH_LENGTH = 4;
+
+    private Payloads()
+    {
+    }
+
+    /**
+     * @return body of a RECORD message with the given number of fields of the given kind
+     */
+    static ByteBuf recordMessage( Payload payload, int fields )
+    {
+        return write( packer ->
+        {
+            packer.packStructHeader( 1, RecordMessage.SIGNATURE );
+            packer.packListHeader( fields );
+            for ( int i = 0; i < fields; i++ )
+            {
+                writeField( packer, payload, i );
+            }
+        } );
+    }
+
+    /**
+     * @return body of a SUCCESS message summarizing a result
+     */
+    static ByteBuf successMessage()
+    {
+        return write( packer ->
+        {
+            packer.packStructHeader( 1, SuccessMessage.SIGNATURE );
+            packer.packMapHeader( 3 );
+            packer.pack( "bookmark" );
+            packer.pack( "neo4j:bookmark:v1:tx4242" );
+            packer.pack( "t_last" );
+            packer.pack( 12L );
+            packer.pack( "type" );
+            packer.pack( "r" );
+        } );
+    }
+
+    /**
+     * Splits messages into chunks the way the database does, every message is terminated by an empty chunk.
+     */
+    static ByteBuf chunked( List<ByteBuf> messages, int maxChunkSize )
+    {
+        ByteBuf result = Unpooled.buffer();
+        for ( ByteBuf message : messages )
+        {
+            ByteBuf body = message.duplicate();
+            while ( body.isReadable() )
+            {
+                int size = Math.min( body.readableBytes(), maxChunkSize - CHUNK_HEADER_SIZE_BYTES );
+                result.writeShort( size );
+                result.writeBytes( body, size );
+            }
+            result.writeShort( 0 );
+        }
+        return result;
+    }
+
+    /**
+     * @return parameters of a batched write, a list of maps of properties
+     */
+    static Map<String,Value> batchParameters( int batchSize )
+    {
+        Value[] rows = new Value[batchSize];
+        for ( int i = 0; i < batchSize; i++ )
+        {
+            rows[i] = new MapValue( properties( i ) );
+        }
+        Map<String,Value> parameters = new HashMap<>();
+        parameters.put( "batch", new ListValue( rows ) );
+        return parameters;
+    }
+
+    static Value inlineBlob( int size )
+    {
+        byte[] bytes = new byte[size];
+        for ( int i = 0; i < size; i++ )
+        {
+            bytes[i] = (byte) i;
+        }
+        return new InternalBlobValue( new InlineBlob( bytes, BlobId.EMPTY(), size, MimeType.fromText( "application/octet-stream" ) ) );
+    }
+
+    private static Map<String,Value> properties( long id )
+    {
+        Map<String,Value> properties = new HashMap<>();
+        properties.put( "name", value( "Person #" + id ) );
+        properties.put( "born", value( 1950 + id % 50 ) );
+        properties.put( "email", value( "person" + id + "@example.com" ) );
+        properties.put( "score", value( id / 7.0 ) );
+        properties.put( "tags", value( "customer", "premium" ) );
+        return properties;
+    }
+
+    private static void writeField( PackStream.Packer packer, Payload payload, long id ) throws IOException
+    {
+        switch ( payload )
+        {
+        case PROPERTIES:
+            writeProperties( packer, id );
+            break;
+        case NODES:
+            writeNode( packer, id );
+            break;
+        case RELATIONSHIPS:
+            writeRelationship( packer, id );
+            break;
+        case PATHS:
+            writePath( packer, id );
+            break;
+        default:
+            throw new IllegalArgumentException( "Unknown payload: " + payload );
+        }
+    }
+
+    private static void writeProperties( PackStream.Packer packer, long id ) throws IOException
+    {
+        packer.packMapHeader( 5 );
+        packer.pack( "name" );
+        packer.pack( "Person #" + id );
+        packer.pack( "born" );
+        packer.pack( 1950 + id % 50 );
+        packer.pack( "email" );
+        packer.pack( "person" + id + "@example.com" );
+        packer.pack( "score" );
+        packer.pack( id / 7.0 );
+        packer.pack( "tags" );
+        packer.packListHeader( 2 );
+        packer.pack( "customer" );
+        packer.pack( "premium" );
+    }
+
+    private static void writeNode( PackStream.Packer packer, long id ) throws IOException
+    {
+        packer.packStructHeader( 3, NODE );
+        packer.pack( id );
+        packer.packListHeader( 2 );
+        packer.pack( "Person" );
+        packer.pack( "Customer" );
+        writeProperties( packer, id );
+    }
+
+    private static void writeRelationship( PackStream.Packer packer, long id ) throws IOException
+    {
+        packer.packStructHeader( 5, RELATIONSHIP );
+        packer.pack( id );
+        packer.pack( id );
+        packer.pack( id + 1 );
+        packer.pack( "KNOWS" );
+        writeRelationshipProperties( packer, id );
+    }
+
+    private static void writePath( PackStream.Packer packer, long id ) throws IOException
+    {
+        packer.packStructHeader( 3, PATH );
+        packer.packListHeader( PATH_LENGTH + 1 );
+        for ( int i = 0; i <= PATH_LENGTH; i++ )
+        {
+            writeNode( packer, id + i );
+        }
+        packer.packListHeader( PATH_LENGTH );
+        for ( int i = 0; i < PATH_LENGTH; i++ )
+        {
+            packer.packStructHeader( 3, UNBOUND_RELATIONSHIP );
+            packer.pack( id + i );
+            packer.pack( "KNOWS" );
+            writeRelationshipProperties( packer, id + i );
+        }
+        // every other relationship is traversed against its direction
+        packer.packListHeader( PATH_LENGTH * 2 );
+        for ( int i = 1; i <= PATH_LENGTH; i++ )
+        {
+            packer.pack( i % 2 == 0 ? -i : i );
+            packer.pack( i );
+        }
+    }
+
+    private static void writeRelationshipProperties( PackStream.Packer packer, long id ) throws IOException
+    {
+        packer.packMapHeader( 2 );
+        packer.pack( "since" );
+        packer.pack( 2000 + id % 20 );
+        packer.pack( "weight" );
+        packer.pack( id / 3.0 );
+    }
+
+    private static ByteBuf write( PackConsumer consumer )
+    {
+        ByteBuf buf = Unpooled.buffer();
+        try
+        {
+            consumer.accept( new PackStream.Packer( new ByteBufOutput( buf ) ) );
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+        return buf;
+    }
+
+    private interface PackConsumer
+    {
+        void accept( PackStream.Packer packer ) throws IOException;
+    }
+}
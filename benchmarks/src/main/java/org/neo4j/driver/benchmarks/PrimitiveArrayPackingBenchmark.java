@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
+
+/**
+ * Packing of one million element arrays passed as parameters, as primitive arrays and as lists of boxed numbers.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MILLISECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class PrimitiveArrayPackingBenchmark
+{
+    private static final int SIZE = 1_000_000;
+
+    // 64-bit integers need 9 bytes, list header needs 5 bytes
+    private final ByteBuf buf = Unpooled.buffer( SIZE * 9 + 5 );
+    private final PackStream.Packer packer = new PackStream.Packer( new ByteBufOutput( buf ) );
+
+    private long[] longs;
+    private double[] doubles;
+    private List<Long> boxedLongs;
+    private List<Double> boxedDoubles;
+
+    @Setup
+    public void setUp()
+    {
+        Random random = new Random( 42 );
+        longs = new long[SIZE];
+        doubles = new double[SIZE];
+        boxedLongs = new ArrayList<>( SIZE );
+        boxedDoubles = new ArrayList<>( SIZE );
+        for ( int i = 0; i < SIZE; i++ )
+        {
+            // mix of tiny, 8, 16 and 32 bit encodings
+            longs[i] = random.nextInt() >> random.nextInt( 32 );
+            doubles[i] = random.nextDouble();
+            boxedLongs.add( longs[i] );
+            boxedDoubles.add( doubles[i] );
+        }
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        buf.release();
+    }
+
+    @Benchmark
+    public ByteBuf packLongArray() throws IOException
+    {
+        buf.clear();
+        packer.pack( (Object) longs );
+        return buf;
+    }
+
+    @Benchmark
+    public ByteBuf packBoxedLongs() throws IOException
+    {
+        buf.clear();
+        packer.pack( (Object) boxedLongs );
+        return buf;
+    }
+
+    @Benchmark
+    public ByteBuf packDoubleArray() throws IOException
+    {
+        buf.clear();
+        packer.pack( (Object) doubles );
+        return buf;
+    }
+
+    @Benchmark
+    public ByteBuf packBoxedDoubles() throws IOException
+    {
+        buf.clear();
+        packer.pack( (Object) boxedDoubles );
+        return buf;
+    }
+}
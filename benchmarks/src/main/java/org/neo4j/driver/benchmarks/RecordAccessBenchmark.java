@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecord;
+
+import static org.neo4j.driver.Values.value;
+
+/**
+ * Access to fields of a record by key and by index, the way results are usually consumed.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class RecordAccessBenchmark
+{
+    @Param( {"3", "30"} )
+    public int fields;
+
+    private Record record;
+    private String[] keys;
+
+    @Setup
+    public void setUp()
+    {
+        List<String> keyList = new ArrayList<>( fields );
+        Value[] values = new Value[fields];
+        for ( int i = 0; i < fields; i++ )
+        {
+            keyList.add( "field" + i );
+            values[i] = value( "value of field " + i );
+        }
+        record = new InternalRecord( keyList, values );
+        keys = keyList.toArray( new String[0] );
+    }
+
+    @Benchmark
+    public void getAllByKey( Blackhole blackhole )
+    {
+        for ( String key : keys )
+        {
+            blackhole.consume( record.get( key ) );
+        }
+    }
+
+    @Benchmark
+    public void getAllByIndex( Blackhole blackhole )
+    {
+        for ( int i = 0; i < fields; i++ )
+        {
+            blackhole.consume( record.get( i ) );
+        }
+    }
+
+    @Benchmark
+    public boolean containsLastKey()
+    {
+        return record.containsKey( keys[keys.length - 1] );
+    }
+
+    @Benchmark
+    public Map<String,Object> asMap()
+    {
+        return record.asMap();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Statement;
+import org.neo4j.driver.StatementResult;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.BookmarksHolder;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.InternalStatementResult;
+import org.neo4j.driver.internal.async.AsyncStatementResultCursor;
+import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
+import org.neo4j.driver.internal.handlers.RunResponseHandler;
+import org.neo4j.driver.internal.handlers.SessionPullAllResponseHandler;
+import org.neo4j.driver.internal.messaging.BoltProtocol;
+import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.internal.util.ServerVersion;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.messaging.v3.BoltProtocolV3.METADATA_EXTRACTOR;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
+
+/**
+ * Rows per second of blocking iteration over a buffered result. Compares records taken directly from the pull handler with the future
+ * per record path, which went through {@code Futures.blockingGet(cursor.nextAsync())}.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.Throughput )
+@OutputTimeUnit( TimeUnit.SECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class RecordIterationBenchmark
+{
+    private static final int RECORDS = 1000;
+    private static final List<String> KEYS = Arrays.asList( "id", "name" );
+
+    private final Connection connection = new IdleConnection();
+    private final Value[][] rows = new Value[RECORDS][];
+
+    private PullAllResponseHandler pullAllHandler;
+    private AsyncStatementResultCursor cursor;
+
+    @Setup
+    public void setUp()
+    {
+        for ( int i = 0; i < RECORDS; i++ )
+        {
+            rows[i] = new Value[]{value( i ), value( "name " + i )};
+        }
+    }
+
+    @Setup( Level.Invocation )
+    public void bufferResult()
+    {
+        RunResponseHandler runHandler = new RunResponseHandler( new CompletableFuture<>(), METADATA_EXTRACTOR );
+        runHandler.onSuccess( singletonMap( "fields", value( KEYS ) ) );
+        pullAllHandler = new SessionPullAllResponseHandler( new Statement( "RETURN 1" ), runHandler, connection, BookmarksHolder.NO_OP,
+                METADATA_EXTRACTOR );
+        for ( Value[] row : rows )
+        {
+            pullAllHandler.onRecord( row );
+        }
+        pullAllHandler.onSuccess( emptyMap() );
+        cursor = new AsyncStatementResultCursor( runHandler, pullAllHandler );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( RECORDS )
+    public void blockingIteration( Blackhole blackhole )
+    {
+        StatementResult result = new InternalStatementResult( connection, cursor );
+        while ( result.hasNext() )
+        {
+            blackhole.consume( result.next() );
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation( RECORDS )
+    public void futurePerRecordIteration( Blackhole blackhole )
+    {
+        while ( Futures.blockingGet( cursor.peekAsync() ) != null )
+        {
+            blackhole.consume( Futures.blockingGet( cursor.nextAsync() ) );
+        }
+    }
+
+    /**
+     * Connection of a result that has been received completely, nothing is written to it anymore.
+     */
+    private static class IdleConnection implements Connection
+    {
+        @Override
+        public boolean isOpen()
+        {
+            return true;
+        }
+
+        @Override
+        public void enableAutoRead()
+        {
+        }
+
+        @Override
+        public void disableAutoRead()
+        {
+        }
+
+        @Override
+        public void write( Message message, ResponseHandler handler )
+        {
+        }
+
+        @Override
+        public void write( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2 )
+        {
+        }
+
+        @Override
+        public void writeAndFlush( Message message, ResponseHandler handler )
+        {
+        }
+
+        @Override
+        public void writeAndFlush( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2 )
+        {
+        }
+
+        @Override
+        public CompletionStage<Void> reset()
+        {
+            return completedWithNull();
+        }
+
+        @Override
+        public CompletionStage<Void> release()
+        {
+            return completedWithNull();
+        }
+
+        @Override
+        public void terminateAndRelease( String reason )
+        {
+        }
+
+        @Override
+        public BoltServerAddress serverAddress()
+        {
+            return BoltServerAddress.LOCAL_DEFAULT;
+        }
+
+        @Override
+        public ServerVersion serverVersion()
+        {
+            return ServerVersion.v3_5_0;
+        }
+
+        @Override
+        public BoltProtocol protocol()
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void flush()
+        {
+        }
+    }
+}
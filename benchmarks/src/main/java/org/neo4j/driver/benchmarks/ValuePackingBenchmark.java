@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.outbound.ChunkAwareByteBufOutput;
+import org.neo4j.driver.internal.messaging.ValuePacker;
+import org.neo4j.driver.internal.messaging.v2.ValuePackerV2;
+import org.neo4j.driver.internal.messaging.v5.ValuePackerV5;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
+
+/**
+ * Packing query parameters of a batched write, either into a plain buffer or split into chunks the way outbound
+ * messages are.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ValuePackingBenchmark
+{
+    @Param( {"1", "100", "1000"} )
+    public int batchSize;
+
+    private final ByteBuf buf = Unpooled.buffer( 64 * 1024 );
+    private final ChunkAwareByteBufOutput chunkedOutput = new ChunkAwareByteBufOutput();
+    private final ValuePacker packerV2 = new ValuePackerV2( new ByteBufOutput( buf ) );
+    private final ValuePacker chunkedPackerV2 = new ValuePackerV2( chunkedOutput );
+    private final ValuePacker chunkedPackerV5 = new ValuePackerV5( chunkedOutput );
+
+    private Map<String,Value> parameters;
+
+    @Setup
+    public void setUp()
+    {
+        parameters = Payloads.batchParameters( batchSize );
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        buf.release();
+    }
+
+    @Benchmark
+    public ByteBuf packV2() throws IOException
+    {
+        buf.clear();
+        packerV2.pack( parameters );
+        return buf;
+    }
+
+    @Benchmark
+    public ByteBuf packV2Chunked() throws IOException
+    {
+        return packChunked( chunkedPackerV2 );
+    }
+
+    @Benchmark
+    public ByteBuf packV5Chunked() throws IOException
+    {
+        return packChunked( chunkedPackerV5 );
+    }
+
+    private ByteBuf packChunked( ValuePacker packer ) throws IOException
+    {
+        buf.clear();
+        chunkedOutput.start( buf );
+        packer.pack( parameters );
+        return chunkedOutput.stop();
+    }
+}
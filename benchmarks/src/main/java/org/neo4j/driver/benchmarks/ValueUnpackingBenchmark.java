@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.benchmarks.Payloads.Payload;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.messaging.ValueUnpacker;
+import org.neo4j.driver.internal.messaging.v2.ValueUnpackerV2;
+import org.neo4j.driver.internal.messaging.v5.ValueUnpackerV5;
+
+/**
+ * Unpacking fields of a RECORD message into values, the hot path of consuming results.
+ */
+@State( Scope.Thread )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public class ValueUnpackingBenchmark
+{
+    @Param( {"PROPERTIES", "NODES", "RELATIONSHIPS", "PATHS"} )
+    public Payload payload;
+
+    @Param( {"1", "10"} )
+    public int fields;
+
+    private final ByteBufInput input = new ByteBufInput();
+    private final ValueUnpacker unpackerV2 = new ValueUnpackerV2( input );
+    private final ValueUnpacker unpackerV5 = new ValueUnpackerV5( input );
+
+    private ByteBuf record;
+
+    @Setup
+    public void setUp()
+    {
+        record = Payloads.recordMessage( payload, fields );
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        record.release();
+    }
+
+    @Benchmark
+    public Value[] unpackV2() throws IOException
+    {
+        return unpackRecord( unpackerV2 );
+    }
+
+    @Benchmark
+    public Value[] unpackV5() throws IOException
+    {
+        return unpackRecord( unpackerV5 );
+    }
+
+    private Value[] unpackRecord( ValueUnpacker unpacker ) throws IOException
+    {
+        input.start( record.duplicate() );
+        try
+        {
+            unpacker.unpackStructHeader();
+            unpacker.unpackStructSignature();
+            return unpacker.unpackArray();
+        }
+        finally
+        {
+            input.stop();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.cluster.ClusterComposition;
+import org.neo4j.driver.internal.cluster.ClusterRoutingTable;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.util.Clock;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.neo4j.driver.internal.messaging.request.MultiDatabaseUtil.ABSENT_DB_NAME;
+
+/**
+ * Connection acquisitions from many threads against a fresh routing table, the pool is a stub that hands out
+ * connections immediately, so that only the cost of routing is measured. Lives in the package of
+ * {@link LoadBalancer} to create it with a given routing table.
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.NANOSECONDS )
+@Warmup( iterations = 5, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+@Threads( 32 )
+public class LoadBalancerBenchmark
+{
+    private LoadBalancer loadBalancer;
+
+    @Setup
+    public void setUp()
+    {
+        Set<BoltServerAddress> readers = addresses( "reader", 3 );
+        Set<BoltServerAddress> writers = addresses( "writer", 1 );
+        Set<BoltServerAddress> routers = addresses( "router", 3 );
+
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( Clock.SYSTEM );
+        routingTable.update( new ClusterComposition( Long.MAX_VALUE, readers, writers, routers ) );
+
+        // routing table never expires, rediscovery and event executors are not used
+        loadBalancer = new LoadBalancer( new StubConnectionPool(), routingTable, null, null, Logging.none() );
+    }
+
+    @Benchmark
+    public CompletionStage<Connection> acquireReadConnection()
+    {
+        return loadBalancer.acquireConnection( ABSENT_DB_NAME, AccessMode.READ );
+    }
+
+    @Benchmark
+    public CompletionStage<Connection> acquireWriteConnection()
+    {
+        return loadBalancer.acquireConnection( ABSENT_DB_NAME, AccessMode.WRITE );
+    }
+
+    private static Set<BoltServerAddress> addresses( String host, int count )
+    {
+        Set<BoltServerAddress> addresses = new LinkedHashSet<>();
+        for ( int i = 0; i < count; i++ )
+        {
+            addresses.add( new BoltServerAddress( host + i, 7687 ) );
+        }
+        return addresses;
+    }
+
+    private static class StubConnectionPool implements ConnectionPool
+    {
+        @Override
+        public CompletionStage<Connection> acquire( BoltServerAddress address )
+        {
+            // connections are only wrapped by the load balancer, never used
+            return completedFuture( null );
+        }
+
+        @Override
+        public void retainAll( Set<BoltServerAddress> addressesToRetain )
+        {
+        }
+
+        @Override
+        public int inUseConnections( BoltServerAddress address )
+        {
+            return 0;
+        }
+
+        @Override
+        public int idleConnections( BoltServerAddress address )
+        {
+            return 0;
+        }
+
+        @Override
+        public CompletionStage<Void> close()
+        {
+            return completedFuture( null );
+        }
+
+        @Override
+        public boolean isOpen( BoltServerAddress address )
+        {
+            return true;
+        }
+    }
+}
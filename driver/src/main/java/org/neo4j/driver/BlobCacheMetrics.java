@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+/**
+ * Metrics of the client side cache of remote blob contents.
+ *
+ * @see Config.ConfigBuilder#withBlobCache(long, java.io.File, long)
+ */
+public interface BlobCacheMetrics
+{
+    /**
+     * The amount of times a blob was read from the cache.
+     * @return The amount of cache hits.
+     */
+    long hits();
+
+    /**
+     * The amount of times a cacheable blob was not found in the cache and was fetched from the database.
+     * @return The amount of cache misses.
+     */
+    long misses();
+
+    /**
+     * The amount of blobs dropped from the cache to make room for others. Blobs moved from memory to disk are not counted.
+     * @return The amount of evicted blobs.
+     */
+    long evictions();
+
+    /**
+     * The amount of bytes of blobs currently cached in memory.
+     * @return The size of the memory tier in bytes.
+     */
+    long memoryBytes();
+
+    /**
+     * The amount of bytes of blobs currently cached in memory-mapped files.
+     * @return The size of the disk tier in bytes.
+     */
+    long diskBytes();
+
+    /**
+     * Returns a snapshot of this blob cache metrics.
+     * @return a snapshot of this blob cache metrics.
+     */
+    BlobCacheMetrics snapshot();
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.neo4j.driver.async.AsyncSession;
+
+import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.internal.util.Preconditions.checkArgument;
+
+/**
+ * Configuration of bulk writes executed by {@link Session#writeBulk(String, java.util.Iterator, BulkWriteConfig)} and
+ * {@link AsyncSession#writeBulkAsync(String, java.util.Iterator, BulkWriteConfig)}.
+ * <p>
+ * Rows are cut into batches, every batch is passed to the statement as a list parameter, usually consumed by {@code UNWIND}. A batch is complete
+ * when it has {@link #batchSize()} rows or when its rows take {@link #maxBatchBytes()} bytes on the wire, whichever comes first. Up to
+ * {@link #maxPendingBatches()} batches are sent without waiting for results of the previous ones. A transaction is committed and a new one is
+ * started every {@link #batchesPerTransaction()} batches. Rows are pulled from the iterator in {@link #rowsExecutor()}, never in event loop
+ * threads.
+ */
+public class BulkWriteConfig
+{
+    private static final BulkWriteConfig DEFAULT = builder().build();
+
+    private final String parameterName;
+    private final int batchSize;
+    private final long maxBatchBytes;
+    private final int maxPendingBatches;
+    private final int batchesPerTransaction;
+    private final TransactionConfig transactionConfig;
+    private final Executor rowsExecutor;
+
+    private BulkWriteConfig( Builder builder )
+    {
+        this.parameterName = builder.parameterName;
+        this.batchSize = builder.batchSize;
+        this.maxBatchBytes = builder.maxBatchBytes;
+        this.maxPendingBatches = builder.maxPendingBatches;
+        this.batchesPerTransaction = builder.batchesPerTransaction;
+        this.transactionConfig = builder.transactionConfig;
+        this.rowsExecutor = builder.rowsExecutor;
+    }
+
+    /**
+     * Get a configuration object with default values.
+     *
+     * @return the default configuration object.
+     */
+    public static BulkWriteConfig defaultConfig()
+    {
+        return DEFAULT;
+    }
+
+    /**
+     * Create new {@link Builder} used to construct a configuration object.
+     *
+     * @return new builder.
+     */
+    public static Builder builder()
+    {
+        return new Builder();
+    }
+
+    /**
+     * Get the name of the statement parameter rows of a batch are passed in.
+     *
+     * @return the parameter name, {@code rows} by default.
+     */
+    public String parameterName()
+    {
+        return parameterName;
+    }
+
+    /**
+     * Get the maximum number of rows in a batch.
+     *
+     * @return the number of rows.
+     */
+    public int batchSize()
+    {
+        return batchSize;
+    }
+
+    /**
+     * Get the maximum encoded size of rows in a batch.
+     *
+     * @return the number of bytes.
+     */
+    public long maxBatchBytes()
+    {
+        return maxBatchBytes;
+    }
+
+    /**
+     * Get the maximum number of batches sent to the database and not completed yet.
+     *
+     * @return the number of batches.
+     */
+    public int maxPendingBatches()
+    {
+        return maxPendingBatches;
+    }
+
+    /**
+     * Get the number of batches written in a single transaction.
+     *
+     * @return the number of batches, {@link Integer#MAX_VALUE} when all rows are written in a single transaction.
+     */
+    public int batchesPerTransaction()
+    {
+        return batchesPerTransaction;
+    }
+
+    /**
+     * Get the configuration of transactions batches are written in.
+     *
+     * @return the transaction configuration.
+     */
+    public TransactionConfig transactionConfig()
+    {
+        return transactionConfig;
+    }
+
+    /**
+     * Get the executor rows are pulled from the iterator in.
+     *
+     * @return the executor, the common {@link ForkJoinPool} by default.
+     */
+    public Executor rowsExecutor()
+    {
+        return rowsExecutor;
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() )
+        {
+            return false;
+        }
+        BulkWriteConfig that = (BulkWriteConfig) o;
+        return batchSize == that.batchSize &&
+               maxBatchBytes == that.maxBatchBytes &&
+               maxPendingBatches == that.maxPendingBatches &&
+               batchesPerTransaction == that.batchesPerTransaction &&
+               Objects.equals( parameterName, that.parameterName ) &&
+               Objects.equals( transactionConfig, that.transactionConfig ) &&
+               Objects.equals( rowsExecutor, that.rowsExecutor );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash( parameterName, batchSize, maxBatchBytes, maxPendingBatches, batchesPerTransaction, transactionConfig, rowsExecutor );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BulkWriteConfig{" +
+               "parameterName='" + parameterName + '\'' +
+               ", batchSize=" + batchSize +
+               ", maxBatchBytes=" + maxBatchBytes +
+               ", maxPendingBatches=" + maxPendingBatches +
+               ", batchesPerTransaction=" + batchesPerTransaction +
+               ", transactionConfig=" + transactionConfig +
+               ", rowsExecutor=" + rowsExecutor +
+               '}';
+    }
+
+    /**
+     * Builder used to construct {@link BulkWriteConfig bulk write configuration} objects.
+     */
+    public static class Builder
+    {
+        private String parameterName = "rows";
+        private int batchSize = 1000;
+        private long maxBatchBytes = 4 * 1024 * 1024;
+        private int maxPendingBatches = 4;
+        private int batchesPerTransaction = 100;
+        private TransactionConfig transactionConfig = TransactionConfig.empty();
+        private Executor rowsExecutor = ForkJoinPool.commonPool();
+
+        private Builder()
+        {
+        }
+
+        /**
+         * Set the name of the statement parameter rows of a batch are passed in, for example {@code rows} for a statement like
+         * {@code UNWIND $rows AS row CREATE (n:Person) SET n = row}.
+         *
+         * @param parameterName the parameter name.
+         * @return this builder.
+         */
+        public Builder withParameterName( String parameterName )
+        {
+            requireNonNull( parameterName, "Parameter name should not be null" );
+            checkArgument( !parameterName.isEmpty(), "Parameter name should not be empty" );
+
+            this.parameterName = parameterName;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of rows in a batch. Default value is 1000.
+         *
+         * @param batchSize the number of rows, must be positive.
+         * @return this builder.
+         */
+        public Builder withBatchSize( int batchSize )
+        {
+            checkArgument( batchSize > 0, "Batch size should be positive: " + batchSize );
+
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum size of rows in a batch, measured the same way rows are encoded when sent to the database. A single row larger than
+         * this size makes a batch of its own. Default value is 4MB.
+         *
+         * @param maxBatchBytes the number of bytes, must be positive.
+         * @return this builder.
+         */
+        public Builder withMaxBatchBytes( long maxBatchBytes )
+        {
+            checkArgument( maxBatchBytes > 0, "Maximum batch size in bytes should be positive: " + maxBatchBytes );
+
+            this.maxBatchBytes = maxBatchBytes;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of batches sent to the database without waiting for results of previous batches. Pending batches are sent
+         * over the same connection, so a larger value hides network round trips at the cost of memory held by rows not written yet.
+         * Default value is 4.
+         *
+         * @param maxPendingBatches the number of batches, must be positive.
+         * @return this builder.
+         */
+        public Builder withMaxPendingBatches( int maxPendingBatches )
+        {
+            checkArgument( maxPendingBatches > 0, "Maximum number of pending batches should be positive: " + maxPendingBatches );
+
+            this.maxPendingBatches = maxPendingBatches;
+            return this;
+        }
+
+        /**
+         * Set the number of batches written in a single transaction. The transaction is committed and a new one is started when all of its
+         * batches are written. Use {@link Integer#MAX_VALUE} to write all rows in a single transaction. Default value is 100.
+         *
+         * @param batchesPerTransaction the number of batches, must be positive.
+         * @return this builder.
+         */
+        public Builder withBatchesPerTransaction( int batchesPerTransaction )
+        {
+            checkArgument( batchesPerTransaction > 0, "Number of batches per transaction should be positive: " + batchesPerTransaction );
+
+            this.batchesPerTransaction = batchesPerTransaction;
+            return this;
+        }
+
+        /**
+         * Set the configuration of transactions batches are written in.
+         *
+         * @param transactionConfig the transaction configuration.
+         * @return this builder.
+         */
+        public Builder withTransactionConfig( TransactionConfig transactionConfig )
+        {
+            this.transactionConfig = requireNonNull( transactionConfig, "Transaction config should not be null" );
+            return this;
+        }
+
+        /**
+         * Set the executor rows are pulled from the iterator in, along with encoding them into batches. An iterator that blocks, for
+         * example one reading rows from a file or another database, occupies a thread of this executor while it blocks, so such iterators
+         * should be given an executor of their own. Default value is the common {@link ForkJoinPool}.
+         *
+         * @param rowsExecutor the executor.
+         * @return this builder.
+         */
+        public Builder withRowsExecutor( Executor rowsExecutor )
+        {
+            this.rowsExecutor = requireNonNull( rowsExecutor, "Rows executor should not be null" );
+            return this;
+        }
+
+        /**
+         * Build the bulk write configuration object.
+         *
+         * @return new bulk write configuration object.
+         */
+        public BulkWriteConfig build()
+        {
+            return new BulkWriteConfig( this );
+        }
+    }
+}
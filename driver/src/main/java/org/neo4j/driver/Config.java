@@ -24,8 +24,15 @@ import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 
+import org.neo4j.driver.internal.BlobSettings;
+import org.neo4j.driver.internal.BlobTransferHints;
+import org.neo4j.driver.internal.async.outbound.EncodingSettings;
+import org.neo4j.driver.internal.async.outbound.FlushSettings;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
+import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
+import org.neo4j.driver.internal.handlers.RecordBufferBudget;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
 import org.neo4j.driver.internal.retry.RetrySettings;
 import org.neo4j.driver.exceptions.ServiceUnavailableException;
 import org.neo4j.driver.exceptions.SessionExpiredException;
@@ -87,6 +94,7 @@ public class Config
 
     private final int routingFailureLimit;
     private final long routingRetryDelayMillis;
+    private final double routingTableRefreshTtlFraction;
     private final int connectionTimeoutMillis;
     private final RetrySettings retrySettings;
 
@@ -95,6 +103,28 @@ public class Config
 
     private final boolean isMetricsEnabled;
 
+    private final int blobFetchWindowSize;
+    private final int blobFetchChunkSize;
+    private final int blobFetchParallelism;
+    private final long blobParallelFetchThreshold;
+    private final long blobCacheMemorySize;
+    private final File blobCacheDirectory;
+    private final long blobCacheDiskSize;
+    private final long blobInlineThreshold;
+    private final long maxRecordSize;
+    private final long blobStreamingThreshold;
+    private final int blobStreamingWindowSize;
+
+    private final long fetchSize;
+
+    private final long flushConsolidationMaxDelayNanos;
+    private final int flushConsolidationMaxBytes;
+
+    private final int maxOutboundChunkSize;
+
+    private final long maxRecordBufferSizePerResult;
+    private final long maxRecordBufferSizePerDriver;
+
     private Config( ConfigBuilder builder )
     {
         this.logging = builder.logging;
@@ -109,12 +139,35 @@ public class Config
         this.trustStrategy = builder.trustStrategy;
         this.routingFailureLimit = builder.routingFailureLimit;
         this.routingRetryDelayMillis = builder.routingRetryDelayMillis;
+        this.routingTableRefreshTtlFraction = builder.routingTableRefreshTtlFraction;
         this.connectionTimeoutMillis = builder.connectionTimeoutMillis;
         this.retrySettings = builder.retrySettings;
         this.loadBalancingStrategy = builder.loadBalancingStrategy;
         this.resolver = builder.resolver;
 
         this.isMetricsEnabled = builder.isMetricsEnabled;
+
+        this.blobFetchWindowSize = builder.blobFetchWindowSize;
+        this.blobFetchChunkSize = builder.blobFetchChunkSize;
+        this.blobFetchParallelism = builder.blobFetchParallelism;
+        this.blobParallelFetchThreshold = builder.blobParallelFetchThreshold;
+        this.blobCacheMemorySize = builder.blobCacheMemorySize;
+        this.blobCacheDirectory = builder.blobCacheDirectory;
+        this.blobCacheDiskSize = builder.blobCacheDiskSize;
+        this.blobInlineThreshold = builder.blobInlineThreshold;
+        this.maxRecordSize = builder.maxRecordSize;
+        this.blobStreamingThreshold = builder.blobStreamingThreshold;
+        this.blobStreamingWindowSize = builder.blobStreamingWindowSize;
+
+        this.fetchSize = builder.fetchSize;
+
+        this.flushConsolidationMaxDelayNanos = builder.flushConsolidationMaxDelayNanos;
+        this.flushConsolidationMaxBytes = builder.flushConsolidationMaxBytes;
+
+        this.maxOutboundChunkSize = builder.maxOutboundChunkSize;
+
+        this.maxRecordBufferSizePerResult = builder.maxRecordBufferSizePerResult;
+        this.maxRecordBufferSizePerDriver = builder.maxRecordBufferSizePerDriver;
     }
 
     /**
@@ -277,7 +330,17 @@ public class Config
 
     RoutingSettings routingSettings()
     {
-        return new RoutingSettings( routingFailureLimit, routingRetryDelayMillis );
+        return new RoutingSettings( routingFailureLimit, routingRetryDelayMillis, RoutingContext.EMPTY, routingTableRefreshTtlFraction );
+    }
+
+    /**
+     * Fraction of the time to live of a routing table after which the table is refreshed in background.
+     *
+     * @return the fraction, {@code 0} when routing tables are only refreshed once they expire.
+     */
+    public double routingTableRefreshTtlFraction()
+    {
+        return routingTableRefreshTtlFraction;
     }
 
     RetrySettings retrySettings()
@@ -290,6 +353,193 @@ public class Config
         return isMetricsEnabled;
     }
 
+    /**
+     * Maximum number of chunks of a remote blob buffered by the driver before it stops reading from the network.
+     *
+     * @return the number of chunks.
+     */
+    public int blobFetchWindowSize()
+    {
+        return blobFetchWindowSize;
+    }
+
+    /**
+     * Size of chunks requested when a remote blob is read.
+     *
+     * @return the chunk size in bytes or {@code -1} when the database decides on the size.
+     */
+    public int blobFetchChunkSize()
+    {
+        return blobFetchChunkSize;
+    }
+
+    /**
+     * Maximum number of connections a single large remote blob is fetched over.
+     *
+     * @return the number of connections, {@code 1} when blobs are never split.
+     */
+    public int blobFetchParallelism()
+    {
+        return blobFetchParallelism;
+    }
+
+    /**
+     * Minimum length of a remote blob for it to be fetched in parallel ranges.
+     *
+     * @return the length in bytes.
+     */
+    public long blobParallelFetchThreshold()
+    {
+        return blobParallelFetchThreshold;
+    }
+
+    /**
+     * @return {@code true} when contents of remote blobs are cached by the driver.
+     */
+    public boolean isBlobCacheEnabled()
+    {
+        return blobCacheMemorySize > 0 || blobCacheDirectory != null;
+    }
+
+    /**
+     * Maximum size of blobs cached in memory.
+     *
+     * @return the size in bytes, {@code 0} when blob cache is not enabled.
+     */
+    public long blobCacheMemorySize()
+    {
+        return blobCacheMemorySize;
+    }
+
+    /**
+     * Directory of memory-mapped files blobs are cached in when the memory tier of blob cache is full.
+     *
+     * @return the directory or {@code null} when blobs are only cached in memory.
+     */
+    public File blobCacheDirectory()
+    {
+        return blobCacheDirectory;
+    }
+
+    /**
+     * Maximum size of blobs cached on disk.
+     *
+     * @return the size in bytes, {@code 0} when blobs are not cached on disk.
+     */
+    public long blobCacheDiskSize()
+    {
+        return blobCacheDiskSize;
+    }
+
+    /**
+     * Length of the largest blob the database should send inline.
+     *
+     * @return the length in bytes or {@code -1} when the database decides.
+     */
+    public long blobInlineThreshold()
+    {
+        return blobInlineThreshold;
+    }
+
+    /**
+     * Preferred maximum size of records sent by the database.
+     *
+     * @return the size in bytes or {@code -1} when the database decides.
+     */
+    public long maxRecordSize()
+    {
+        return maxRecordSize;
+    }
+
+    /**
+     * Length of the largest blob parameter copied into the message buffer, longer blobs are streamed.
+     *
+     * @return the length in bytes.
+     */
+    public long blobStreamingThreshold()
+    {
+        return blobStreamingThreshold;
+    }
+
+    /**
+     * Number of bytes of a streamed blob parameter read from its stream at once.
+     *
+     * @return the size in bytes.
+     */
+    public int blobStreamingWindowSize()
+    {
+        return blobStreamingWindowSize;
+    }
+
+    /**
+     * Number of records requested from the database at once by blocking and async results.
+     *
+     * @return the fetch size or {@code -1} when all records are requested at once.
+     */
+    public long fetchSize()
+    {
+        return fetchSize;
+    }
+
+    /**
+     * @return {@code true} when flushes of messages written to a connection are consolidated.
+     */
+    public boolean isFlushConsolidationEnabled()
+    {
+        return flushConsolidationMaxDelayNanos != FlushSettings.CONSOLIDATION_DISABLED;
+    }
+
+    /**
+     * Longest time a flush of written messages is held back to be merged with the following ones.
+     *
+     * @return the delay in nanoseconds, {@code 0} when a flush is held back until the end of the current event loop iteration or
+     * {@code -1} when flush consolidation is not enabled.
+     */
+    public long flushConsolidationMaxDelayNanos()
+    {
+        return flushConsolidationMaxDelayNanos;
+    }
+
+    /**
+     * Amount of written bytes that makes a flush to be performed right away.
+     *
+     * @return the size in bytes, {@code 0} when flush consolidation is not enabled.
+     */
+    public int flushConsolidationMaxBytes()
+    {
+        return flushConsolidationMaxBytes;
+    }
+
+    /**
+     * Maximum size of a chunk outbound messages are split into.
+     *
+     * @return the size in bytes, including the chunk header.
+     */
+    public int maxOutboundChunkSize()
+    {
+        return maxOutboundChunkSize;
+    }
+
+    /**
+     * Amount of bytes of records a result buffers before reading from its connection is paused.
+     *
+     * @return the size in bytes.
+     */
+    public long maxRecordBufferSizePerResult()
+    {
+        return maxRecordBufferSizePerResult;
+    }
+
+    /**
+     * Amount of bytes of records all results of the driver together buffer before reading from their connections is paused.
+     *
+     * @return the size in bytes.
+     */
+    public long maxRecordBufferSizePerDriver()
+    {
+        return maxRecordBufferSizePerDriver;
+    }
+
     /**
      * Used to build new config instances
      */
@@ -306,10 +556,28 @@ public class Config
         private LoadBalancingStrategy loadBalancingStrategy = LoadBalancingStrategy.LEAST_CONNECTED;
         private int routingFailureLimit = RoutingSettings.DEFAULT.maxRoutingFailures();
         private long routingRetryDelayMillis = RoutingSettings.DEFAULT.retryTimeoutDelay();
+        private double routingTableRefreshTtlFraction = RoutingSettings.REFRESH_IN_BACKGROUND_DISABLED;
         private int connectionTimeoutMillis = (int) TimeUnit.SECONDS.toMillis( 5 );
         private RetrySettings retrySettings = RetrySettings.DEFAULT;
         private ServerAddressResolver resolver;
         private boolean isMetricsEnabled = false;
+        private int blobFetchWindowSize = BlobSettings.DEFAULT_FETCH_WINDOW_SIZE;
+        private int blobFetchChunkSize = BlobSettings.DEFAULT_FETCH_CHUNK_SIZE;
+        private int blobFetchParallelism = BlobSettings.DEFAULT_FETCH_PARALLELISM;
+        private long blobParallelFetchThreshold = BlobSettings.DEFAULT_PARALLEL_FETCH_THRESHOLD;
+        private long blobCacheMemorySize;
+        private File blobCacheDirectory;
+        private long blobCacheDiskSize;
+        private long blobInlineThreshold = BlobTransferHints.NOT_CONFIGURED;
+        private long maxRecordSize = BlobTransferHints.NOT_CONFIGURED;
+        private long blobStreamingThreshold = BlobSettings.DEFAULT_STREAMING_THRESHOLD;
+        private int blobStreamingWindowSize = BlobSettings.DEFAULT_STREAMING_WINDOW_SIZE;
+        private long fetchSize = FetchSizeUtil.UNLIMITED_FETCH_SIZE;
+        private long flushConsolidationMaxDelayNanos = FlushSettings.CONSOLIDATION_DISABLED;
+        private int flushConsolidationMaxBytes;
+        private int maxOutboundChunkSize = EncodingSettings.DEFAULT.maxChunkSize();
+        private long maxRecordBufferSizePerResult = RecordBufferBudget.DEFAULT_MAX_RESULT_BYTES;
+        private long maxRecordBufferSizePerDriver = RecordBufferBudget.DEFAULT_MAX_DRIVER_BYTES;
 
         private ConfigBuilder() {}
 
@@ -503,6 +771,10 @@ public class Config
          * Acquisition will be attempted for at most configured timeout
          * {@link #withConnectionAcquisitionTimeout(long, TimeUnit)} when limit is reached.
          * <p>
+         * Reading a remote blob acquires a connection of its own, besides the one held by the session that received
+         * the blob. Sessions that read blobs while keeping their connection, for example inside a transaction, need
+         * spare connections in the pool.
+         * <p>
          * Default value is {@code 100}. Negative values are allowed and result in unlimited pool. Value of {@code 0}
          * is not allowed.
          *
@@ -688,6 +960,40 @@ public class Config
             return this;
         }
 
+        /**
+         * Refresh routing tables in background before they expire. Without it, a routing table is refreshed once it expires and
+         * acquisitions of connections wait for the refresh to complete. With it, the table is refreshed after the given fraction of its
+         * time to live has passed, while connections are still acquired using the current table.
+         * <p>
+         * By default, routing tables are only refreshed once they expire.
+         *
+         * @param ttlFraction fraction of the time to live of a routing table after which it is refreshed, must be greater than {@code 0}
+         * and smaller than {@code 1}. For example {@code 0.8} refreshes a table with time to live of 5 minutes after 4 minutes.
+         * @return this builder
+         * @throws IllegalArgumentException when given fraction is out of range.
+         */
+        public ConfigBuilder withRoutingTableRefreshInBackground( double ttlFraction )
+        {
+            if ( !(ttlFraction > 0 && ttlFraction < 1) )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The fraction of routing table time to live must be greater than 0 and smaller than 1, but was %s.", ttlFraction ) );
+            }
+            this.routingTableRefreshTtlFraction = ttlFraction;
+            return this;
+        }
+
+        /**
+         * Refresh routing tables only once they expire. This is the default.
+         *
+         * @return this builder
+         */
+        public ConfigBuilder withoutRoutingTableRefreshInBackground()
+        {
+            this.routingTableRefreshTtlFraction = RoutingSettings.REFRESH_IN_BACKGROUND_DISABLED;
+            return this;
+        }
+
         /**
          * Specify socket connection timeout.
          * <p>
@@ -789,6 +1095,343 @@ public class Config
             return this;
         }
 
+        /**
+         * Configure how many chunks of a remote blob the driver is allowed to prefetch. When this many chunks are
+         * buffered and not yet read from the blob stream, the driver stops reading from the network until the
+         * application consumes some of them. This limits the amount of memory used by a slowly read blob.
+         * <p>
+         * Default value is {@code 16}.
+         *
+         * @param chunks the maximum number of prefetched chunks, must be greater than {@code 0}.
+         * @return this builder.
+         * @throws IllegalArgumentException when given value is not positive.
+         */
+        public ConfigBuilder withBlobFetchWindow( int chunks )
+        {
+            if ( chunks <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The blob fetch window must be greater than 0, but was %d.", chunks ) );
+            }
+            this.blobFetchWindowSize = chunks;
+            return this;
+        }
+
+        /**
+         * Configure the size of chunks requested from the database when a remote blob is read. By default the
+         * database decides on the chunk size.
+         *
+         * @param bytes the chunk size in bytes, must be greater than {@code 0}.
+         * @return this builder.
+         * @throws IllegalArgumentException when given value is not positive.
+         */
+        public ConfigBuilder withBlobFetchChunkSize( int bytes )
+        {
+            if ( bytes <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The blob fetch chunk size must be greater than 0, but was %d.", bytes ) );
+            }
+            this.blobFetchChunkSize = bytes;
+            return this;
+        }
+
+        /**
+         * Configure parallel fetching of large remote blobs. A remote blob of at least the given length is split into
+         * {@code parallelism} consecutive ranges which are fetched at the same time, each over its own connection
+         * acquired from the connection pool. The blob stream still returns bytes in order. This reduces the time it
+         * takes to read a large blob over a connection with high latency, at the cost of using more connections.
+         * A blob is split into no more ranges than there are idle connections towards the database when it is read,
+         * so that reading it never waits for additional connections.
+         * <p>
+         * Default parallelism is {@code 1}, which means blobs are never split, and default minimum length is 64 MB.
+         * The database has to support ranged blob requests for parallelism greater than {@code 1}.
+         *
+         * @param parallelism the maximum number of connections used to fetch a single blob, must be greater than {@code 0}.
+         * @param minBlobSize the minimum length of a blob in bytes for it to be split, must not be negative.
+         * @return this builder.
+         * @throws IllegalArgumentException when given parallelism is not positive or minimum length is negative.
+         */
+        public ConfigBuilder withBlobParallelFetch( int parallelism, long minBlobSize )
+        {
+            if ( parallelism <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The blob fetch parallelism must be greater than 0, but was %d.", parallelism ) );
+            }
+            if ( minBlobSize < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The minimum size of a blob fetched in parallel must not be negative, but was %d.", minBlobSize ) );
+            }
+            this.blobFetchParallelism = parallelism;
+            this.blobParallelFetchThreshold = minBlobSize;
+            return this;
+        }
+
+        /**
+         * Enable caching of remote blob contents in memory. Blobs are identified by their id, so a blob read again is
+         * served from the cache without a request to the database. When the cache is full, least recently used blobs
+         * are evicted. Blobs larger than the cache are not cached.
+         * <p>
+         * Blob cache is disabled by default.
+         *
+         * @param maxMemoryBytes the maximum size of cached blobs in bytes, must be greater than {@code 0}.
+         * @return this builder.
+         * @throws IllegalArgumentException when given size is not positive.
+         * @see Metrics#blobCacheMetrics()
+         */
+        public ConfigBuilder withBlobCache( long maxMemoryBytes )
+        {
+            if ( maxMemoryBytes <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The blob cache memory size must be greater than 0, but was %d.", maxMemoryBytes ) );
+            }
+            this.blobCacheMemorySize = maxMemoryBytes;
+            this.blobCacheDirectory = null;
+            this.blobCacheDiskSize = 0;
+            return this;
+        }
+
+        /**
+         * Enable caching of remote blob contents in memory and on disk. Blobs that do not fit into memory, or least
+         * recently used blobs pushed out of memory, are kept in memory-mapped files in the given directory. When the
+         * disk tier is full, least recently used blobs are evicted and their files are deleted. Remaining cache files
+         * are deleted when the driver is closed. A single blob takes at most half of the memory tier, larger blobs are
+         * only cached on disk.
+         * <p>
+         * Blob cache is disabled by default.
+         *
+         * @param maxMemoryBytes the maximum size of blobs cached in memory in bytes, must not be negative.
+         * @param directory the directory of cache files, must exist.
+         * @param maxDiskBytes the maximum size of blobs cached on disk in bytes, must be greater than {@code 0}.
+         * @return this builder.
+         * @throws IllegalArgumentException when given sizes are illegal or the directory does not exist.
+         * @see Metrics#blobCacheMetrics()
+         */
+        public ConfigBuilder withBlobCache( long maxMemoryBytes, File directory, long maxDiskBytes )
+        {
+            if ( maxMemoryBytes < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The blob cache memory size must not be negative, but was %d.", maxMemoryBytes ) );
+            }
+            if ( !directory.isDirectory() )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The blob cache directory %s does not exist.", directory ) );
+            }
+            if ( maxDiskBytes <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The blob cache disk size must be greater than 0, but was %d.", maxDiskBytes ) );
+            }
+            this.blobCacheMemorySize = maxMemoryBytes;
+            this.blobCacheDirectory = directory;
+            this.blobCacheDiskSize = maxDiskBytes;
+            return this;
+        }
+
+        /**
+         * Disable caching of remote blob contents. This is the default.
+         *
+         * @return this builder.
+         */
+        public ConfigBuilder withoutBlobCache()
+        {
+            this.blobCacheMemorySize = 0;
+            this.blobCacheDirectory = null;
+            this.blobCacheDiskSize = 0;
+            return this;
+        }
+
+        /**
+         * Configure the length of the largest blob the database should send inline, as part of the record. Larger
+         * blobs are sent as handles and fetched separately when read. Small inline blobs save a round trip, large
+         * remote blobs keep the record stream small. The value is advertised when a connection is established and can
+         * be overridden per session with {@link SessionParametersTemplate#withBlobInlineThreshold(long)}.
+         * <p>
+         * By default the database decides. Only used by databases supporting blobs.
+         *
+         * @param bytes the threshold in bytes, must not be negative.
+         * @return this builder.
+         * @throws IllegalArgumentException when given value is negative.
+         */
+        public ConfigBuilder withBlobInlineThreshold( long bytes )
+        {
+            if ( bytes < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The blob inline threshold must not be negative, but was %d.", bytes ) );
+            }
+            this.blobInlineThreshold = bytes;
+            return this;
+        }
+
+        /**
+         * Configure the preferred maximum size of records sent by the database. Blobs that would make a record larger
+         * are sent as handles and fetched separately when read. The value is advertised when a connection is
+         * established and can be overridden per session with {@link SessionParametersTemplate#withMaxRecordSize(long)}.
+         * <p>
+         * By default the database decides. Only used by databases supporting blobs.
+         *
+         * @param bytes the size in bytes, must be greater than {@code 0}.
+         * @return this builder.
+         * @throws IllegalArgumentException when given value is not positive.
+         */
+        public ConfigBuilder withMaxRecordSize( long bytes )
+        {
+            if ( bytes <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The maximum record size must be greater than 0, but was %d.", bytes ) );
+            }
+            this.maxRecordSize = bytes;
+            return this;
+        }
+
+        /**
+         * Configure streaming of large blob parameters. Blobs longer than the given length are not copied into the
+         * message buffer, their stream is opened once and read on a separate thread, one window of bytes at a time,
+         * while the message is written to the network. At most a couple of windows of a blob are held in memory.
+         * <p>
+         * Default minimum length is 1 MB and default window size is 256 KB.
+         *
+         * @param minBlobSize the length of the largest blob in bytes copied into the message buffer, must not be negative.
+         * @param windowSize the number of bytes read from the blob stream at once, must be greater than {@code 0}.
+         * @return this builder.
+         * @throws IllegalArgumentException when given length is negative or window size is not positive.
+         */
+        public ConfigBuilder withBlobStreaming( long minBlobSize, int windowSize )
+        {
+            if ( minBlobSize < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The minimum size of a streamed blob must not be negative, but was %d.", minBlobSize ) );
+            }
+            if ( windowSize <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The blob streaming window size must be greater than 0, but was %d.", windowSize ) );
+            }
+            this.blobStreamingThreshold = minBlobSize;
+            this.blobStreamingWindowSize = windowSize;
+            return this;
+        }
+
+        /**
+         * Configure the number of records requested from the database at once by blocking and async results. The next
+         * batch is requested when the records buffered by a result run low, and the rest of the result is discarded
+         * by the database when the result is consumed before all records are received. This way reading a few records
+         * of a large result does not make the database send all of them.
+         * <p>
+         * By default all records are requested at once. The value can be overridden per session with
+         * {@link SessionParametersTemplate#withFetchSize(long)}. Only used by databases supporting Bolt protocol
+         * version 4 or later, reactive results always request records on demand.
+         *
+         * @param size the fetch size, must be greater than {@code 0} or {@code -1} to request all records at once.
+         * @return this builder.
+         * @throws IllegalArgumentException when given value is {@code 0} or less than {@code -1}.
+         */
+        public ConfigBuilder withFetchSize( long size )
+        {
+            this.fetchSize = FetchSizeUtil.assertValidFetchSize( size );
+            return this;
+        }
+
+        /**
+         * Enable consolidation of flushes of messages written to a connection. A flush is held back for at most the given delay, so that
+         * messages written to the same connection in the meantime go out with a single write system call and, for encrypted connections,
+         * in fewer TLS records. This trades a little latency of single messages for throughput of connections that write many small
+         * messages. A flush is performed right away when the given amount of bytes is written.
+         * <p>
+         * With zero delay a flush is held back until the end of the current event loop iteration only. Flush consolidation is disabled by
+         * default, effect of enabling it can be observed with {@link Metrics#flushMetrics()}.
+         *
+         * @param maxDelay the longest time a flush is held back, must not be negative.
+         * @param unit the unit of the delay.
+         * @param maxBytes the amount of written bytes that makes a flush to be performed right away, must be greater than {@code 0}.
+         * @return this builder.
+         * @throws IllegalArgumentException when given values are illegal.
+         */
+        public ConfigBuilder withFlushConsolidation( long maxDelay, TimeUnit unit, int maxBytes )
+        {
+            if ( maxDelay < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The maximum flush delay must not be negative, but was %d.", maxDelay ) );
+            }
+            if ( maxBytes <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The maximum amount of bytes of a held back flush must be greater than 0, but was %d.", maxBytes ) );
+            }
+            this.flushConsolidationMaxDelayNanos = unit.toNanos( maxDelay );
+            this.flushConsolidationMaxBytes = maxBytes;
+            return this;
+        }
+
+        /**
+         * Disable consolidation of flushes, every message is flushed as soon as it is written. This is the default.
+         *
+         * @return this builder.
+         */
+        public ConfigBuilder withoutFlushConsolidation()
+        {
+            this.flushConsolidationMaxDelayNanos = FlushSettings.CONSOLIDATION_DISABLED;
+            this.flushConsolidationMaxBytes = 0;
+            return this;
+        }
+
+        /**
+         * Set the maximum size of a chunk outbound messages are split into. Larger chunks mean fewer chunk headers for messages with
+         * large parameters, smaller chunks let messages of other connections interleave sooner on a shared network. Large byte arrays,
+         * for example of bulk writes or inline blobs, are not copied into message buffers: their chunks are written straight from the
+         * array.
+         * <p>
+         * Default value is {@code 16383} bytes.
+         *
+         * @param size the chunk size in bytes including the {@code 2} byte chunk header, must be between {@code 3} and {@code 65537}.
+         * @return this builder.
+         * @throws IllegalArgumentException when given value is out of range.
+         */
+        public ConfigBuilder withMaxOutboundChunkSize( int size )
+        {
+            this.maxOutboundChunkSize = EncodingSettings.assertValidMaxChunkSize( size );
+            return this;
+        }
+
+        /**
+         * Set how many bytes of received records are buffered before reading from the network is paused. Records are buffered when they
+         * arrive faster than they are consumed, sizes are the sizes of RECORD messages as received. A result pauses reading from its connection
+         * when it buffers more than {@code maxBytesPerResult}, or when results of all connections of the driver together buffer more than
+         * {@code maxBytesPerDriver}. Reading resumes when the buffer of the result is drained by the consumer.
+         * <p>
+         * Default values are {@code 4} MB per result and {@code 256} MB per driver.
+         *
+         * @param maxBytesPerResult the size in bytes of records a single result buffers, must be greater than {@code 0}.
+         * @param maxBytesPerDriver the size in bytes of records all results together buffer, must be greater than {@code 0}.
+         * @return this builder.
+         * @throws IllegalArgumentException when given values are not positive.
+         */
+        public ConfigBuilder withRecordBufferSize( long maxBytesPerResult, long maxBytesPerDriver )
+        {
+            if ( maxBytesPerResult <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The record buffer size of a result must be greater than 0, but was %d.", maxBytesPerResult ) );
+            }
+            if ( maxBytesPerDriver <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The record buffer size of the driver must be greater than 0, but was %d.", maxBytesPerDriver ) );
+            }
+            this.maxRecordBufferSizePerResult = maxBytesPerResult;
+            this.maxRecordBufferSizePerDriver = maxBytesPerDriver;
+            return this;
+        }
+
         /**
          * Create a config instance from this builder.
          * <p>
@@ -828,7 +1471,11 @@ public class Config
     public enum LoadBalancingStrategy
     {
         ROUND_ROBIN,
-        LEAST_CONNECTED
+        LEAST_CONNECTED,
+        /**
+         * Prefers servers with short response times and few active connections, compares two servers picked at random.
+         */
+        LATENCY_AWARE
     }
 
     /**
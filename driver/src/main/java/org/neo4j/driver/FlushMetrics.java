@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+/**
+ * Metrics of flushes of messages written to network connections. Without flush consolidation every requested flush is performed, with
+ * flush consolidation enabled several requested flushes are merged into one.
+ *
+ * @see Config.ConfigBuilder#withFlushConsolidation(long, java.util.concurrent.TimeUnit, int)
+ */
+public interface FlushMetrics
+{
+    /**
+     * The amount of flushes requested by the driver, usually one per message or group of messages written together.
+     * @return The amount of requested flushes.
+     */
+    long requestedFlushes();
+
+    /**
+     * The amount of flushes performed on network connections. Every performed flush takes at least one write system call.
+     * @return The amount of performed flushes.
+     */
+    long flushes();
+
+    /**
+     * The amount of requested flushes that were merged into other flushes and did not take a write system call of their own.
+     * @return The amount of saved flushes.
+     */
+    long savedFlushes();
+
+    /**
+     * The amount of bytes of messages written by performed flushes.
+     * @return The amount of flushed bytes.
+     */
+    long flushedBytes();
+
+    /**
+     * The average amount of bytes written by a flush.
+     * @return The average size of a flush in bytes or {@code 0} when nothing was flushed yet.
+     */
+    double averageBytesPerFlush();
+
+    /**
+     * Returns a snapshot of this flush metrics.
+     * @return a snapshot of this flush metrics.
+     */
+    FlushMetrics snapshot();
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+/**
+ * Metrics of buffers messages are encoded into before they are written to network connections. Small messages are encoded into a buffer
+ * shared by many messages of a connection, larger ones into a buffer of their own sized by the sizes of previous messages of the same type.
+ */
+public interface MessageEncodingMetrics
+{
+    /**
+     * The amount of encoded messages.
+     * @return The amount of encoded messages.
+     */
+    long encodedMessages();
+
+    /**
+     * The amount of buffers allocated for encoding of messages, including buffers shared by small messages.
+     * @return The amount of allocated buffers.
+     */
+    long allocations();
+
+    /**
+     * The amount of times a buffer had to grow because a message did not fit into it.
+     * @return The amount of reallocations.
+     */
+    long reallocations();
+
+    /**
+     * Returns a snapshot of this message encoding metrics.
+     * @return a snapshot of this message encoding metrics.
+     */
+    MessageEncodingMetrics snapshot();
+}
@@ -29,6 +29,30 @@ public interface Metrics
      */
     Map<String, ConnectionPoolMetrics> connectionPoolMetrics();
 
+    /**
+     * Metrics of the blob cache.
+     * @return The blob cache metrics or {@code null} when the blob cache is not enabled.
+     */
+    BlobCacheMetrics blobCacheMetrics();
+
+    /**
+     * Metrics of flushes of messages written to network connections.
+     * @return The flush metrics.
+     */
+    FlushMetrics flushMetrics();
+
+    /**
+     * Metrics of buffers messages are encoded into.
+     * @return The message encoding metrics.
+     */
+    MessageEncodingMetrics messageEncodingMetrics();
+
+    /**
+     * Metrics of records received from the network and buffered until they are consumed.
+     * @return The record buffer metrics.
+     */
+    RecordBufferMetrics recordBufferMetrics();
+
     /**
      * Returns a snapshot of this metrics.
      * @return a snapshot of this metrics.
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+/**
+ * Metrics of records received from the network and buffered by results until they are consumed. Sizes are approximate, they are the sizes of
+ * RECORD messages as received. Reading from a connection is paused when a result buffers too many bytes or when results of all connections
+ * together do, see {@link Config.ConfigBuilder#withRecordBufferSize(long, long)}.
+ */
+public interface RecordBufferMetrics
+{
+    /**
+     * The amount of bytes of records currently buffered by results still receiving records.
+     * @return The amount of buffered bytes.
+     */
+    long bufferedBytes();
+
+    /**
+     * The largest amount of bytes of records buffered at the same time.
+     * @return The peak amount of buffered bytes.
+     */
+    long peakBufferedBytes();
+
+    /**
+     * The amount of times reading from a connection was paused because too many bytes of records were buffered.
+     * @return The amount of paused reads.
+     */
+    long pausedReads();
+
+    /**
+     * Returns a snapshot of this record buffer metrics.
+     * @return a snapshot of this record buffer metrics.
+     */
+    RecordBufferMetrics snapshot();
+}
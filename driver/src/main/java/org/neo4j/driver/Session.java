@@ -18,9 +18,11 @@
  */
 package org.neo4j.driver;
 
+import java.util.Iterator;
 import java.util.Map;
 
 import org.neo4j.driver.async.AsyncSession;
+import org.neo4j.driver.summary.BulkWriteSummary;
 import org.neo4j.driver.util.Resource;
 
 /**
@@ -204,6 +206,26 @@ public interface Session extends Resource, StatementRunner
      */
     StatementResult run( Statement statement, TransactionConfig config );
 
+    /**
+     * Write rows in bulk using the given statement. Rows are cut into batches as specified by the {@link BulkWriteConfig configuration} and
+     * every batch is passed to the statement as a list parameter, so the statement is expected to {@code UNWIND} it.
+     * <h2>Example</h2>
+     * <pre>
+     * {@code
+     * BulkWriteSummary summary = session.writeBulk( "UNWIND $rows AS row CREATE (p:Person {name: row.name, age: row.age})",
+     *                 people.iterator(), BulkWriteConfig.defaultConfig() );
+     * }
+     * </pre>
+     * Batches are written in a series of explicit transactions. Rows committed before a failure are not rolled back. Rows are pulled from
+     * the given iterator in {@link BulkWriteConfig#rowsExecutor()}, the common {@link java.util.concurrent.ForkJoinPool} by default.
+     *
+     * @param statementTemplate text of a Neo4j statement consuming a batch of rows.
+     * @param rows rows to write, each row is a map of property names to values.
+     * @param config configuration of batching and transactions.
+     * @return summary of the written rows.
+     */
+    BulkWriteSummary writeBulk( String statementTemplate, Iterator<? extends Map<String,Object>> rows, BulkWriteConfig config );
+
     /**
      * Return the bookmark received following the last completed
      * {@linkplain Transaction transaction}. If no bookmark was received
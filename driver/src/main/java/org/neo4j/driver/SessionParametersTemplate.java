@@ -65,4 +65,41 @@ public interface SessionParametersTemplate
      * @return this builder.
      */
     SessionParametersTemplate withDatabase( String database );
+
+    /**
+     * Set the length of the largest blob the database should send inline, as part of the record, to this session.
+     * Larger blobs are sent as handles and fetched separately when read. Small inline blobs save a round trip, large
+     * remote blobs keep the record stream small. The database decides when this is not set.
+     * <p>
+     * Only used by databases supporting blobs.
+     *
+     * @param bytes the threshold in bytes, must not be negative.
+     * @return this builder.
+     * @see org.neo4j.driver.Config.ConfigBuilder#withBlobInlineThreshold(long)
+     */
+    SessionParametersTemplate withBlobInlineThreshold( long bytes );
+
+    /**
+     * Set the preferred maximum size of records sent to this session. Blobs that would make a record larger are sent as
+     * handles and fetched separately when read.
+     * <p>
+     * Only used by databases supporting blobs.
+     *
+     * @param bytes the size in bytes, must be greater than {@code 0}.
+     * @return this builder.
+     * @see org.neo4j.driver.Config.ConfigBuilder#withMaxRecordSize(long)
+     */
+    SessionParametersTemplate withMaxRecordSize( long bytes );
+
+    /**
+     * Set the number of records requested from the database at once by blocking and async results of this session.
+     * When not set, the fetch size configured for the driver is used.
+     * <p>
+     * Only used by databases supporting Bolt protocol version 4 or later.
+     *
+     * @param size the fetch size, must be greater than {@code 0} or {@code -1} to request all records at once.
+     * @return this builder.
+     * @see org.neo4j.driver.Config.ConfigBuilder#withFetchSize(long)
+     */
+    SessionParametersTemplate withFetchSize( long size );
 }
@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver;
 
+import java.util.List;
+
 import org.neo4j.driver.util.Resource;
 
 /**
@@ -73,6 +75,26 @@ public interface Transaction extends Resource, StatementRunner
      */
     void failure();
 
+    /**
+     * Run all given statements back to back, without waiting for the result of a statement before the next one is sent. All statements
+     * are sent to the database at once, so they cost a single network round trip instead of one round trip each.
+     * <p>
+     * Results are returned in the order of statements and can be consumed in any order. Failure of a statement fails the transaction,
+     * statements following the failed one are ignored by the database.
+     * <h2>Example</h2>
+     * <pre>
+     * {@code
+     * List<StatementResult> results = tx.runAll( Arrays.asList(
+     *         new Statement( "CREATE (n:Person {name: $name})", parameters( "name", "Alice" ) ),
+     *         new Statement( "CREATE (n:Person {name: $name})", parameters( "name", "Bob" ) ) ) );
+     * }
+     * </pre>
+     *
+     * @param statements statements to run.
+     * @return results of the statements, in the order of statements.
+     */
+    List<StatementResult> runAll( List<Statement> statements );
+
     /**
      * Closing the transaction will complete it - it will commit if {@link #success()} has been called.
      * When this method returns, all outstanding statements in the transaction are guaranteed to
@@ -364,6 +364,24 @@ public interface Value extends MapAccessor, MapAccessorWithDefaultValue
      */
     <T> List<T> asList( Function<Value,T> mapFunction, List<T> defaultValue );
 
+    /**
+     * If the underlying type is a list of numbers, returns its elements as a Java long array without boxing them.
+     *
+     * @return the value as a Java long array, if possible.
+     * @throws LossyCoercion if it is not possible to convert an element without loosing precision.
+     * @throws Uncoercible if value types are incompatible.
+     */
+    long[] asLongArray();
+
+    /**
+     * If the underlying type is a list of numbers, returns its elements as a Java double array without boxing them.
+     *
+     * @return the value as a Java double array, if possible.
+     * @throws LossyCoercion if it is not possible to convert an element without loosing precision.
+     * @throws Uncoercible if value types are incompatible.
+     */
+    double[] asDoubleArray();
+
     /**
      * @return the value as a {@link Entity}, if possible.
      * @throws Uncoercible if value types are incompatible.
@@ -182,42 +182,32 @@ public abstract class Values
 
     public static Value value( long... input )
     {
-        Value[] values = new Value[input.length];
-        for ( int i = 0; i < input.length; i++ )
-        {
-            values[i] = value( input[i] );
-        }
-        return new ListValue( values );
+        return new LongListValue( input.clone() );
     }
 
     public static Value value( int... input )
     {
-        Value[] values = new Value[input.length];
+        long[] values = new long[input.length];
         for ( int i = 0; i < input.length; i++ )
         {
-            values[i] = value( input[i] );
+            values[i] = input[i];
         }
-        return new ListValue( values );
+        return new LongListValue( values );
     }
 
     public static Value value( double... input )
     {
-        Value[] values = new Value[input.length];
-        for ( int i = 0; i < input.length; i++ )
-        {
-            values[i] = value( input[i] );
-        }
-        return new ListValue( values );
+        return new DoubleListValue( input.clone() );
     }
 
     public static Value value( float... input )
     {
-        Value[] values = new Value[input.length];
+        double[] values = new double[input.length];
         for ( int i = 0; i < input.length; i++ )
         {
-            values[i] = value( input[i] );
+            values[i] = input[i];
         }
-        return new ListValue( values );
+        return new DoubleListValue( values );
     }
 
     public static Value value( List<Object> vals )
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.async;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -25,10 +26,12 @@ import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.BulkWriteConfig;
 import org.neo4j.driver.Statement;
 import org.neo4j.driver.Transaction;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.summary.BulkWriteSummary;
 
 /**
  * Provides a context of work for database interactions.
@@ -293,6 +296,22 @@ public interface AsyncSession extends AsyncStatementRunner
      */
     CompletionStage<StatementResultCursor> runAsync( Statement statement, TransactionConfig config );
 
+    /**
+     * Write rows in bulk asynchronously using the given statement. Rows are cut into batches as specified by the
+     * {@link BulkWriteConfig configuration} and every batch is passed to the statement as a list parameter, so the statement is expected to
+     * {@code UNWIND} it. Batches are written in a series of explicit transactions. Rows committed before a failure are not rolled back.
+     * <p>
+     * Rows are pulled from the given iterator in {@link BulkWriteConfig#rowsExecutor()}, the common {@link java.util.concurrent.ForkJoinPool} by
+     * default, never in event loop threads.
+     *
+     * @param statementTemplate text of a Neo4j statement consuming a batch of rows.
+     * @param rows rows to write, each row is a map of property names to values.
+     * @param config configuration of batching and transactions.
+     * @return new {@link CompletionStage} that gets completed with a summary of the written rows when all rows are committed. Stage is
+     * completed exceptionally when a batch or a commit fails.
+     */
+    CompletionStage<BulkWriteSummary> writeBulkAsync( String statementTemplate, Iterator<? extends Map<String,Object>> rows, BulkWriteConfig config );
+
     /**
      * Return the bookmark received following the last completed
      * {@linkplain Transaction transaction}. If no bookmark was received
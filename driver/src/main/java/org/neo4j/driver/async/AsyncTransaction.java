@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.async;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
@@ -90,4 +91,19 @@ public interface AsyncTransaction extends AsyncStatementRunner
      * be completed exceptionally when rollback fails.
      */
     CompletionStage<Void> rollbackAsync();
+
+    /**
+     * Run all given statements asynchronously, without waiting for the result of a statement before the next one is sent. All statements
+     * are sent to the database at once, so they cost a single network round trip instead of one round trip each.
+     * <p>
+     * Cursors are returned in the order of statements and can be consumed in any order. Failure of a statement fails the transaction,
+     * statements following the failed one are ignored by the database. Failures are reported by the cursors.
+     * <p>
+     * It is not allowed to chain blocking operations on the returned {@link CompletionStage}. See class javadoc in
+     * {@link AsyncStatementRunner} for more information.
+     *
+     * @param statements statements to run.
+     * @return new {@link CompletionStage} that gets completed with cursors of the statements, in the order of statements.
+     */
+    CompletionStage<List<StatementResultCursor>> runAllAsync( List<Statement> statements );
 }
@@ -0,0 +1,525 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.blob.BlobId;
+import org.neo4j.driver.BlobCacheMetrics;
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.metrics.SnapshotBlobCacheMetrics;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Client side cache of remote blob contents, keyed by {@link BlobId}. Blobs are kept in memory and, when a directory is
+ * configured, moved to memory-mapped files once the memory tier is full. Both tiers are bounded by size and evict the
+ * least recently used blobs first.
+ * <p>
+ * Files of the disk tier are deleted when their blobs are evicted and when the cache is {@link #close() closed}. A file
+ * still mapped by a stream reading it keeps its disk space until the mapping is garbage collected, where the file system
+ * allows deleting it at all. Files of a process that died are left in the directory.
+ * <p>
+ * A single blob takes at most half of the memory tier, larger blobs go straight to the disk tier. Concurrent
+ * {@link #get(BlobId, long, ContentSource) lookups} of the same blob share one fetch of its content.
+ */
+public class BlobCache implements BlobCacheMetrics
+{
+    private static final int MEMORY_ENTRY_FRACTION = 2;
+
+    private final long maxMemoryBytes;
+    private final long maxMemoryEntryBytes;
+    private final File directory;
+    private final long maxDiskBytes;
+    private final Logger log;
+
+    private final Map<BlobId,ByteBuffer> memoryTier = new LinkedHashMap<>( 16, 0.75f, true );
+    private final Map<BlobId,CacheFile> diskTier = new LinkedHashMap<>( 16, 0.75f, true );
+    private final Map<BlobId,CompletableFuture<ByteBuffer>> fetches = new HashMap<>();
+    private long memoryBytes;
+    private long diskBytes;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param maxMemoryBytes maximum size of blobs cached in memory.
+     * @param directory directory of the disk tier, {@code null} when blobs are only cached in memory.
+     * @param maxDiskBytes maximum size of blobs cached on disk, ignored without directory.
+     * @param logging the logging.
+     */
+    public BlobCache( long maxMemoryBytes, File directory, long maxDiskBytes, Logging logging )
+    {
+        this.maxMemoryBytes = maxMemoryBytes;
+        this.maxMemoryEntryBytes = Math.min( maxMemoryBytes / MEMORY_ENTRY_FRACTION, Integer.MAX_VALUE );
+        this.directory = directory;
+        this.maxDiskBytes = directory == null ? 0 : maxDiskBytes;
+        this.log = logging.getLog( BlobCache.class.getSimpleName() );
+    }
+
+    /**
+     * @param length length of a blob in bytes.
+     * @return {@code true} when a blob of the given length fits into one of the tiers.
+     */
+    public boolean isCacheable( long length )
+    {
+        return length <= maxMemoryEntryBytes || (length <= maxDiskBytes && length <= Integer.MAX_VALUE);
+    }
+
+    /**
+     * Look up content of a blob without fetching it, used by tests. A miss is counted when the blob is not cached.
+     *
+     * @param id the blob id.
+     * @return stream of the cached content or {@code null} when it is not cached.
+     */
+    InputStream get( BlobId id )
+    {
+        ByteBuffer content;
+        synchronized ( this )
+        {
+            content = cached( id );
+        }
+
+        if ( content == null )
+        {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return new ByteBufferInputStream( content.duplicate() );
+    }
+
+    /**
+     * Look up content of a blob and fetch it from the given source when it is not cached. Only one fetch of the same
+     * blob is in progress at a time, concurrent lookups wait for it and are counted as hits. When that fetch fails
+     * they open the source themselves and return its content uncached.
+     *
+     * @param id the blob id.
+     * @param length length of the blob in bytes, it has to be {@link #isCacheable(long) cacheable}.
+     * @param source source of the content, only opened on a miss.
+     * @return stream of the content.
+     * @throws IOException when content can't be fetched or written to the disk tier.
+     */
+    public InputStream get( BlobId id, long length, ContentSource source ) throws IOException
+    {
+        ByteBuffer content;
+        CompletableFuture<ByteBuffer> fetch;
+        boolean fetching = false;
+        synchronized ( this )
+        {
+            content = cached( id );
+            fetch = fetches.get( id );
+            if ( content == null && fetch == null )
+            {
+                fetch = new CompletableFuture<>();
+                fetches.put( id, fetch );
+                fetching = true;
+            }
+        }
+
+        if ( content != null )
+        {
+            hits.incrementAndGet();
+            return new ByteBufferInputStream( content.duplicate() );
+        }
+        if ( fetching )
+        {
+            misses.incrementAndGet();
+            return fetch( id, length, source, fetch );
+        }
+        return await( fetch, source );
+    }
+
+    /**
+     * Read the given content fully and cache it, used by tests.
+     *
+     * @param id the blob id.
+     * @param length length of the content in bytes, it has to be {@link #isCacheable(long) cacheable}.
+     * @param content the content, not closed by this method.
+     * @return stream of the cached content.
+     * @throws IOException when content can't be read or written to the disk tier.
+     */
+    InputStream put( BlobId id, long length, InputStream content ) throws IOException
+    {
+        return new ByteBufferInputStream( store( id, length, content ).duplicate() );
+    }
+
+    /**
+     * Drop all cached blobs and delete files of the disk tier. Streams of cached blobs opened before stay readable.
+     */
+    public synchronized void close()
+    {
+        memoryTier.clear();
+        memoryBytes = 0;
+        for ( CacheFile file : diskTier.values() )
+        {
+            delete( file );
+        }
+        diskTier.clear();
+        diskBytes = 0;
+    }
+
+    @Override
+    public long hits()
+    {
+        return hits.get();
+    }
+
+    @Override
+    public long misses()
+    {
+        return misses.get();
+    }
+
+    @Override
+    public long evictions()
+    {
+        return evictions.get();
+    }
+
+    @Override
+    public synchronized long memoryBytes()
+    {
+        return memoryBytes;
+    }
+
+    @Override
+    public synchronized long diskBytes()
+    {
+        return diskBytes;
+    }
+
+    @Override
+    public BlobCacheMetrics snapshot()
+    {
+        return new SnapshotBlobCacheMetrics( this );
+    }
+
+    private ByteBuffer store( BlobId id, long length, InputStream content ) throws IOException
+    {
+        ByteBuffer cached;
+        List<Map.Entry<BlobId,ByteBuffer>> spilled;
+        if ( length <= maxMemoryEntryBytes )
+        {
+            cached = readToMemory( content, (int) length );
+            synchronized ( this )
+            {
+                remove( id );
+                memoryTier.put( id, cached );
+                memoryBytes += length;
+                spilled = evictFromMemory();
+            }
+        }
+        else
+        {
+            CacheFile file = readToDisk( content, length );
+            cached = file.content;
+            synchronized ( this )
+            {
+                remove( id );
+                putOnDisk( id, file );
+            }
+            spilled = new ArrayList<>();
+        }
+
+        // blobs pushed out of memory are written to disk outside of the lock
+        for ( Map.Entry<BlobId,ByteBuffer> entry : spilled )
+        {
+            spill( entry.getKey(), entry.getValue() );
+        }
+        return cached;
+    }
+
+    private ByteBuffer cached( BlobId id )
+    {
+        ByteBuffer content = memoryTier.get( id );
+        if ( content != null )
+        {
+            return content;
+        }
+        CacheFile file = diskTier.get( id );
+        return file != null ? file.content : null;
+    }
+
+    private InputStream fetch( BlobId id, long length, ContentSource source, CompletableFuture<ByteBuffer> fetch )
+            throws IOException
+    {
+        try ( InputStream remote = source.open() )
+        {
+            ByteBuffer content = store( id, length, remote );
+            fetch.complete( content );
+            return new ByteBufferInputStream( content.duplicate() );
+        }
+        catch ( Throwable error )
+        {
+            fetch.completeExceptionally( error );
+            throw error;
+        }
+        finally
+        {
+            synchronized ( this )
+            {
+                fetches.remove( id );
+            }
+        }
+    }
+
+    private InputStream await( CompletableFuture<ByteBuffer> fetch, ContentSource source ) throws IOException
+    {
+        ByteBuffer content;
+        try
+        {
+            content = fetch.get();
+        }
+        catch ( InterruptedException e )
+        {
+            Thread.currentThread().interrupt();
+            throw new IOException( "Interrupted while waiting for the blob to be fetched", e );
+        }
+        catch ( ExecutionException e )
+        {
+            // the other fetch failed, try once more without caching
+            return source.open();
+        }
+        hits.incrementAndGet();
+        return new ByteBufferInputStream( content.duplicate() );
+    }
+
+    private void remove( BlobId id )
+    {
+        ByteBuffer previous = memoryTier.remove( id );
+        if ( previous != null )
+        {
+            memoryBytes -= previous.capacity();
+        }
+        CacheFile previousFile = diskTier.remove( id );
+        if ( previousFile != null )
+        {
+            diskBytes -= previousFile.content.capacity();
+            delete( previousFile );
+        }
+    }
+
+    private List<Map.Entry<BlobId,ByteBuffer>> evictFromMemory()
+    {
+        List<Map.Entry<BlobId,ByteBuffer>> spilled = new ArrayList<>();
+        Iterator<Map.Entry<BlobId,ByteBuffer>> iterator = memoryTier.entrySet().iterator();
+        while ( memoryBytes > maxMemoryBytes && iterator.hasNext() )
+        {
+            Map.Entry<BlobId,ByteBuffer> eldest = iterator.next();
+            iterator.remove();
+            memoryBytes -= eldest.getValue().capacity();
+            if ( eldest.getValue().capacity() <= maxDiskBytes )
+            {
+                spilled.add( eldest );
+            }
+            else
+            {
+                evictions.incrementAndGet();
+            }
+        }
+        return spilled;
+    }
+
+    private void putOnDisk( BlobId id, CacheFile file )
+    {
+        diskTier.put( id, file );
+        diskBytes += file.content.capacity();
+
+        Iterator<CacheFile> iterator = diskTier.values().iterator();
+        while ( diskBytes > maxDiskBytes && iterator.hasNext() )
+        {
+            CacheFile eldest = iterator.next();
+            iterator.remove();
+            diskBytes -= eldest.content.capacity();
+            delete( eldest );
+            evictions.incrementAndGet();
+        }
+    }
+
+    private void spill( BlobId id, ByteBuffer content )
+    {
+        try
+        {
+            CacheFile file = readToDisk( new ByteBufferInputStream( content.duplicate() ), content.capacity() );
+            synchronized ( this )
+            {
+                // blob might have been cached again in the meantime
+                if ( !memoryTier.containsKey( id ) )
+                {
+                    remove( id );
+                    putOnDisk( id, file );
+                }
+                else
+                {
+                    delete( file );
+                }
+            }
+        }
+        catch ( IOException e )
+        {
+            evictions.incrementAndGet();
+            log.warn( "Unable to move blob to the disk cache in " + directory, e );
+        }
+    }
+
+    private static ByteBuffer readToMemory( InputStream content, int length ) throws IOException
+    {
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while ( offset < length )
+        {
+            int read = content.read( bytes, offset, length - offset );
+            if ( read == -1 )
+            {
+                throw new IOException( "Blob stream ended after " + offset + " bytes, but blob length is " + length );
+            }
+            offset += read;
+        }
+        return ByteBuffer.wrap( bytes );
+    }
+
+    private CacheFile readToDisk( InputStream content, long length ) throws IOException
+    {
+        File file = File.createTempFile( "blob-", ".cache", directory );
+        try ( FileChannel channel = FileChannel.open( file.toPath(), READ, WRITE ) )
+        {
+            ReadableByteChannel source = Channels.newChannel( content );
+            long position = 0;
+            while ( position < length )
+            {
+                long transferred = channel.transferFrom( source, position, length - position );
+                if ( transferred <= 0 )
+                {
+                    throw new IOException( "Blob stream ended after " + position + " bytes, but blob length is " + length );
+                }
+                position += transferred;
+            }
+            // mapping stays valid after the channel is closed
+            return new CacheFile( file, channel.map( FileChannel.MapMode.READ_ONLY, 0, length ) );
+        }
+        catch ( Throwable error )
+        {
+            if ( !file.delete() )
+            {
+                log.warn( "Unable to delete blob cache file " + file );
+            }
+            throw error;
+        }
+    }
+
+    private void delete( CacheFile file )
+    {
+        if ( !file.file.delete() )
+        {
+            log.warn( "Unable to delete blob cache file " + file.file + ", its space is given back when the file is not used anymore" );
+        }
+    }
+
+    /**
+     * Blob of the disk tier, mapped from its file.
+     */
+    private static class CacheFile
+    {
+        final File file;
+        final ByteBuffer content;
+
+        CacheFile( File file, ByteBuffer content )
+        {
+            this.file = file;
+            this.content = content;
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream
+    {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream( ByteBuffer buffer )
+        {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read()
+        {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read( byte[] bytes, int off, int len )
+        {
+            if ( len == 0 )
+            {
+                return 0;
+            }
+            if ( !buffer.hasRemaining() )
+            {
+                return -1;
+            }
+            int n = Math.min( len, buffer.remaining() );
+            buffer.get( bytes, off, n );
+            return n;
+        }
+
+        @Override
+        public long skip( long n )
+        {
+            int skipped = (int) Math.max( 0, Math.min( n, buffer.remaining() ) );
+            buffer.position( buffer.position() + skipped );
+            return skipped;
+        }
+
+        @Override
+        public int available()
+        {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * Source of blob content fetched on a cache miss.
+     */
+    public interface ContentSource
+    {
+        /**
+         * @return stream of the full blob content, closed by the cache.
+         * @throws IOException when the stream can't be opened.
+         */
+        InputStream open() throws IOException;
+    }
+}
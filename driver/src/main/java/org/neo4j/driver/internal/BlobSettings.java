@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Settings used when blobs returned by the database are streamed to the driver and when large blob parameters are
+ * streamed to the database.
+ */
+public class BlobSettings
+{
+    public static final int NOT_CONFIGURED = -1;
+
+    public static final int DEFAULT_FETCH_WINDOW_SIZE = 16;
+    public static final int DEFAULT_FETCH_CHUNK_SIZE = NOT_CONFIGURED;
+    public static final int DEFAULT_FETCH_PARALLELISM = 1;
+    public static final long DEFAULT_PARALLEL_FETCH_THRESHOLD = 64 * 1024 * 1024;
+    public static final long DEFAULT_STREAMING_THRESHOLD = 1024 * 1024;
+    public static final int DEFAULT_STREAMING_WINDOW_SIZE = 256 * 1024;
+
+    public static final BlobSettings DEFAULT = new BlobSettings( DEFAULT_FETCH_WINDOW_SIZE, DEFAULT_FETCH_CHUNK_SIZE,
+            DEFAULT_FETCH_PARALLELISM, DEFAULT_PARALLEL_FETCH_THRESHOLD );
+
+    private final int fetchWindowSize;
+    private final int fetchChunkSize;
+    private final int fetchParallelism;
+    private final long parallelFetchThreshold;
+    private final BlobCache blobCache;
+    private final BlobTransferHints transferHints;
+    private final long streamingThreshold;
+    private final int streamingWindowSize;
+    private final Executor streamReaders;
+
+    public BlobSettings( int fetchWindowSize, int fetchChunkSize )
+    {
+        this( fetchWindowSize, fetchChunkSize, DEFAULT_FETCH_PARALLELISM, DEFAULT_PARALLEL_FETCH_THRESHOLD );
+    }
+
+    public BlobSettings( int fetchWindowSize, int fetchChunkSize, int fetchParallelism, long parallelFetchThreshold )
+    {
+        this( fetchWindowSize, fetchChunkSize, fetchParallelism, parallelFetchThreshold, null, BlobTransferHints.EMPTY );
+    }
+
+    public BlobSettings( int fetchWindowSize, int fetchChunkSize, int fetchParallelism, long parallelFetchThreshold,
+            BlobCache blobCache, BlobTransferHints transferHints )
+    {
+        this( fetchWindowSize, fetchChunkSize, fetchParallelism, parallelFetchThreshold, blobCache, transferHints,
+                DEFAULT_STREAMING_THRESHOLD, DEFAULT_STREAMING_WINDOW_SIZE );
+    }
+
+    public BlobSettings( int fetchWindowSize, int fetchChunkSize, int fetchParallelism, long parallelFetchThreshold,
+            BlobCache blobCache, BlobTransferHints transferHints, long streamingThreshold, int streamingWindowSize )
+    {
+        this( fetchWindowSize, fetchChunkSize, fetchParallelism, parallelFetchThreshold, blobCache, transferHints,
+                streamingThreshold, streamingWindowSize, null );
+    }
+
+    public BlobSettings( int fetchWindowSize, int fetchChunkSize, int fetchParallelism, long parallelFetchThreshold,
+            BlobCache blobCache, BlobTransferHints transferHints, long streamingThreshold, int streamingWindowSize,
+            Executor streamReaders )
+    {
+        this.streamReaders = streamReaders;
+        this.streamingThreshold = streamingThreshold;
+        this.streamingWindowSize = streamingWindowSize;
+        this.blobCache = blobCache;
+        this.transferHints = transferHints;
+        this.fetchWindowSize = fetchWindowSize;
+        this.fetchChunkSize = fetchChunkSize;
+        this.fetchParallelism = fetchParallelism;
+        this.parallelFetchThreshold = parallelFetchThreshold;
+    }
+
+    /**
+     * @return maximum number of blob chunks buffered by the driver before it stops reading from the network.
+     */
+    public int fetchWindowSize()
+    {
+        return fetchWindowSize;
+    }
+
+    /**
+     * @return size of blob chunks requested from the database, in bytes.
+     */
+    public int fetchChunkSize()
+    {
+        return fetchChunkSize;
+    }
+
+    public boolean fetchChunkSizeConfigured()
+    {
+        return fetchChunkSize > 0;
+    }
+
+    /**
+     * @return maximum number of connections a single remote blob is fetched over.
+     */
+    public int fetchParallelism()
+    {
+        return fetchParallelism;
+    }
+
+    /**
+     * @return minimum length of a remote blob, in bytes, for it to be split into ranges fetched in parallel.
+     */
+    public long parallelFetchThreshold()
+    {
+        return parallelFetchThreshold;
+    }
+
+    /**
+     * @return cache of remote blob contents or {@code null} when blobs are not cached.
+     */
+    public BlobCache blobCache()
+    {
+        return blobCache;
+    }
+
+    /**
+     * @return preferences about how the database sends blobs, advertised when a connection is established.
+     */
+    public BlobTransferHints transferHints()
+    {
+        return transferHints;
+    }
+
+    /**
+     * @return length of the largest blob parameter, in bytes, copied into the message buffer. Longer blobs are streamed.
+     */
+    public long streamingThreshold()
+    {
+        return streamingThreshold;
+    }
+
+    /**
+     * @return number of bytes of a streamed blob parameter read from its stream at once.
+     */
+    public int streamingWindowSize()
+    {
+        return streamingWindowSize;
+    }
+
+    /**
+     * @return executor reading the streams of streamed blob parameters or {@code null} when blob parameters are always
+     * copied into the message buffer.
+     */
+    public Executor streamReaders()
+    {
+        return streamReaders;
+    }
+
+    public boolean fetchInParallel( long blobLength )
+    {
+        return fetchParallelism > 1 && blobLength >= parallelFetchThreshold;
+    }
+}
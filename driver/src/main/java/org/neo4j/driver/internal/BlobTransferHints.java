@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.neo4j.driver.Value;
+
+import static org.neo4j.driver.Values.value;
+
+/**
+ * Preferences of the driver about how the database sends blobs. They are only hints, the database decides whether a
+ * blob is sent inline, as part of the record, or as a handle of a remote blob fetched separately.
+ */
+public class BlobTransferHints
+{
+    public static final long NOT_CONFIGURED = -1;
+
+    public static final BlobTransferHints EMPTY = new BlobTransferHints( NOT_CONFIGURED, NOT_CONFIGURED );
+
+    private static final String INLINE_THRESHOLD_METADATA_KEY = "blob_inline_threshold";
+    private static final String MAX_RECORD_SIZE_METADATA_KEY = "max_record_size";
+
+    private final long inlineThreshold;
+    private final long maxRecordSize;
+
+    public BlobTransferHints( long inlineThreshold, long maxRecordSize )
+    {
+        this.inlineThreshold = inlineThreshold;
+        this.maxRecordSize = maxRecordSize;
+    }
+
+    /**
+     * @return length of the largest blob that should be sent inline, in bytes.
+     */
+    public long inlineThreshold()
+    {
+        return inlineThreshold;
+    }
+
+    /**
+     * @return maximum size of a record, in bytes, blobs are sent remote when inlining them would exceed it.
+     */
+    public long maxRecordSize()
+    {
+        return maxRecordSize;
+    }
+
+    public boolean isEmpty()
+    {
+        return inlineThreshold == NOT_CONFIGURED && maxRecordSize == NOT_CONFIGURED;
+    }
+
+    /**
+     * Add configured hints to the given message metadata.
+     *
+     * @param metadata the metadata.
+     */
+    public void addTo( Map<String,Value> metadata )
+    {
+        if ( inlineThreshold != NOT_CONFIGURED )
+        {
+            metadata.put( INLINE_THRESHOLD_METADATA_KEY, value( inlineThreshold ) );
+        }
+        if ( maxRecordSize != NOT_CONFIGURED )
+        {
+            metadata.put( MAX_RECORD_SIZE_METADATA_KEY, value( maxRecordSize ) );
+        }
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() )
+        {
+            return false;
+        }
+        BlobTransferHints that = (BlobTransferHints) o;
+        return inlineThreshold == that.inlineThreshold && maxRecordSize == that.maxRecordSize;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash( inlineThreshold, maxRecordSize );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BlobTransferHints{" + "inlineThreshold=" + inlineThreshold + ", maxRecordSize=" + maxRecordSize + '}';
+    }
+}
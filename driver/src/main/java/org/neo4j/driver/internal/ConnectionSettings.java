@@ -20,6 +20,9 @@ package org.neo4j.driver.internal;
 
 import org.neo4j.driver.AuthToken;
 import org.neo4j.driver.Session;
+import org.neo4j.driver.internal.async.outbound.EncodingSettings;
+import org.neo4j.driver.internal.async.outbound.FlushSettings;
+import org.neo4j.driver.internal.handlers.RecordBufferBudget;
 
 import static java.lang.String.format;
 
@@ -53,17 +56,70 @@ public class ConnectionSettings
     private final AuthToken authToken;
     private final String userAgent;
     private final int connectTimeoutMillis;
+    private final BlobSettings blobSettings;
+    private final FlushSettings flushSettings;
+    private final EncodingSettings encodingSettings;
+    private final RecordBufferBudget recordBufferBudget;
 
-    public ConnectionSettings( AuthToken authToken, String userAgent, int connectTimeoutMillis )
+    public ConnectionSettings( AuthToken authToken, String userAgent, int connectTimeoutMillis, BlobSettings blobSettings,
+            FlushSettings flushSettings, EncodingSettings encodingSettings, RecordBufferBudget recordBufferBudget )
     {
         this.authToken = authToken;
         this.userAgent = userAgent;
         this.connectTimeoutMillis = connectTimeoutMillis;
+        this.blobSettings = blobSettings;
+        this.flushSettings = flushSettings;
+        this.encodingSettings = encodingSettings;
+        this.recordBufferBudget = recordBufferBudget;
+    }
+
+    public ConnectionSettings( AuthToken authToken, String userAgent, int connectTimeoutMillis, BlobSettings blobSettings,
+            FlushSettings flushSettings, EncodingSettings encodingSettings )
+    {
+        this( authToken, userAgent, connectTimeoutMillis, blobSettings, flushSettings, encodingSettings, RecordBufferBudget.DEFAULT );
+    }
+
+    public ConnectionSettings( AuthToken authToken, String userAgent, int connectTimeoutMillis, BlobSettings blobSettings,
+            FlushSettings flushSettings )
+    {
+        this( authToken, userAgent, connectTimeoutMillis, blobSettings, flushSettings, EncodingSettings.DEFAULT );
+    }
+
+    public ConnectionSettings( AuthToken authToken, String userAgent, int connectTimeoutMillis, BlobSettings blobSettings )
+    {
+        this( authToken, userAgent, connectTimeoutMillis, blobSettings, FlushSettings.DEFAULT );
+    }
+
+    public ConnectionSettings( AuthToken authToken, String userAgent, int connectTimeoutMillis )
+    {
+        this( authToken, userAgent, connectTimeoutMillis, BlobSettings.DEFAULT );
+    }
+
+    public ConnectionSettings( AuthToken authToken, int connectTimeoutMillis, BlobSettings blobSettings, FlushSettings flushSettings,
+            EncodingSettings encodingSettings, RecordBufferBudget recordBufferBudget )
+    {
+        this( authToken, DEFAULT_USER_AGENT, connectTimeoutMillis, blobSettings, flushSettings, encodingSettings, recordBufferBudget );
+    }
+
+    public ConnectionSettings( AuthToken authToken, int connectTimeoutMillis, BlobSettings blobSettings, FlushSettings flushSettings,
+            EncodingSettings encodingSettings )
+    {
+        this( authToken, DEFAULT_USER_AGENT, connectTimeoutMillis, blobSettings, flushSettings, encodingSettings );
+    }
+
+    public ConnectionSettings( AuthToken authToken, int connectTimeoutMillis, BlobSettings blobSettings, FlushSettings flushSettings )
+    {
+        this( authToken, DEFAULT_USER_AGENT, connectTimeoutMillis, blobSettings, flushSettings );
+    }
+
+    public ConnectionSettings( AuthToken authToken, int connectTimeoutMillis, BlobSettings blobSettings )
+    {
+        this( authToken, DEFAULT_USER_AGENT, connectTimeoutMillis, blobSettings );
     }
 
     public ConnectionSettings( AuthToken authToken, int connectTimeoutMillis )
     {
-        this( authToken, DEFAULT_USER_AGENT, connectTimeoutMillis );
+        this( authToken, connectTimeoutMillis, BlobSettings.DEFAULT );
     }
 
     public AuthToken authToken()
@@ -80,4 +136,24 @@ public class ConnectionSettings
     {
         return connectTimeoutMillis;
     }
+
+    public BlobSettings blobSettings()
+    {
+        return blobSettings;
+    }
+
+    public FlushSettings flushSettings()
+    {
+        return flushSettings;
+    }
+
+    public EncodingSettings encodingSettings()
+    {
+        return encodingSettings;
+    }
+
+    public RecordBufferBudget recordBufferBudget()
+    {
+        return recordBufferBudget;
+    }
 }
@@ -19,26 +19,36 @@
 package org.neo4j.driver.internal;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
 import java.io.IOException;
 import java.net.URI;
 import java.security.GeneralSecurityException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.neo4j.driver.internal.async.connection.BootstrapFactory;
 import org.neo4j.driver.internal.async.connection.ChannelConnector;
 import org.neo4j.driver.internal.async.connection.ChannelConnectorImpl;
+import org.neo4j.driver.internal.async.outbound.EncodingSettings;
+import org.neo4j.driver.internal.async.outbound.FlushSettings;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
 import org.neo4j.driver.internal.async.pool.PoolSettings;
 import org.neo4j.driver.internal.cluster.DnsResolver;
 import org.neo4j.driver.internal.cluster.RoutingContext;
 import org.neo4j.driver.internal.cluster.RoutingSettings;
+import org.neo4j.driver.internal.cluster.loadbalancing.LatencyAwareLoadBalancingStrategy;
 import org.neo4j.driver.internal.cluster.loadbalancing.LeastConnectedLoadBalancingStrategy;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancer;
 import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancingStrategy;
 import org.neo4j.driver.internal.cluster.loadbalancing.RoundRobinLoadBalancingStrategy;
+import org.neo4j.driver.internal.handlers.RecordBufferBudget;
 import org.neo4j.driver.internal.logging.NettyLogging;
+import org.neo4j.driver.internal.metrics.InternalFlushMetrics;
+import org.neo4j.driver.internal.metrics.InternalMessageEncodingMetrics;
 import org.neo4j.driver.internal.metrics.InternalMetricsProvider;
 import org.neo4j.driver.internal.metrics.MetricsProvider;
 import org.neo4j.driver.internal.retry.ExponentialBackoffRetryLogic;
@@ -96,7 +106,13 @@ public class DriverFactory
             MetricsProvider metricsProvider, Config config )
     {
         Clock clock = createClock();
-        ConnectionSettings settings = new ConnectionSettings( authToken, config.connectionTimeoutMillis() );
+        BlobSettings blobSettings = new BlobSettings( config.blobFetchWindowSize(), config.blobFetchChunkSize(),
+                config.blobFetchParallelism(), config.blobParallelFetchThreshold(), createBlobCache( bootstrap, metricsProvider, config ),
+                new BlobTransferHints( config.blobInlineThreshold(), config.maxRecordSize() ),
+                config.blobStreamingThreshold(), config.blobStreamingWindowSize(), createBlobStreamReaders( bootstrap, config ) );
+        ConnectionSettings settings = new ConnectionSettings( authToken, config.connectionTimeoutMillis(), blobSettings,
+                createFlushSettings( metricsProvider, config ), createEncodingSettings( metricsProvider, config ),
+                createRecordBufferBudget( metricsProvider, config ) );
         ChannelConnector connector = createConnector( settings, securityPlan, config, clock );
         PoolSettings poolSettings = new PoolSettings( config.maxConnectionPoolSize(),
                 config.connectionAcquisitionTimeoutMillis(), config.maxConnectionLifetimeMillis(),
@@ -105,6 +121,65 @@ public class DriverFactory
         return new ConnectionPoolImpl( connector, bootstrap, poolSettings, metricsProvider.metricsListener(), config.logging(), clock );
     }
 
+    private static BlobCache createBlobCache( Bootstrap bootstrap, MetricsProvider metricsProvider, Config config )
+    {
+        if ( !config.isBlobCacheEnabled() )
+        {
+            return null;
+        }
+        BlobCache blobCache = new BlobCache( config.blobCacheMemorySize(), config.blobCacheDirectory(),
+                config.blobCacheDiskSize(), config.logging() );
+        metricsProvider.metricsListener().putBlobCacheMetrics( blobCache );
+        // files of the disk tier are deleted when the driver is closed
+        bootstrap.config().group().terminationFuture().addListener( ignore -> blobCache.close() );
+        return blobCache;
+    }
+
+    /**
+     * Creates the executor reading streams of large blob parameters. A stream occupies a thread while its message is written,
+     * threads are bounded by the connection pool size and the number of processors and further streams wait for a thread.
+     * Threads are shut down together with the event loop group, when the driver is closed.
+     */
+    static ThreadPoolExecutor createBlobStreamReaders( Bootstrap bootstrap, Config config )
+    {
+        int maxThreads = Math.max( 1, Math.min( config.maxConnectionPoolSize(), 4 * Runtime.getRuntime().availableProcessors() ) );
+        ThreadPoolExecutor streamReaders = new ThreadPoolExecutor( maxThreads, maxThreads, 1, TimeUnit.MINUTES,
+                new LinkedBlockingQueue<>(), new DefaultThreadFactory( "neo4j-blob-stream", true ) );
+        streamReaders.allowCoreThreadTimeOut( true );
+        bootstrap.config().group().terminationFuture().addListener( ignore -> streamReaders.shutdownNow() );
+        return streamReaders;
+    }
+
+    private static FlushSettings createFlushSettings( MetricsProvider metricsProvider, Config config )
+    {
+        InternalFlushMetrics flushMetrics = null;
+        if ( config.isMetricsEnabled() )
+        {
+            flushMetrics = new InternalFlushMetrics();
+            metricsProvider.metricsListener().putFlushMetrics( flushMetrics );
+        }
+        return new FlushSettings( config.flushConsolidationMaxDelayNanos(), config.flushConsolidationMaxBytes(), flushMetrics );
+    }
+
+    private static EncodingSettings createEncodingSettings( MetricsProvider metricsProvider, Config config )
+    {
+        InternalMessageEncodingMetrics messageEncodingMetrics = null;
+        if ( config.isMetricsEnabled() )
+        {
+            messageEncodingMetrics = new InternalMessageEncodingMetrics();
+            metricsProvider.metricsListener().putMessageEncodingMetrics( messageEncodingMetrics );
+        }
+        return new EncodingSettings( config.maxOutboundChunkSize(), messageEncodingMetrics );
+    }
+
+    private static RecordBufferBudget createRecordBufferBudget( MetricsProvider metricsProvider, Config config )
+    {
+        RecordBufferBudget recordBufferBudget = new RecordBufferBudget( config.maxRecordBufferSizePerResult(),
+                config.maxRecordBufferSizePerDriver() );
+        metricsProvider.metricsListener().putRecordBufferMetrics( recordBufferBudget );
+        return recordBufferBudget;
+    }
+
     protected static MetricsProvider createDriverMetrics( Config config, Clock clock )
     {
         if( config.isMetricsEnabled() )
@@ -203,14 +278,15 @@ public class DriverFactory
     protected LoadBalancer createLoadBalancer( BoltServerAddress address, ConnectionPool connectionPool,
             EventExecutorGroup eventExecutorGroup, Config config, RoutingSettings routingSettings )
     {
-        LoadBalancingStrategy loadBalancingStrategy = createLoadBalancingStrategy( config, connectionPool );
+        Clock clock = createClock();
+        LoadBalancingStrategy loadBalancingStrategy = createLoadBalancingStrategy( config, connectionPool, clock );
         ServerAddressResolver resolver = createResolver( config );
-        return new LoadBalancer( address, routingSettings, connectionPool, eventExecutorGroup, createClock(),
+        return new LoadBalancer( address, routingSettings, connectionPool, eventExecutorGroup, clock,
                 config.logging(), loadBalancingStrategy, resolver );
     }
 
     private static LoadBalancingStrategy createLoadBalancingStrategy( Config config,
-            ConnectionPool connectionPool )
+            ConnectionPool connectionPool, Clock clock )
     {
         switch ( config.loadBalancingStrategy() )
         {
@@ -218,6 +294,8 @@ public class DriverFactory
             return new RoundRobinLoadBalancingStrategy( config.logging() );
         case LEAST_CONNECTED:
             return new LeastConnectedLoadBalancingStrategy( connectionPool, config.logging() );
+        case LATENCY_AWARE:
+            return new LatencyAwareLoadBalancingStrategy( connectionPool, clock, config.logging() );
         default:
             throw new IllegalArgumentException( "Unknown load balancing strategy: " + config.loadBalancingStrategy() );
         }
@@ -18,9 +18,11 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.Iterator;
 import java.util.Map;
 
 import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.BulkWriteConfig;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.Statement;
 import org.neo4j.driver.StatementResult;
@@ -28,10 +30,12 @@ import org.neo4j.driver.Transaction;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.TransactionWork;
 import org.neo4j.driver.async.StatementResultCursor;
+import org.neo4j.driver.internal.async.BulkWriter;
 import org.neo4j.driver.internal.async.ExplicitTransaction;
 import org.neo4j.driver.internal.async.NetworkSession;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.summary.BulkWriteSummary;
 
 import static java.util.Collections.emptyMap;
 
@@ -123,6 +127,13 @@ public class InternalSession extends AbstractStatementRunner implements Session
         return transaction( AccessMode.WRITE, work, config );
     }
 
+    @Override
+    public BulkWriteSummary writeBulk( String statementTemplate, Iterator<? extends Map<String,Object>> rows, BulkWriteConfig config )
+    {
+        return Futures.blockingGet( new BulkWriter( session, statementTemplate, rows, config ).writeAsync(),
+                () -> terminateConnectionOnThreadInterrupt( "Thread interrupted while writing rows in bulk" ) );
+    }
+
     @Override
     public String lastBookmark()
     {
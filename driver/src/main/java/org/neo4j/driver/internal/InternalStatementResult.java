@@ -25,6 +25,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.neo4j.driver.internal.cursor.InternalStatementResultCursor;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.Record;
@@ -39,12 +40,16 @@ public class InternalStatementResult implements StatementResult
 {
     private final Connection connection;
     private final StatementResultCursor cursor;
+    // records are taken from this cursor without a future per record, when the cursor supports it
+    private final InternalStatementResultCursor blockingCursor;
+    private final Runnable interruptHandler = this::terminateConnectionOnThreadInterrupt;
     private List<String> keys;
 
     public InternalStatementResult( Connection connection, StatementResultCursor cursor )
     {
         this.connection = connection;
         this.cursor = cursor;
+        this.blockingCursor = cursor instanceof InternalStatementResultCursor ? (InternalStatementResultCursor) cursor : null;
     }
 
     @Override
@@ -52,7 +57,7 @@ public class InternalStatementResult implements StatementResult
     {
         if ( keys == null )
         {
-            blockingGet( cursor.peekAsync() );
+            peekRecord();
             keys = cursor.keys();
         }
         return keys;
@@ -61,13 +66,13 @@ public class InternalStatementResult implements StatementResult
     @Override
     public boolean hasNext()
     {
-        return blockingGet( cursor.peekAsync() ) != null;
+        return peekRecord() != null;
     }
 
     @Override
     public Record next()
     {
-        Record record = blockingGet( cursor.nextAsync() );
+        Record record = nextRecord();
         if ( record == null )
         {
             throw new NoSuchRecordException( "No more records" );
@@ -84,7 +89,7 @@ public class InternalStatementResult implements StatementResult
     @Override
     public Record peek()
     {
-        Record record = blockingGet( cursor.peekAsync() );
+        Record record = peekRecord();
         if ( record == null )
         {
             throw new NoSuchRecordException( "Cannot peek past the last record" );
@@ -129,9 +134,27 @@ public class InternalStatementResult implements StatementResult
         throw new ClientException( "Removing records from a result is not supported." );
     }
 
+    private Record peekRecord()
+    {
+        if ( blockingCursor != null )
+        {
+            return blockingCursor.peekBlocking( interruptHandler );
+        }
+        return blockingGet( cursor.peekAsync() );
+    }
+
+    private Record nextRecord()
+    {
+        if ( blockingCursor != null )
+        {
+            return blockingCursor.nextBlocking( interruptHandler );
+        }
+        return blockingGet( cursor.nextAsync() );
+    }
+
     private <T> T blockingGet( CompletionStage<T> stage )
     {
-        return Futures.blockingGet( stage, this::terminateConnectionOnThreadInterrupt );
+        return Futures.blockingGet( stage, interruptHandler );
     }
 
     private void terminateConnectionOnThreadInterrupt()
@@ -18,6 +18,9 @@
  */
 package org.neo4j.driver.internal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.neo4j.driver.Statement;
 import org.neo4j.driver.StatementResult;
 import org.neo4j.driver.Transaction;
@@ -60,6 +63,19 @@ public class InternalTransaction extends AbstractStatementRunner implements Tran
         return new InternalStatementResult( tx.connection(), cursor );
     }
 
+    @Override
+    public List<StatementResult> runAll( List<Statement> statements )
+    {
+        List<StatementResultCursor> cursors = Futures.blockingGet( tx.runAllAsync( statements ),
+                () -> terminateConnectionOnThreadInterrupt( "Thread interrupted while running queries in transaction" ) );
+        List<StatementResult> results = new ArrayList<>( cursors.size() );
+        for ( StatementResultCursor cursor : cursors )
+        {
+            results.add( new InternalStatementResult( tx.connection(), cursor ) );
+        }
+        return results;
+    }
+
     @Override
     public boolean isOpen()
     {
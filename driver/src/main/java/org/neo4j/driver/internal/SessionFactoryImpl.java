@@ -34,6 +34,7 @@ public class SessionFactoryImpl implements SessionFactory
     private final RetryLogic retryLogic;
     private final Logging logging;
     private final boolean leakedSessionsLoggingEnabled;
+    private final long defaultFetchSize;
 
     SessionFactoryImpl( ConnectionProvider connectionProvider, RetryLogic retryLogic, Config config )
     {
@@ -41,13 +42,16 @@ public class SessionFactoryImpl implements SessionFactory
         this.leakedSessionsLoggingEnabled = config.logLeakedSessions();
         this.retryLogic = retryLogic;
         this.logging = config.logging();
+        this.defaultFetchSize = config.fetchSize();
     }
 
     @Override
     public NetworkSession newInstance( SessionParameters parameters )
     {
         BookmarksHolder bookmarksHolder = new DefaultBookmarksHolder( Bookmarks.from( parameters.bookmarks() ) );
-        return createSession( connectionProvider, retryLogic, parameters.database(), parameters.defaultAccessMode(), bookmarksHolder, logging );
+        long fetchSize = parameters.fetchSize() != null ? parameters.fetchSize() : defaultFetchSize;
+        return createSession( connectionProvider, retryLogic, parameters.database(), parameters.defaultAccessMode(), parameters.blobTransferHints(),
+                fetchSize, bookmarksHolder, logging );
     }
 
     @Override
@@ -75,10 +79,11 @@ public class SessionFactoryImpl implements SessionFactory
     }
 
     private NetworkSession createSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, String databaseName, AccessMode mode,
-            BookmarksHolder bookmarksHolder, Logging logging )
+            BlobTransferHints blobTransferHints, long fetchSize, BookmarksHolder bookmarksHolder, Logging logging )
     {
         return leakedSessionsLoggingEnabled
-               ? new LeakLoggingNetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarksHolder, logging )
-               : new NetworkSession( connectionProvider, retryLogic, databaseName, mode, bookmarksHolder, logging );
+               ? new LeakLoggingNetworkSession( connectionProvider, retryLogic, databaseName, mode, blobTransferHints, fetchSize, bookmarksHolder,
+                logging )
+               : new NetworkSession( connectionProvider, retryLogic, databaseName, mode, blobTransferHints, fetchSize, bookmarksHolder, logging );
     }
 }
@@ -24,6 +24,7 @@ import java.util.Objects;
 
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.SessionParametersTemplate;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
 
 import static org.neo4j.driver.internal.messaging.request.MultiDatabaseUtil.ABSENT_DB_NAME;
 
@@ -37,6 +38,8 @@ public class SessionParameters
     private final List<String> bookmarks;
     private final AccessMode defaultAccessMode;
     private final String database;
+    private final BlobTransferHints blobTransferHints;
+    private final Long fetchSize;
 
     /**
      * Creates a session parameter template.
@@ -61,6 +64,8 @@ public class SessionParameters
         this.bookmarks = template.bookmarks;
         this.defaultAccessMode = template.defaultAccessMode;
         this.database = template.database;
+        this.blobTransferHints = new BlobTransferHints( template.blobInlineThreshold, template.maxRecordSize );
+        this.fetchSize = template.fetchSize;
     }
 
     /**
@@ -94,6 +99,24 @@ public class SessionParameters
         return database;
     }
 
+    /**
+     * Preferences about how the database sends blobs to this session.
+     * @return the blob transfer hints.
+     */
+    public BlobTransferHints blobTransferHints()
+    {
+        return blobTransferHints;
+    }
+
+    /**
+     * The number of records requested from the database at once by results of the session.
+     * @return the fetch size or {@code null} when the fetch size configured for the driver is used.
+     */
+    public Long fetchSize()
+    {
+        return fetchSize;
+    }
+
     @Override
     public boolean equals( Object o )
     {
@@ -106,19 +129,21 @@ public class SessionParameters
             return false;
         }
         SessionParameters that = (SessionParameters) o;
-        return Objects.equals( bookmarks, that.bookmarks ) && defaultAccessMode == that.defaultAccessMode && database.equals( that.database );
+        return Objects.equals( bookmarks, that.bookmarks ) && defaultAccessMode == that.defaultAccessMode && database.equals( that.database ) &&
+               blobTransferHints.equals( that.blobTransferHints ) && Objects.equals( fetchSize, that.fetchSize );
     }
 
     @Override
     public int hashCode()
     {
-        return Objects.hash( bookmarks, defaultAccessMode, database );
+        return Objects.hash( bookmarks, defaultAccessMode, database, blobTransferHints, fetchSize );
     }
 
     @Override
     public String toString()
     {
-        return "SessionParameters{" + "bookmarks=" + bookmarks + ", defaultAccessMode=" + defaultAccessMode + ", database='" + database + '\'' + '}';
+        return "SessionParameters{" + "bookmarks=" + bookmarks + ", defaultAccessMode=" + defaultAccessMode + ", database='" + database + '\'' +
+               ", blobTransferHints=" + blobTransferHints + ", fetchSize=" + fetchSize + '}';
     }
 
     public static class Template implements SessionParametersTemplate
@@ -126,6 +151,9 @@ public class SessionParameters
         private List<String> bookmarks = null;
         private AccessMode defaultAccessMode = AccessMode.WRITE;
         private String database = ABSENT_DB_NAME;
+        private long blobInlineThreshold = BlobTransferHints.NOT_CONFIGURED;
+        private long maxRecordSize = BlobTransferHints.NOT_CONFIGURED;
+        private Long fetchSize = null;
 
         private Template()
         {
@@ -167,6 +195,37 @@ public class SessionParameters
             return this;
         }
 
+        @Override
+        public Template withBlobInlineThreshold( long bytes )
+        {
+            if ( bytes < 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The blob inline threshold must not be negative, but was %d.", bytes ) );
+            }
+            this.blobInlineThreshold = bytes;
+            return this;
+        }
+
+        @Override
+        public Template withMaxRecordSize( long bytes )
+        {
+            if ( bytes <= 0 )
+            {
+                throw new IllegalArgumentException( String.format(
+                        "The maximum record size must be greater than 0, but was %d.", bytes ) );
+            }
+            this.maxRecordSize = bytes;
+            return this;
+        }
+
+        @Override
+        public Template withFetchSize( long size )
+        {
+            this.fetchSize = FetchSizeUtil.assertValidFetchSize( size );
+            return this;
+        }
+
         SessionParameters build()
         {
             return new SessionParameters( this );
@@ -67,6 +67,18 @@ public class AsyncStatementResultCursor implements InternalStatementResultCursor
         return pullAllHandler.peekAsync();
     }
 
+    @Override
+    public Record peekBlocking( Runnable interruptHandler )
+    {
+        return pullAllHandler.peekBlocking( interruptHandler );
+    }
+
+    @Override
+    public Record nextBlocking( Runnable interruptHandler )
+    {
+        return pullAllHandler.nextBlocking( interruptHandler );
+    }
+
     @Override
     public CompletionStage<Record> singleAsync()
     {
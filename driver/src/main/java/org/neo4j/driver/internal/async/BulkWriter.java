@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.BulkWriteConfig;
+import org.neo4j.driver.Statement;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.async.StatementResultCursor;
+import org.neo4j.driver.internal.summary.InternalBulkWriteSummary;
+import org.neo4j.driver.internal.util.Clock;
+import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.summary.BulkWriteSummary;
+
+import static java.util.Collections.singletonMap;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
+
+/**
+ * Writes rows in batches, each batch is passed as a list parameter to the same statement. Batches of a transaction are pipelined: up to
+ * {@link BulkWriteConfig#maxPendingBatches()} batches are sent before the result of the first one arrives. Next batch is cut when a
+ * pending one completes, in a thread of {@link BulkWriteConfig#rowsExecutor()}, so that a slow rows iterator never blocks event loop threads. Rows are pulled
+ * by one thread at a time outside of the lock guarding the counters, so completing batches never wait for a slow iterator.
+ * <p>
+ * A transaction is committed after {@link BulkWriteConfig#batchesPerTransaction()} batches and the next one is started. The first failure
+ * rolls back the current transaction, rows committed by previous transactions stay committed.
+ */
+public class BulkWriter
+{
+    private final NetworkSession session;
+    private final String statementTemplate;
+    private final BulkWriteConfig config;
+    private final RowBatcher batcher;
+    private final Clock clock;
+
+    // guarded by this
+    private int pendingBatches;
+    private int transactionBatches;
+    private boolean pulling;
+    private Throwable failure;
+    private long rows;
+    private long batches;
+    private long transactions;
+
+    public BulkWriter( NetworkSession session, String statementTemplate, Iterator<? extends Map<String,Object>> rows, BulkWriteConfig config )
+    {
+        this( session, statementTemplate, rows, config, Clock.SYSTEM );
+    }
+
+    BulkWriter( NetworkSession session, String statementTemplate, Iterator<? extends Map<String,Object>> rows, BulkWriteConfig config,
+            Clock clock )
+    {
+        this.session = session;
+        this.statementTemplate = statementTemplate;
+        this.config = config;
+        this.batcher = new RowBatcher( rows, config.batchSize(), config.maxBatchBytes() );
+        this.clock = clock;
+    }
+
+    public CompletionStage<BulkWriteSummary> writeAsync()
+    {
+        long startTime = clock.millis();
+        CompletableFuture<BulkWriteSummary> result = new CompletableFuture<>();
+        writeTransactions().whenComplete( ( ignore, error ) ->
+        {
+            batcher.close();
+            if ( error != null )
+            {
+                result.completeExceptionally( Futures.completionExceptionCause( error ) );
+            }
+            else
+            {
+                result.complete( summary( clock.millis() - startTime ) );
+            }
+        } );
+        return result;
+    }
+
+    private CompletionStage<Void> writeTransactions()
+    {
+        boolean hasNext;
+        try
+        {
+            hasNext = batcher.hasNext();
+        }
+        catch ( Throwable error )
+        {
+            return Futures.failedFuture( error );
+        }
+
+        if ( !hasNext )
+        {
+            return completedWithNull();
+        }
+
+        // rows are pulled in the rows executor, never in the event loop thread completing begin or commit
+        return session.beginTransactionAsync( AccessMode.WRITE, config.transactionConfig() )
+                .thenComposeAsync( this::writeTransaction, config.rowsExecutor() )
+                .thenComposeAsync( ignore -> writeTransactions(), config.rowsExecutor() );
+    }
+
+    private CompletionStage<Void> writeTransaction( ExplicitTransaction tx )
+    {
+        CompletableFuture<Void> batchesWritten = new CompletableFuture<>();
+        synchronized ( this )
+        {
+            transactionBatches = 0;
+        }
+        runBatches( tx, batchesWritten );
+
+        return batchesWritten.handle( ( ignore, error ) -> error ).thenCompose( error ->
+        {
+            if ( error == null )
+            {
+                return tx.commitAsync().thenRun( this::transactionCommitted );
+            }
+            // roll back and report the original error
+            return tx.rollbackAsync().<Void>handle( ( ignore, rollbackError ) ->
+            {
+                throw Futures.combineErrors( error, rollbackError );
+            } );
+        } );
+    }
+
+    private void runBatches( ExplicitTransaction tx, CompletableFuture<Void> batchesWritten )
+    {
+        synchronized ( this )
+        {
+            if ( pulling )
+            {
+                // the pulling thread looks for free slots again before it stops
+                return;
+            }
+            pulling = true;
+        }
+
+        boolean transactionDone;
+        while ( true )
+        {
+            synchronized ( this )
+            {
+                if ( failure != null || pendingBatches >= config.maxPendingBatches() ||
+                     transactionBatches >= config.batchesPerTransaction() )
+                {
+                    pulling = false;
+                    transactionDone = pendingBatches == 0;
+                    break;
+                }
+                pendingBatches++;
+                transactionBatches++;
+            }
+
+            // rows are pulled and encoded outside of the lock, only by the pulling thread
+            List<Value> batch = null;
+            Throwable pullFailure = null;
+            try
+            {
+                batch = batcher.hasNext() ? batcher.next() : null;
+            }
+            catch ( Throwable error )
+            {
+                // failure of the rows iterator or of the encoding of a row
+                pullFailure = error;
+            }
+
+            if ( batch != null )
+            {
+                runBatch( tx, batch, batchesWritten );
+                continue;
+            }
+
+            synchronized ( this )
+            {
+                // no rows left or they can't be read, the reserved slot is not used
+                pendingBatches--;
+                transactionBatches--;
+                if ( failure == null )
+                {
+                    failure = pullFailure;
+                }
+                pulling = false;
+                transactionDone = pendingBatches == 0;
+                break;
+            }
+        }
+
+        // complete outside of the lock, commit and the next transaction are chained on it
+        if ( transactionDone )
+        {
+            Throwable transactionFailure = failure();
+            if ( transactionFailure != null )
+            {
+                batchesWritten.completeExceptionally( transactionFailure );
+            }
+            else
+            {
+                batchesWritten.complete( null );
+            }
+        }
+    }
+
+    private void runBatch( ExplicitTransaction tx, List<Value> batch, CompletableFuture<Void> batchesWritten )
+    {
+        Statement statement = new Statement( statementTemplate, value( singletonMap( config.parameterName(), batch ) ) );
+        tx.runAsync( statement, false )
+                .thenCompose( StatementResultCursor::consumeAsync )
+                .whenCompleteAsync( ( summary, error ) ->
+                {
+                    synchronized ( this )
+                    {
+                        pendingBatches--;
+                        if ( error != null )
+                        {
+                            if ( failure == null )
+                            {
+                                failure = Futures.completionExceptionCause( error );
+                            }
+                        }
+                        else
+                        {
+                            rows += batch.size();
+                            batches++;
+                        }
+                    }
+                    runBatches( tx, batchesWritten );
+                }, config.rowsExecutor() );
+    }
+
+    private synchronized Throwable failure()
+    {
+        return failure;
+    }
+
+    private synchronized void transactionCommitted()
+    {
+        transactions++;
+    }
+
+    private synchronized BulkWriteSummary summary( long elapsedMillis )
+    {
+        return new InternalBulkWriteSummary( rows, batches, transactions, elapsedMillis );
+    }
+}
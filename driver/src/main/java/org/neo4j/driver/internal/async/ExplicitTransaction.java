@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.async;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
@@ -31,10 +33,12 @@ import org.neo4j.driver.internal.Bookmarks;
 import org.neo4j.driver.internal.BookmarksHolder;
 import org.neo4j.driver.internal.cursor.InternalStatementResultCursor;
 import org.neo4j.driver.internal.cursor.RxStatementResultCursor;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.Futures;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
 
@@ -68,15 +72,22 @@ public class ExplicitTransaction
     private final BoltProtocol protocol;
     private final BookmarksHolder bookmarksHolder;
     private final ResultCursorsHolder resultCursors;
+    private final long fetchSize;
 
     private volatile State state = State.ACTIVE;
 
     public ExplicitTransaction( Connection connection, BookmarksHolder bookmarksHolder )
+    {
+        this( connection, bookmarksHolder, FetchSizeUtil.UNLIMITED_FETCH_SIZE );
+    }
+
+    public ExplicitTransaction( Connection connection, BookmarksHolder bookmarksHolder, long fetchSize )
     {
         this.connection = connection;
         this.protocol = connection.protocol();
         this.bookmarksHolder = bookmarksHolder;
         this.resultCursors = new ResultCursorsHolder();
+        this.fetchSize = fetchSize;
     }
 
     public CompletionStage<ExplicitTransaction> beginAsync( Bookmarks initialBookmarks, TransactionConfig config )
@@ -166,11 +177,41 @@ public class ExplicitTransaction
     {
         ensureCanRunQueries();
         CompletionStage<InternalStatementResultCursor> cursorStage =
-                protocol.runInExplicitTransaction( connection, statement, this, waitForRunResponse ).asyncResult();
+                protocol.runInExplicitTransaction( connection, statement, this, waitForRunResponse, fetchSize ).asyncResult();
         resultCursors.add( cursorStage );
         return cursorStage.thenApply( cursor -> cursor );
     }
 
+    /**
+     * Run all given statements without waiting for responses of the previous ones. Messages of all statements are flushed at once and
+     * responses are received in order, so the statements take a single network round trip.
+     */
+    public CompletionStage<List<StatementResultCursor>> runAllAsync( List<Statement> statements )
+    {
+        ensureCanRunQueries();
+        CompletionStage<List<StatementResultCursor>> cursorsStage = completedFuture( new ArrayList<>( statements.size() ) );
+        try
+        {
+            for ( Statement statement : statements )
+            {
+                CompletionStage<InternalStatementResultCursor> cursorStage =
+                        protocol.runInExplicitTransaction( connection, statement, this, false, fetchSize ).asyncResult( false );
+                resultCursors.add( cursorStage );
+                cursorsStage = cursorsStage.thenCombine( cursorStage, ( cursors, cursor ) ->
+                {
+                    cursors.add( cursor );
+                    return cursors;
+                } );
+            }
+        }
+        finally
+        {
+            // statements written so far are sent even when one of them could not be written
+            connection.flush();
+        }
+        return cursorsStage;
+    }
+
     public CompletionStage<RxStatementResultCursor> runRx( Statement statement )
     {
         ensureCanRunQueries();
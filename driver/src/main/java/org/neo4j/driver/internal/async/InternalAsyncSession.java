@@ -18,11 +18,13 @@
  */
 package org.neo4j.driver.internal.async;
 
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.BulkWriteConfig;
 import org.neo4j.driver.Statement;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.async.AsyncSession;
@@ -30,6 +32,7 @@ import org.neo4j.driver.async.AsyncTransaction;
 import org.neo4j.driver.async.AsyncTransactionWork;
 import org.neo4j.driver.async.StatementResultCursor;
 import org.neo4j.driver.internal.util.Futures;
+import org.neo4j.driver.summary.BulkWriteSummary;
 
 import static java.util.Collections.emptyMap;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
@@ -110,6 +113,13 @@ public class InternalAsyncSession extends AsyncAbstractStatementRunner implement
         return transactionAsync( AccessMode.WRITE, work, config );
     }
 
+    @Override
+    public CompletionStage<BulkWriteSummary> writeBulkAsync( String statementTemplate, Iterator<? extends Map<String,Object>> rows,
+            BulkWriteConfig config )
+    {
+        return new BulkWriter( session, statementTemplate, rows, config ).writeAsync();
+    }
+
     @Override
     public String lastBookmark()
     {
@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.async;
 
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.Statement;
@@ -50,6 +51,12 @@ public class InternalAsyncTransaction extends AsyncAbstractStatementRunner imple
         return tx.runAsync( statement, true );
     }
 
+    @Override
+    public CompletionStage<List<StatementResultCursor>> runAllAsync( List<Statement> statements )
+    {
+        return tx.runAllAsync( statements );
+    }
+
     public void markTerminated()
     {
         tx.markTerminated();
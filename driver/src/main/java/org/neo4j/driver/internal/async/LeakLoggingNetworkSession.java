@@ -20,7 +20,9 @@ package org.neo4j.driver.internal.async;
 
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Logging;
+import org.neo4j.driver.internal.BlobTransferHints;
 import org.neo4j.driver.internal.BookmarksHolder;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
 import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.spi.ConnectionProvider;
 import org.neo4j.driver.internal.util.Futures;
@@ -34,7 +36,14 @@ public class LeakLoggingNetworkSession extends NetworkSession
     public LeakLoggingNetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, String databaseName, AccessMode mode,
             BookmarksHolder bookmarksHolder, Logging logging )
     {
-        super( connectionProvider, retryLogic, databaseName, mode, bookmarksHolder, logging );
+        this( connectionProvider, retryLogic, databaseName, mode, BlobTransferHints.EMPTY, FetchSizeUtil.UNLIMITED_FETCH_SIZE, bookmarksHolder,
+                logging );
+    }
+
+    public LeakLoggingNetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, String databaseName, AccessMode mode,
+            BlobTransferHints blobTransferHints, long fetchSize, BookmarksHolder bookmarksHolder, Logging logging )
+    {
+        super( connectionProvider, retryLogic, databaseName, mode, blobTransferHints, fetchSize, bookmarksHolder, logging );
         this.stackTrace = captureStackTrace();
     }
 
@@ -29,11 +29,14 @@ import org.neo4j.driver.Statement;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.async.StatementResultCursor;
 import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.BlobTransferHints;
 import org.neo4j.driver.internal.BookmarksHolder;
 import org.neo4j.driver.internal.FailableCursor;
+import org.neo4j.driver.internal.async.connection.DecoratedConnection;
 import org.neo4j.driver.internal.cursor.InternalStatementResultCursor;
 import org.neo4j.driver.internal.cursor.RxStatementResultCursor;
 import org.neo4j.driver.internal.cursor.StatementResultCursorFactory;
+import org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil;
 import org.neo4j.driver.internal.logging.PrefixedLogger;
 import org.neo4j.driver.internal.retry.RetryLogic;
 import org.neo4j.driver.internal.spi.Connection;
@@ -50,6 +53,8 @@ public class NetworkSession
     private final ConnectionProvider connectionProvider;
     private final AccessMode mode;
     private final String databaseName;
+    private final BlobTransferHints blobTransferHints;
+    private final long fetchSize;
     private final RetryLogic retryLogic;
     protected final Logger logger;
 
@@ -62,8 +67,17 @@ public class NetworkSession
 
     public NetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, String databaseName, AccessMode mode,
             BookmarksHolder bookmarksHolder, Logging logging )
+    {
+        this( connectionProvider, retryLogic, databaseName, mode, BlobTransferHints.EMPTY, FetchSizeUtil.UNLIMITED_FETCH_SIZE, bookmarksHolder,
+                logging );
+    }
+
+    public NetworkSession( ConnectionProvider connectionProvider, RetryLogic retryLogic, String databaseName, AccessMode mode,
+            BlobTransferHints blobTransferHints, long fetchSize, BookmarksHolder bookmarksHolder, Logging logging )
     {
         this.connectionProvider = connectionProvider;
+        this.blobTransferHints = blobTransferHints;
+        this.fetchSize = fetchSize;
         this.mode = mode;
         this.retryLogic = retryLogic;
         this.logger = new PrefixedLogger( "[" + hashCode() + "]", logging.getLog( LOG_NAME ) );
@@ -103,7 +117,7 @@ public class NetworkSession
                 .thenCompose( ignore -> acquireConnection( databaseName, mode ) )
                 .thenCompose( connection ->
                 {
-                    ExplicitTransaction tx = new ExplicitTransaction( connection, bookmarksHolder );
+                    ExplicitTransaction tx = new ExplicitTransaction( connection, bookmarksHolder, fetchSize );
                     return tx.beginAsync( bookmarksHolder.getBookmarks(), config );
                 } );
 
@@ -228,7 +242,7 @@ public class NetworkSession
                     try
                     {
                         StatementResultCursorFactory factory = connection.protocol()
-                                .runInAutoCommitTransaction( connection, statement, bookmarksHolder, config, waitForRunResponse );
+                                .runInAutoCommitTransaction( connection, statement, bookmarksHolder, config, waitForRunResponse, fetchSize );
                         return completedFuture( factory );
                     }
                     catch ( Throwable e )
@@ -274,7 +288,7 @@ public class NetworkSession
                 // there somehow is an existing open connection, this should not happen, just a precondition
                 throw new IllegalStateException( "Existing open connection detected" );
             }
-            return connectionProvider.acquireConnection( databaseName, mode );
+            return connectionProvider.acquireConnection( databaseName, mode ).thenApply( this::withBlobTransferHints );
         } );
 
         connectionStage = newConnectionStage.exceptionally( error -> null );
@@ -338,4 +352,18 @@ public class NetworkSession
                     "No more interaction with this session are allowed as the current session is already closed. " );
         }
     }
+
+    private Connection withBlobTransferHints( Connection connection )
+    {
+        if ( blobTransferHints.isEmpty() )
+        {
+            return connection;
+        }
+        // connection providers already decorate connections with database name and access mode
+        if ( connection instanceof DecoratedConnection )
+        {
+            return ((DecoratedConnection) connection).withBlobTransferHints( blobTransferHints );
+        }
+        return new DecoratedConnection( connection, connection.databaseName(), connection.mode(), blobTransferHints );
+    }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.outbound.ChunkAwareByteBufOutput;
+import org.neo4j.driver.internal.messaging.ValuePacker;
+import org.neo4j.driver.internal.messaging.v5.ValuePackerV5;
+import org.neo4j.driver.internal.packstream.PackOutput;
+import org.neo4j.driver.internal.types.TypeConstructor;
+import org.neo4j.driver.internal.value.InternalValue;
+
+import static org.neo4j.driver.Values.value;
+
+/**
+ * Cuts rows into batches of at most {@code batchSize} rows that take at most {@code maxBatchBytes} bytes on the wire. A row larger than
+ * {@code maxBatchBytes} is sent in a batch of its own. Encoded size of a row is measured by packing it into a scratch buffer that is reused
+ * for all rows. Blobs are not packed for that, their size is taken from their length, so their content is only read when the batch is sent.
+ */
+class RowBatcher
+{
+    // marker byte and blob entry written in front of the content of a blob
+    private static final int BLOB_HEADER_BYTES = 1 + 4 * Long.BYTES;
+
+    private final Iterator<? extends Map<String,Object>> rows;
+    private final int batchSize;
+    private final long maxBatchBytes;
+
+    private final ByteBuf sizingBuffer = Unpooled.buffer();
+    private final ChunkAwareByteBufOutput sizingOutput = new ChunkAwareByteBufOutput();
+    private final ValuePacker sizingPacker = new SizingPacker( sizingOutput );
+    private long blobBytes;
+
+    // row that did not fit into the previous batch
+    private Value nextRow;
+    private long nextRowSize;
+
+    RowBatcher( Iterator<? extends Map<String,Object>> rows, int batchSize, long maxBatchBytes )
+    {
+        this.rows = rows;
+        this.batchSize = batchSize;
+        this.maxBatchBytes = maxBatchBytes;
+    }
+
+    boolean hasNext()
+    {
+        return nextRow != null || rows.hasNext();
+    }
+
+    List<Value> next() throws IOException
+    {
+        List<Value> batch = new ArrayList<>( Math.min( batchSize, 1024 ) );
+        long batchBytes = 0;
+        while ( batch.size() < batchSize && hasNext() )
+        {
+            if ( nextRow == null )
+            {
+                nextRow = value( rows.next() );
+                nextRowSize = encodedSize( nextRow );
+            }
+
+            if ( !batch.isEmpty() && batchBytes + nextRowSize > maxBatchBytes )
+            {
+                break;
+            }
+
+            batch.add( nextRow );
+            batchBytes += nextRowSize;
+            nextRow = null;
+        }
+        return batch;
+    }
+
+    void close()
+    {
+        sizingBuffer.release();
+    }
+
+    private long encodedSize( Value row ) throws IOException
+    {
+        sizingBuffer.clear();
+        blobBytes = 0;
+        sizingOutput.start( sizingBuffer );
+        try
+        {
+            sizingPacker.pack( row );
+        }
+        finally
+        {
+            sizingOutput.stop();
+        }
+        return sizingBuffer.readableBytes() + blobBytes;
+    }
+
+    /**
+     * Packs rows as they are sent, except for blobs, which only add their header and length to {@link #blobBytes}.
+     */
+    private class SizingPacker extends ValuePackerV5
+    {
+        SizingPacker( PackOutput output )
+        {
+            super( output );
+        }
+
+        @Override
+        protected void packInternalValue( InternalValue value ) throws IOException
+        {
+            if ( value.typeConstructor() == TypeConstructor.BLOB )
+            {
+                blobBytes += BLOB_HEADER_BYTES + value.asBlob().length();
+                return;
+            }
+
+            super.packInternalValue( value );
+        }
+    }
+}
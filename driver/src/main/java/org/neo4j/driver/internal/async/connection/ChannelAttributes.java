@@ -21,8 +21,11 @@ package org.neo4j.driver.internal.async.connection;
 import io.netty.channel.Channel;
 import io.netty.util.AttributeKey;
 
+import org.neo4j.driver.internal.BlobSettings;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.handlers.RecordBufferBudget;
+import org.neo4j.driver.internal.spi.ConnectionPool;
 import org.neo4j.driver.internal.util.ServerVersion;
 
 import static io.netty.util.AttributeKey.newInstance;
@@ -37,6 +40,9 @@ public final class ChannelAttributes
     private static final AttributeKey<Long> LAST_USED_TIMESTAMP = newInstance( "lastUsedTimestamp" );
     private static final AttributeKey<InboundMessageDispatcher> MESSAGE_DISPATCHER = newInstance( "messageDispatcher" );
     private static final AttributeKey<String> TERMINATION_REASON = newInstance( "terminationReason" );
+    private static final AttributeKey<BlobSettings> BLOB_SETTINGS = newInstance( "blobSettings" );
+    private static final AttributeKey<RecordBufferBudget> RECORD_BUFFER_BUDGET = newInstance( "recordBufferBudget" );
+    private static final AttributeKey<ConnectionPool> CONNECTION_POOL = newInstance( "connectionPool" );
 
     private ChannelAttributes()
     {
@@ -122,6 +128,38 @@ public final class ChannelAttributes
         setOnce( channel, TERMINATION_REASON, reason );
     }
 
+    public static BlobSettings blobSettings( Channel channel )
+    {
+        BlobSettings settings = get( channel, BLOB_SETTINGS );
+        return settings == null ? BlobSettings.DEFAULT : settings;
+    }
+
+    public static void setBlobSettings( Channel channel, BlobSettings settings )
+    {
+        setOnce( channel, BLOB_SETTINGS, settings );
+    }
+
+    public static RecordBufferBudget recordBufferBudget( Channel channel )
+    {
+        RecordBufferBudget budget = get( channel, RECORD_BUFFER_BUDGET );
+        return budget == null ? RecordBufferBudget.DEFAULT : budget;
+    }
+
+    public static void setRecordBufferBudget( Channel channel, RecordBufferBudget budget )
+    {
+        setOnce( channel, RECORD_BUFFER_BUDGET, budget );
+    }
+
+    public static ConnectionPool connectionPool( Channel channel )
+    {
+        return get( channel, CONNECTION_POOL );
+    }
+
+    public static void setConnectionPool( Channel channel, ConnectionPool pool )
+    {
+        set( channel, CONNECTION_POOL, pool );
+    }
+
     private static <T> T get( Channel channel, AttributeKey<T> key )
     {
         return channel.attr( key ).get();
@@ -27,9 +27,11 @@ import io.netty.channel.ChannelPromise;
 
 import java.util.Map;
 
+import org.neo4j.driver.internal.BlobSettings;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.ConnectionSettings;
 import org.neo4j.driver.internal.async.inbound.ConnectTimeoutHandler;
+import org.neo4j.driver.internal.handlers.RecordBufferBudget;
 import org.neo4j.driver.internal.security.InternalAuthToken;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.util.Clock;
@@ -48,13 +50,16 @@ public class ChannelConnectorImpl implements ChannelConnector
     private final SecurityPlan securityPlan;
     private final ChannelPipelineBuilder pipelineBuilder;
     private final int connectTimeoutMillis;
+    private final BlobSettings blobSettings;
+    private final RecordBufferBudget recordBufferBudget;
     private final Logging logging;
     private final Clock clock;
 
     public ChannelConnectorImpl( ConnectionSettings connectionSettings, SecurityPlan securityPlan, Logging logging,
             Clock clock )
     {
-        this( connectionSettings, securityPlan, new ChannelPipelineBuilderImpl(), logging, clock );
+        this( connectionSettings, securityPlan, new ChannelPipelineBuilderImpl( connectionSettings.flushSettings(),
+                connectionSettings.encodingSettings() ), logging, clock );
     }
 
     public ChannelConnectorImpl( ConnectionSettings connectionSettings, SecurityPlan securityPlan,
@@ -63,6 +68,8 @@ public class ChannelConnectorImpl implements ChannelConnector
         this.userAgent = connectionSettings.userAgent();
         this.authToken = tokenAsMap( connectionSettings.authToken() );
         this.connectTimeoutMillis = connectionSettings.connectTimeoutMillis();
+        this.blobSettings = connectionSettings.blobSettings();
+        this.recordBufferBudget = connectionSettings.recordBufferBudget();
         this.securityPlan = requireNonNull( securityPlan );
         this.pipelineBuilder = pipelineBuilder;
         this.logging = requireNonNull( logging );
@@ -73,7 +80,8 @@ public class ChannelConnectorImpl implements ChannelConnector
     public ChannelFuture connect( BoltServerAddress address, Bootstrap bootstrap )
     {
         bootstrap.option( ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis );
-        bootstrap.handler( new NettyChannelInitializer( address, securityPlan, connectTimeoutMillis, clock, logging ) );
+        bootstrap.handler( new NettyChannelInitializer( address, securityPlan, connectTimeoutMillis, blobSettings,
+                recordBufferBudget, clock, logging ) );
 
         ChannelFuture channelConnected = bootstrap.connect( address.toSocketAddress() );
 
@@ -19,17 +19,40 @@
 package org.neo4j.driver.internal.async.connection;
 
 import io.netty.channel.ChannelPipeline;
+import io.netty.handler.stream.ChunkedWriteHandler;
 
 import org.neo4j.driver.internal.async.inbound.ChannelErrorHandler;
 import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
 import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
 import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.async.outbound.EncodingSettings;
+import org.neo4j.driver.internal.async.outbound.FlushConsolidationHandler;
+import org.neo4j.driver.internal.async.outbound.FlushSettings;
 import org.neo4j.driver.internal.async.outbound.OutboundMessageHandler;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 import org.neo4j.driver.Logging;
 
 public class ChannelPipelineBuilderImpl implements ChannelPipelineBuilder
 {
+    private final FlushSettings flushSettings;
+    private final EncodingSettings encodingSettings;
+
+    public ChannelPipelineBuilderImpl()
+    {
+        this( FlushSettings.DEFAULT );
+    }
+
+    public ChannelPipelineBuilderImpl( FlushSettings flushSettings )
+    {
+        this( flushSettings, EncodingSettings.DEFAULT );
+    }
+
+    public ChannelPipelineBuilderImpl( FlushSettings flushSettings, EncodingSettings encodingSettings )
+    {
+        this.flushSettings = flushSettings;
+        this.encodingSettings = encodingSettings;
+    }
+
     @Override
     public void build( MessageFormat messageFormat, ChannelPipeline pipeline, Logging logging )
     {
@@ -39,7 +62,14 @@ public class ChannelPipelineBuilderImpl implements ChannelPipelineBuilder
         pipeline.addLast( new InboundMessageHandler( messageFormat, logging ) );
 
         // outbound handlers
-        pipeline.addLast( OutboundMessageHandler.NAME, new OutboundMessageHandler( messageFormat, logging ) );
+        // flush consolidation goes first, closest to the network, so that it sees bytes of messages and streamed parts
+        if ( flushSettings.isHandlerNeeded() )
+        {
+            pipeline.addLast( FlushConsolidationHandler.NAME, new FlushConsolidationHandler( flushSettings ) );
+        }
+        // chunked writer goes next, it writes streamed message parts produced by the message handler
+        pipeline.addLast( new ChunkedWriteHandler() );
+        pipeline.addLast( OutboundMessageHandler.NAME, new OutboundMessageHandler( messageFormat, encodingSettings, logging ) );
 
         // last one - error handler
         pipeline.addLast( new ChannelErrorHandler( logging ) );
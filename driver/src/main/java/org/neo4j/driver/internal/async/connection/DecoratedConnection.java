@@ -20,7 +20,9 @@ package org.neo4j.driver.internal.async.connection;
 
 import java.util.concurrent.CompletionStage;
 
+import org.neo4j.driver.internal.BlobTransferHints;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.handlers.RecordBufferBudget;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.spi.Connection;
@@ -29,19 +31,26 @@ import org.neo4j.driver.internal.util.ServerVersion;
 import org.neo4j.driver.AccessMode;
 
 /**
- * This is a connection with extra parameters such as database name and access mode
+ * This is a connection with extra parameters such as database name, access mode and blob transfer hints
  */
 public class DecoratedConnection implements Connection
 {
     private final Connection delegate;
     private final AccessMode mode;
     private final String databaseName;
+    private final BlobTransferHints blobTransferHints;
 
     public DecoratedConnection( Connection delegate, String databaseName, AccessMode mode )
+    {
+        this( delegate, databaseName, mode, BlobTransferHints.EMPTY );
+    }
+
+    public DecoratedConnection( Connection delegate, String databaseName, AccessMode mode, BlobTransferHints blobTransferHints )
     {
         this.delegate = delegate;
         this.mode = mode;
         this.databaseName = databaseName;
+        this.blobTransferHints = blobTransferHints;
     }
 
     public Connection connection()
@@ -49,6 +58,15 @@ public class DecoratedConnection implements Connection
         return delegate;
     }
 
+    /**
+     * @param blobTransferHints hints for blobs transferred over the connection.
+     * @return connection over the same delegate, with the same database name and access mode and the given hints.
+     */
+    public DecoratedConnection withBlobTransferHints( BlobTransferHints blobTransferHints )
+    {
+        return new DecoratedConnection( delegate, databaseName, mode, blobTransferHints );
+    }
+
     @Override
     public boolean isOpen()
     {
@@ -127,6 +145,12 @@ public class DecoratedConnection implements Connection
         return delegate.protocol();
     }
 
+    @Override
+    public RecordBufferBudget recordBufferBudget()
+    {
+        return delegate.recordBufferBudget();
+    }
+
     @Override
     public AccessMode mode()
     {
@@ -139,6 +163,12 @@ public class DecoratedConnection implements Connection
         return this.databaseName;
     }
 
+    @Override
+    public BlobTransferHints blobTransferHints()
+    {
+        return blobTransferHints;
+    }
+
     @Override
     public void flush()
     {
@@ -28,6 +28,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.handlers.ChannelReleasingResetResponseHandler;
+import org.neo4j.driver.internal.handlers.RecordBufferBudget;
 import org.neo4j.driver.internal.handlers.ResetResponseHandler;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
@@ -195,6 +196,12 @@ public class DirectConnection implements Connection
         return protocol;
     }
 
+    @Override
+    public RecordBufferBudget recordBufferBudget()
+    {
+        return ChannelAttributes.recordBufferBudget( channel );
+    }
+
     private void writeResetMessageIfNeeded( ResponseHandler resetHandler, boolean isSessionReset )
     {
         channel.eventLoop().execute( () ->
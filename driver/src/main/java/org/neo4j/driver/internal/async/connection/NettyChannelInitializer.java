@@ -26,14 +26,18 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 
+import org.neo4j.driver.internal.BlobSettings;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.handlers.RecordBufferBudget;
 import org.neo4j.driver.internal.security.SecurityPlan;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.Logging;
 
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setBlobSettings;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setCreationTimestamp;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setMessageDispatcher;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setRecordBufferBudget;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setServerAddress;
 
 public class NettyChannelInitializer extends ChannelInitializer<Channel>
@@ -41,15 +45,31 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel>
     private final BoltServerAddress address;
     private final SecurityPlan securityPlan;
     private final int connectTimeoutMillis;
+    private final BlobSettings blobSettings;
+    private final RecordBufferBudget recordBufferBudget;
     private final Clock clock;
     private final Logging logging;
 
     public NettyChannelInitializer( BoltServerAddress address, SecurityPlan securityPlan, int connectTimeoutMillis,
             Clock clock, Logging logging )
+    {
+        this( address, securityPlan, connectTimeoutMillis, BlobSettings.DEFAULT, clock, logging );
+    }
+
+    public NettyChannelInitializer( BoltServerAddress address, SecurityPlan securityPlan, int connectTimeoutMillis,
+            BlobSettings blobSettings, Clock clock, Logging logging )
+    {
+        this( address, securityPlan, connectTimeoutMillis, blobSettings, RecordBufferBudget.DEFAULT, clock, logging );
+    }
+
+    public NettyChannelInitializer( BoltServerAddress address, SecurityPlan securityPlan, int connectTimeoutMillis,
+            BlobSettings blobSettings, RecordBufferBudget recordBufferBudget, Clock clock, Logging logging )
     {
         this.address = address;
         this.securityPlan = securityPlan;
         this.connectTimeoutMillis = connectTimeoutMillis;
+        this.blobSettings = blobSettings;
+        this.recordBufferBudget = recordBufferBudget;
         this.clock = clock;
         this.logging = logging;
     }
@@ -92,6 +112,8 @@ public class NettyChannelInitializer extends ChannelInitializer<Channel>
     {
         setServerAddress( channel, address );
         setCreationTimestamp( channel, clock.millis() );
+        setBlobSettings( channel, blobSettings );
+        setRecordBufferBudget( channel, recordBufferBudget );
         setMessageDispatcher( channel, new InboundMessageDispatcher( channel, logging ) );
     }
 }
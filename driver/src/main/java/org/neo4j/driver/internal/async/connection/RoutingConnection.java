@@ -22,9 +22,13 @@ import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.RoutingErrorHandler;
+import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancingStrategy;
+import org.neo4j.driver.internal.handlers.RecordBufferBudget;
 import org.neo4j.driver.internal.handlers.RoutingResponseHandler;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.request.RunMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 import org.neo4j.driver.internal.util.ServerVersion;
@@ -35,12 +39,23 @@ public class RoutingConnection implements Connection
     private final Connection delegate;
     private final AccessMode accessMode;
     private final RoutingErrorHandler errorHandler;
+    private final LoadBalancingStrategy loadBalancingStrategy;
 
     public RoutingConnection( Connection delegate, AccessMode accessMode, RoutingErrorHandler errorHandler )
+    {
+        this( delegate, accessMode, errorHandler, null );
+    }
+
+    /**
+     * @param loadBalancingStrategy observes response times of RUN messages, can be {@code null}.
+     */
+    public RoutingConnection( Connection delegate, AccessMode accessMode, RoutingErrorHandler errorHandler,
+            LoadBalancingStrategy loadBalancingStrategy )
     {
         this.delegate = delegate;
         this.accessMode = accessMode;
         this.errorHandler = errorHandler;
+        this.loadBalancingStrategy = loadBalancingStrategy;
     }
 
     @Override
@@ -58,25 +73,27 @@ public class RoutingConnection implements Connection
     @Override
     public void write( Message message, ResponseHandler handler )
     {
-        delegate.write( message, newRoutingResponseHandler( handler ) );
+        delegate.write( message, newRoutingResponseHandler( message, handler, false ) );
     }
 
     @Override
     public void write( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2 )
     {
-        delegate.write( message1, newRoutingResponseHandler( handler1 ), message2, newRoutingResponseHandler( handler2 ) );
+        delegate.write( message1, newRoutingResponseHandler( message1, handler1, false ), message2,
+                newRoutingResponseHandler( message2, handler2, false ) );
     }
 
     @Override
     public void writeAndFlush( Message message, ResponseHandler handler )
     {
-        delegate.writeAndFlush( message, newRoutingResponseHandler( handler ) );
+        delegate.writeAndFlush( message, newRoutingResponseHandler( message, handler, true ) );
     }
 
     @Override
     public void writeAndFlush( Message message1, ResponseHandler handler1, Message message2, ResponseHandler handler2 )
     {
-        delegate.writeAndFlush( message1, newRoutingResponseHandler( handler1 ), message2, newRoutingResponseHandler( handler2 ) );
+        delegate.writeAndFlush( message1, newRoutingResponseHandler( message1, handler1, true ), message2,
+                newRoutingResponseHandler( message2, handler2, true ) );
     }
 
     @Override
@@ -121,14 +138,23 @@ public class RoutingConnection implements Connection
         return delegate.protocol();
     }
 
+    @Override
+    public RecordBufferBudget recordBufferBudget()
+    {
+        return delegate.recordBufferBudget();
+    }
+
     @Override
     public void flush()
     {
         delegate.flush();
     }
 
-    private RoutingResponseHandler newRoutingResponseHandler( ResponseHandler handler )
+    private RoutingResponseHandler newRoutingResponseHandler( Message message, ResponseHandler handler, boolean flush )
     {
-        return new RoutingResponseHandler( handler, serverAddress(), accessMode, errorHandler );
+        // only responses to RUN are timed, they reflect how busy and how far away the server is
+        // messages written without flush can wait for a later flush for any time, so they are not timed
+        boolean timed = loadBalancingStrategy != null && flush && (message instanceof RunMessage || message instanceof RunWithMetadataMessage);
+        return new RoutingResponseHandler( handler, serverAddress(), accessMode, errorHandler, timed ? loadBalancingStrategy : null );
     }
 }
@@ -19,25 +19,90 @@
 package org.neo4j.driver.internal.async.inbound;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
 
 import org.neo4j.driver.internal.packstream.PackInput;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 
 public class ByteBufInput implements PackInput
 {
+    // larger strings are decoded without the scratch array, so that it does not hold on to memory
+    private static final int MAX_SCRATCH_SIZE = 8 * 1024;
+
+    private final InboundStringCache stringCache;
+    private byte[] scratch = new byte[64];
+
     private ByteBuf buf;
-    public InboundMessageHandler _inboundMessageHandler;
+    private boolean retainBytes;
+    private Channel channel;
+
+    public ByteBufInput()
+    {
+        this( false );
+    }
+
+    /**
+     * @param cacheStrings whether short strings should be cached, see {@link InboundStringCache}.
+     */
+    public ByteBufInput( boolean cacheStrings )
+    {
+        this.stringCache = cacheStrings ? new InboundStringCache() : null;
+    }
 
     public void start( ByteBuf newBuf )
+    {
+        start( newBuf, false );
+    }
+
+    /**
+     * Start reading the given buffer.
+     *
+     * @param newBuf the buffer to read.
+     * @param retainBytes whether byte arrays should be read as retained slices of the buffer, see {@link #readRetainedSlice(int)}.
+     */
+    public void start( ByteBuf newBuf, boolean retainBytes )
     {
         assertNotStarted();
         buf = requireNonNull( newBuf );
+        this.retainBytes = retainBytes;
     }
 
     public void stop()
     {
         buf = null;
+        retainBytes = false;
+    }
+
+    /**
+     * @return the channel bytes are received from.
+     */
+    public Channel channel()
+    {
+        return channel;
+    }
+
+    public void setChannel( Channel channel )
+    {
+        this.channel = channel;
+    }
+
+    public boolean retainsBytes()
+    {
+        return retainBytes;
+    }
+
+    /**
+     * Consume a specified number of bytes without copying them.
+     *
+     * @param length the number of bytes.
+     * @return a slice of the underlying buffer, retained so that it outlives the current message. Caller has to release it.
+     */
+    public ByteBuf readRetainedSlice( int length )
+    {
+        return buf.readRetainedSlice( length );
     }
 
     @Override
@@ -76,12 +141,69 @@ public class ByteBufInput implements PackInput
         buf.readBytes( into, offset, toRead );
     }
 
+    /**
+     * Decode the string straight from the buffer. Short strings come from the string cache when enabled, others are decoded from the
+     * backing array of the buffer or from a scratch array reused by all strings.
+     */
+    @Override
+    public String readUtf8( int size )
+    {
+        int index = buf.readerIndex();
+        String value = null;
+        boolean cacheable = stringCache != null && size <= InboundStringCache.MAX_CACHED_SIZE;
+        if ( cacheable )
+        {
+            value = stringCache.get( buf, index, size );
+        }
+        if ( value == null )
+        {
+            value = decodeUtf8( index, size );
+            if ( cacheable )
+            {
+                stringCache.put( buf, index, size, value );
+            }
+        }
+        buf.skipBytes( size );
+        return value;
+    }
+
     @Override
     public byte peekByte()
     {
         return buf.getByte( buf.readerIndex() );
     }
 
+    private String decodeUtf8( int index, int size )
+    {
+        if ( buf.hasArray() )
+        {
+            return decodeUtf8( buf.array(), buf.arrayOffset() + index, size );
+        }
+        if ( size > MAX_SCRATCH_SIZE )
+        {
+            return buf.toString( index, size, UTF_8 );
+        }
+        if ( scratch.length < size )
+        {
+            scratch = new byte[Math.min( Math.max( size, scratch.length * 2 ), MAX_SCRATCH_SIZE )];
+        }
+        buf.getBytes( index, scratch, 0, size );
+        return decodeUtf8( scratch, 0, size );
+    }
+
+    private static String decodeUtf8( byte[] bytes, int offset, int size )
+    {
+        for ( int i = offset; i < offset + size; i++ )
+        {
+            if ( bytes[i] < 0 )
+            {
+                return new String( bytes, offset, size, UTF_8 );
+            }
+        }
+        // ASCII is also valid Latin-1, which is decoded by widening every byte without a charset decoder
+        return new String( bytes, offset, size, ISO_8859_1 );
+    }
+
     private void assertNotStarted()
     {
         if ( buf != null )
@@ -46,6 +46,7 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
 
     private Throwable currentError;
     private boolean fatalErrorOccurred;
+    private int currentMessageSize;
 
     private ResponseHandler autoReadManagingHandler;
 
@@ -63,6 +64,7 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
         }
         else
         {
+            handler.onEnqueued( handlers.size() );
             handlers.add( handler );
             updateAutoReadManagingHandlerIfNeeded( handler );
         }
@@ -73,6 +75,36 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
         return handlers.size();
     }
 
+    /**
+     * @return {@code true} when the handler that receives the next message accepts retained bytes, {@code false} otherwise.
+     * @see ResponseHandler#acceptsRetainedBytes()
+     */
+    public boolean nextHandlerAcceptsRetainedBytes()
+    {
+        ResponseHandler handler = handlers.peek();
+        return handler != null && handler.acceptsRetainedBytes();
+    }
+
+    /**
+     * @return {@code true} when the handler that receives the next message does not need records, {@code false} otherwise.
+     * @see ResponseHandler#discardsRecords()
+     */
+    public boolean nextHandlerDiscardsRecords()
+    {
+        ResponseHandler handler = handlers.peek();
+        return handler != null && handler.discardsRecords();
+    }
+
+    /**
+     * Called before the next message is read.
+     *
+     * @param size the size in bytes of the message, handed to the handler of a RECORD message.
+     */
+    public void beforeMessage( int size )
+    {
+        currentMessageSize = size;
+    }
+
     @Override
     public void handleSuccessMessage( Map<String,Value> meta )
     {
@@ -93,7 +125,7 @@ public class InboundMessageDispatcher implements ResponseMessageHandler
         {
             throw new IllegalStateException( "No handler exists to handle RECORD message with fields: " + Arrays.toString( fields ) );
         }
-        handler.onRecord( fields );
+        handler.onRecord( fields, currentMessageSize );
     }
 
     @Override
@@ -25,11 +25,13 @@ import io.netty.handler.codec.DecoderException;
 
 import org.neo4j.driver.internal.logging.ChannelActivityLogger;
 import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.response.RecordMessage;
 import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 
 import static io.netty.buffer.ByteBufUtil.hexDump;
 import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.internal.packstream.PackStream.TINY_STRUCT;
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.messageDispatcher;
 
 public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
@@ -43,8 +45,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
 
     public InboundMessageHandler( MessageFormat messageFormat, Logging logging )
     {
-        this.input = new ByteBufInput();
-        this.input._inboundMessageHandler = this; //TODO
+        this.input = new ByteBufInput( true );
         this.reader = messageFormat.newReader( input );
         this.logging = logging;
     }
@@ -54,6 +55,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
     {
         messageDispatcher = requireNonNull( messageDispatcher( ctx.channel() ) );
         log = new ChannelActivityLogger( ctx.channel(), logging, getClass() );
+        input.setChannel( ctx.channel() );
     }
 
     @Override
@@ -61,6 +63,7 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
     {
         messageDispatcher = null;
         log = null;
+        input.setChannel( null );
     }
 
     @Override
@@ -78,7 +81,14 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
             log.trace( "S: %s", hexDump( msg ) );
         }
 
-        input.start( msg );
+        if ( isRecordMessage( msg ) && messageDispatcher.nextHandlerDiscardsRecords() )
+        {
+            // result has been consumed, records still arriving from the database are dropped without decoding
+            return;
+        }
+
+        messageDispatcher.beforeMessage( msg.readableBytes() );
+        input.start( msg, messageDispatcher.nextHandlerAcceptsRetainedBytes() );
         try
         {
             reader.read( messageDispatcher );
@@ -92,4 +102,11 @@ public class InboundMessageHandler extends SimpleChannelInboundHandler<ByteBuf>
             input.stop();
         }
     }
+
+    private static boolean isRecordMessage( ByteBuf msg )
+    {
+        int index = msg.readerIndex();
+        return msg.readableBytes() > 1 && msg.getByte( index ) == (byte) (TINY_STRUCT | 1) &&
+               msg.getByte( index + 1 ) == RecordMessage.SIGNATURE;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.inbound;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Short strings received over a channel again and again, such as property keys, labels and relationship types. Strings are looked up by
+ * their encoded bytes, so a cached string is returned without decoding it or allocating anything. Each slot holds the last string hashed
+ * to it, so the cache does not grow and does not need to be cleaned up.
+ * <p>
+ * Not thread safe, every channel has its own cache.
+ */
+class InboundStringCache
+{
+    static final int MAX_CACHED_SIZE = 32;
+    private static final int SLOTS = 256;
+
+    private final byte[][] keys = new byte[SLOTS][];
+    private final String[] values = new String[SLOTS];
+
+    /**
+     * @return the cached string encoded by the given bytes of the buffer or {@code null} when it is not cached.
+     */
+    String get( ByteBuf buf, int index, int size )
+    {
+        int slot = slot( buf, index, size );
+        byte[] key = keys[slot];
+        if ( key != null && key.length == size && equals( key, buf, index ) )
+        {
+            return values[slot];
+        }
+        return null;
+    }
+
+    void put( ByteBuf buf, int index, int size, String value )
+    {
+        int slot = slot( buf, index, size );
+        byte[] key = new byte[size];
+        buf.getBytes( index, key );
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    private static int slot( ByteBuf buf, int index, int size )
+    {
+        int hash = size;
+        for ( int i = 0; i < size; i++ )
+        {
+            hash = 31 * hash + buf.getByte( index + i );
+        }
+        return (hash ^ (hash >>> 16)) & (SLOTS - 1);
+    }
+
+    private static boolean equals( byte[] key, ByteBuf buf, int index )
+    {
+        for ( int i = 0; i < key.length; i++ )
+        {
+            if ( key[i] != buf.getByte( index + i ) )
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -19,7 +19,17 @@
 package org.neo4j.driver.internal.async.outbound;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.util.ReferenceCountUtil;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.internal.BlobSettings;
 import org.neo4j.driver.internal.async.connection.BoltProtocolUtil;
 import org.neo4j.driver.internal.packstream.PackOutput;
 
@@ -29,11 +39,27 @@ import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.DEFAUL
 
 public class ChunkAwareByteBufOutput implements PackOutput
 {
+    // byte arrays of at least this size are not copied into the message buffer when streaming is enabled
+    static final int GATHERING_WRITE_THRESHOLD = 8 * 1024;
+
+    private static final Runnable NO_RESUMER = () ->
+    {
+    };
+
     private final int maxChunkSize;
 
     private ByteBuf buf;
     private int currentChunkStartIndex;
     private int currentChunkSize;
+    // times the message buffer was grown since the message was started
+    private int reallocations;
+
+    // present only when streaming of large values is enabled, see #enableStreaming()
+    private ByteBufAllocator allocator;
+    private Logger streamLog;
+    private BlobSettings blobSettings = BlobSettings.DEFAULT;
+    private Runnable streamResumer = NO_RESUMER;
+    private final List<Object> streamedParts = new ArrayList<>();
 
     public ChunkAwareByteBufOutput()
     {
@@ -49,15 +75,145 @@ public class ChunkAwareByteBufOutput implements PackOutput
     {
         assertNotStarted();
         buf = requireNonNull( newBuf );
+        reallocations = 0;
         startNewChunk( 0 );
     }
 
-    public void stop()
+    /**
+     * @return times the buffer of the current or the last message had to grow because it was too small.
+     */
+    public int reallocations()
+    {
+        return reallocations;
+    }
+
+    /**
+     * Finish the current message.
+     *
+     * @return the buffer containing the tail of the message. It is the buffer given to {@link #start(ByteBuf)} unless
+     * some values were streamed using {@link #writeStream(ChunkedInput)} or large byte arrays were written.
+     */
+    public ByteBuf stop()
     {
-        writeChunkSizeHeader();
+        if ( !streamedParts.isEmpty() && currentChunkSize == CHUNK_HEADER_SIZE_BYTES )
+        {
+            // streamed value was the last one in the message, drop the empty chunk because it looks like a message boundary
+            buf.writerIndex( currentChunkStartIndex );
+        }
+        else
+        {
+            writeChunkSizeHeader();
+        }
+        ByteBuf tail = buf;
         buf = null;
         currentChunkStartIndex = 0;
         currentChunkSize = 0;
+        return tail;
+    }
+
+    /**
+     * Allow values to be streamed using {@link #writeStream(ChunkedInput)}. Streamed values and large byte arrays are not copied
+     * into the message buffer. Instead, message is split into multiple parts that have to be written to the channel in order
+     * by a pipeline containing {@link io.netty.handler.stream.ChunkedWriteHandler}.
+     *
+     * @param allocator the allocator for buffers that hold message parts following a streamed value.
+     * @param log the logger to report throughput of streamed values to.
+     */
+    public void enableStreaming( ByteBufAllocator allocator, Logger log )
+    {
+        enableStreaming( allocator, log, BlobSettings.DEFAULT, NO_RESUMER );
+    }
+
+    /**
+     * Allow values to be streamed using {@link #writeStream(ChunkedInput)}.
+     *
+     * @param allocator the allocator for buffers that hold message parts following a streamed value.
+     * @param log the logger to report throughput of streamed values to.
+     * @param blobSettings the settings deciding which blobs are streamed and how.
+     * @param streamResumer wakes up the writer of the channel when a streamed value that had no bytes ready becomes readable.
+     */
+    public void enableStreaming( ByteBufAllocator allocator, Logger log, BlobSettings blobSettings, Runnable streamResumer )
+    {
+        this.allocator = requireNonNull( allocator );
+        this.streamLog = requireNonNull( log );
+        this.blobSettings = requireNonNull( blobSettings );
+        this.streamResumer = requireNonNull( streamResumer );
+    }
+
+    public void disableStreaming()
+    {
+        allocator = null;
+        streamLog = null;
+        blobSettings = BlobSettings.DEFAULT;
+        streamResumer = NO_RESUMER;
+    }
+
+    public boolean isStreamingEnabled()
+    {
+        return allocator != null;
+    }
+
+    public BlobSettings blobSettings()
+    {
+        return blobSettings;
+    }
+
+    public ByteBufAllocator streamAllocator()
+    {
+        return allocator;
+    }
+
+    public Runnable streamResumer()
+    {
+        return streamResumer;
+    }
+
+    /**
+     * Write the given body as a sequence of chunks without materializing it in the message buffer.
+     * Current chunk is closed and the next chunk is started in a new buffer.
+     *
+     * @param body the value bytes, read lazily when the message is written to the network.
+     * @return this output.
+     */
+    public PackOutput writeStream( ChunkedInput<ByteBuf> body )
+    {
+        if ( !isStreamingEnabled() )
+        {
+            throw new IllegalStateException( "Streaming is not enabled" );
+        }
+
+        addSeparatePart( new ChunkedMessageInput( body, maxChunkSize - CHUNK_HEADER_SIZE_BYTES, streamLog ) );
+        return this;
+    }
+
+    /**
+     * Move parts of the current message that precede the last streamed value to the given list.
+     *
+     * @param out the list to add message parts to.
+     */
+    public void drainStreamedParts( List<Object> out )
+    {
+        out.addAll( streamedParts );
+        streamedParts.clear();
+    }
+
+    /**
+     * Release parts of the current message that precede the last streamed value. Used when message can't be written.
+     */
+    public void releaseStreamedParts()
+    {
+        for ( Object part : streamedParts )
+        {
+            if ( part instanceof ChunkedInput )
+            {
+                closeQuietly( (ChunkedInput<?>) part );
+            }
+            else
+            {
+                ReferenceCountUtil.release( part );
+            }
+        }
+        streamedParts.clear();
     }
 
     @Override
@@ -69,6 +225,16 @@ public class ChunkAwareByteBufOutput implements PackOutput
         return this;
     }
 
+    @Override
+    public PackOutput writeBytesGathering( byte[] data )
+    {
+        if ( data.length >= GATHERING_WRITE_THRESHOLD && isStreamingEnabled() )
+        {
+            return writeGathering( data );
+        }
+        return writeBytes( data );
+    }
+
     @Override
     public PackOutput writeBytes( byte[] data )
     {
@@ -81,6 +247,7 @@ public class ChunkAwareByteBufOutput implements PackOutput
 
             // Write as much as we can into the current chunk
             int amountToWrite = Math.min( availableBytesInCurrentChunk(), length - offset );
+            ensureWritable( amountToWrite );
 
             buf.writeBytes( data, offset, amountToWrite );
             currentChunkSize += amountToWrite;
@@ -125,14 +292,96 @@ public class ChunkAwareByteBufOutput implements PackOutput
         return this;
     }
 
+    /**
+     * Write the given bytes as a composite buffer of chunk headers and slices of the array, the array is not copied into the message
+     * buffer and the socket write gathers the slices.
+     */
+    private PackOutput writeGathering( byte[] data )
+    {
+        int maxChunkBodySize = maxChunkSize - CHUNK_HEADER_SIZE_BYTES;
+        int chunkCount = (data.length + maxChunkBodySize - 1) / maxChunkBodySize;
+
+        ByteBuf headers = allocator.ioBuffer( chunkCount * CHUNK_HEADER_SIZE_BYTES );
+        CompositeByteBuf gathered = allocator.compositeBuffer( chunkCount * 2 );
+        try
+        {
+            for ( int offset = 0; offset < data.length; offset += maxChunkBodySize )
+            {
+                int chunkBodySize = Math.min( maxChunkBodySize, data.length - offset );
+                headers.writeShort( chunkBodySize );
+                gathered.addComponent( true, headers.retainedSlice( headers.writerIndex() - CHUNK_HEADER_SIZE_BYTES, CHUNK_HEADER_SIZE_BYTES ) );
+                gathered.addComponent( true, Unpooled.wrappedBuffer( data, offset, chunkBodySize ) );
+            }
+        }
+        catch ( Throwable error )
+        {
+            gathered.release();
+            throw error;
+        }
+        finally
+        {
+            // components hold their own references
+            headers.release();
+        }
+
+        addSeparatePart( gathered );
+        return this;
+    }
+
+    /**
+     * Close the current chunk and the current buffer, add the given part after it and continue the message in a new buffer.
+     */
+    private void addSeparatePart( Object part )
+    {
+        if ( currentChunkSize == CHUNK_HEADER_SIZE_BYTES )
+        {
+            // nothing has been written to the current chunk, drop its header
+            buf.writerIndex( currentChunkStartIndex );
+        }
+        else
+        {
+            writeChunkSizeHeader();
+        }
+
+        streamedParts.add( buf );
+        streamedParts.add( part );
+
+        buf = allocator.ioBuffer();
+        startNewChunk( 0 );
+    }
+
     private void ensureCanFitInCurrentChunk( int numberOfBytes )
     {
         int targetChunkSize = currentChunkSize + numberOfBytes;
         if ( targetChunkSize > maxChunkSize )
         {
             writeChunkSizeHeader();
+            ensureWritable( CHUNK_HEADER_SIZE_BYTES + numberOfBytes );
             startNewChunk( buf.writerIndex() );
         }
+        else
+        {
+            ensureWritable( numberOfBytes );
+        }
+    }
+
+    private void ensureWritable( int numberOfBytes )
+    {
+        if ( buf.writableBytes() >= numberOfBytes )
+        {
+            return;
+        }
+
+        reallocations++;
+        if ( buf.maxWritableBytes() < numberOfBytes )
+        {
+            // buffer can't grow, e.g. it is a slice of a shared buffer, continue in a new buffer holding the bytes written so far
+            // chunk start index stays valid because bytes are copied to the same indexes
+            ByteBuf grown = buf.alloc().ioBuffer( Math.max( buf.writerIndex() + numberOfBytes, buf.capacity() * 2 ) );
+            grown.writeBytes( buf, 0, buf.writerIndex() );
+            buf.release();
+            buf = grown;
+        }
     }
 
     private void startNewChunk( int index )
@@ -162,6 +411,17 @@ public class ChunkAwareByteBufOutput implements PackOutput
         }
     }
 
+    private static void closeQuietly( ChunkedInput<?> input )
+    {
+        try
+        {
+            input.close();
+        }
+        catch ( Exception ignore )
+        {
+        }
+    }
+
     private static int verifyMaxChunkSize( int maxChunkSize )
     {
         if ( maxChunkSize <= 0 )
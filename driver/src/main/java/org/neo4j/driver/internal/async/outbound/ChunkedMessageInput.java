@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.Logger;
+
+import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.CHUNK_HEADER_SIZE_BYTES;
+
+/**
+ * Part of an outbound message that is produced lazily by a {@link ChunkedInput}, for example bytes of a large blob.
+ * Every piece read from the body is framed into chunks of at most the configured size. Frames reference the body bytes
+ * and do not copy them.
+ */
+public class ChunkedMessageInput implements ChunkedInput<ByteBuf>
+{
+    private final ChunkedInput<ByteBuf> body;
+    private final int maxChunkBodySize;
+    private final Logger log;
+
+    private long startNanos = -1;
+    private long bytesWritten;
+
+    public ChunkedMessageInput( ChunkedInput<ByteBuf> body, int maxChunkBodySize, Logger log )
+    {
+        this.body = requireNonNull( body );
+        this.maxChunkBodySize = maxChunkBodySize;
+        this.log = requireNonNull( log );
+    }
+
+    @Override
+    public boolean isEndOfInput() throws Exception
+    {
+        return body.isEndOfInput();
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        body.close();
+    }
+
+    @Override
+    @Deprecated
+    public ByteBuf readChunk( ChannelHandlerContext ctx ) throws Exception
+    {
+        return readChunk( ctx.alloc() );
+    }
+
+    @Override
+    public ByteBuf readChunk( ByteBufAllocator allocator ) throws Exception
+    {
+        if ( startNanos < 0 )
+        {
+            startNanos = System.nanoTime();
+        }
+
+        ByteBuf piece = body.readChunk( allocator );
+        if ( piece == null )
+        {
+            return null;
+        }
+
+        ByteBuf frames = frame( piece, allocator );
+        bytesWritten += frames.readableBytes();
+
+        if ( body.isEndOfInput() )
+        {
+            reportThroughput();
+        }
+        return frames;
+    }
+
+    @Override
+    public long length()
+    {
+        return body.length();
+    }
+
+    @Override
+    public long progress()
+    {
+        return body.progress();
+    }
+
+    private ByteBuf frame( ByteBuf piece, ByteBufAllocator allocator )
+    {
+        int chunkCount = (piece.readableBytes() + maxChunkBodySize - 1) / maxChunkBodySize;
+        CompositeByteBuf frames = allocator.compositeBuffer( Math.max( 2 * chunkCount, 2 ) );
+        try
+        {
+            while ( piece.isReadable() )
+            {
+                int chunkBodySize = Math.min( maxChunkBodySize, piece.readableBytes() );
+                ByteBuf header = allocator.ioBuffer( CHUNK_HEADER_SIZE_BYTES ).writeShort( chunkBodySize );
+                frames.addComponent( true, header );
+                frames.addComponent( true, piece.readRetainedSlice( chunkBodySize ) );
+            }
+            return frames;
+        }
+        catch ( Throwable error )
+        {
+            frames.release();
+            throw error;
+        }
+        finally
+        {
+            piece.release();
+        }
+    }
+
+    private void reportThroughput()
+    {
+        if ( log.isDebugEnabled() )
+        {
+            long elapsedMillis = Math.max( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startNanos ), 1 );
+            double megabytesPerSecond = (bytesWritten / (1024.0 * 1024.0)) / (elapsedMillis / 1000.0);
+            log.debug( "C: streamed %d bytes in %d ms (%.2f MB/s)", bytesWritten, elapsedMillis, megabytesPerSecond );
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+/**
+ * Predicts encoded size of a message from the sizes of previous messages of the same type. Prediction follows a larger message right away,
+ * so that the next message of the same size is encoded without growing its buffer, and decays slowly towards smaller messages.
+ */
+class EncodeSizePredictor
+{
+    static final int DEFAULT_SIZE = 256;
+    static final int MAX_SIZE = 4 * 1024 * 1024;
+
+    // indexed by message signature, 0 when no message of the type was encoded yet
+    private final int[] predictions = new int[256];
+
+    int predict( byte signature )
+    {
+        int prediction = predictions[signature & 0xFF];
+        return prediction == 0 ? DEFAULT_SIZE : prediction;
+    }
+
+    void record( byte signature, int size )
+    {
+        int index = signature & 0xFF;
+        int previous = predictions[index];
+        int next;
+        if ( size >= previous )
+        {
+            // a little headroom for the next message being slightly larger
+            next = size + (size >>> 3);
+        }
+        else
+        {
+            next = previous - ((previous - size) >>> 2);
+        }
+        predictions[index] = Math.max( DEFAULT_SIZE, Math.min( next, MAX_SIZE ) );
+    }
+}
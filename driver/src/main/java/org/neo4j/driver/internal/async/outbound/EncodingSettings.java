@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import org.neo4j.driver.internal.metrics.InternalMessageEncodingMetrics;
+
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.CHUNK_HEADER_SIZE_BYTES;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES;
+
+/**
+ * Settings of {@link OutboundMessageHandler}.
+ */
+public class EncodingSettings
+{
+    // chunk size header is an unsigned short
+    public static final int MAX_CHUNK_SIZE_BYTES = CHUNK_HEADER_SIZE_BYTES + 0xFFFF;
+    public static final int MIN_CHUNK_SIZE_BYTES = CHUNK_HEADER_SIZE_BYTES + 1;
+
+    public static final EncodingSettings DEFAULT = new EncodingSettings( DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES, null );
+
+    private final int maxChunkSize;
+    private final InternalMessageEncodingMetrics metrics;
+
+    /**
+     * @param maxChunkSize the maximum size of a chunk of an outbound message, including the chunk header.
+     * @param metrics the metrics updated by encoded messages, {@code null} when metrics are disabled.
+     */
+    public EncodingSettings( int maxChunkSize, InternalMessageEncodingMetrics metrics )
+    {
+        this.maxChunkSize = assertValidMaxChunkSize( maxChunkSize );
+        this.metrics = metrics;
+    }
+
+    public int maxChunkSize()
+    {
+        return maxChunkSize;
+    }
+
+    public InternalMessageEncodingMetrics metrics()
+    {
+        return metrics;
+    }
+
+    public static int assertValidMaxChunkSize( int size )
+    {
+        if ( size < MIN_CHUNK_SIZE_BYTES || size > MAX_CHUNK_SIZE_BYTES )
+        {
+            throw new IllegalArgumentException( String.format(
+                    "The maximum outbound chunk size must be between %d and %d bytes, but was %d.", MIN_CHUNK_SIZE_BYTES, MAX_CHUNK_SIZE_BYTES,
+                    size ) );
+        }
+        return size;
+    }
+}
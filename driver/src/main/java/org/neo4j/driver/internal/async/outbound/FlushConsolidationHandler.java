@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.internal.metrics.InternalFlushMetrics;
+
+/**
+ * Merges flushes requested for messages of a connection. A requested flush is held back until the end of the current event loop iteration,
+ * or for the configured maximum delay, so that messages written in the meantime go out with a single write system call and, for encrypted
+ * connections, in fewer TLS records. A flush is performed right away when enough bytes are written, when the channel becomes unwritable
+ * and before the channel is closed.
+ * <p>
+ * Every performed flush is counted in {@link InternalFlushMetrics}, when metrics are enabled. With consolidation disabled the handler only
+ * counts flushes.
+ */
+public class FlushConsolidationHandler extends ChannelDuplexHandler
+{
+    public static final String NAME = FlushConsolidationHandler.class.getSimpleName();
+
+    private final boolean consolidationEnabled;
+    private final long maxDelayNanos;
+    private final int maxBytes;
+    private final InternalFlushMetrics metrics;
+
+    // all fields below are only accessed in the event loop thread of the channel
+    private ChannelHandlerContext ctx;
+    private Runnable flushTask;
+    private boolean flushScheduled;
+    private int pendingFlushes;
+    private long pendingBytes;
+
+    public FlushConsolidationHandler( FlushSettings settings )
+    {
+        this.consolidationEnabled = settings.isConsolidationEnabled();
+        this.maxDelayNanos = settings.maxDelayNanos();
+        this.maxBytes = settings.maxBytes();
+        this.metrics = settings.metrics();
+    }
+
+    @Override
+    public void handlerAdded( ChannelHandlerContext ctx )
+    {
+        this.ctx = ctx;
+        this.flushTask = () ->
+        {
+            flushScheduled = false;
+            flushPending();
+        };
+    }
+
+    @Override
+    public void handlerRemoved( ChannelHandlerContext ctx )
+    {
+        flushPending();
+    }
+
+    @Override
+    public void write( ChannelHandlerContext ctx, Object msg, ChannelPromise promise )
+    {
+        pendingBytes += sizeOf( msg );
+        ctx.write( msg, promise );
+    }
+
+    @Override
+    public void flush( ChannelHandlerContext ctx )
+    {
+        pendingFlushes++;
+        if ( !consolidationEnabled || pendingBytes >= maxBytes )
+        {
+            flushPending();
+        }
+        else if ( !flushScheduled )
+        {
+            flushScheduled = true;
+            if ( maxDelayNanos == 0 )
+            {
+                // runs after the tasks already queued in the event loop, they might write more messages
+                ctx.executor().execute( flushTask );
+            }
+            else
+            {
+                ctx.executor().schedule( flushTask, maxDelayNanos, TimeUnit.NANOSECONDS );
+            }
+        }
+    }
+
+    @Override
+    public void channelWritabilityChanged( ChannelHandlerContext ctx )
+    {
+        if ( !ctx.channel().isWritable() )
+        {
+            // outbound buffer is full, holding the flush back would only stall writers
+            flushPending();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void exceptionCaught( ChannelHandlerContext ctx, Throwable cause )
+    {
+        flushPending();
+        ctx.fireExceptionCaught( cause );
+    }
+
+    @Override
+    public void disconnect( ChannelHandlerContext ctx, ChannelPromise promise )
+    {
+        flushPending();
+        ctx.disconnect( promise );
+    }
+
+    @Override
+    public void close( ChannelHandlerContext ctx, ChannelPromise promise )
+    {
+        flushPending();
+        ctx.close( promise );
+    }
+
+    private void flushPending()
+    {
+        if ( pendingFlushes > 0 )
+        {
+            if ( metrics != null )
+            {
+                metrics.flushed( pendingFlushes, pendingBytes );
+            }
+            pendingFlushes = 0;
+            pendingBytes = 0;
+            ctx.flush();
+        }
+    }
+
+    private static long sizeOf( Object msg )
+    {
+        if ( msg instanceof ByteBuf )
+        {
+            return ((ByteBuf) msg).readableBytes();
+        }
+        if ( msg instanceof ByteBufHolder )
+        {
+            return ((ByteBufHolder) msg).content().readableBytes();
+        }
+        // parts of streamed values arrive here as buffers produced by the chunked writer, nothing else is written to the channel
+        return 0;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import org.neo4j.driver.internal.metrics.InternalFlushMetrics;
+
+/**
+ * Settings of {@link FlushConsolidationHandler}. Flushes are consolidated when a maximum delay is given, they are only counted when only
+ * metrics are given.
+ */
+public class FlushSettings
+{
+    public static final long CONSOLIDATION_DISABLED = -1;
+
+    public static final FlushSettings DEFAULT = new FlushSettings( CONSOLIDATION_DISABLED, 0, null );
+
+    private final long maxDelayNanos;
+    private final int maxBytes;
+    private final InternalFlushMetrics metrics;
+
+    /**
+     * @param maxDelayNanos the longest time a requested flush is held back, {@code 0} to hold it back until the end of the current event loop
+     * iteration or {@link #CONSOLIDATION_DISABLED} to perform every requested flush right away.
+     * @param maxBytes the amount of written bytes that makes a requested flush to be performed right away.
+     * @param metrics the metrics updated by performed flushes, {@code null} when metrics are disabled.
+     */
+    public FlushSettings( long maxDelayNanos, int maxBytes, InternalFlushMetrics metrics )
+    {
+        this.maxDelayNanos = maxDelayNanos;
+        this.maxBytes = maxBytes;
+        this.metrics = metrics;
+    }
+
+    public boolean isConsolidationEnabled()
+    {
+        return maxDelayNanos != CONSOLIDATION_DISABLED;
+    }
+
+    public long maxDelayNanos()
+    {
+        return maxDelayNanos;
+    }
+
+    public int maxBytes()
+    {
+        return maxBytes;
+    }
+
+    public InternalFlushMetrics metrics()
+    {
+        return metrics;
+    }
+
+    /**
+     * @return {@code true} when {@link FlushConsolidationHandler} has anything to do.
+     */
+    public boolean isHandlerNeeded()
+    {
+        return isConsolidationEnabled() || metrics != null;
+    }
+}
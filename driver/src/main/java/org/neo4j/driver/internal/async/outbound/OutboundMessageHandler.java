@@ -19,9 +19,11 @@
 package org.neo4j.driver.internal.async.outbound;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.EncoderException;
 import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.handler.stream.ChunkedWriteHandler;
 
 import java.util.List;
 
@@ -33,28 +35,44 @@ import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 
 import static io.netty.buffer.ByteBufUtil.hexDump;
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.blobSettings;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.CHUNK_HEADER_SIZE_BYTES;
 
 public class OutboundMessageHandler extends MessageToMessageEncoder<Message>
 {
     public static final String NAME = OutboundMessageHandler.class.getSimpleName();
 
+    // small messages are encoded one after another into a buffer shared by the channel and written as its retained slices
+    static final int SHARED_BUFFER_SIZE = 64 * 1024;
+    static final int SMALL_MESSAGE_SIZE = 2 * 1024;
+
     private final MessageFormat messageFormat;
     private final ChunkAwareByteBufOutput output;
     private final MessageFormat.Writer writer;
+    private final EncodeSizePredictor sizePredictor;
+    private final EncodingSettings settings;
     private final Logging logging;
 
     private Logger log;
+    private ByteBuf sharedBuffer;
 
     public OutboundMessageHandler( MessageFormat messageFormat, Logging logging )
     {
-        this( messageFormat, true, logging );
+        this( messageFormat, EncodingSettings.DEFAULT, logging );
     }
 
-    private OutboundMessageHandler( MessageFormat messageFormat, boolean byteArraySupportEnabled, Logging logging )
+    public OutboundMessageHandler( MessageFormat messageFormat, EncodingSettings settings, Logging logging )
+    {
+        this( messageFormat, true, settings, logging );
+    }
+
+    private OutboundMessageHandler( MessageFormat messageFormat, boolean byteArraySupportEnabled, EncodingSettings settings, Logging logging )
     {
         this.messageFormat = messageFormat;
-        this.output = new ChunkAwareByteBufOutput();
+        this.output = new ChunkAwareByteBufOutput( settings.maxChunkSize() );
         this.writer = messageFormat.newWriter( output, byteArraySupportEnabled );
+        this.sizePredictor = new EncodeSizePredictor();
+        this.settings = settings;
         this.logging = logging;
     }
 
@@ -62,12 +80,25 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message>
     public void handlerAdded( ChannelHandlerContext ctx )
     {
         log = new ChannelActivityLogger( ctx.channel(), logging, getClass() );
+        ChunkedWriteHandler chunkedWriter = ctx.pipeline().get( ChunkedWriteHandler.class );
+        if ( chunkedWriter != null )
+        {
+            // large values can only be streamed when there is a handler able to write them chunk by chunk
+            output.enableStreaming( ctx.alloc(), log, blobSettings( ctx.channel() ), chunkedWriter::resumeTransfer );
+        }
     }
 
     @Override
     public void handlerRemoved( ChannelHandlerContext ctx )
     {
+        output.disableStreaming();
         log = null;
+        if ( sharedBuffer != null )
+        {
+            // memory is freed when slices still waiting to be written are released
+            sharedBuffer.release();
+            sharedBuffer = null;
+        }
     }
 
     @Override
@@ -75,32 +106,114 @@ public class OutboundMessageHandler extends MessageToMessageEncoder<Message>
     {
         log.debug( "C: %s", msg );
 
-        ByteBuf messageBuf = ctx.alloc().ioBuffer();
+        byte signature = msg.signature();
+        int predictedSize = sizePredictor.predict( signature );
+        ByteBuf initialBuf = newMessageBuffer( ctx.alloc(), predictedSize );
+        ByteBuf messageBuf = initialBuf;
         output.start( messageBuf );
         try
         {
             writer.write( msg );
-            output.stop();
+            messageBuf = output.stop();
         }
         catch ( Throwable error )
         {
-            output.stop();
-            // release buffer because it will not get added to the out list and no other handler is going to handle it
+            messageBuf = output.stop();
+            // release buffers because they will not get added to the out list and no other handler is going to handle them
             messageBuf.release();
+            output.releaseStreamedParts();
             throw new EncoderException( "Failed to write outbound message: " + msg, error );
         }
 
+        // parts of the message that precede streamed values, if any, go first
+        output.drainStreamedParts( out );
+        boolean streamed = !out.isEmpty();
+
         if ( log.isTraceEnabled() )
         {
             log.trace( "C: %s", hexDump( messageBuf ) );
         }
 
+        if ( messageBuf.maxWritableBytes() < CHUNK_HEADER_SIZE_BYTES )
+        {
+            // message filled its slice of the shared buffer, there is no room for the boundary
+            messageBuf = copyWithRoomForBoundary( ctx.alloc(), messageBuf );
+        }
         BoltProtocolUtil.writeMessageBoundary( messageBuf );
         out.add( messageBuf );
+
+        if ( isShared( predictedSize ) && (messageBuf == initialBuf || (streamed && out.get( 0 ) == initialBuf)) )
+        {
+            // following messages go after the bytes of this one
+            sharedBuffer.writerIndex( sharedBuffer.writerIndex() + initialBuf.writerIndex() );
+        }
+        if ( !streamed )
+        {
+            sizePredictor.record( signature, messageBuf.readableBytes() );
+        }
+        if ( settings.metrics() != null )
+        {
+            settings.metrics().encoded( output.reallocations() );
+        }
     }
 
     public OutboundMessageHandler withoutByteArraySupport()
     {
-        return new OutboundMessageHandler( messageFormat, false, logging );
+        return new OutboundMessageHandler( messageFormat, false, settings, logging );
+    }
+
+    /**
+     * Messages predicted to be small get a slice of the shared buffer, so they are encoded without an allocation. Larger ones get a buffer
+     * of the predicted size, so they are encoded without growing it.
+     */
+    private ByteBuf newMessageBuffer( ByteBufAllocator allocator, int predictedSize )
+    {
+        if ( !isShared( predictedSize ) )
+        {
+            allocated();
+            return allocator.ioBuffer( predictedSize );
+        }
+
+        if ( sharedBuffer != null && sharedBuffer.refCnt() == 1 )
+        {
+            // all slices are written and released, buffer can be reused from the start
+            sharedBuffer.clear();
+        }
+        if ( sharedBuffer == null || sharedBuffer.writableBytes() < SMALL_MESSAGE_SIZE )
+        {
+            if ( sharedBuffer != null )
+            {
+                sharedBuffer.release();
+            }
+            sharedBuffer = allocator.ioBuffer( SHARED_BUFFER_SIZE, SHARED_BUFFER_SIZE );
+            allocated();
+        }
+
+        // slice can't grow, a message that does not fit is moved to a buffer of its own by the output
+        ByteBuf slice = sharedBuffer.retainedSlice( sharedBuffer.writerIndex(), sharedBuffer.writableBytes() );
+        slice.clear();
+        return slice;
+    }
+
+    private static boolean isShared( int predictedSize )
+    {
+        return predictedSize <= SMALL_MESSAGE_SIZE;
+    }
+
+    private ByteBuf copyWithRoomForBoundary( ByteBufAllocator allocator, ByteBuf buf )
+    {
+        allocated();
+        ByteBuf copy = allocator.ioBuffer( buf.readableBytes() + CHUNK_HEADER_SIZE_BYTES );
+        copy.writeBytes( buf, buf.readerIndex(), buf.readableBytes() );
+        buf.release();
+        return copy;
+    }
+
+    private void allocated()
+    {
+        if ( settings.metrics() != null )
+        {
+            settings.metrics().allocated();
+        }
     }
 }
@@ -46,6 +46,8 @@ import org.neo4j.driver.Logger;
 import org.neo4j.driver.Logging;
 import org.neo4j.driver.exceptions.ClientException;
 
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.setConnectionPool;
+
 public class ConnectionPoolImpl implements ConnectionPool
 {
     private final ChannelConnector connector;
@@ -96,6 +98,8 @@ public class ConnectionPoolImpl implements ConnectionPool
             {
                 processAcquisitionError( address, error );
                 assertNotClosed( address, channel, pool );
+                // connections towards the same server are acquired from this pool when remote blobs are read
+                setConnectionPool( channel, this );
                 Connection connection = new DirectConnection( channel, pool, clock, metricsListener );
 
                 metricsListener.afterAcquiredOrCreated( address, acquireEvent );
@@ -20,12 +20,19 @@ package org.neo4j.driver.internal.cluster;
 
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 
+/**
+ * Addresses of servers with the same role. Reads take no lock, every change publishes a new array.
+ */
 public class AddressSet
 {
-    private static final BoltServerAddress[] NONE = {};
+    static final BoltServerAddress[] NONE = {};
+
+    private static final AtomicReferenceFieldUpdater<AddressSet,BoltServerAddress[]> ADDRESSES =
+            AtomicReferenceFieldUpdater.newUpdater( AddressSet.class, BoltServerAddress[].class, "addresses" );
 
     private volatile BoltServerAddress[] addresses = NONE;
 
@@ -36,41 +43,51 @@ public class AddressSet
 
     public int size()
     {
-        return addresses.length;
+        return toArray().length;
     }
 
-    public synchronized void update( Set<BoltServerAddress> addresses )
+    public void update( Set<BoltServerAddress> addresses )
     {
         this.addresses = addresses.toArray( NONE );
     }
 
-    public synchronized void remove( BoltServerAddress address )
+    public void remove( BoltServerAddress address )
     {
-        BoltServerAddress[] addresses = this.addresses;
-        if ( addresses != null )
+        BoltServerAddress[] current;
+        BoltServerAddress[] updated;
+        do
         {
-            for ( int i = 0; i < addresses.length; i++ )
-            {
-                if ( addresses[i].equals( address ) )
-                {
-                    if ( addresses.length == 1 )
-                    {
-                        this.addresses = NONE;
-                        return;
-                    }
-                    BoltServerAddress[] copy = new BoltServerAddress[addresses.length - 1];
-                    System.arraycopy( addresses, 0, copy, 0, i );
-                    System.arraycopy( addresses, i + 1, copy, i, addresses.length - i - 1 );
-                    this.addresses = copy;
-                    return;
-                }
-            }
+            current = addresses;
+            updated = without( current, address );
         }
+        while ( updated != current && !ADDRESSES.compareAndSet( this, current, updated ) );
     }
 
     @Override
     public String toString()
     {
-        return "AddressSet=" + Arrays.toString( addresses );
+        return "AddressSet=" + Arrays.toString( toArray() );
+    }
+
+    /**
+     * @return copy of the given addresses without the given one or the same array when it does not contain the address
+     */
+    static BoltServerAddress[] without( BoltServerAddress[] addresses, BoltServerAddress address )
+    {
+        for ( int i = 0; i < addresses.length; i++ )
+        {
+            if ( addresses[i].equals( address ) )
+            {
+                if ( addresses.length == 1 )
+                {
+                    return NONE;
+                }
+                BoltServerAddress[] copy = new BoltServerAddress[addresses.length - 1];
+                System.arraycopy( addresses, 0, copy, 0, i );
+                System.arraycopy( addresses, i + 1, copy, i, addresses.length - i - 1 );
+                return copy;
+            }
+        }
+        return addresses;
     }
 }
@@ -22,6 +22,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.util.Clock;
@@ -30,56 +31,55 @@ import org.neo4j.driver.AccessMode;
 import static java.lang.String.format;
 import static java.util.Arrays.asList;
 
+/**
+ * Routing table kept as an immutable {@link Snapshot}. Reads and staleness checks use the current snapshot without
+ * locking, changes publish a new snapshot, removals of addresses retry when the snapshot changed concurrently.
+ */
 public class ClusterRoutingTable implements RoutingTable
 {
     private static final int MIN_ROUTERS = 1;
 
+    private static final int READERS = 0;
+    private static final int WRITERS = 1;
+    private static final int ROUTERS = 2;
+
     private final Clock clock;
-    private volatile long expirationTimeout;
-    private final AddressSet readers;
-    private final AddressSet writers;
-    private final AddressSet routers;
+    private final AtomicReference<Snapshot> snapshot;
+    private final AddressSet readers = new SnapshotAddressSet( READERS );
+    private final AddressSet writers = new SnapshotAddressSet( WRITERS );
+    private final AddressSet routers = new SnapshotAddressSet( ROUTERS );
 
     public ClusterRoutingTable( Clock clock, BoltServerAddress... routingAddresses )
-    {
-        this( clock );
-        routers.update( new LinkedHashSet<>( asList( routingAddresses ) ) );
-    }
-
-    private ClusterRoutingTable( Clock clock )
     {
         this.clock = clock;
-        this.expirationTimeout = clock.millis() - 1;
-
-        this.readers = new AddressSet();
-        this.writers = new AddressSet();
-        this.routers = new AddressSet();
+        this.snapshot = new AtomicReference<>(
+                new Snapshot( clock.millis() - 1, AddressSet.NONE, AddressSet.NONE,
+                        new LinkedHashSet<>( asList( routingAddresses ) ).toArray( AddressSet.NONE ) ) );
     }
 
     @Override
     public boolean isStaleFor( AccessMode mode )
     {
-        return expirationTimeout < clock.millis() ||
-               routers.size() < MIN_ROUTERS ||
-               mode == AccessMode.READ && readers.size() == 0 ||
-               mode == AccessMode.WRITE && writers.size() == 0;
+        Snapshot current = snapshot.get();
+        return current.expirationTimeout < clock.millis() ||
+               current.addresses[ROUTERS].length < MIN_ROUTERS ||
+               mode == AccessMode.READ && current.addresses[READERS].length == 0 ||
+               mode == AccessMode.WRITE && current.addresses[WRITERS].length == 0;
     }
 
     @Override
-    public synchronized void update( ClusterComposition cluster )
+    public void update( ClusterComposition cluster )
     {
-        expirationTimeout = cluster.expirationTimestamp();
-        readers.update( cluster.readers() );
-        writers.update( cluster.writers() );
-        routers.update( cluster.routers() );
+        snapshot.set( new Snapshot( cluster.expirationTimestamp(),
+                cluster.readers().toArray( AddressSet.NONE ),
+                cluster.writers().toArray( AddressSet.NONE ),
+                cluster.routers().toArray( AddressSet.NONE ) ) );
     }
 
     @Override
-    public synchronized void forget( BoltServerAddress address )
+    public void forget( BoltServerAddress address )
     {
-        routers.remove( address );
-        readers.remove( address );
-        writers.remove( address );
+        remove( address, READERS, WRITERS, ROUTERS );
     }
 
     @Override
@@ -103,10 +103,11 @@ public class ClusterRoutingTable implements RoutingTable
     @Override
     public Set<BoltServerAddress> servers()
     {
+        Snapshot current = snapshot.get();
         Set<BoltServerAddress> servers = new HashSet<>();
-        Collections.addAll( servers, readers.toArray() );
-        Collections.addAll( servers, writers.toArray() );
-        Collections.addAll( servers, routers.toArray() );
+        Collections.addAll( servers, current.addresses[READERS] );
+        Collections.addAll( servers, current.addresses[WRITERS] );
+        Collections.addAll( servers, current.addresses[ROUTERS] );
         return servers;
     }
 
@@ -116,11 +117,91 @@ public class ClusterRoutingTable implements RoutingTable
         writers.remove( toRemove );
     }
 
-
     @Override
-    public synchronized String toString()
+    public String toString()
     {
         return format( "Ttl %s, currentTime %s, routers %s, writers %s, readers %s",
-                expirationTimeout, clock.millis(), routers, writers, readers );
+                snapshot.get().expirationTimeout, clock.millis(), routers, writers, readers );
+    }
+
+    private void remove( BoltServerAddress address, int... roles )
+    {
+        Snapshot current;
+        Snapshot updated;
+        do
+        {
+            current = snapshot.get();
+            updated = current.without( address, roles );
+        }
+        while ( updated != current && !snapshot.compareAndSet( current, updated ) );
+    }
+
+    private static class Snapshot
+    {
+        final long expirationTimeout;
+        final BoltServerAddress[][] addresses;
+
+        Snapshot( long expirationTimeout, BoltServerAddress[]... addresses )
+        {
+            this.expirationTimeout = expirationTimeout;
+            this.addresses = addresses;
+        }
+
+        Snapshot with( int role, BoltServerAddress[] roleAddresses )
+        {
+            BoltServerAddress[][] copy = addresses.clone();
+            copy[role] = roleAddresses;
+            return new Snapshot( expirationTimeout, copy );
+        }
+
+        /**
+         * @return snapshot without the given address in the given roles or this snapshot when it does not contain it
+         */
+        Snapshot without( BoltServerAddress address, int... roles )
+        {
+            Snapshot result = this;
+            for ( int role : roles )
+            {
+                BoltServerAddress[] roleAddresses = AddressSet.without( addresses[role], address );
+                if ( roleAddresses != addresses[role] )
+                {
+                    result = result.with( role, roleAddresses );
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Addresses with the given role in the current snapshot. Acquisitions keep it while they retry, so that they see
+     * addresses forgotten in the meantime.
+     */
+    private class SnapshotAddressSet extends AddressSet
+    {
+        final int role;
+
+        SnapshotAddressSet( int role )
+        {
+            this.role = role;
+        }
+
+        @Override
+        public BoltServerAddress[] toArray()
+        {
+            return snapshot.get().addresses[role];
+        }
+
+        @Override
+        public void update( Set<BoltServerAddress> addresses )
+        {
+            BoltServerAddress[] roleAddresses = addresses.toArray( NONE );
+            snapshot.updateAndGet( current -> current.with( role, roleAddresses ) );
+        }
+
+        @Override
+        public void remove( BoltServerAddress address )
+        {
+            ClusterRoutingTable.this.remove( address, role );
+        }
     }
 }
@@ -22,11 +22,14 @@ import static java.util.concurrent.TimeUnit.SECONDS;
 
 public class RoutingSettings
 {
+    public static final double REFRESH_IN_BACKGROUND_DISABLED = 0;
+
     public static final RoutingSettings DEFAULT = new RoutingSettings( 1, SECONDS.toMillis( 5 ) );
 
     private final int maxRoutingFailures;
     private final long retryTimeoutDelay;
     private final RoutingContext routingContext;
+    private final double backgroundRefreshTtlFraction;
 
     public RoutingSettings( int maxRoutingFailures, long retryTimeoutDelay )
     {
@@ -34,15 +37,25 @@ public class RoutingSettings
     }
 
     public RoutingSettings( int maxRoutingFailures, long retryTimeoutDelay, RoutingContext routingContext )
+    {
+        this( maxRoutingFailures, retryTimeoutDelay, routingContext, REFRESH_IN_BACKGROUND_DISABLED );
+    }
+
+    /**
+     * @param backgroundRefreshTtlFraction fraction of the time to live of a routing table after which the table is refreshed in background,
+     * {@link #REFRESH_IN_BACKGROUND_DISABLED} when tables are only refreshed once they expire.
+     */
+    public RoutingSettings( int maxRoutingFailures, long retryTimeoutDelay, RoutingContext routingContext, double backgroundRefreshTtlFraction )
     {
         this.maxRoutingFailures = maxRoutingFailures;
         this.retryTimeoutDelay = retryTimeoutDelay;
         this.routingContext = routingContext;
+        this.backgroundRefreshTtlFraction = backgroundRefreshTtlFraction;
     }
 
     public RoutingSettings withRoutingContext( RoutingContext newRoutingContext )
     {
-        return new RoutingSettings( maxRoutingFailures, retryTimeoutDelay, newRoutingContext );
+        return new RoutingSettings( maxRoutingFailures, retryTimeoutDelay, newRoutingContext, backgroundRefreshTtlFraction );
     }
 
     public int maxRoutingFailures()
@@ -59,4 +72,9 @@ public class RoutingSettings
     {
         return routingContext;
     }
+
+    public double backgroundRefreshTtlFraction()
+    {
+        return backgroundRefreshTtlFraction;
+    }
 }
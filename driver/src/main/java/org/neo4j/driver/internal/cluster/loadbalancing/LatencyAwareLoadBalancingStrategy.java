@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.util.Clock;
+import org.neo4j.driver.Logger;
+import org.neo4j.driver.Logging;
+
+/**
+ * Load balancing strategy that prefers servers which answer quickly. It keeps an exponentially weighted moving average of times servers
+ * took to respond to RUN messages. Two of the given addresses are picked at random and the one with the lower cost is selected, where
+ * cost is the average response time multiplied by the amount of active connections. Only two addresses are looked at, however many are
+ * given.
+ * <p>
+ * Averages decay over time, so that a server which was slow at some point gets selected again and is measured anew. Addresses without a
+ * measurement are preferred, so that every server gets measured. Averages of servers that leave the routing table are dropped.
+ */
+public class LatencyAwareLoadBalancingStrategy implements LoadBalancingStrategy
+{
+    private static final String LOGGER_NAME = LatencyAwareLoadBalancingStrategy.class.getSimpleName();
+
+    // weight of a new measurement in the moving average
+    static final double SAMPLE_WEIGHT = 0.3;
+    // average loses ~63% of its value when not updated for this long
+    static final long DECAY_TIME_MILLIS = 10_000;
+
+    private final ConcurrentMap<BoltServerAddress,ResponseTime> responseTimes = new ConcurrentHashMap<>();
+
+    private final ConnectionPool connectionPool;
+    private final Clock clock;
+    private final Logger log;
+
+    public LatencyAwareLoadBalancingStrategy( ConnectionPool connectionPool, Clock clock, Logging logging )
+    {
+        this.connectionPool = connectionPool;
+        this.clock = clock;
+        this.log = logging.getLog( LOGGER_NAME );
+    }
+
+    @Override
+    public BoltServerAddress selectReader( BoltServerAddress[] knownReaders )
+    {
+        return select( knownReaders, "reader" );
+    }
+
+    @Override
+    public BoltServerAddress selectWriter( BoltServerAddress[] knownWriters )
+    {
+        return select( knownWriters, "writer" );
+    }
+
+    @Override
+    public void onResponseTime( BoltServerAddress address, long responseTimeNanos )
+    {
+        responseTimes.computeIfAbsent( address, ignore -> new ResponseTime() ).update( responseTimeNanos, clock.millis() );
+    }
+
+    @Override
+    public void retainAll( Set<BoltServerAddress> addresses )
+    {
+        responseTimes.keySet().retainAll( addresses );
+    }
+
+    /**
+     * @param address the server address.
+     * @return the decayed average response time of the server in nanoseconds, {@code 0} when it has not been measured.
+     */
+    double averageResponseTimeNanos( BoltServerAddress address )
+    {
+        ResponseTime responseTime = responseTimes.get( address );
+        return responseTime == null ? 0 : responseTime.average( clock.millis() );
+    }
+
+    private BoltServerAddress select( BoltServerAddress[] addresses, String addressType )
+    {
+        int size = addresses.length;
+        if ( size == 0 )
+        {
+            log.trace( "Unable to select %s, no known addresses given", addressType );
+            return null;
+        }
+        if ( size == 1 )
+        {
+            return addresses[0];
+        }
+
+        // pick two distinct addresses at random
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt( size );
+        int secondIndex = random.nextInt( size - 1 );
+        if ( secondIndex >= firstIndex )
+        {
+            secondIndex++;
+        }
+
+        BoltServerAddress first = addresses[firstIndex];
+        BoltServerAddress second = addresses[secondIndex];
+        double firstCost = cost( first );
+        double secondCost = cost( second );
+        BoltServerAddress selected = firstCost <= secondCost ? first : second;
+
+        log.trace( "Selected %s with address: '%s' and cost: %s out of '%s' and '%s'",
+                addressType, selected, Math.min( firstCost, secondCost ), first, second );
+
+        return selected;
+    }
+
+    private double cost( BoltServerAddress address )
+    {
+        return (averageResponseTimeNanos( address ) + 1) * (connectionPool.inUseConnections( address ) + 1);
+    }
+
+    private static class ResponseTime
+    {
+        private double averageNanos;
+        private long lastUpdateMillis;
+        private boolean measured;
+
+        synchronized void update( long responseTimeNanos, long nowMillis )
+        {
+            if ( measured )
+            {
+                double average = average( nowMillis );
+                averageNanos = average + (responseTimeNanos - average) * SAMPLE_WEIGHT;
+            }
+            else
+            {
+                averageNanos = responseTimeNanos;
+                measured = true;
+            }
+            lastUpdateMillis = nowMillis;
+        }
+
+        synchronized double average( long nowMillis )
+        {
+            long elapsedMillis = Math.max( 0, nowMillis - lastUpdateMillis );
+            return averageNanos * Math.exp( -(double) elapsedMillis / DECAY_TIME_MILLIS );
+        }
+    }
+}
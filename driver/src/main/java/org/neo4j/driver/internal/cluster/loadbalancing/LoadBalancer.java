@@ -19,9 +19,11 @@
 package org.neo4j.driver.internal.cluster.loadbalancing;
 
 import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.concurrent.ScheduledFuture;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.RoutingErrorHandler;
@@ -48,6 +50,7 @@ import org.neo4j.driver.exceptions.SessionExpiredException;
 import org.neo4j.driver.net.ServerAddressResolver;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class LoadBalancer implements ConnectionProvider, RoutingErrorHandler
 {
@@ -58,9 +61,16 @@ public class LoadBalancer implements ConnectionProvider, RoutingErrorHandler
     private final Rediscovery rediscovery;
     private final LoadBalancingStrategy loadBalancingStrategy;
     private final EventExecutorGroup eventExecutorGroup;
+    private final Clock clock;
+    private final double backgroundRefreshTtlFraction;
     private final Logger log;
 
-    private CompletableFuture<RoutingTable> refreshRoutingTableFuture;
+    private final AtomicReference<CompletableFuture<RoutingTable>> refreshRoutingTableFuture = new AtomicReference<>();
+    private ScheduledFuture<?> backgroundRefresh;
+    private boolean backgroundRefreshInProgress;
+    // number of lookups applied to the routing table, tells whether it was refreshed while a background lookup was running
+    private long routingTableUpdates;
+    private boolean closed;
 
     public LoadBalancer( BoltServerAddress initialRouter, RoutingSettings settings, ConnectionPool connectionPool,
             EventExecutorGroup eventExecutorGroup, Clock clock, Logging logging,
@@ -68,26 +78,37 @@ public class LoadBalancer implements ConnectionProvider, RoutingErrorHandler
     {
         this( connectionPool, new ClusterRoutingTable( clock, initialRouter ),
                 createRediscovery( initialRouter, settings, eventExecutorGroup, resolver, clock, logging ),
-                loadBalancerLogger( logging ), loadBalancingStrategy, eventExecutorGroup );
+                loadBalancerLogger( logging ), loadBalancingStrategy, eventExecutorGroup, clock, settings.backgroundRefreshTtlFraction() );
     }
 
     // Used only in testing
     LoadBalancer( ConnectionPool connectionPool, RoutingTable routingTable, Rediscovery rediscovery,
             EventExecutorGroup eventExecutorGroup, Logging logging )
+    {
+        this( connectionPool, routingTable, rediscovery, eventExecutorGroup, Clock.SYSTEM, RoutingSettings.REFRESH_IN_BACKGROUND_DISABLED,
+                logging );
+    }
+
+    // Used only in testing
+    LoadBalancer( ConnectionPool connectionPool, RoutingTable routingTable, Rediscovery rediscovery,
+            EventExecutorGroup eventExecutorGroup, Clock clock, double backgroundRefreshTtlFraction, Logging logging )
     {
         this( connectionPool, routingTable, rediscovery, loadBalancerLogger( logging ),
                 new LeastConnectedLoadBalancingStrategy( connectionPool, logging ),
-                eventExecutorGroup );
+                eventExecutorGroup, clock, backgroundRefreshTtlFraction );
     }
 
     private LoadBalancer( ConnectionPool connectionPool, RoutingTable routingTable, Rediscovery rediscovery,
-            Logger log, LoadBalancingStrategy loadBalancingStrategy, EventExecutorGroup eventExecutorGroup )
+            Logger log, LoadBalancingStrategy loadBalancingStrategy, EventExecutorGroup eventExecutorGroup, Clock clock,
+            double backgroundRefreshTtlFraction )
     {
         this.connectionPool = connectionPool;
         this.routingTable = routingTable;
         this.rediscovery = rediscovery;
         this.loadBalancingStrategy = loadBalancingStrategy;
         this.eventExecutorGroup = eventExecutorGroup;
+        this.clock = clock;
+        this.backgroundRefreshTtlFraction = backgroundRefreshTtlFraction;
         this.log = log;
     }
 
@@ -96,7 +117,7 @@ public class LoadBalancer implements ConnectionProvider, RoutingErrorHandler
     {
         return freshRoutingTable( mode )
                 .thenCompose( routingTable -> acquire( mode, routingTable ) )
-                .thenApply( connection -> new RoutingConnection( connection, mode, this ) )
+                .thenApply( connection -> new RoutingConnection( connection, mode, this, loadBalancingStrategy ) )
                 .thenApply( connection -> new DecoratedConnection( connection, databaseName, mode ) );
     }
 
@@ -121,51 +142,68 @@ public class LoadBalancer implements ConnectionProvider, RoutingErrorHandler
     @Override
     public CompletionStage<Void> close()
     {
+        synchronized ( this )
+        {
+            closed = true;
+            if ( backgroundRefresh != null )
+            {
+                backgroundRefresh.cancel( false );
+                backgroundRefresh = null;
+            }
+        }
         return connectionPool.close();
     }
 
-    private synchronized void forget( BoltServerAddress address )
+    private void forget( BoltServerAddress address )
     {
         // remove from the routing table, to prevent concurrent threads from making connections to this address
         routingTable.forget( address );
     }
 
-    private synchronized CompletionStage<RoutingTable> freshRoutingTable( AccessMode mode )
+    private CompletionStage<RoutingTable> freshRoutingTable( AccessMode mode )
     {
-        if ( refreshRoutingTableFuture != null )
-        {
-            // refresh is already happening concurrently, just use it's result
-            return refreshRoutingTableFuture;
-        }
-        else if ( routingTable.isStaleFor( mode ) )
+        while ( true )
         {
-            // existing routing table is not fresh and should be updated
-            log.info( "Routing table is stale. %s", routingTable );
+            CompletableFuture<RoutingTable> refreshFuture = refreshRoutingTableFuture.get();
+            if ( refreshFuture != null )
+            {
+                // refresh is already happening concurrently, just use it's result
+                return refreshFuture;
+            }
+            else if ( !routingTable.isStaleFor( mode ) )
+            {
+                // existing routing table is fresh, use it
+                return completedFuture( routingTable );
+            }
 
             CompletableFuture<RoutingTable> resultFuture = new CompletableFuture<>();
-            refreshRoutingTableFuture = resultFuture;
+            if ( refreshRoutingTableFuture.compareAndSet( null, resultFuture ) )
+            {
+                // existing routing table is not fresh and should be updated, only the thread that published
+                // the refresh future does it
+                refreshRoutingTable( resultFuture );
+                return resultFuture;
+            }
+        }
+    }
+
+    private void refreshRoutingTable( CompletableFuture<RoutingTable> resultFuture )
+    {
+        log.info( "Routing table is stale. %s", routingTable );
 
-            rediscovery.lookupClusterComposition( routingTable, connectionPool )
-                    .whenComplete( ( composition, completionError ) ->
+        rediscovery.lookupClusterComposition( routingTable, connectionPool )
+                .whenComplete( ( composition, completionError ) ->
+                {
+                    Throwable error = Futures.completionExceptionCause( completionError );
+                    if ( error != null )
                     {
-                        Throwable error = Futures.completionExceptionCause( completionError );
-                        if ( error != null )
-                        {
-                            clusterCompositionLookupFailed( error );
-                        }
-                        else
-                        {
-                            freshClusterCompositionFetched( composition );
-                        }
-                    } );
-
-            return resultFuture;
-        }
-        else
-        {
-            // existing routing table is fresh, use it
-            return completedFuture( routingTable );
-        }
+                        clusterCompositionLookupFailed( error );
+                    }
+                    else
+                    {
+                        freshClusterCompositionFetched( composition );
+                    }
+                } );
     }
 
     private synchronized void freshClusterCompositionFetched( ClusterComposition composition )
@@ -173,13 +211,14 @@ public class LoadBalancer implements ConnectionProvider, RoutingErrorHandler
         try
         {
             routingTable.update( composition );
+            routingTableUpdates++;
             connectionPool.retainAll( routingTable.servers() );
+            loadBalancingStrategy.retainAll( routingTable.servers() );
 
             log.info( "Updated routing table. %s", routingTable );
 
-            CompletableFuture<RoutingTable> routingTableFuture = refreshRoutingTableFuture;
-            refreshRoutingTableFuture = null;
-            routingTableFuture.complete( routingTable );
+            refreshRoutingTableFuture.getAndSet( null ).complete( routingTable );
+            scheduleBackgroundRefresh( composition );
         }
         catch ( Throwable error )
         {
@@ -187,11 +226,85 @@ public class LoadBalancer implements ConnectionProvider, RoutingErrorHandler
         }
     }
 
+    private synchronized void scheduleBackgroundRefresh( ClusterComposition composition )
+    {
+        long ttlMillis = composition.expirationTimestamp() - clock.millis();
+        if ( closed || backgroundRefreshTtlFraction <= 0 || ttlMillis <= 0 || composition.expirationTimestamp() == Long.MAX_VALUE )
+        {
+            return;
+        }
+
+        if ( backgroundRefresh != null )
+        {
+            backgroundRefresh.cancel( false );
+        }
+        long delayMillis = (long) (ttlMillis * backgroundRefreshTtlFraction);
+        backgroundRefresh = eventExecutorGroup.schedule( this::refreshInBackground, delayMillis, MILLISECONDS );
+    }
+
+    private synchronized void refreshInBackground()
+    {
+        backgroundRefresh = null;
+        if ( closed || backgroundRefreshInProgress || refreshRoutingTableFuture.get() != null )
+        {
+            // routing table is already being refreshed, the refresh that completes schedules the next one
+            return;
+        }
+
+        log.debug( "Refreshing routing table before it expires. %s", routingTable );
+        backgroundRefreshInProgress = true;
+
+        // acquisitions keep using the current routing table, it is still valid
+        long updatesBeforeLookup = routingTableUpdates;
+        rediscovery.lookupClusterComposition( routingTable, connectionPool )
+                .whenComplete( ( composition, error ) -> backgroundRefreshCompleted( composition, error, updatesBeforeLookup ) );
+    }
+
+    private synchronized void backgroundRefreshCompleted( ClusterComposition composition, Throwable completionError,
+            long updatesBeforeLookup )
+    {
+        backgroundRefreshInProgress = false;
+        Throwable error = Futures.completionExceptionCause( completionError );
+        if ( error == null && !closed )
+        {
+            if ( routingTableUpdates != updatesBeforeLookup )
+            {
+                // routing table went stale and was refreshed in the foreground meanwhile, that lookup may be more recent and
+                // it already scheduled the next background refresh
+                log.debug( "Dropped routing table refreshed in background, it was refreshed in the meantime. %s", routingTable );
+                return;
+            }
+
+            try
+            {
+                routingTable.update( composition );
+                routingTableUpdates++;
+                connectionPool.retainAll( routingTable.servers() );
+                loadBalancingStrategy.retainAll( routingTable.servers() );
+
+                log.info( "Updated routing table in background. %s", routingTable );
+                scheduleBackgroundRefresh( composition );
+            }
+            catch ( Throwable updateError )
+            {
+                error = updateError;
+            }
+        }
+
+        if ( error != null )
+        {
+            // routing table is refreshed again once it expires
+            log.warn( "Failed to refresh routing table in background", error );
+        }
+    }
+
     private synchronized void clusterCompositionLookupFailed( Throwable error )
     {
-        CompletableFuture<RoutingTable> routingTableFuture = refreshRoutingTableFuture;
-        refreshRoutingTableFuture = null;
-        routingTableFuture.completeExceptionally( error );
+        CompletableFuture<RoutingTable> routingTableFuture = refreshRoutingTableFuture.getAndSet( null );
+        if ( routingTableFuture != null )
+        {
+            routingTableFuture.completeExceptionally( error );
+        }
     }
 
     private CompletionStage<Connection> acquire( AccessMode mode, RoutingTable routingTable )
@@ -18,6 +18,8 @@
  */
 package org.neo4j.driver.internal.cluster.loadbalancing;
 
+import java.util.Set;
+
 import org.neo4j.driver.internal.BoltServerAddress;
 
 /**
@@ -40,4 +42,23 @@ public interface LoadBalancingStrategy
      * @return most appropriate writer or {@code null} if it can't be selected.
      */
     BoltServerAddress selectWriter( BoltServerAddress[] knownWriters );
+
+    /**
+     * Observe the time a server took to respond to a RUN message. Strategies that do not take response times into account ignore it.
+     *
+     * @param address the address of the server.
+     * @param responseTimeNanos time between writing the RUN message and receiving its SUCCESS response, in nanoseconds.
+     */
+    default void onResponseTime( BoltServerAddress address, long responseTimeNanos )
+    {
+    }
+
+    /**
+     * Forget whatever is kept about servers that are not in the routing table anymore.
+     *
+     * @param addresses the addresses of all servers in the routing table.
+     */
+    default void retainAll( Set<BoltServerAddress> addresses )
+    {
+    }
 }
@@ -59,10 +59,17 @@ public class AsyncResultCursorOnlyFactory implements StatementResultCursorFactor
         this.waitForRunResponse = waitForRunResponse;
     }
 
-    public CompletionStage<InternalStatementResultCursor> asyncResult()
+    public CompletionStage<InternalStatementResultCursor> asyncResult( boolean flush )
     {
         // only write and flush messages when async result is wanted.
-        connection.writeAndFlush( runMessage, runHandler, PULL_ALL, pullAllHandler );
+        if ( flush )
+        {
+            connection.writeAndFlush( runMessage, runHandler, PULL_ALL, pullAllHandler );
+        }
+        else
+        {
+            connection.write( runMessage, runHandler, PULL_ALL, pullAllHandler );
+        }
 
         if ( waitForRunResponse )
         {
@@ -18,9 +18,32 @@
  */
 package org.neo4j.driver.internal.cursor;
 
+import org.neo4j.driver.Record;
 import org.neo4j.driver.internal.FailableCursor;
+import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.async.StatementResultCursor;
 
 public interface InternalStatementResultCursor extends StatementResultCursor, FailableCursor
 {
+    /**
+     * Same as {@code blockingGet(peekAsync())}, implementations may hand out buffered records without creating futures.
+     *
+     * @param interruptHandler invoked when the calling thread is interrupted while waiting.
+     * @return the next record or {@code null} when the cursor is exhausted.
+     */
+    default Record peekBlocking( Runnable interruptHandler )
+    {
+        return Futures.blockingGet( peekAsync(), interruptHandler );
+    }
+
+    /**
+     * Same as {@code blockingGet(nextAsync())}, implementations may hand out buffered records without creating futures.
+     *
+     * @param interruptHandler invoked when the calling thread is interrupted while waiting.
+     * @return the next record or {@code null} when the cursor is exhausted.
+     */
+    default Record nextBlocking( Runnable interruptHandler )
+    {
+        return Futures.blockingGet( nextAsync(), interruptHandler );
+    }
 }
@@ -30,6 +30,8 @@ import org.neo4j.driver.internal.spi.Connection;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
+import static org.neo4j.driver.internal.util.MetadataExtractor.ABSENT_QUERY_ID;
 
 public class InternalStatementResultCursorFactory implements StatementResultCursorFactory
 {
@@ -40,9 +42,16 @@ public class InternalStatementResultCursorFactory implements StatementResultCurs
     private final PullAllResponseHandler pullAllHandler;
     private final boolean waitForRunResponse;
     private final Message runMessage;
+    private final long fetchSize;
 
     public InternalStatementResultCursorFactory( Connection connection, Message runMessage, RunResponseHandler runHandler, BasicPullResponseHandler pullHandler,
             PullAllResponseHandler pullAllHandler, boolean waitForRunResponse )
+    {
+        this( connection, runMessage, runHandler, pullHandler, pullAllHandler, waitForRunResponse, UNLIMITED_FETCH_SIZE );
+    }
+
+    public InternalStatementResultCursorFactory( Connection connection, Message runMessage, RunResponseHandler runHandler, BasicPullResponseHandler pullHandler,
+            PullAllResponseHandler pullAllHandler, boolean waitForRunResponse, long fetchSize )
     {
         requireNonNull( connection );
         requireNonNull( runMessage );
@@ -56,13 +65,23 @@ public class InternalStatementResultCursorFactory implements StatementResultCurs
         this.pullHandler = pullHandler;
         this.pullAllHandler = pullAllHandler;
         this.waitForRunResponse = waitForRunResponse;
+        this.fetchSize = fetchSize;
     }
 
     @Override
-    public CompletionStage<InternalStatementResultCursor> asyncResult()
+    public CompletionStage<InternalStatementResultCursor> asyncResult( boolean flush )
     {
         // only write and flush messages when async result is wanted.
-        connection.writeAndFlush( runMessage, runHandler, PullMessage.PULL_ALL, pullAllHandler );
+        // first batch of records is requested right away, next ones by the handler when records are consumed
+        Message pullMessage = fetchSize == UNLIMITED_FETCH_SIZE ? PullMessage.PULL_ALL : new PullMessage( fetchSize, ABSENT_QUERY_ID );
+        if ( flush )
+        {
+            connection.writeAndFlush( runMessage, runHandler, pullMessage, pullAllHandler );
+        }
+        else
+        {
+            connection.write( runMessage, runHandler, pullMessage, pullAllHandler );
+        }
 
         if ( waitForRunResponse )
         {
@@ -22,7 +22,16 @@ import java.util.concurrent.CompletionStage;
 
 public interface StatementResultCursorFactory
 {
-    CompletionStage<InternalStatementResultCursor> asyncResult();
+    default CompletionStage<InternalStatementResultCursor> asyncResult()
+    {
+        return asyncResult( true );
+    }
+
+    /**
+     * @param flush whether messages should be flushed, when {@code false} they are only written and the caller is responsible for flushing
+     * the connection. Result of a statement that is not flushed arrives when the caller flushes.
+     */
+    CompletionStage<InternalStatementResultCursor> asyncResult( boolean flush );
 
     CompletionStage<RxStatementResultCursor> rxResult();
 }
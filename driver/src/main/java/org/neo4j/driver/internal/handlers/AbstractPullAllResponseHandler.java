@@ -28,10 +28,14 @@ import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.async.connection.EventLoopGroupFactory;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.util.ErrorUtil;
 import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.internal.util.Iterables;
 import org.neo4j.driver.internal.util.MetadataExtractor;
+import org.neo4j.driver.internal.value.BooleanValue;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Statement;
 import org.neo4j.driver.Value;
@@ -40,6 +44,8 @@ import org.neo4j.driver.summary.ResultSummary;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
+import static org.neo4j.driver.internal.messaging.request.DiscardMessage.newDiscardAllMessage;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
 
@@ -47,32 +53,53 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
 {
     private static final Queue<Record> UNINITIALIZED_RECORDS = Iterables.emptyQueue();
 
-    static final int RECORD_BUFFER_LOW_WATERMARK = Integer.getInteger( "recordBufferLowWatermark", 300 );
-    static final int RECORD_BUFFER_HIGH_WATERMARK = Integer.getInteger( "recordBufferHighWatermark", 1000 );
-
     private final Statement statement;
     private final RunResponseHandler runResponseHandler;
     protected final MetadataExtractor metadataExtractor;
     protected final Connection connection;
+    private final long fetchSize;
+    private final long fetchLowWatermark;
+    private final RecordBufferBudget recordBuffer;
 
     // initialized lazily when first record arrives
     private Queue<Record> records = UNINITIALIZED_RECORDS;
+    // approximate size of buffered records
+    private long bufferedBytes;
 
     private boolean autoReadManagementEnabled = true;
+    private boolean readPaused;
     private boolean finished;
+    // database sent a batch of records and waits for the next PULL or for a DISCARD of the rest
+    private boolean streamingPaused;
     private Throwable failure;
     private ResultSummary summary;
 
     private boolean ignoreRecords;
     private CompletableFuture<Record> recordFuture;
     private CompletableFuture<Throwable> failureFuture;
+    // number of threads waiting in peekBlocking for a record, SUCCESS or FAILURE to arrive
+    private int blockedReaders;
 
     public AbstractPullAllResponseHandler( Statement statement, RunResponseHandler runResponseHandler, Connection connection, MetadataExtractor metadataExtractor )
+    {
+        this( statement, runResponseHandler, connection, metadataExtractor, UNLIMITED_FETCH_SIZE );
+    }
+
+    /**
+     * @param fetchSize number of records in a batch requested by the PULL message this handler is registered for. Next batches are requested
+     * by this handler when the buffered records run low. Use {@code -1} when all records are requested at once.
+     */
+    public AbstractPullAllResponseHandler( Statement statement, RunResponseHandler runResponseHandler, Connection connection, MetadataExtractor metadataExtractor,
+            long fetchSize )
     {
         this.statement = requireNonNull( statement );
         this.runResponseHandler = requireNonNull( runResponseHandler );
         this.metadataExtractor = requireNonNull( metadataExtractor );
         this.connection = requireNonNull( connection );
+        this.fetchSize = fetchSize;
+        this.fetchLowWatermark = fetchSize * 3 / 10;
+        RecordBufferBudget budget = connection.recordBufferBudget();
+        this.recordBuffer = budget == null ? RecordBufferBudget.DEFAULT : budget;
     }
 
     @Override
@@ -84,13 +111,22 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
     @Override
     public synchronized void onSuccess( Map<String,Value> metadata )
     {
-        finished = true;
+        if ( metadata.getOrDefault( "has_more", BooleanValue.FALSE ).asBoolean() )
+        {
+            // a batch of records has been received, result is not complete yet
+            streamingPaused = true;
+            fetchMoreIfNeeded();
+            return;
+        }
+
+        markFinished();
         summary = extractResultSummary( metadata );
 
         afterSuccess( metadata );
 
         completeRecordFuture( null );
         completeFailureFuture( null );
+        notifyBlockedReaders();
     }
 
     protected abstract void afterSuccess( Map<String,Value> metadata );
@@ -98,7 +134,7 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
     @Override
     public synchronized void onFailure( Throwable error )
     {
-        finished = true;
+        markFinished();
         summary = extractResultSummary( emptyMap() );
 
         afterFailure( error );
@@ -118,12 +154,19 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
                 failure = error;
             }
         }
+        notifyBlockedReaders();
     }
 
     protected abstract void afterFailure( Throwable error );
 
     @Override
-    public synchronized void onRecord( Value[] fields )
+    public void onRecord( Value[] fields )
+    {
+        onRecord( fields, 0 );
+    }
+
+    @Override
+    public synchronized void onRecord( Value[] fields, int size )
     {
         if ( ignoreRecords )
         {
@@ -132,9 +175,16 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
         else
         {
             Record record = new InternalRecord( runResponseHandler.statementKeys(), fields );
-            enqueueRecord( record );
+            enqueueRecord( record, size );
             completeRecordFuture( record );
         }
+        notifyBlockedReaders();
+    }
+
+    @Override
+    public synchronized boolean discardsRecords()
+    {
+        return ignoreRecords;
     }
 
     @Override
@@ -175,6 +225,72 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
         return peekAsync().thenApply( ignore -> dequeueRecord() );
     }
 
+    /**
+     * Blocking counterpart of {@link #peekAsync()}. Buffered records are returned directly, the calling thread waits on this handler only
+     * when the buffer is empty and the result is not complete yet.
+     */
+    @Override
+    public synchronized Record peekBlocking( Runnable interruptHandler )
+    {
+        EventLoopGroupFactory.assertNotInEventLoopThread();
+
+        boolean interrupted = false;
+        try
+        {
+            while ( true )
+            {
+                Record record = records.peek();
+                if ( record != null )
+                {
+                    return record;
+                }
+
+                if ( failure != null )
+                {
+                    ErrorUtil.rethrowAsyncException( extractFailure() );
+                }
+
+                if ( ignoreRecords || finished )
+                {
+                    return null;
+                }
+
+                blockedReaders++;
+                try
+                {
+                    wait();
+                }
+                catch ( InterruptedException e )
+                {
+                    // same as Futures#blockingGet(), the IO thread has to finish, so run the handler and keep waiting
+                    interrupted = true;
+                    Futures.safeRun( interruptHandler );
+                }
+                finally
+                {
+                    blockedReaders--;
+                }
+            }
+        }
+        finally
+        {
+            if ( interrupted )
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Blocking counterpart of {@link #nextAsync()}, see {@link #peekBlocking(Runnable)}.
+     */
+    @Override
+    public synchronized Record nextBlocking( Runnable interruptHandler )
+    {
+        peekBlocking( interruptHandler );
+        return dequeueRecord();
+    }
+
     public synchronized CompletionStage<ResultSummary> summaryAsync()
     {
         return failureAsync().thenApply( error ->
@@ -191,6 +307,8 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
     {
         ignoreRecords = true;
         records.clear();
+        releaseBytes( bufferedBytes );
+        notifyBlockedReaders();
         return summaryAsync();
     }
 
@@ -225,12 +343,13 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
                 // enable auto-read, otherwise we might not read SUCCESS/FAILURE if records are not consumed
                 enableAutoRead();
                 failureFuture = new CompletableFuture<>();
+                fetchMoreIfNeeded();
             }
             return failureFuture;
         }
     }
 
-    private void enqueueRecord( Record record )
+    private void enqueueRecord( Record record, int size )
     {
         if ( records == UNINITIALIZED_RECORDS )
         {
@@ -238,16 +357,18 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
         }
 
         records.add( record );
+        bufferedBytes += size;
+        recordBuffer.buffered( size );
 
         boolean shouldBufferAllRecords = failureFuture != null;
         // when failure is requested we have to buffer all remaining records and then return the error
         // do not disable auto-read in this case, otherwise records will not be consumed and trailing
         // SUCCESS or FAILURE message will not arrive as well, so callers will get stuck waiting for the error
-        if ( !shouldBufferAllRecords && records.size() > RECORD_BUFFER_HIGH_WATERMARK )
+        if ( !shouldBufferAllRecords && recordBuffer.shouldPause( bufferedBytes ) )
         {
-            // more than high watermark records are already queued, tell connection to stop auto-reading from network
-            // this is needed to deal with slow consumers, we do not want to buffer all records in memory if they are
-            // fetched from network faster than consumed
+            // too many bytes of records are already queued by this result or by all results of the driver, tell connection to stop
+            // auto-reading from network. this is needed to deal with slow consumers, we do not want to buffer all records in memory
+            // if they are fetched from network faster than consumed
             disableAutoRead();
         }
     }
@@ -255,17 +376,57 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
     private Record dequeueRecord()
     {
         Record record = records.poll();
+        if ( record != null )
+        {
+            // sizes of single records are not kept, every record is assumed to be of the average size
+            releaseBytes( records.isEmpty() ? bufferedBytes : bufferedBytes / (records.size() + 1) );
+        }
 
-        if ( records.size() < RECORD_BUFFER_LOW_WATERMARK )
+        if ( recordBuffer.shouldResume( bufferedBytes ) )
         {
-            // less than low watermark records are now available in the buffer, tell connection to pre-fetch more
+            // buffered records are now below the low watermark, tell connection to pre-fetch more
             // and populate queue with new records from network
             enableAutoRead();
         }
+        fetchMoreIfNeeded();
 
         return record;
     }
 
+    /**
+     * Requests the next batch of records when the database waits for it and buffered records run low. Requests all remaining records
+     * when the summary or the failure is needed and discards them when records are not needed anymore.
+     */
+    private void fetchMoreIfNeeded()
+    {
+        if ( !streamingPaused )
+        {
+            return;
+        }
+
+        if ( ignoreRecords )
+        {
+            // result has been consumed, database does not have to send the rest of records
+            streamingPaused = false;
+            connection.writeAndFlush( newDiscardAllMessage( runResponseHandler.statementId() ), this );
+        }
+        else if ( failureFuture != null )
+        {
+            // summary can only be produced when all records arrived
+            pull( UNLIMITED_FETCH_SIZE );
+        }
+        else if ( records.size() <= fetchLowWatermark )
+        {
+            pull( fetchSize );
+        }
+    }
+
+    private void pull( long n )
+    {
+        streamingPaused = false;
+        connection.writeAndFlush( new PullMessage( n, runResponseHandler.statementId() ), this );
+    }
+
     private <T> List<T> recordsAsList( Function<Record,T> mapFunction )
     {
         if ( !finished )
@@ -279,9 +440,29 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
             Record record = records.poll();
             result.add( mapFunction.apply( record ) );
         }
+        releaseBytes( bufferedBytes );
         return result;
     }
 
+    private void markFinished()
+    {
+        if ( !finished )
+        {
+            finished = true;
+            // buffered records are not received anymore, they stop counting towards the budget of all results
+            recordBuffer.released( bufferedBytes );
+        }
+    }
+
+    private void releaseBytes( long bytes )
+    {
+        bufferedBytes -= bytes;
+        if ( !finished )
+        {
+            recordBuffer.released( bytes );
+        }
+    }
+
     private Throwable extractFailure()
     {
         if ( failure == null )
@@ -334,10 +515,19 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
         return metadataExtractor.extractSummary( statement, connection, resultAvailableAfter, metadata );
     }
 
+    private void notifyBlockedReaders()
+    {
+        if ( blockedReaders > 0 )
+        {
+            notifyAll();
+        }
+    }
+
     private void enableAutoRead()
     {
         if ( autoReadManagementEnabled )
         {
+            readPaused = false;
             connection.enableAutoRead();
         }
     }
@@ -346,6 +536,11 @@ public abstract class AbstractPullAllResponseHandler implements PullAllResponseH
     {
         if ( autoReadManagementEnabled )
         {
+            if ( !readPaused )
+            {
+                readPaused = true;
+                recordBuffer.readPaused();
+            }
             connection.disableAutoRead();
         }
     }
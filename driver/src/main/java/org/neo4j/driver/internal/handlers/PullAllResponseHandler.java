@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.summary.ResultSummary;
 import java.util.function.Function;
@@ -34,6 +35,28 @@ public interface PullAllResponseHandler extends ResponseHandler
 
     CompletionStage<Record> peekAsync();
 
+    /**
+     * Waits for the next record without removing it from the result.
+     *
+     * @param interruptHandler invoked when the calling thread is interrupted while waiting.
+     * @return the next record or {@code null} when the result is exhausted.
+     */
+    default Record peekBlocking( Runnable interruptHandler )
+    {
+        return Futures.blockingGet( peekAsync(), interruptHandler );
+    }
+
+    /**
+     * Waits for the next record and removes it from the result.
+     *
+     * @param interruptHandler invoked when the calling thread is interrupted while waiting.
+     * @return the next record or {@code null} when the result is exhausted.
+     */
+    default Record nextBlocking( Runnable interruptHandler )
+    {
+        return Futures.blockingGet( nextAsync(), interruptHandler );
+    }
+
     CompletionStage<ResultSummary> consumeAsync();
 
     <T> CompletionStage<List<T>> listAsync( Function<Record, T> mapFunction );
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.handlers;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.driver.RecordBufferMetrics;
+import org.neo4j.driver.internal.metrics.SnapshotRecordBufferMetrics;
+
+import static java.lang.String.format;
+
+/**
+ * Bytes of records buffered by results of a driver, measured by sizes of RECORD messages. A result pauses reading from its connection when
+ * it buffers more than the result limit or when results of the driver together buffer more than the driver limit. It resumes reading when
+ * its own buffer drains below the result low watermark and the buffers of all results drain below the driver low watermark. A result
+ * whose buffer is empty resumes regardless of other results, so a result whose records are consumed always makes progress.
+ * <p>
+ * Only results still receiving records count towards the driver limit.
+ */
+public class RecordBufferBudget implements RecordBufferMetrics
+{
+    public static final long DEFAULT_MAX_RESULT_BYTES = 4 * 1024 * 1024;
+    public static final long DEFAULT_MAX_DRIVER_BYTES = 256 * 1024 * 1024;
+
+    // used by connections that are not created by a driver
+    public static final RecordBufferBudget DEFAULT = new RecordBufferBudget( DEFAULT_MAX_RESULT_BYTES, DEFAULT_MAX_DRIVER_BYTES );
+
+    private final long maxResultBytes;
+    private final long resultLowWatermark;
+    private final long maxDriverBytes;
+    private final long driverLowWatermark;
+
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicLong peakBufferedBytes = new AtomicLong();
+    private final AtomicLong pausedReads = new AtomicLong();
+
+    public RecordBufferBudget( long maxResultBytes, long maxDriverBytes )
+    {
+        this.maxResultBytes = maxResultBytes;
+        this.resultLowWatermark = maxResultBytes * 3 / 10;
+        this.maxDriverBytes = maxDriverBytes;
+        this.driverLowWatermark = maxDriverBytes / 10 * 7;
+    }
+
+    public long maxResultBytes()
+    {
+        return maxResultBytes;
+    }
+
+    public long maxDriverBytes()
+    {
+        return maxDriverBytes;
+    }
+
+    /**
+     * @param resultBytes the bytes buffered by the result.
+     * @return {@code true} when the result should stop reading from its connection.
+     */
+    boolean shouldPause( long resultBytes )
+    {
+        return resultBytes > maxResultBytes || bufferedBytes.get() > maxDriverBytes;
+    }
+
+    /**
+     * @param resultBytes the bytes buffered by the result.
+     * @return {@code true} when the result should continue reading from its connection.
+     */
+    boolean shouldResume( long resultBytes )
+    {
+        return resultBytes < resultLowWatermark && (resultBytes == 0 || bufferedBytes.get() < driverLowWatermark);
+    }
+
+    void buffered( long bytes )
+    {
+        long total = bufferedBytes.addAndGet( bytes );
+        long peak = peakBufferedBytes.get();
+        while ( total > peak && !peakBufferedBytes.compareAndSet( peak, total ) )
+        {
+            peak = peakBufferedBytes.get();
+        }
+    }
+
+    void released( long bytes )
+    {
+        if ( bytes != 0 )
+        {
+            bufferedBytes.addAndGet( -bytes );
+        }
+    }
+
+    void readPaused()
+    {
+        pausedReads.incrementAndGet();
+    }
+
+    @Override
+    public long bufferedBytes()
+    {
+        return bufferedBytes.get();
+    }
+
+    @Override
+    public long peakBufferedBytes()
+    {
+        return peakBufferedBytes.get();
+    }
+
+    @Override
+    public long pausedReads()
+    {
+        return pausedReads.get();
+    }
+
+    @Override
+    public RecordBufferMetrics snapshot()
+    {
+        return new SnapshotRecordBufferMetrics( this );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[bufferedBytes=%s, peakBufferedBytes=%s, pausedReads=%s]", bufferedBytes(), peakBufferedBytes(), pausedReads() );
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Objects;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.RoutingErrorHandler;
+import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancingStrategy;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 import org.neo4j.driver.internal.util.Futures;
 import org.neo4j.driver.AccessMode;
@@ -40,19 +41,50 @@ public class RoutingResponseHandler implements ResponseHandler
     private final BoltServerAddress address;
     private final AccessMode accessMode;
     private final RoutingErrorHandler errorHandler;
+    private final LoadBalancingStrategy responseTimeListener;
+    // only accessed in the event loop
+    private boolean timed;
+    private long startNanos;
 
     public RoutingResponseHandler( ResponseHandler delegate, BoltServerAddress address, AccessMode accessMode,
             RoutingErrorHandler errorHandler )
+    {
+        this( delegate, address, accessMode, errorHandler, null );
+    }
+
+    /**
+     * @param responseTimeListener notified about the time between writing the message and receiving the SUCCESS response, can be
+     * {@code null}. Only messages that are first in line on the connection are timed, responses queued behind responses to earlier
+     * messages would add the time spent waiting for those.
+     */
+    public RoutingResponseHandler( ResponseHandler delegate, BoltServerAddress address, AccessMode accessMode,
+            RoutingErrorHandler errorHandler, LoadBalancingStrategy responseTimeListener )
     {
         this.delegate = delegate;
         this.address = address;
         this.accessMode = accessMode;
         this.errorHandler = errorHandler;
+        this.responseTimeListener = responseTimeListener;
+    }
+
+    @Override
+    public void onEnqueued( int pendingResponses )
+    {
+        if ( responseTimeListener != null && pendingResponses == 0 )
+        {
+            timed = true;
+            startNanos = System.nanoTime();
+        }
+        delegate.onEnqueued( pendingResponses );
     }
 
     @Override
     public void onSuccess( Map<String,Value> metadata )
     {
+        if ( timed )
+        {
+            responseTimeListener.onResponseTime( address, System.nanoTime() - startNanos );
+        }
         delegate.onSuccess( metadata );
     }
 
@@ -69,6 +101,18 @@ public class RoutingResponseHandler implements ResponseHandler
         delegate.onRecord( fields );
     }
 
+    @Override
+    public void onRecord( Value[] fields, int size )
+    {
+        delegate.onRecord( fields, size );
+    }
+
+    @Override
+    public boolean discardsRecords()
+    {
+        return delegate.discardsRecords();
+    }
+
     @Override
     public boolean canManageAutoRead()
     {
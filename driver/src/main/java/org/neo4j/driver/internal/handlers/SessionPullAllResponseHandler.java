@@ -27,6 +27,7 @@ import org.neo4j.driver.Statement;
 import org.neo4j.driver.Value;
 
 import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 
 public class SessionPullAllResponseHandler extends AbstractPullAllResponseHandler
 {
@@ -35,7 +36,13 @@ public class SessionPullAllResponseHandler extends AbstractPullAllResponseHandle
     public SessionPullAllResponseHandler( Statement statement, RunResponseHandler runResponseHandler,
             Connection connection, BookmarksHolder bookmarksHolder, MetadataExtractor metadataExtractor )
     {
-        super( statement, runResponseHandler, connection, metadataExtractor );
+        this( statement, runResponseHandler, connection, bookmarksHolder, metadataExtractor, UNLIMITED_FETCH_SIZE );
+    }
+
+    public SessionPullAllResponseHandler( Statement statement, RunResponseHandler runResponseHandler,
+            Connection connection, BookmarksHolder bookmarksHolder, MetadataExtractor metadataExtractor, long fetchSize )
+    {
+        super( statement, runResponseHandler, connection, metadataExtractor, fetchSize );
         this.bookmarksHolder = requireNonNull( bookmarksHolder );
     }
 
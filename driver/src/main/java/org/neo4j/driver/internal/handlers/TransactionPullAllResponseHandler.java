@@ -27,6 +27,7 @@ import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.MetadataExtractor;
 
 import static java.util.Objects.requireNonNull;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 
 public class TransactionPullAllResponseHandler extends AbstractPullAllResponseHandler
 {
@@ -35,7 +36,13 @@ public class TransactionPullAllResponseHandler extends AbstractPullAllResponseHa
     public TransactionPullAllResponseHandler( Statement statement, RunResponseHandler runResponseHandler,
             Connection connection, ExplicitTransaction tx, MetadataExtractor metadataExtractor )
     {
-        super( statement, runResponseHandler, connection, metadataExtractor );
+        this( statement, runResponseHandler, connection, tx, metadataExtractor, UNLIMITED_FETCH_SIZE );
+    }
+
+    public TransactionPullAllResponseHandler( Statement statement, RunResponseHandler runResponseHandler,
+            Connection connection, ExplicitTransaction tx, MetadataExtractor metadataExtractor, long fetchSize )
+    {
+        super( statement, runResponseHandler, connection, metadataExtractor, fetchSize );
         this.tx = requireNonNull( tx );
     }
 
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.handlers.pulln;
+
+import static org.neo4j.driver.internal.messaging.request.AbstractStreamingMessage.STREAM_LIMIT_UNLIMITED;
+
+public final class FetchSizeUtil
+{
+    public static final long UNLIMITED_FETCH_SIZE = STREAM_LIMIT_UNLIMITED;
+
+    private FetchSizeUtil()
+    {
+    }
+
+    public static long assertValidFetchSize( long size )
+    {
+        if ( size <= 0 && size != UNLIMITED_FETCH_SIZE )
+        {
+            throw new IllegalArgumentException( String.format(
+                    "The record fetch size must be greater than 0 or %d to fetch all records, but was %d.", UNLIMITED_FETCH_SIZE, size ) );
+        }
+        return size;
+    }
+}
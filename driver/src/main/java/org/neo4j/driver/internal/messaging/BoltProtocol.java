@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.concurrent.CompletionStage;
 
 import static org.neo4j.driver.internal.async.connection.ChannelAttributes.protocolVersion;
+import static org.neo4j.driver.internal.handlers.pulln.FetchSizeUtil.UNLIMITED_FETCH_SIZE;
 
 public interface BoltProtocol {
     /**
@@ -100,8 +101,28 @@ public interface BoltProtocol {
      *                           keys populated.
      * @return stage with cursor.
      */
+    default StatementResultCursorFactory runInAutoCommitTransaction(Connection connection, Statement statement,
+                                                                    BookmarksHolder bookmarksHolder, TransactionConfig config, boolean waitForRunResponse) {
+        return runInAutoCommitTransaction(connection, statement, bookmarksHolder, config, waitForRunResponse, UNLIMITED_FETCH_SIZE);
+    }
+
+    /**
+     * Execute the given statement in an aut-commit transaction, i.e. {@link Session#run(Statement)}, fetching records in batches.
+     *
+     * @param connection         the network connection to use.
+     * @param statement          the cypher to execute.
+     * @param bookmarksHolder    the bookmarksHolder that keeps track of the current bookmark and can be updated with a new bookmark.
+     * @param config             the transaction config for the implicitly started auto-commit transaction.
+     * @param waitForRunResponse {@code true} for async query execution and {@code false} for blocking query
+     *                           execution. Makes returned cursor stage be chained after the RUN response arrives. Needed to have statement
+     *                           keys populated.
+     * @param fetchSize          the number of records requested at once by the async cursor, {@code -1} to request all records at once.
+     *                           Ignored by protocol versions that can only stream all records.
+     * @return stage with cursor.
+     */
     StatementResultCursorFactory runInAutoCommitTransaction(Connection connection, Statement statement,
-                                                            BookmarksHolder bookmarksHolder, TransactionConfig config, boolean waitForRunResponse);
+                                                            BookmarksHolder bookmarksHolder, TransactionConfig config, boolean waitForRunResponse,
+                                                            long fetchSize);
 
     /**
      * Execute the given statement in a running explicit transaction, i.e. {@link Transaction#run(Statement)}.
@@ -114,8 +135,26 @@ public interface BoltProtocol {
      *                           keys populated.
      * @return stage with cursor.
      */
+    default StatementResultCursorFactory runInExplicitTransaction(Connection connection, Statement statement, ExplicitTransaction tx,
+                                                                  boolean waitForRunResponse) {
+        return runInExplicitTransaction(connection, statement, tx, waitForRunResponse, UNLIMITED_FETCH_SIZE);
+    }
+
+    /**
+     * Execute the given statement in a running explicit transaction, i.e. {@link Transaction#run(Statement)}, fetching records in batches.
+     *
+     * @param connection         the network connection to use.
+     * @param statement          the cypher to execute.
+     * @param tx                 the transaction which executes the query.
+     * @param waitForRunResponse {@code true} for async query execution and {@code false} for blocking query
+     *                           execution. Makes returned cursor stage be chained after the RUN response arrives. Needed to have statement
+     *                           keys populated.
+     * @param fetchSize          the number of records requested at once by the async cursor, {@code -1} to request all records at once.
+     *                           Ignored by protocol versions that can only stream all records.
+     * @return stage with cursor.
+     */
     StatementResultCursorFactory runInExplicitTransaction(Connection connection, Statement statement, ExplicitTransaction tx,
-                                                          boolean waitForRunResponse);
+                                                          boolean waitForRunResponse, long fetchSize);
 
     /**
      * Returns the protocol version. It can be used for version specific error messages.
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.messaging;
+
+import io.netty.channel.Channel;
+
+import java.io.IOException;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.types.TypeConstructor;
+import org.neo4j.driver.internal.value.InternalValue;
+
+/**
+ * Packs and unpacks values of a type that is not part of PackStream. Such values start with their own marker bytes.
+ * Codecs read and write the underlying {@link org.neo4j.driver.internal.packstream.PackInput} and
+ * {@link org.neo4j.driver.internal.packstream.PackOutput} directly, see {@link PackStream.Unpacker#input()} and
+ * {@link PackStream.Packer#output()}.
+ */
+public interface ValueCodec
+{
+    /**
+     * @return type of values packed by this codec.
+     */
+    TypeConstructor typeConstructor();
+
+    /**
+     * @return marker bytes of values unpacked by this codec.
+     */
+    byte[] markers();
+
+    void pack( InternalValue value, PackStream.Packer packer ) throws IOException;
+
+    /**
+     * Unpack a value. Its marker byte is not consumed yet.
+     *
+     * @param unpacker the unpacker positioned at the marker byte.
+     * @param channel the channel the value is received from, {@code null} when not read from the network.
+     * @return the value.
+     * @throws IOException when the value can't be read.
+     */
+    Value unpack( PackStream.Unpacker unpacker, Channel channel ) throws IOException;
+}
@@ -25,6 +25,7 @@ import java.util.Objects;
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.BlobTransferHints;
 import org.neo4j.driver.internal.Bookmarks;
 
 import static org.neo4j.driver.internal.messaging.request.TransactionMetadataBuilder.buildMetadata;
@@ -38,6 +39,11 @@ public class BeginMessage extends MessageWithMetadata
         this( bookmarks, config.timeout(), config.metadata(), mode, databaseName );
     }
 
+    public BeginMessage( Bookmarks bookmarks, TransactionConfig config, String databaseName, AccessMode mode, BlobTransferHints blobTransferHints )
+    {
+        super( buildMetadata( config.timeout(), config.metadata(), databaseName, mode, bookmarks, blobTransferHints ) );
+    }
+
     public BeginMessage( Bookmarks bookmarks, Duration txTimeout, Map<String,Value> txMetadata, AccessMode mode, String databaseName )
     {
         super( buildMetadata( txTimeout, txMetadata, databaseName, mode, bookmarks ) );
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.BlobTransferHints;
 
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.internal.security.InternalAuthToken.CREDENTIALS_KEY;
@@ -35,7 +36,12 @@ public class HelloMessage extends MessageWithMetadata
 
     public HelloMessage( String userAgent, Map<String,Value> authToken )
     {
-        super( buildMetadata( userAgent, authToken ) );
+        this( userAgent, authToken, BlobTransferHints.EMPTY );
+    }
+
+    public HelloMessage( String userAgent, Map<String,Value> authToken, BlobTransferHints blobTransferHints )
+    {
+        super( buildMetadata( userAgent, authToken, blobTransferHints ) );
     }
 
     @Override
@@ -73,10 +79,11 @@ public class HelloMessage extends MessageWithMetadata
         return "HELLO " + metadataCopy;
     }
 
-    private static Map<String,Value> buildMetadata( String userAgent, Map<String,Value> authToken )
+    private static Map<String,Value> buildMetadata( String userAgent, Map<String,Value> authToken, BlobTransferHints blobTransferHints )
     {
         Map<String,Value> result = new HashMap<>( authToken );
         result.put( USER_AGENT_METADATA_KEY, value( userAgent ) );
+        blobTransferHints.addTo( result );
         return result;
     }
 }
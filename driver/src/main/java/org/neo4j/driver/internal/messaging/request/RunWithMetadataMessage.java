@@ -26,6 +26,7 @@ import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Statement;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.BlobTransferHints;
 import org.neo4j.driver.internal.Bookmarks;
 
 import static java.util.Collections.emptyMap;
@@ -45,6 +46,13 @@ public class RunWithMetadataMessage extends MessageWithMetadata
         return autoCommitTxRunMessage( statement, config.timeout(), config.metadata(), databaseName, mode, bookmarks );
     }
 
+    public static RunWithMetadataMessage autoCommitTxRunMessage( Statement statement, TransactionConfig config, String databaseName, AccessMode mode,
+            Bookmarks bookmarks, BlobTransferHints blobTransferHints )
+    {
+        Map<String,Value> metadata = buildMetadata( config.timeout(), config.metadata(), databaseName, mode, bookmarks, blobTransferHints );
+        return new RunWithMetadataMessage( statement.text(), statement.parameters().asMap( ofValue() ), metadata );
+    }
+
     public static RunWithMetadataMessage autoCommitTxRunMessage( Statement statement, Duration txTimeout, Map<String,Value> txMetadata, String databaseName,
             AccessMode mode, Bookmarks bookmarks )
     {
@@ -23,6 +23,7 @@ import java.util.Map;
 
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.BlobTransferHints;
 import org.neo4j.driver.internal.Bookmarks;
 import org.neo4j.driver.internal.util.Iterables;
 
@@ -45,6 +46,12 @@ public class TransactionMetadataBuilder
     }
 
     public static Map<String,Value> buildMetadata( Duration txTimeout, Map<String,Value> txMetadata, String databaseName, AccessMode mode, Bookmarks bookmarks )
+    {
+        return buildMetadata( txTimeout, txMetadata, databaseName, mode, bookmarks, BlobTransferHints.EMPTY );
+    }
+
+    public static Map<String,Value> buildMetadata( Duration txTimeout, Map<String,Value> txMetadata, String databaseName, AccessMode mode, Bookmarks bookmarks,
+            BlobTransferHints blobTransferHints )
     {
         boolean bookmarksPresent = bookmarks != null && !bookmarks.isEmpty();
         boolean txTimeoutPresent = txTimeout != null;
@@ -52,12 +59,12 @@ public class TransactionMetadataBuilder
         boolean accessModePresent = mode == AccessMode.READ;
         boolean databaseNamePresent = databaseName != null && !databaseName.equals( ABSENT_DB_NAME );
 
-        if ( !bookmarksPresent && !txTimeoutPresent && !txMetadataPresent && !accessModePresent && !databaseNamePresent )
+        if ( !bookmarksPresent && !txTimeoutPresent && !txMetadataPresent && !accessModePresent && !databaseNamePresent && blobTransferHints.isEmpty() )
         {
             return emptyMap();
         }
 
-        Map<String,Value> result = Iterables.newHashMapWithSize( 5 );
+        Map<String,Value> result = Iterables.newHashMapWithSize( 7 );
 
         if ( bookmarksPresent )
         {
@@ -79,6 +86,7 @@ public class TransactionMetadataBuilder
         {
             result.put( DATABASE_NAME_KEY, value( databaseName ) );
         }
+        blobTransferHints.addTo( result );
 
         return result;
     }
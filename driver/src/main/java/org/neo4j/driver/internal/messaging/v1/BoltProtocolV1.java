@@ -153,8 +153,9 @@ public class BoltProtocolV1 implements BoltProtocol
 
     @Override
     public StatementResultCursorFactory runInAutoCommitTransaction( Connection connection, Statement statement,
-            BookmarksHolder bookmarksHolder, TransactionConfig config, boolean waitForRunResponse )
+            BookmarksHolder bookmarksHolder, TransactionConfig config, boolean waitForRunResponse, long fetchSize )
     {
+        // records are always streamed all at once in this version of the protocol
         // bookmarks are ignored for auto-commit transactions in this version of the protocol
         verifyBeforeTransaction( config, connection.databaseName() );
         return buildResultCursorFactory( connection, statement, null, waitForRunResponse );
@@ -162,7 +163,7 @@ public class BoltProtocolV1 implements BoltProtocol
 
     @Override
     public StatementResultCursorFactory runInExplicitTransaction( Connection connection, Statement statement, ExplicitTransaction tx,
-            boolean waitForRunResponse )
+            boolean waitForRunResponse, long fetchSize )
     {
         return buildResultCursorFactory( connection, statement, tx, waitForRunResponse );
     }
@@ -24,7 +24,9 @@ import java.util.Map;
 import org.neo4j.driver.internal.messaging.ValuePacker;
 import org.neo4j.driver.internal.packstream.PackOutput;
 import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.value.DoubleListValue;
 import org.neo4j.driver.internal.value.InternalValue;
+import org.neo4j.driver.internal.value.LongListValue;
 import org.neo4j.driver.Value;
 
 public class ValuePackerV1 implements ValuePacker
@@ -123,10 +125,21 @@ public class ValuePackerV1 implements ValuePacker
             break;
 
         case LIST:
-            packer.packListHeader( value.size() );
-            for ( Value item : value.values() )
+            if ( value instanceof LongListValue )
             {
-                pack( item );
+                packer.pack( ((LongListValue) value).longValues() );
+            }
+            else if ( value instanceof DoubleListValue )
+            {
+                packer.pack( ((DoubleListValue) value).doubleValues() );
+            }
+            else
+            {
+                packer.packListHeader( value.size() );
+                for ( Value item : value.values() )
+                {
+                    pack( item );
+                }
             }
             break;
 
@@ -34,7 +34,9 @@ import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.internal.packstream.PackType;
 import org.neo4j.driver.internal.types.TypeConstructor;
 import org.neo4j.driver.internal.util.Iterables;
+import org.neo4j.driver.internal.value.DoubleListValue;
 import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.LongListValue;
 import org.neo4j.driver.internal.value.MapValue;
 import org.neo4j.driver.internal.value.NodeValue;
 import org.neo4j.driver.internal.value.PathValue;
@@ -120,13 +122,7 @@ public class ValueUnpackerV1 implements ValueUnpacker
         }
         case LIST:
         {
-            int size = (int) unpacker.unpackListHeader();
-            Value[] vals = new Value[size];
-            for ( int j = 0; j < size; j++ )
-            {
-                vals[j] = unpack();
-            }
-            return new ListValue( vals );
+            return unpackList();
         }
         case STRUCT:
         {
@@ -138,6 +134,89 @@ public class ValueUnpackerV1 implements ValueUnpacker
         throw new IOException( "Unknown value type: " + type );
     }
 
+    /**
+     * Lists of integers and lists of floats are unpacked into primitive arrays. A list is unpacked into values as soon as an element of
+     * another type is found.
+     */
+    private Value unpackList() throws IOException
+    {
+        int size = (int) unpacker.unpackListHeader();
+        PackType elementType = size == 0 ? null : peekNumberType();
+        if ( elementType == PackType.INTEGER )
+        {
+            long[] longs = new long[size];
+            int i = 0;
+            while ( i < size && peekNumberType() == PackType.INTEGER )
+            {
+                longs[i++] = unpacker.unpackLong();
+            }
+            if ( i == size )
+            {
+                return new LongListValue( longs );
+            }
+
+            Value[] vals = new Value[size];
+            for ( int j = 0; j < i; j++ )
+            {
+                vals[j] = value( longs[j] );
+            }
+            return unpackListElements( vals, i );
+        }
+        else if ( elementType == PackType.FLOAT )
+        {
+            double[] doubles = new double[size];
+            int i = 0;
+            while ( i < size && peekNumberType() == PackType.FLOAT )
+            {
+                doubles[i++] = unpacker.unpackDouble();
+            }
+            if ( i == size )
+            {
+                return new DoubleListValue( doubles );
+            }
+
+            Value[] vals = new Value[size];
+            for ( int j = 0; j < i; j++ )
+            {
+                vals[j] = value( doubles[j] );
+            }
+            return unpackListElements( vals, i );
+        }
+        return unpackListElements( new Value[size], 0 );
+    }
+
+    private Value unpackListElements( Value[] vals, int from ) throws IOException
+    {
+        for ( int j = from; j < vals.length; j++ )
+        {
+            vals[j] = unpack();
+        }
+        return new ListValue( vals );
+    }
+
+    /**
+     * @return {@link PackType#INTEGER} or {@link PackType#FLOAT} when the next value is a plain PackStream number, {@code null} otherwise.
+     */
+    private PackType peekNumberType() throws IOException
+    {
+        if ( isExtensionValueNext() )
+        {
+            return null;
+        }
+        PackType type = unpacker.peekNextType();
+        return type == PackType.INTEGER || type == PackType.FLOAT ? type : null;
+    }
+
+    /**
+     * Markers of values not known to PackStream, like blobs, are reported by {@link PackStream.Unpacker#peekNextType()} as integers.
+     *
+     * @return {@code true} when the next value has to be unpacked by {@link #unpack()} of a subclass.
+     */
+    protected boolean isExtensionValueNext() throws IOException
+    {
+        return false;
+    }
+
     protected Value unpackStruct( long size, byte type ) throws IOException
     {
         switch ( type )
@@ -77,7 +77,7 @@ public class BoltProtocolV3 implements BoltProtocol
     {
         Channel channel = channelInitializedPromise.channel();
 
-        HelloMessage message = new HelloMessage( userAgent, authToken );
+        HelloMessage message = helloMessage( userAgent, authToken, channel );
         HelloResponseHandler handler = new HelloResponseHandler( channelInitializedPromise );
 
         messageDispatcher( channel ).enqueue( handler );
@@ -104,7 +104,7 @@ public class BoltProtocolV3 implements BoltProtocol
             return Futures.failedFuture( error );
         }
 
-        BeginMessage beginMessage = new BeginMessage( bookmarks, config, connection.databaseName(), connection.mode() );
+        BeginMessage beginMessage = beginMessage( connection, bookmarks, config );
 
         if ( bookmarks.isEmpty() )
         {
@@ -137,25 +137,40 @@ public class BoltProtocolV3 implements BoltProtocol
 
     @Override
     public StatementResultCursorFactory runInAutoCommitTransaction( Connection connection, Statement statement,
-            BookmarksHolder bookmarksHolder, TransactionConfig config, boolean waitForRunResponse )
+            BookmarksHolder bookmarksHolder, TransactionConfig config, boolean waitForRunResponse, long fetchSize )
     {
         verifyDatabaseNameBeforeTransaction( connection.databaseName() );
-        RunWithMetadataMessage runMessage =
-                autoCommitTxRunMessage( statement, config, connection.databaseName(), connection.mode(), bookmarksHolder.getBookmarks() );
-        return buildResultCursorFactory( connection, statement, bookmarksHolder, null, runMessage, waitForRunResponse );
+        RunWithMetadataMessage runMessage = autoCommitRunMessage( connection, statement, bookmarksHolder.getBookmarks(), config );
+        return buildResultCursorFactory( connection, statement, bookmarksHolder, null, runMessage, waitForRunResponse, fetchSize );
     }
 
     @Override
     public StatementResultCursorFactory runInExplicitTransaction( Connection connection, Statement statement, ExplicitTransaction tx,
-            boolean waitForRunResponse )
+            boolean waitForRunResponse, long fetchSize )
     {
         RunWithMetadataMessage runMessage = explicitTxRunMessage( statement );
-        return buildResultCursorFactory( connection, statement, BookmarksHolder.NO_OP, tx, runMessage, waitForRunResponse );
+        return buildResultCursorFactory( connection, statement, BookmarksHolder.NO_OP, tx, runMessage, waitForRunResponse, fetchSize );
+    }
+
+    protected HelloMessage helloMessage( String userAgent, Map<String,Value> authToken, Channel channel )
+    {
+        return new HelloMessage( userAgent, authToken );
+    }
+
+    protected BeginMessage beginMessage( Connection connection, Bookmarks bookmarks, TransactionConfig config )
+    {
+        return new BeginMessage( bookmarks, config, connection.databaseName(), connection.mode() );
+    }
+
+    protected RunWithMetadataMessage autoCommitRunMessage( Connection connection, Statement statement, Bookmarks bookmarks, TransactionConfig config )
+    {
+        return autoCommitTxRunMessage( statement, config, connection.databaseName(), connection.mode(), bookmarks );
     }
 
     protected StatementResultCursorFactory buildResultCursorFactory( Connection connection, Statement statement, BookmarksHolder bookmarksHolder,
-            ExplicitTransaction tx, RunWithMetadataMessage runMessage, boolean waitForRunResponse )
+            ExplicitTransaction tx, RunWithMetadataMessage runMessage, boolean waitForRunResponse, long fetchSize )
     {
+        // PULL_ALL of this version of the protocol always streams all records
         RunResponseHandler runHandler = new RunResponseHandler( METADATA_EXTRACTOR );
         AbstractPullAllResponseHandler pullHandler = newBoltV3PullAllHandler( statement, runHandler, connection, bookmarksHolder, tx );
 
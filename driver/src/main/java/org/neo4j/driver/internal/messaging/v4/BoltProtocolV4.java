@@ -32,7 +32,7 @@ import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.messaging.v3.BoltProtocolV3;
 import org.neo4j.driver.internal.spi.Connection;
 
-import static org.neo4j.driver.internal.handlers.PullHandlers.newBoltV3PullAllHandler;
+import static org.neo4j.driver.internal.handlers.PullHandlers.newBoltV4PullAllHandler;
 import static org.neo4j.driver.internal.handlers.PullHandlers.newBoltV4PullHandler;
 
 public class BoltProtocolV4 extends BoltProtocolV3
@@ -48,14 +48,15 @@ public class BoltProtocolV4 extends BoltProtocolV3
 
     @Override
     protected StatementResultCursorFactory buildResultCursorFactory( Connection connection, Statement statement, BookmarksHolder bookmarksHolder,
-            ExplicitTransaction tx, RunWithMetadataMessage runMessage, boolean waitForRunResponse )
+            ExplicitTransaction tx, RunWithMetadataMessage runMessage, boolean waitForRunResponse, long fetchSize )
     {
         RunResponseHandler runHandler = new RunResponseHandler( METADATA_EXTRACTOR );
 
-        AbstractPullAllResponseHandler pullAllHandler = newBoltV3PullAllHandler( statement, runHandler, connection, bookmarksHolder, tx );
+        AbstractPullAllResponseHandler pullAllHandler = newBoltV4PullAllHandler( statement, runHandler, connection, bookmarksHolder, tx, fetchSize );
         BasicPullResponseHandler pullHandler = newBoltV4PullHandler( statement, runHandler, connection, bookmarksHolder, tx );
 
-        return new InternalStatementResultCursorFactory( connection, runMessage, runHandler, pullHandler, pullAllHandler, waitForRunResponse );
+        return new InternalStatementResultCursorFactory( connection, runMessage, runHandler, pullHandler, pullAllHandler, waitForRunResponse,
+                fetchSize );
     }
 
     protected void verifyDatabaseNameBeforeTransaction( String databaseName )
@@ -18,9 +18,24 @@
  */
 package org.neo4j.driver.internal.messaging.v5;
 
+import io.netty.channel.Channel;
+
+import java.util.Map;
+
+import org.neo4j.driver.Statement;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.Bookmarks;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.MessageFormat;
+import org.neo4j.driver.internal.messaging.request.BeginMessage;
+import org.neo4j.driver.internal.messaging.request.HelloMessage;
+import org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage;
 import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
+import org.neo4j.driver.internal.spi.Connection;
+
+import static org.neo4j.driver.internal.async.connection.ChannelAttributes.blobSettings;
+import static org.neo4j.driver.internal.messaging.request.RunWithMetadataMessage.autoCommitTxRunMessage;
 
 public class BoltProtocolV5 extends BoltProtocolV4 {
     public static final int VERSION = 5;
@@ -31,6 +46,24 @@ public class BoltProtocolV5 extends BoltProtocolV4 {
         return new MessageFormatV5();
     }
 
+    // blob transfer hints of the driver are advertised once per connection, hints of a session with every transaction
+    @Override
+    protected HelloMessage helloMessage(String userAgent, Map<String,Value> authToken, Channel channel) {
+        return new HelloMessage(userAgent, authToken, blobSettings(channel).transferHints());
+    }
+
+    @Override
+    protected BeginMessage beginMessage(Connection connection, Bookmarks bookmarks, TransactionConfig config) {
+        return new BeginMessage(bookmarks, config, connection.databaseName(), connection.mode(), connection.blobTransferHints());
+    }
+
+    @Override
+    protected RunWithMetadataMessage autoCommitRunMessage(Connection connection, Statement statement, Bookmarks bookmarks,
+            TransactionConfig config) {
+        return autoCommitTxRunMessage(statement, config, connection.databaseName(), connection.mode(), bookmarks,
+                connection.blobTransferHints());
+    }
+
     @Override
     public int version() {
         return VERSION;
@@ -21,23 +21,33 @@ package org.neo4j.driver.internal.messaging.v5;
 import org.neo4j.driver.internal.messaging.v2.ValuePackerV2;
 import org.neo4j.driver.internal.packstream.PackOutput;
 import org.neo4j.driver.internal.types.TypeConstructor;
-import org.neo4j.driver.internal.util.BoltClientBlobIO;
+import org.neo4j.driver.internal.messaging.ValueCodec;
+import org.neo4j.driver.internal.util.BlobValueCodec;
 import org.neo4j.driver.internal.value.InternalValue;
 
 import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
 
 public class ValuePackerV5 extends ValuePackerV2 {
+    private final Map<TypeConstructor,ValueCodec> codecs = new EnumMap<>(TypeConstructor.class);
+
     public ValuePackerV5(PackOutput output) {
+        this(output, new BlobValueCodec());
+    }
+
+    public ValuePackerV5(PackOutput output, ValueCodec... codecs) {
         super(output);
+        for (ValueCodec codec : codecs) {
+            this.codecs.put(codec.typeConstructor(), codec);
+        }
     }
 
     @Override
     protected void packInternalValue(InternalValue value) throws IOException {
-        TypeConstructor typeConstructor = value.typeConstructor();
-
-        //blob
-        if (TypeConstructor.BLOB == typeConstructor) {
-            BoltClientBlobIO.packBlob(value.asBlob(), packer);
+        ValueCodec codec = codecs.get(value.typeConstructor());
+        if (codec != null) {
+            codec.pack(value, packer);
             return;
         }
 
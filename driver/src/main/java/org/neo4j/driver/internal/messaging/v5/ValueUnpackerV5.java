@@ -18,13 +18,18 @@
  */
 package org.neo4j.driver.internal.messaging.v5;
 
+import io.netty.channel.Channel;
+
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.messaging.ValueCodec;
 import org.neo4j.driver.internal.messaging.v1.ValueUnpackerV1;
 import org.neo4j.driver.internal.messaging.v2.ValueUnpackerV2;
 import org.neo4j.driver.internal.packstream.PackInput;
 import org.neo4j.driver.internal.packstream.PackType;
 import org.neo4j.driver.internal.types.TypeConstructor;
-import org.neo4j.driver.internal.util.BoltClientBlobIO;
+import org.neo4j.driver.internal.util.BlobValueCodec;
+import org.neo4j.driver.internal.value.ByteBufValue;
 import org.neo4j.driver.internal.value.ListValue;
 import org.neo4j.driver.internal.value.MapValue;
 
@@ -37,18 +42,53 @@ import static org.neo4j.driver.internal.messaging.v2.MessageFormatV2.*;
 
 public class ValueUnpackerV5 extends ValueUnpackerV2
 {
+    private final PackInput input;
+    private final ValueCodec[] codecsByMarker = new ValueCodec[256];
+
     public ValueUnpackerV5( PackInput input )
+    {
+        this( input, new BlobValueCodec() );
+    }
+
+    public ValueUnpackerV5( PackInput input, ValueCodec... codecs )
     {
         super( input );
+        this.input = input;
+        for ( ValueCodec codec : codecs )
+        {
+            for ( byte marker : codec.markers() )
+            {
+                codecsByMarker[marker & 0xFF] = codec;
+            }
+        }
     }
 
     protected Value unpack() throws IOException
     {
-        //NOTE: blob support
-        Value blobValue = BoltClientBlobIO.unpackBlob(unpacker);
-        if (blobValue != null)
-            return blobValue;
+        ValueCodec codec = codecsByMarker[input.peekByte() & 0xFF];
+        if ( codec != null )
+        {
+            return codec.unpack( unpacker, channel() );
+        }
+
+        if ( input instanceof ByteBufInput && ((ByteBufInput) input).retainsBytes() && unpacker.peekNextType() == PackType.BYTES )
+        {
+            // blob chunks and alike, referenced without copying
+            int size = unpacker.unpackBytesHeader();
+            return new ByteBufValue( ((ByteBufInput) input).readRetainedSlice( size ) );
+        }
 
         return super.unpack();
     }
+
+    @Override
+    protected boolean isExtensionValueNext() throws IOException
+    {
+        return codecsByMarker[input.peekByte() & 0xFF] != null;
+    }
+
+    private Channel channel()
+    {
+        return input instanceof ByteBufInput ? ((ByteBufInput) input).channel() : null;
+    }
 }
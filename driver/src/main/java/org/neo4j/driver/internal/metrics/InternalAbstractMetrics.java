@@ -23,7 +23,11 @@ import java.util.Map;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
+import org.neo4j.driver.BlobCacheMetrics;
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.FlushMetrics;
+import org.neo4j.driver.MessageEncodingMetrics;
+import org.neo4j.driver.RecordBufferMetrics;
 import org.neo4j.driver.Metrics;
 
 public abstract class InternalAbstractMetrics implements Metrics, MetricsListener
@@ -102,12 +106,60 @@ public abstract class InternalAbstractMetrics implements Metrics, MetricsListene
 
         }
 
+        @Override
+        public void putBlobCacheMetrics( BlobCacheMetrics blobCacheMetrics )
+        {
+
+        }
+
+        @Override
+        public void putFlushMetrics( FlushMetrics flushMetrics )
+        {
+
+        }
+
+        @Override
+        public void putMessageEncodingMetrics( MessageEncodingMetrics messageEncodingMetrics )
+        {
+
+        }
+
+        @Override
+        public void putRecordBufferMetrics( RecordBufferMetrics recordBufferMetrics )
+        {
+
+        }
+
         @Override
         public Map<String,ConnectionPoolMetrics> connectionPoolMetrics()
         {
             return Collections.emptyMap();
         }
 
+        @Override
+        public BlobCacheMetrics blobCacheMetrics()
+        {
+            return null;
+        }
+
+        @Override
+        public FlushMetrics flushMetrics()
+        {
+            return null;
+        }
+
+        @Override
+        public MessageEncodingMetrics messageEncodingMetrics()
+        {
+            return null;
+        }
+
+        @Override
+        public RecordBufferMetrics recordBufferMetrics()
+        {
+            return null;
+        }
+
         @Override
         public Metrics snapshot()
         {
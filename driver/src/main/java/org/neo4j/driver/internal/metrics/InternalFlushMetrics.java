@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.driver.FlushMetrics;
+
+import static java.lang.String.format;
+
+/**
+ * Counts flushes of all connections of a driver, updated by {@link org.neo4j.driver.internal.async.outbound.FlushConsolidationHandler}.
+ */
+public class InternalFlushMetrics implements FlushMetrics
+{
+    private final AtomicLong requestedFlushes = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong flushedBytes = new AtomicLong();
+
+    /**
+     * @param requested the amount of requested flushes merged into the performed flush.
+     * @param bytes the amount of bytes written by the performed flush.
+     */
+    public void flushed( int requested, long bytes )
+    {
+        requestedFlushes.addAndGet( requested );
+        flushes.incrementAndGet();
+        flushedBytes.addAndGet( bytes );
+    }
+
+    @Override
+    public long requestedFlushes()
+    {
+        return requestedFlushes.get();
+    }
+
+    @Override
+    public long flushes()
+    {
+        return flushes.get();
+    }
+
+    @Override
+    public long savedFlushes()
+    {
+        return Math.max( 0, requestedFlushes() - flushes() );
+    }
+
+    @Override
+    public long flushedBytes()
+    {
+        return flushedBytes.get();
+    }
+
+    @Override
+    public double averageBytesPerFlush()
+    {
+        long flushes = flushes();
+        return flushes == 0 ? 0 : (double) flushedBytes() / flushes;
+    }
+
+    @Override
+    public FlushMetrics snapshot()
+    {
+        return new SnapshotFlushMetrics( this );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[requestedFlushes=%s, flushes=%s, savedFlushes=%s, flushedBytes=%s]",
+                requestedFlushes(), flushes(), savedFlushes(), flushedBytes() );
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.driver.MessageEncodingMetrics;
+
+import static java.lang.String.format;
+
+/**
+ * Counts buffers used by {@link org.neo4j.driver.internal.async.outbound.OutboundMessageHandler} of all connections of a driver.
+ */
+public class InternalMessageEncodingMetrics implements MessageEncodingMetrics
+{
+    private final AtomicLong encodedMessages = new AtomicLong();
+    private final AtomicLong allocations = new AtomicLong();
+    private final AtomicLong reallocations = new AtomicLong();
+
+    public void allocated()
+    {
+        allocations.incrementAndGet();
+    }
+
+    /**
+     * @param reallocations the amount of times the buffer of the message had to grow.
+     */
+    public void encoded( int reallocations )
+    {
+        encodedMessages.incrementAndGet();
+        if ( reallocations > 0 )
+        {
+            this.reallocations.addAndGet( reallocations );
+        }
+    }
+
+    @Override
+    public long encodedMessages()
+    {
+        return encodedMessages.get();
+    }
+
+    @Override
+    public long allocations()
+    {
+        return allocations.get();
+    }
+
+    @Override
+    public long reallocations()
+    {
+        return reallocations.get();
+    }
+
+    @Override
+    public MessageEncodingMetrics snapshot()
+    {
+        return new SnapshotMessageEncodingMetrics( this );
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[encodedMessages=%s, allocations=%s, reallocations=%s]", encodedMessages(), allocations(), reallocations() );
+    }
+}
@@ -24,7 +24,11 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
+import org.neo4j.driver.BlobCacheMetrics;
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.FlushMetrics;
+import org.neo4j.driver.MessageEncodingMetrics;
+import org.neo4j.driver.RecordBufferMetrics;
 import org.neo4j.driver.Metrics;
 import org.neo4j.driver.internal.util.Clock;
 import org.neo4j.driver.exceptions.ClientException;
@@ -36,6 +40,10 @@ public class InternalMetrics extends InternalAbstractMetrics
 {
     private final Map<String,ConnectionPoolMetrics> connectionPoolMetrics;
     private final Clock clock;
+    private volatile BlobCacheMetrics blobCacheMetrics;
+    private volatile FlushMetrics flushMetrics;
+    private volatile MessageEncodingMetrics messageEncodingMetrics;
+    private volatile RecordBufferMetrics recordBufferMetrics;
 
     public InternalMetrics( Clock clock )
     {
@@ -51,6 +59,30 @@ public class InternalMetrics extends InternalAbstractMetrics
                 new InternalConnectionPoolMetrics( serverAddress, pool ) );
     }
 
+    @Override
+    public void putBlobCacheMetrics( BlobCacheMetrics blobCacheMetrics )
+    {
+        this.blobCacheMetrics = blobCacheMetrics;
+    }
+
+    @Override
+    public void putFlushMetrics( FlushMetrics flushMetrics )
+    {
+        this.flushMetrics = flushMetrics;
+    }
+
+    @Override
+    public void putMessageEncodingMetrics( MessageEncodingMetrics messageEncodingMetrics )
+    {
+        this.messageEncodingMetrics = messageEncodingMetrics;
+    }
+
+    @Override
+    public void putRecordBufferMetrics( RecordBufferMetrics recordBufferMetrics )
+    {
+        this.recordBufferMetrics = recordBufferMetrics;
+    }
+
     @Override
     public void beforeCreating( BoltServerAddress serverAddress, ListenerEvent creatingEvent )
     {
@@ -123,6 +155,30 @@ public class InternalMetrics extends InternalAbstractMetrics
         return unmodifiableMap( this.connectionPoolMetrics );
     }
 
+    @Override
+    public BlobCacheMetrics blobCacheMetrics()
+    {
+        return blobCacheMetrics;
+    }
+
+    @Override
+    public FlushMetrics flushMetrics()
+    {
+        return flushMetrics;
+    }
+
+    @Override
+    public MessageEncodingMetrics messageEncodingMetrics()
+    {
+        return messageEncodingMetrics;
+    }
+
+    @Override
+    public RecordBufferMetrics recordBufferMetrics()
+    {
+        return recordBufferMetrics;
+    }
+
     @Override
     public Metrics snapshot()
     {
@@ -132,7 +188,8 @@ public class InternalMetrics extends InternalAbstractMetrics
     @Override
     public String toString()
     {
-        return format( "PoolMetrics=%s", connectionPoolMetrics );
+        return format( "PoolMetrics=%s, BlobCacheMetrics=%s, FlushMetrics=%s, MessageEncodingMetrics=%s, RecordBufferMetrics=%s",
+                connectionPoolMetrics, blobCacheMetrics, flushMetrics, messageEncodingMetrics, recordBufferMetrics );
     }
 
     static String serverAddressToUniqueName( BoltServerAddress serverAddress )
@@ -23,6 +23,10 @@ import java.util.concurrent.TimeUnit;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.DirectConnection;
 import org.neo4j.driver.internal.async.pool.ConnectionPoolImpl;
+import org.neo4j.driver.BlobCacheMetrics;
+import org.neo4j.driver.FlushMetrics;
+import org.neo4j.driver.MessageEncodingMetrics;
+import org.neo4j.driver.RecordBufferMetrics;
 import org.neo4j.driver.Config;
 
 public interface MetricsListener
@@ -95,5 +99,13 @@ public interface MetricsListener
 
     ListenerEvent createListenerEvent();
 
+    void putBlobCacheMetrics( BlobCacheMetrics blobCacheMetrics );
+
+    void putFlushMetrics( FlushMetrics flushMetrics );
+
+    void putMessageEncodingMetrics( MessageEncodingMetrics messageEncodingMetrics );
+
+    void putRecordBufferMetrics( RecordBufferMetrics recordBufferMetrics );
+
     void putPoolMetrics( BoltServerAddress address, ConnectionPoolImpl connectionPool );
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import org.neo4j.driver.BlobCacheMetrics;
+
+import static java.lang.String.format;
+
+public class SnapshotBlobCacheMetrics implements BlobCacheMetrics
+{
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long memoryBytes;
+    private final long diskBytes;
+
+    public SnapshotBlobCacheMetrics( BlobCacheMetrics other )
+    {
+        hits = other.hits();
+        misses = other.misses();
+        evictions = other.evictions();
+        memoryBytes = other.memoryBytes();
+        diskBytes = other.diskBytes();
+    }
+
+    @Override
+    public long hits()
+    {
+        return hits;
+    }
+
+    @Override
+    public long misses()
+    {
+        return misses;
+    }
+
+    @Override
+    public long evictions()
+    {
+        return evictions;
+    }
+
+    @Override
+    public long memoryBytes()
+    {
+        return memoryBytes;
+    }
+
+    @Override
+    public long diskBytes()
+    {
+        return diskBytes;
+    }
+
+    @Override
+    public BlobCacheMetrics snapshot()
+    {
+        return this;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[hits=%s, misses=%s, evictions=%s, memoryBytes=%s, diskBytes=%s]",
+                hits(), misses(), evictions(), memoryBytes(), diskBytes() );
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import org.neo4j.driver.FlushMetrics;
+
+import static java.lang.String.format;
+
+public class SnapshotFlushMetrics implements FlushMetrics
+{
+    private final long requestedFlushes;
+    private final long flushes;
+    private final long flushedBytes;
+
+    public SnapshotFlushMetrics( FlushMetrics other )
+    {
+        // flushes are read first, so that they never exceed requested flushes read afterwards
+        flushes = other.flushes();
+        flushedBytes = other.flushedBytes();
+        requestedFlushes = other.requestedFlushes();
+    }
+
+    @Override
+    public long requestedFlushes()
+    {
+        return requestedFlushes;
+    }
+
+    @Override
+    public long flushes()
+    {
+        return flushes;
+    }
+
+    @Override
+    public long savedFlushes()
+    {
+        return Math.max( 0, requestedFlushes - flushes );
+    }
+
+    @Override
+    public long flushedBytes()
+    {
+        return flushedBytes;
+    }
+
+    @Override
+    public double averageBytesPerFlush()
+    {
+        return flushes == 0 ? 0 : (double) flushedBytes / flushes;
+    }
+
+    @Override
+    public FlushMetrics snapshot()
+    {
+        return this;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[requestedFlushes=%s, flushes=%s, savedFlushes=%s, flushedBytes=%s]",
+                requestedFlushes(), flushes(), savedFlushes(), flushedBytes() );
+    }
+}
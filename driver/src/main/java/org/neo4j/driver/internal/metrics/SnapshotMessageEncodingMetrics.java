@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import org.neo4j.driver.MessageEncodingMetrics;
+
+import static java.lang.String.format;
+
+public class SnapshotMessageEncodingMetrics implements MessageEncodingMetrics
+{
+    private final long encodedMessages;
+    private final long allocations;
+    private final long reallocations;
+
+    public SnapshotMessageEncodingMetrics( MessageEncodingMetrics other )
+    {
+        encodedMessages = other.encodedMessages();
+        allocations = other.allocations();
+        reallocations = other.reallocations();
+    }
+
+    @Override
+    public long encodedMessages()
+    {
+        return encodedMessages;
+    }
+
+    @Override
+    public long allocations()
+    {
+        return allocations;
+    }
+
+    @Override
+    public long reallocations()
+    {
+        return reallocations;
+    }
+
+    @Override
+    public MessageEncodingMetrics snapshot()
+    {
+        return this;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[encodedMessages=%s, allocations=%s, reallocations=%s]", encodedMessages(), allocations(), reallocations() );
+    }
+}
@@ -21,12 +21,20 @@ package org.neo4j.driver.internal.metrics;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.neo4j.driver.BlobCacheMetrics;
 import org.neo4j.driver.ConnectionPoolMetrics;
+import org.neo4j.driver.FlushMetrics;
+import org.neo4j.driver.MessageEncodingMetrics;
+import org.neo4j.driver.RecordBufferMetrics;
 import org.neo4j.driver.Metrics;
 
 public class SnapshotMetrics implements Metrics
 {
     private final Map<String,ConnectionPoolMetrics> poolMetrics;
+    private final BlobCacheMetrics blobCacheMetrics;
+    private final FlushMetrics flushMetrics;
+    private final MessageEncodingMetrics messageEncodingMetrics;
+    private final RecordBufferMetrics recordBufferMetrics;
 
     public SnapshotMetrics( Metrics metrics )
     {
@@ -37,6 +45,18 @@ public class SnapshotMetrics implements Metrics
         {
             poolMetrics.put( id, other.get( id ).snapshot() );
         }
+
+        BlobCacheMetrics otherBlobCacheMetrics = metrics.blobCacheMetrics();
+        blobCacheMetrics = otherBlobCacheMetrics == null ? null : otherBlobCacheMetrics.snapshot();
+
+        FlushMetrics otherFlushMetrics = metrics.flushMetrics();
+        flushMetrics = otherFlushMetrics == null ? null : otherFlushMetrics.snapshot();
+
+        MessageEncodingMetrics otherMessageEncodingMetrics = metrics.messageEncodingMetrics();
+        messageEncodingMetrics = otherMessageEncodingMetrics == null ? null : otherMessageEncodingMetrics.snapshot();
+
+        RecordBufferMetrics otherRecordBufferMetrics = metrics.recordBufferMetrics();
+        recordBufferMetrics = otherRecordBufferMetrics == null ? null : otherRecordBufferMetrics.snapshot();
     }
 
     @Override
@@ -45,6 +65,30 @@ public class SnapshotMetrics implements Metrics
         return poolMetrics;
     }
 
+    @Override
+    public BlobCacheMetrics blobCacheMetrics()
+    {
+        return blobCacheMetrics;
+    }
+
+    @Override
+    public FlushMetrics flushMetrics()
+    {
+        return flushMetrics;
+    }
+
+    @Override
+    public MessageEncodingMetrics messageEncodingMetrics()
+    {
+        return messageEncodingMetrics;
+    }
+
+    @Override
+    public RecordBufferMetrics recordBufferMetrics()
+    {
+        return recordBufferMetrics;
+    }
+
     @Override
     public Metrics snapshot()
     {
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.metrics;
+
+import org.neo4j.driver.RecordBufferMetrics;
+
+import static java.lang.String.format;
+
+public class SnapshotRecordBufferMetrics implements RecordBufferMetrics
+{
+    private final long bufferedBytes;
+    private final long peakBufferedBytes;
+    private final long pausedReads;
+
+    public SnapshotRecordBufferMetrics( RecordBufferMetrics other )
+    {
+        bufferedBytes = other.bufferedBytes();
+        peakBufferedBytes = other.peakBufferedBytes();
+        pausedReads = other.pausedReads();
+    }
+
+    @Override
+    public long bufferedBytes()
+    {
+        return bufferedBytes;
+    }
+
+    @Override
+    public long peakBufferedBytes()
+    {
+        return peakBufferedBytes;
+    }
+
+    @Override
+    public long pausedReads()
+    {
+        return pausedReads;
+    }
+
+    @Override
+    public RecordBufferMetrics snapshot()
+    {
+        return this;
+    }
+
+    @Override
+    public String toString()
+    {
+        return format( "[bufferedBytes=%s, peakBufferedBytes=%s, pausedReads=%s]", bufferedBytes(), peakBufferedBytes(), pausedReads() );
+    }
+}
@@ -19,6 +19,7 @@
 package org.neo4j.driver.internal.packstream;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This is what {@link PackStream} uses to ingest data, implement this on top of any data source of your choice to
@@ -44,6 +45,17 @@ public interface PackInput
     /** Consume a specified number of bytes */
     void readBytes( byte[] into, int offset, int toRead ) throws IOException;
 
+    /**
+     * Consume a specified number of bytes and decode them as a UTF-8 string. Inputs backed by a buffer can override this to
+     * decode straight from the buffer.
+     */
+    default String readUtf8( int size ) throws IOException
+    {
+        byte[] bytes = new byte[size];
+        readBytes( bytes, 0, size );
+        return new String( bytes, StandardCharsets.UTF_8 );
+    }
+
     /** Get the next byte without forwarding the internal pointer */
     byte peekByte() throws IOException;
 }
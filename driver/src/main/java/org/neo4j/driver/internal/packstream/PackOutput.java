@@ -31,6 +31,15 @@ public interface PackOutput
     /** Produce binary data */
     PackOutput writeBytes( byte[] data ) throws IOException;
 
+    /**
+     * Produce binary data of a whole value. The array is never modified afterwards, so outputs may reference it in the written message
+     * instead of copying it. Parts of a value written one by one go through {@link #writeBytes(byte[])}.
+     */
+    default PackOutput writeBytesGathering( byte[] data ) throws IOException
+    {
+        return writeBytes( data );
+    }
+
     /** Produce a 4-byte signed integer */
     PackOutput writeShort( short value ) throws IOException;
 
@@ -25,7 +25,6 @@ import java.util.Map;
 
 import static java.lang.Integer.toHexString;
 import static java.lang.String.format;
-import static java.util.Collections.singletonList;
 
 /**
  * PackStream is a messaging serialisation format heavily inspired by MessagePack.
@@ -159,9 +158,14 @@ public class PackStream
             this.out = out;
         }
 
+        public PackOutput output()
+        {
+            return out;
+        }
+
         private void packRaw( byte[] data ) throws IOException
         {
-            out.writeBytes( data );
+            out.writeBytesGathering( data );
         }
 
         public void packNull() throws IOException
@@ -229,6 +233,111 @@ public class PackStream
             }
         }
 
+        /**
+         * Packs a list of booleans, without boxing its elements.
+         */
+        public void pack( boolean[] values ) throws IOException
+        {
+            if ( values == null ) { packNull(); }
+            else
+            {
+                packListHeader( values.length );
+                for ( boolean value : values )
+                {
+                    pack( value );
+                }
+            }
+        }
+
+        /**
+         * Packs a list of integers, every element in its narrowest encoding.
+         */
+        public void pack( short[] values ) throws IOException
+        {
+            if ( values == null ) { packNull(); }
+            else
+            {
+                packListHeader( values.length );
+                for ( short value : values )
+                {
+                    pack( value );
+                }
+            }
+        }
+
+        /**
+         * Packs a list of integers, every element in its narrowest encoding.
+         */
+        public void pack( int[] values ) throws IOException
+        {
+            if ( values == null ) { packNull(); }
+            else
+            {
+                packListHeader( values.length );
+                for ( int value : values )
+                {
+                    pack( value );
+                }
+            }
+        }
+
+        /**
+         * Packs a list of integers, every element in its narrowest encoding.
+         */
+        public void pack( long[] values ) throws IOException
+        {
+            if ( values == null ) { packNull(); }
+            else
+            {
+                packListHeader( values.length );
+                for ( long value : values )
+                {
+                    pack( value );
+                }
+            }
+        }
+
+        /**
+         * Packs a list of floats. PackStream only knows 64-bit floats, so every element is widened.
+         */
+        public void pack( float[] values ) throws IOException
+        {
+            if ( values == null ) { packNull(); }
+            else
+            {
+                packListHeader( values.length );
+                for ( float value : values )
+                {
+                    pack( value );
+                }
+            }
+        }
+
+        /**
+         * Packs a list of floats, without boxing its elements.
+         */
+        public void pack( double[] values ) throws IOException
+        {
+            if ( values == null ) { packNull(); }
+            else
+            {
+                packListHeader( values.length );
+                for ( double value : values )
+                {
+                    pack( value );
+                }
+            }
+        }
+
+        private void pack( String[] values ) throws IOException
+        {
+            packListHeader( values.length );
+            for ( String value : values )
+            {
+                pack( value );
+            }
+        }
+
         private void pack( List<?> values ) throws IOException
         {
             if ( values == null ) { packNull(); }
@@ -260,23 +369,23 @@ public class PackStream
         {
             if ( value == null ) { packNull(); }
             else if ( value instanceof Boolean ) { pack( (boolean) value ); }
-            else if ( value instanceof boolean[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof boolean[] ) { pack( (boolean[]) value ); }
             else if ( value instanceof Byte ) { pack( (byte) value ); }
             else if ( value instanceof byte[] ) { pack( (byte[]) value ); }
             else if ( value instanceof Short ) { pack( (short) value ); }
-            else if ( value instanceof short[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof short[] ) { pack( (short[]) value ); }
             else if ( value instanceof Integer ) { pack( (int) value ); }
-            else if ( value instanceof int[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof int[] ) { pack( (int[]) value ); }
             else if ( value instanceof Long ) { pack( (long) value ); }
-            else if ( value instanceof long[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof long[] ) { pack( (long[]) value ); }
             else if ( value instanceof Float ) { pack( (float) value ); }
-            else if ( value instanceof float[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof float[] ) { pack( (float[]) value ); }
             else if ( value instanceof Double ) { pack( (double) value ); }
-            else if ( value instanceof double[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof double[] ) { pack( (double[]) value ); }
             else if ( value instanceof Character ) { pack( Character.toString( (char) value ) ); }
             else if ( value instanceof char[] ) { pack( new String( (char[]) value ) ); }
             else if ( value instanceof String ) { pack( (String) value ); }
-            else if ( value instanceof String[] ) { pack( singletonList( value ) ); }
+            else if ( value instanceof String[] ) { pack( (String[]) value ); }
             else if ( value instanceof List ) { pack( (List) value ); }
             else if ( value instanceof Map ) { pack( (Map) value ); }
             else { throw new UnPackable( format( "Cannot pack object %s", value ) );}
@@ -407,6 +516,11 @@ public class PackStream
             this.in = in;
         }
 
+        public PackInput input()
+        {
+            return in;
+        }
+
         public long unpackStructHeader() throws IOException
         {
             final byte markerByte = in.readByte();
@@ -484,18 +598,23 @@ public class PackStream
         }
 
         public byte[] unpackBytes() throws IOException
+        {
+            return unpackRawBytes( unpackBytesHeader() );
+        }
+
+        public int unpackBytesHeader() throws IOException
         {
             final byte markerByte = in.readByte();
             switch(markerByte)
             {
-            case BYTES_8: return unpackRawBytes( unpackUINT8() );
-            case BYTES_16: return unpackRawBytes( unpackUINT16() );
+            case BYTES_8: return unpackUINT8();
+            case BYTES_16: return unpackUINT16();
             case BYTES_32:
             {
                 long size = unpackUINT32();
                 if ( size <= Integer.MAX_VALUE )
                 {
-                    return unpackRawBytes( (int) size );
+                    return (int) size;
                 }
                 else
                 {
@@ -514,7 +633,8 @@ public class PackStream
                 return EMPTY_STRING;
             }
 
-            return new String(unpackUtf8(markerByte), UTF_8);
+            int size = unpackStringSize( markerByte );
+            return size == 0 ? EMPTY_STRING : in.readUtf8( size );
         }
 
         /**
@@ -534,22 +654,22 @@ public class PackStream
             return null;
         }
 
-        private byte[] unpackUtf8(byte markerByte) throws IOException
+        private int unpackStringSize( byte markerByte ) throws IOException
         {
             final byte markerHighNibble = (byte) (markerByte & 0xF0);
             final byte markerLowNibble = (byte) (markerByte & 0x0F);
 
-            if ( markerHighNibble == TINY_STRING ) { return unpackRawBytes( markerLowNibble ); }
+            if ( markerHighNibble == TINY_STRING ) { return markerLowNibble; }
             switch(markerByte)
             {
-                case STRING_8: return unpackRawBytes( unpackUINT8() );
-                case STRING_16: return unpackRawBytes( unpackUINT16() );
+                case STRING_8: return unpackUINT8();
+                case STRING_16: return unpackUINT16();
                 case STRING_32:
                 {
                     long size = unpackUINT32();
                     if ( size <= Integer.MAX_VALUE )
                     {
-                        return unpackRawBytes( (int) size );
+                        return (int) size;
                     }
                     else
                     {
@@ -21,7 +21,9 @@ package org.neo4j.driver.internal.spi;
 import java.util.concurrent.CompletionStage;
 
 import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.internal.BlobTransferHints;
 import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.handlers.RecordBufferBudget;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.util.ServerVersion;
@@ -66,5 +68,18 @@ public interface Connection
         throw new UnsupportedOperationException( format( "%s does not support database name.", getClass() ) );
     }
 
+    default BlobTransferHints blobTransferHints()
+    {
+        return BlobTransferHints.EMPTY;
+    }
+
+    /**
+     * @return the budget of bytes of records buffered by results of this connection.
+     */
+    default RecordBufferBudget recordBufferBudget()
+    {
+        return RecordBufferBudget.DEFAULT;
+    }
+
     void flush();
 }
@@ -21,6 +21,7 @@ package org.neo4j.driver.internal.spi;
 import java.util.Map;
 
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
+import org.neo4j.driver.internal.value.ByteBufValue;
 import org.neo4j.driver.Value;
 
 public interface ResponseHandler
@@ -31,6 +32,17 @@ public interface ResponseHandler
 
     void onRecord( Value[] fields );
 
+    /**
+     * Handle a record together with its size. Handlers buffering records can use the size to limit memory taken by buffered records.
+     *
+     * @param fields the fields of the record.
+     * @param size the size of the RECORD message as received, in bytes.
+     */
+    default void onRecord( Value[] fields, int size )
+    {
+        onRecord( fields );
+    }
+
     /**
      * Tells whether this response handler is able to manage auto-read of the underlying connection using {@link Connection#enableAutoRead()} and
      * {@link Connection#disableAutoRead()}.
@@ -53,4 +65,32 @@ public interface ResponseHandler
     {
 
     }
+
+    /**
+     * Tells whether records of this response handler are not needed anymore, for example because the result has been consumed.
+     * RECORD messages for such handler are dropped without being decoded.
+     */
+    default boolean discardsRecords()
+    {
+        return false;
+    }
+
+    /**
+     * Tells whether this response handler accepts byte array fields of records as {@link ByteBufValue}s, which reference
+     * retained slices of the inbound network buffer instead of copies. Such handlers are responsible for releasing the
+     * buffers.
+     */
+    default boolean acceptsRetainedBytes()
+    {
+        return false;
+    }
+
+    /**
+     * Called in the event loop when this handler is queued to receive the response to its message, right before the message is written.
+     *
+     * @param pendingResponses number of responses to earlier messages that are still expected on the connection.
+     */
+    default void onEnqueued( int pendingResponses )
+    {
+    }
 }
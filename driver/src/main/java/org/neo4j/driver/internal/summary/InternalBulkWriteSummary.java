@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.summary;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.summary.BulkWriteSummary;
+
+public class InternalBulkWriteSummary implements BulkWriteSummary
+{
+    private final long rows;
+    private final long batches;
+    private final long transactions;
+    private final long elapsedMillis;
+
+    public InternalBulkWriteSummary( long rows, long batches, long transactions, long elapsedMillis )
+    {
+        this.rows = rows;
+        this.batches = batches;
+        this.transactions = transactions;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Override
+    public long rows()
+    {
+        return rows;
+    }
+
+    @Override
+    public long batches()
+    {
+        return batches;
+    }
+
+    @Override
+    public long transactions()
+    {
+        return transactions;
+    }
+
+    @Override
+    public long elapsedTime( TimeUnit unit )
+    {
+        return unit.convert( elapsedMillis, TimeUnit.MILLISECONDS );
+    }
+
+    @Override
+    public double rowsPerSecond()
+    {
+        // less than a millisecond is rounded up, so that the throughput is finite
+        return rows * 1000.0 / Math.max( 1, elapsedMillis );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "BulkWriteSummary{" +
+               "rows=" + rows +
+               ", batches=" + batches +
+               ", transactions=" + transactions +
+               ", elapsedMillis=" + elapsedMillis +
+               '}';
+    }
+}
@@ -92,8 +92,17 @@ public final class ErrorUtil
 
     public static void rethrowAsyncException( ExecutionException e )
     {
-        Throwable error = e.getCause();
+        rethrowAsyncException( e.getCause() );
+    }
 
+    /**
+     * Rethrows the given error of an async operation in the current thread. Stacktrace of the error is replaced with the stacktrace of the
+     * current thread, the original stacktrace is attached as a suppressed exception.
+     *
+     * @param error the error to rethrow.
+     */
+    public static void rethrowAsyncException( Throwable error )
+    {
         InternalExceptionCause internalCause = new InternalExceptionCause( error.getStackTrace() );
         error.addSuppressed( internalCause );
 
@@ -204,7 +204,12 @@ public final class Futures
         }
     }
 
-    private static void safeRun( Runnable runnable )
+    /**
+     * Runs the given runnable and ignores errors it throws. Used to run interrupt handlers of blocking operations.
+     *
+     * @param runnable the runnable to run.
+     */
+    public static void safeRun( Runnable runnable )
     {
         try
         {
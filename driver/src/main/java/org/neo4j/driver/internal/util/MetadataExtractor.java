@@ -69,7 +69,8 @@ public class MetadataExtractor
                     keys.add( value.asString() );
                 }
 
-                return keys;
+                // shared by all records of the result, makes lookups of fields by key constant time
+                return new StatementKeys( keys );
             }
         }
         return emptyList();
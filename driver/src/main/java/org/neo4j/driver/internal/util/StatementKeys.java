@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list of keys of a result. It is created once per result, when keys arrive with the RUN response, and shared by all records of the
+ * result. Position of a key is looked up in a hash table instead of comparing the key with every element of the list.
+ */
+public final class StatementKeys extends AbstractList<String> implements RandomAccess
+{
+    private final String[] keys;
+    private final Map<String,Integer> keyIndex;
+
+    public StatementKeys( List<String> keys )
+    {
+        this.keys = keys.toArray( new String[0] );
+        this.keyIndex = Iterables.newHashMapWithSize( this.keys.length );
+        for ( int i = 0; i < this.keys.length; i++ )
+        {
+            // same as a plain list, first occurrence wins
+            keyIndex.putIfAbsent( this.keys[i], i );
+        }
+    }
+
+    @Override
+    public String get( int index )
+    {
+        return keys[index];
+    }
+
+    @Override
+    public int size()
+    {
+        return keys.length;
+    }
+
+    @Override
+    public int indexOf( Object key )
+    {
+        Integer index = keyIndex.get( key );
+        return index == null ? -1 : index;
+    }
+
+    @Override
+    public boolean contains( Object key )
+    {
+        return keyIndex.containsKey( key );
+    }
+}
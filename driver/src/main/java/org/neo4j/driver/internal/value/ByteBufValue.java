@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.types.Type;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Byte array value that references a retained slice of the inbound network buffer instead of a copy.
+ * It is only handed to response handlers that accept retained bytes and those are responsible for releasing the buffer.
+ *
+ * @see org.neo4j.driver.internal.spi.ResponseHandler#acceptsRetainedBytes()
+ */
+public class ByteBufValue extends ValueAdapter
+{
+    private final ByteBuf buf;
+
+    public ByteBufValue( ByteBuf buf )
+    {
+        this.buf = requireNonNull( buf );
+    }
+
+    /**
+     * @return the retained buffer, ownership is transferred to the caller.
+     */
+    public ByteBuf buf()
+    {
+        return buf;
+    }
+
+    @Override
+    public boolean isEmpty()
+    {
+        return !buf.isReadable();
+    }
+
+    @Override
+    public int size()
+    {
+        return buf.readableBytes();
+    }
+
+    @Override
+    public byte[] asObject()
+    {
+        return asByteArray();
+    }
+
+    @Override
+    public byte[] asByteArray()
+    {
+        return ByteBufUtil.getBytes( buf );
+    }
+
+    @Override
+    public Type type()
+    {
+        return InternalTypeSystem.TYPE_SYSTEM.BYTES();
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( this == o )
+        {
+            return true;
+        }
+        if ( o == null || getClass() != o.getClass() )
+        {
+            return false;
+        }
+
+        ByteBufValue that = (ByteBufValue) o;
+        return ByteBufUtil.equals( buf, that.buf );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return ByteBufUtil.hashCode( buf );
+    }
+
+    @Override
+    public String toString()
+    {
+        return "#" + ByteBufUtil.hexDump( buf );
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.value.LossyCoercion;
+
+/**
+ * List of floats backed by a primitive array. Elements are only turned into {@link FloatValue}s when they are accessed as values.
+ */
+public class DoubleListValue extends ListValue
+{
+    private final double[] values;
+
+    public DoubleListValue( double... values )
+    {
+        if ( values == null )
+        {
+            throw new IllegalArgumentException( "Cannot construct DoubleListValue from null" );
+        }
+        this.values = values;
+    }
+
+    /**
+     * @return the backing array, it must not be modified.
+     */
+    public double[] doubleValues()
+    {
+        return values;
+    }
+
+    @Override
+    public int size()
+    {
+        return values.length;
+    }
+
+    @Override
+    public Value get( int index )
+    {
+        return index >= 0 && index < values.length ? new FloatValue( values[index] ) : Values.NULL;
+    }
+
+    @Override
+    public <T> List<T> asList( Function<Value,T> mapFunction )
+    {
+        Value[] elements = new Value[values.length];
+        for ( int i = 0; i < values.length; i++ )
+        {
+            elements[i] = new FloatValue( values[i] );
+        }
+        return new ListValue( elements ).asList( mapFunction );
+    }
+
+    @Override
+    public long[] asLongArray()
+    {
+        long[] result = new long[values.length];
+        for ( int i = 0; i < values.length; i++ )
+        {
+            long longVal = (long) values[i];
+            if ( (double) longVal != values[i] )
+            {
+                throw new LossyCoercion( type().name(), "Java long" );
+            }
+            result[i] = longVal;
+        }
+        return result;
+    }
+
+    @Override
+    public double[] asDoubleArray()
+    {
+        return values.clone();
+    }
+
+    @Override
+    public String toString()
+    {
+        return Arrays.toString( values );
+    }
+
+    @Override
+    public boolean equals( Object o )
+    {
+        if ( o instanceof DoubleListValue )
+        {
+            return Arrays.equals( values, ((DoubleListValue) o).values );
+        }
+        return super.equals( o );
+    }
+
+    @Override
+    public int hashCode()
+    {
+        // same as the hash code of a list of FloatValues
+        return Arrays.hashCode( values );
+    }
+}
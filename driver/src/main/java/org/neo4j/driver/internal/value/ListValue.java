@@ -47,7 +47,7 @@ public class ListValue extends ValueAdapter
     @Override
     public boolean isEmpty()
     {
-        return values.length == 0;
+        return size() == 0;
     }
 
     @Override
@@ -59,7 +59,7 @@ public class ListValue extends ValueAdapter
     @Override
     public List<Object> asList()
     {
-        return Extract.list( values, ofObject() );
+        return asList( ofObject() );
     }
 
     @Override
@@ -95,13 +95,13 @@ public class ListValue extends ValueAdapter
                     @Override
                     public boolean hasNext()
                     {
-                        return cursor < values.length;
+                        return cursor < size();
                     }
 
                     @Override
                     public T next()
                     {
-                        return mapFunction.apply( values[cursor++] );
+                        return mapFunction.apply( get( cursor++ ) );
                     }
 
                     @Override
@@ -113,6 +113,28 @@ public class ListValue extends ValueAdapter
         };
     }
 
+    @Override
+    public long[] asLongArray()
+    {
+        long[] result = new long[values.length];
+        for ( int i = 0; i < values.length; i++ )
+        {
+            result[i] = values[i].asLong();
+        }
+        return result;
+    }
+
+    @Override
+    public double[] asDoubleArray()
+    {
+        double[] result = new double[values.length];
+        for ( int i = 0; i < values.length; i++ )
+        {
+            result[i] = values[i].asDouble();
+        }
+        return result;
+    }
+
     @Override
     public Type type()
     {
@@ -132,13 +154,26 @@ public class ListValue extends ValueAdapter
         {
             return true;
         }
-        if ( o == null || getClass() != o.getClass() )
+        if ( !(o instanceof ListValue) )
         {
             return false;
         }
 
+        // lists backed by primitive arrays are equal to lists of the same values
         ListValue otherValues = (ListValue) o;
-        return Arrays.equals( values, otherValues.values );
+        int size = size();
+        if ( size != otherValues.size() )
+        {
+            return false;
+        }
+        for ( int i = 0; i < size; i++ )
+        {
+            if ( !get( i ).equals( otherValues.get( i ) ) )
+            {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
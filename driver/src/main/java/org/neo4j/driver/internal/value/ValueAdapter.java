@@ -177,6 +177,18 @@ public abstract class ValueAdapter extends InternalMapAccessorWithDefaultValue i
         throw new Uncoercible( type().name(), "Java List" );
     }
 
+    @Override
+    public long[] asLongArray()
+    {
+        throw new Uncoercible( type().name(), "Java long array" );
+    }
+
+    @Override
+    public double[] asDoubleArray()
+    {
+        throw new Uncoercible( type().name(), "Java double array" );
+    }
+
     @Override
     public Map<String,Object> asMap()
     {
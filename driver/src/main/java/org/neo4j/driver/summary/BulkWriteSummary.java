@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.summary;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.BulkWriteConfig;
+
+/**
+ * Outcome of a bulk write, see {@link BulkWriteConfig}.
+ */
+public interface BulkWriteSummary
+{
+    /**
+     * @return the number of rows written.
+     */
+    long rows();
+
+    /**
+     * @return the number of batches rows were written in.
+     */
+    long batches();
+
+    /**
+     * @return the number of committed transactions.
+     */
+    long transactions();
+
+    /**
+     * @param unit the unit to return the time in.
+     * @return time it took to write all rows, from the first batch until the last commit.
+     */
+    long elapsedTime( TimeUnit unit );
+
+    /**
+     * @return average throughput of the bulk write.
+     */
+    double rowsPerSecond();
+}
@@ -1,79 +1,179 @@
 package org.neo4j.driver.internal
 
-import java.util.concurrent.CompletableFuture
+import java.util
 
 import org.neo4j.blob.BlobMessageSignature
 import org.neo4j.blob.util.Logging
 import org.neo4j.driver.Value
+import org.neo4j.driver.internal.async.connection.EventLoopGroupFactory
 import org.neo4j.driver.internal.messaging.{Message, MessageEncoder, ValuePacker}
-import org.neo4j.driver.internal.spi.ResponseHandler
+import org.neo4j.driver.internal.spi.{Connection, ResponseHandler}
 import org.neo4j.driver.internal.util.Preconditions._
-import org.neo4j.driver.internal.value.BlobChunk
-
-import scala.collection.mutable.ArrayBuffer
+import io.netty.buffer.{ByteBuf, Unpooled}
+import org.neo4j.driver.internal.value.{BlobChunk, ByteBufValue, FailedToReadStreamException}
+import org.neo4j.driver.Values.value
 
 /**
   * Created by bluejoe on 2019/4/18.
   */
 
-class GetBlobMessage(val blodId: String) extends Message {
+/**
+  * Requests chunks of a remote blob. When `length` is not negative, only the range of `length` bytes starting at
+  * `offset` is requested and the last chunk of the range is marked as the tail chunk.
+  */
+class GetBlobMessage(val blodId: String, val chunkSize: Int = BlobSettings.NOT_CONFIGURED,
+                     val offset: Long = 0, val length: Long = -1) extends Message {
   def signature: Byte = {
     return BlobMessageSignature.SIGNATURE_GET_BLOB;
   }
 
+  def isRanged: Boolean = length >= 0;
+
   override def toString: String = {
-    return "GetBlob"
+    if (isRanged) s"GetBlob [$offset, ${offset + length})" else "GetBlob"
   }
 }
 
 class GetBlobMessageEncoder extends MessageEncoder {
   override def encode(message: Message, packer: ValuePacker): Unit = {
     checkArgument(message, classOf[GetBlobMessage])
-    packer.packStructHeader(1, BlobMessageSignature.SIGNATURE_GET_BLOB)
-    packer.pack((message.asInstanceOf[GetBlobMessage]).blodId)
+    val getBlob = message.asInstanceOf[GetBlobMessage];
+    //chunk size is only sent when configured, database decides on it otherwise
+    if (getBlob.isRanged) {
+      packer.packStructHeader(4, BlobMessageSignature.SIGNATURE_GET_BLOB)
+      packer.pack(getBlob.blodId)
+      packer.pack(value(getBlob.chunkSize))
+      packer.pack(value(getBlob.offset))
+      packer.pack(value(getBlob.length))
+    }
+    else if (getBlob.chunkSize > 0) {
+      packer.packStructHeader(2, BlobMessageSignature.SIGNATURE_GET_BLOB)
+      packer.pack(getBlob.blodId)
+      packer.pack(value(getBlob.chunkSize))
+    }
+    else {
+      packer.packStructHeader(1, BlobMessageSignature.SIGNATURE_GET_BLOB)
+      packer.pack(getBlob.blodId)
+    }
   }
 }
 
-class GetBlobMessageHandler(report: CompletableFuture[(BlobChunk, ArrayBuffer[CompletableFuture[BlobChunk]])], exception: CompletableFuture[Throwable])
+/**
+  * Buffers at most `windowSize` chunks of a remote blob. Auto-read of the connection is disabled when the window is full
+  * and enabled again when the reader consumed half of it, the same way records are buffered by
+  * [[org.neo4j.driver.internal.handlers.AbstractPullAllResponseHandler]].
+  *
+  * Content of chunks is received as retained slices of network buffers, see [[ResponseHandler#acceptsRetainedBytes]].
+  * Buffered chunks are released when the blob is discarded.
+  */
+class GetBlobMessageHandler(connection: Connection, windowSize: Int)
   extends ResponseHandler with Logging {
-  val _chunks = ArrayBuffer[CompletableFuture[BlobChunk]]();
-  var _completedIndex = -1;
+  private val _chunks = new util.ArrayDeque[BlobChunk]();
+  private val _lowWatermark = windowSize / 2;
+  private var _autoReadManagementEnabled = true;
+  private var _finished = false;
+  private var _discarded = false;
+  private var _failure: Throwable = null;
+
+  override def canManageAutoRead: Boolean = true;
 
-  override def onSuccess(metadata: java.util.Map[String, Value]): Unit = {
-    exception.complete(null);
+  override def acceptsRetainedBytes: Boolean = true;
+
+  override def disableAutoReadManagement(): Unit = synchronized {
+    _autoReadManagementEnabled = false;
   }
 
-  override def onRecord(fields: Array[Value]): Unit = {
-    val chunk = new BlobChunk(
-      fields(0).asInt(),
-      fields(1).asInt(),
-      fields(2).asInt(),
-      fields(3).asByteArray(),
-      fields(4).asBoolean(),
-      fields(5).asInt());
-
-    _completedIndex += 1;
-    if (_chunks.size < _completedIndex + 5) {
-      _chunks ++= (0 to 9).map(_ => new CompletableFuture[BlobChunk]());
+  override def onSuccess(metadata: java.util.Map[String, Value]): Unit = synchronized {
+    _finished = true;
+    notifyAll();
+  }
+
+  override def onRecord(fields: Array[Value]): Unit = synchronized {
+    val content = chunkContent(fields(3));
+    if (_discarded) {
+      content.release();
+    }
+    else {
+      val chunk = new BlobChunk(
+        fields(0).asInt(),
+        fields(1).asInt(),
+        fields(2).asInt(),
+        content,
+        fields(4).asBoolean(),
+        fields(5).asInt());
+
+      _chunks.add(chunk);
+      if (_chunks.size() >= windowSize) {
+        //window is full, stop reading from network until the reader catches up
+        disableAutoRead();
+      }
+      notifyAll();
     }
+  }
 
-    _chunks(_completedIndex).complete(chunk);
+  override def onFailure(error: Throwable): Unit = synchronized {
+    _failure = error;
+    _finished = true;
+    //reader gets the failure instead of buffered chunks
+    releaseChunks();
+    notifyAll();
+  }
+
+  /**
+    * Blocks until the next chunk arrives. Chunks are received by an event loop, so an event loop thread can't wait for them.
+    *
+    * @return the next chunk or null when all chunks were received
+    * @throws IllegalStateException when called by an event loop thread
+    */
+  def nextChunk(): BlobChunk = synchronized {
+    EventLoopGroupFactory.assertNotInEventLoopThread();
+    while (_chunks.isEmpty && !_finished) {
+      wait();
+    }
+
+    if (_failure != null) {
+      throw new FailedToReadStreamException(_failure);
+    }
+
+    //consumed chunk is not referenced anymore
+    val chunk = _chunks.poll();
+    if (_chunks.size() <= _lowWatermark) {
+      enableAutoRead();
+    }
+    chunk
+  }
+
+  /**
+    * Drops buffered and remaining chunks, used when the reader is not interested in the rest of the blob.
+    */
+  def discard(): Unit = synchronized {
+    _discarded = true;
+    releaseChunks();
+    enableAutoRead();
+  }
 
-    //first!
-    if (chunk.chunkId == 0) {
-      report.complete(chunk, _chunks);
+  private def releaseChunks(): Unit = {
+    var chunk = _chunks.poll();
+    while (chunk != null) {
+      chunk.release();
+      chunk = _chunks.poll();
     }
   }
 
-  override def onFailure(error: Throwable): Unit = {
-    exception.complete(error);
+  private def chunkContent(field: Value): ByteBuf = field match {
+    case retained: ByteBufValue => retained.buf();
+    case _ => Unpooled.wrappedBuffer(field.asByteArray());
+  }
 
-    if (!report.isDone)
-      report.complete(null);
+  private def enableAutoRead(): Unit = {
+    if (_autoReadManagementEnabled) {
+      connection.enableAutoRead();
+    }
+  }
 
-    _chunks.foreach { x =>
-      if (!x.isDone)
-        x.complete(null)
+  private def disableAutoRead(): Unit = {
+    if (_autoReadManagementEnabled) {
+      connection.disableAutoRead();
     }
   }
-}
\ No newline at end of file
+}
@@ -1,22 +1,26 @@
 package org.neo4j.driver.internal.util
 
-import java.util
+import java.io.{IOException, InputStream}
+import java.util.concurrent.{Executor, LinkedBlockingQueue, TimeUnit}
 
+import io.netty.buffer.{ByteBuf, ByteBufAllocator}
+import io.netty.channel.{Channel, ChannelHandlerContext}
+import io.netty.handler.stream.ChunkedInput
 import org.neo4j.blob._
 import org.neo4j.blob.impl.{BlobFactory}
-import org.neo4j.blob.util.ReflectUtils._
-import org.neo4j.blob.util._
 import org.neo4j.driver.Value
-import org.neo4j.driver.internal.spi.Connection
-import org.neo4j.driver.internal.value.{InlineBlob, InternalBlobValue, RemoteBlob}
+import org.neo4j.driver.internal.async.connection.ChannelAttributes
+import org.neo4j.driver.internal.async.outbound.ChunkAwareByteBufOutput
+import org.neo4j.driver.internal.messaging.ValueCodec
+import org.neo4j.driver.internal.packstream.{PackInput, PackOutput, PackStream}
+import org.neo4j.driver.internal.types.TypeConstructor
+import org.neo4j.driver.internal.value.{InlineBlob, InternalBlobValue, InternalValue, RemoteBlob}
 
 /**
  * Created by bluejoe on 2019/4/18.
  */
 object BoltClientBlobIO {
-
-  def unpackBlob(unpacker: org.neo4j.driver.internal.packstream.PackStream.Unpacker): Value = {
-    val in = unpacker._get("in").asInstanceOf[org.neo4j.driver.internal.packstream.PackInput];
+  def unpackBlob(in: PackInput, channel: Channel): Value = {
     val byte = in.peekByte();
 
     byte match {
@@ -32,12 +36,10 @@ object BoltClientBlobIO {
 
         val remoteHandle = new String(bs, "utf-8");
 
-        val conn = in._get("_inboundMessageHandler.messageDispatcher.handlers")
-          .asInstanceOf[util.LinkedList[_]].get(0)
-          .asInstanceOf[AnyRef]
-          ._get("connection.delegate").asInstanceOf[Connection];
-
-        new InternalBlobValue(new RemoteBlob(conn, remoteHandle, entry.id, entry.length, entry.mimeType));
+        //blob is read later over any connection towards the same server, the one delivering it might be released by then
+        new InternalBlobValue(new RemoteBlob(ChannelAttributes.connectionPool(channel),
+          ChannelAttributes.serverAddress(channel), remoteHandle, entry.id, entry.length, entry.mimeType,
+          ChannelAttributes.blobSettings(channel)));
 
       case BlobIO.BOLT_VALUE_TYPE_BLOB_INLINE =>
         in.readByte();
@@ -56,8 +58,7 @@ object BoltClientBlobIO {
   }
 
   //client side?
-  def packBlob(blob: Blob, packer: org.neo4j.driver.internal.packstream.PackStream.Packer): Unit = {
-    val out = packer._get("out").asInstanceOf[org.neo4j.driver.internal.packstream.PackOutput];
+  def packBlob(blob: Blob, out: PackOutput): Unit = {
     //create a temp blodid
     val tempBlobId = BlobId.EMPTY;
     out.writeByte(BlobIO.BOLT_VALUE_TYPE_BLOB_INLINE);
@@ -65,18 +66,193 @@ object BoltClientBlobIO {
     //write blob entry
     BlobIO._pack(BlobFactory.makeEntry(tempBlobId, blob)).foreach(out.writeLong(_));
 
-    //write inline
-    val nlen = blob.length
-    blob.offerStream(is => {
-      val bytes = new Array[Byte](10240)
-      var nread = 0
-      while (nread < nlen) {
-        val nbytes = is.read(bytes)
-        if (nbytes != -1) {
-          out.writeBytes(bytes.slice(0, nbytes))
-          nread += nbytes
+    out match {
+      //large blob: bytes are read lazily, window by window, while the message goes out
+      case chunked: ChunkAwareByteBufOutput if chunked.isStreamingEnabled && chunked.blobSettings.streamReaders != null &&
+        blob.length > chunked.blobSettings.streamingThreshold =>
+        chunked.writeStream(new BlobChunkedInput(blob, chunked.blobSettings.streamingWindowSize,
+          chunked.streamAllocator, chunked.streamResumer, chunked.blobSettings.streamReaders))
+
+      //write inline; a streaming output gathers the blob read at once (bounded by the streaming threshold)
+      //into the message as one part, any other output copies it window by window
+      case _ =>
+        val nlen = blob.length
+        val gather = out match {
+          case chunked: ChunkAwareByteBufOutput => chunked.isStreamingEnabled && nlen <= chunked.blobSettings.streamingThreshold
+          case _ => false
         }
+        blob.offerStream(is => {
+          val bytes = new Array[Byte](if (gather) nlen.toInt else Math.min(10240L, nlen).toInt)
+          var nread = 0L
+          while (nread < nlen) {
+            val offset = if (gather) nread.toInt else 0
+            val nbytes = is.read(bytes, offset, Math.min((bytes.length - offset).toLong, nlen - nread).toInt)
+            if (nbytes == -1) {
+              throw new IOException(s"blob stream ended after $nread bytes, but blob length is $nlen");
+            }
+            if (!gather) {
+              out.writeBytes(if (nbytes == bytes.length) bytes else bytes.slice(0, nbytes))
+            }
+            nread += nbytes
+          }
+          if (is.read() != -1) {
+            throw new IOException(s"blob stream is longer than blob length $nlen");
+          }
+          if (gather) {
+            out.writeBytesGathering(bytes)
+          }
+        })
+    }
+  }
+}
+
+/**
+ * Packs blobs as inline blobs and unpacks inline and remote blobs, registered with
+ * [[org.neo4j.driver.internal.messaging.v5.ValuePackerV5]] and [[org.neo4j.driver.internal.messaging.v5.ValueUnpackerV5]].
+ */
+class BlobValueCodec extends ValueCodec {
+  override def typeConstructor(): TypeConstructor = TypeConstructor.BLOB;
+
+  override def markers(): Array[Byte] =
+    Array(BlobIO.BOLT_VALUE_TYPE_BLOB_INLINE.toByte, BlobIO.BOLT_VALUE_TYPE_BLOB_REMOTE.toByte);
+
+  override def pack(value: InternalValue, packer: PackStream.Packer): Unit =
+    BoltClientBlobIO.packBlob(value.asBlob(), packer.output());
+
+  override def unpack(unpacker: PackStream.Unpacker, channel: Channel): Value =
+    BoltClientBlobIO.unpackBlob(unpacker.input(), channel);
+}
+
+/**
+ * Reads bytes of a blob as a sequence of windows. The blob stream is opened once, on the first read, and read on a
+ * separate thread, so that the event loop writing the message never blocks on it. At most
+ * [[BlobChunkedInput.READ_AHEAD_WINDOWS]] windows are read ahead of the channel. When no window is ready, no chunk is
+ * returned and the writer is resumed as soon as the next window is read.
+ */
+class BlobChunkedInput(blob: Blob, windowSize: Int, windowAllocator: ByteBufAllocator, resume: Runnable,
+                       readers: Executor)
+  extends ChunkedInput[ByteBuf] {
+  private val totalLength = blob.length;
+  private val windows = new LinkedBlockingQueue[ByteBuf](BlobChunkedInput.READ_AHEAD_WINDOWS);
+  @volatile private var failure: Throwable = null;
+  @volatile private var closed = false;
+  private var started = false;
+  //bytes handed over to the channel, only accessed by the event loop
+  private var offset = 0L;
+
+  override def isEndOfInput: Boolean = offset >= totalLength;
+
+  override def close(): Unit = {
+    closed = true;
+    releaseWindows();
+  }
+
+  override def length(): Long = totalLength;
+
+  override def progress(): Long = offset;
+
+  @deprecated("use readChunk(ByteBufAllocator)", "")
+  override def readChunk(ctx: ChannelHandlerContext): ByteBuf = readChunk(ctx.alloc());
+
+  override def readChunk(allocator: ByteBufAllocator): ByteBuf = {
+    if (isEndOfInput) {
+      null
+    }
+    else {
+      if (!started) {
+        started = true;
+        readers.execute(new Runnable {
+          override def run(): Unit = readWindows();
+        });
+      }
+
+      val window = windows.poll();
+      if (window != null) {
+        offset += window.readableBytes();
+        window
       }
-    })
+      else if (failure != null) {
+        throw new IOException(s"Failed to read blob stream after $offset bytes", failure);
+      }
+      else {
+        //nothing to write yet, the reader resumes the writer when the next window is ready
+        null
+      }
+    }
+  }
+
+  private def readWindows(): Unit = {
+    try {
+      blob.offerStream(is => {
+        var position = 0L;
+        while (position < totalLength && !closed) {
+          val size = Math.min(windowSize.toLong, totalLength - position).toInt;
+          val window = windowAllocator.heapBuffer(size);
+          try {
+            readFully(is, window, position, size);
+            if (position + size == totalLength && is.read() != -1) {
+              throw new IOException(s"blob stream is longer than blob length $totalLength");
+            }
+          }
+          catch {
+            case e: Throwable =>
+              window.release();
+              throw e;
+          }
+          position += size;
+          handOver(window);
+        }
+      });
+    }
+    catch {
+      case e: Throwable =>
+        failure = e;
+        resume.run();
+    }
+  }
+
+  private def readFully(is: InputStream, window: ByteBuf, position: Long, size: Int): Unit = {
+    var remaining = size;
+    while (remaining > 0) {
+      val nbytes = window.writeBytes(is, remaining);
+      if (nbytes == -1) {
+        throw new IOException(s"blob stream ended after ${position + size - remaining} bytes, but blob length is $totalLength");
+      }
+      remaining -= nbytes;
+    }
   }
-}
\ No newline at end of file
+
+  /**
+   * Waits until there is room for the given window, gives up when the input is closed in the meantime.
+   */
+  private def handOver(window: ByteBuf): Unit = {
+    var queued = false;
+    while (!queued && !closed) {
+      queued = windows.offer(window, 100, TimeUnit.MILLISECONDS);
+    }
+
+    if (!queued) {
+      window.release();
+    }
+    else {
+      resume.run();
+      if (closed) {
+        //input was closed while the window was being queued
+        releaseWindows();
+      }
+    }
+  }
+
+  private def releaseWindows(): Unit = {
+    var window = windows.poll();
+    while (window != null) {
+      window.release();
+      window = windows.poll();
+    }
+  }
+}
+
+object BlobChunkedInput {
+  //memory held by a streamed blob is bounded by this many windows
+  val READ_AHEAD_WINDOWS = 2;
+}
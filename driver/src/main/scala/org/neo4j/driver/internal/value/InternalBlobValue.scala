@@ -1,15 +1,21 @@
 package org.neo4j.driver.internal.value
 
 import java.io.{ByteArrayInputStream, IOException, InputStream}
-import java.util.concurrent.CompletableFuture
+import java.nio.ByteBuffer
+import java.nio.channels.{ClosedChannelException, ReadableByteChannel, WritableByteChannel}
 
+import io.netty.buffer.ByteBuf
 import org.neo4j.blob._
+import org.neo4j.driver.exceptions.ClientException
 import org.neo4j.driver.internal._
-import org.neo4j.driver.internal.spi.Connection
+import org.neo4j.driver.internal.async.connection.EventLoopGroupFactory
+import org.neo4j.driver.internal.spi.{Connection, ConnectionPool}
+import org.neo4j.driver.internal.util.Futures
 import org.neo4j.driver.internal.types.{TypeConstructor, TypeRepresentation}
 import org.neo4j.driver.types.Type
 
 import scala.collection.mutable.ArrayBuffer
+import scala.util.Try
 
 /**
  * Created by bluejoe on 2019/5/3.
@@ -32,13 +38,18 @@ class InternalBlobValue(val blob: Blob) extends ValueAdapter {
   override def toString: String = s"BoltBlobValue(blob=${blob.toString})"
 }
 
+/**
+ * A chunk of a remote blob. Its content is a retained slice of the inbound network buffer, the chunk has to be released
+ * when it is not needed anymore.
+ */
 case class BlobChunk(
                       chunkId: Int,
                       offset: Int,
                       length: Int,
-                      bytes: Array[Byte],
+                      content: ByteBuf,
                       isTailChunk: Boolean,
                       totalBytes: Int) {
+  def release(): Unit = content.release();
 }
 
 
@@ -55,77 +66,388 @@ class InlineBlob(bytes: Array[Byte], val id: BlobId, val length: Long, val mimeT
   }
 }
 
-class RemoteBlob(conn: Connection, remoteHandle: String, val id: BlobId, val length: Long, val mimeType: MimeType)
+/**
+ * Blob kept by the database. It is not bound to the connection it was received over: a connection towards the same
+ * server is acquired from the pool when the blob is read and released as soon as all bytes are received, when the
+ * stream is closed or when the request fails.
+ * <p>
+ * Reading a blob therefore needs a connection besides the one of the session that received it. When the session still
+ * holds its connection, for example in an open transaction, and the pool has no other connection towards the server to
+ * give, acquisition waits for the configured acquisition timeout and fails with a [[ClientException]] pointing at the
+ * pool size.
+ */
+class RemoteBlob(pool: ConnectionPool, address: BoltServerAddress, remoteHandle: String, val id: BlobId,
+                 val length: Long, val mimeType: MimeType, settings: BlobSettings = BlobSettings.DEFAULT)
   extends ManagedBlob {
 
-  val FETCH_CHUNK_SIZE = 1024 * 10;
-  //10k
-
   override val streamSource: InputStreamSource = new InputStreamSource() {
     def offerStream[T](consume: (InputStream) => T): T = {
+      val cache = settings.blobCache();
       val is: InputStream =
         if (length == 0) {
           new ByteArrayInputStream(Array[Byte]());
         }
+        //blob id identifies the content, so a cached copy is as good as the remote one
+        else if (cache != null && cache.isCacheable(length)) {
+          cache.get(id, length, new BlobCache.ContentSource() {
+            override def open(): InputStream = openRemoteStream();
+          });
+        }
         else {
-          val error = new CompletableFuture[Throwable]()
-          val report = new CompletableFuture[(BlobChunk, ArrayBuffer[CompletableFuture[BlobChunk]])]()
-          val handler = new GetBlobMessageHandler(report, error)
-          conn.writeAndFlush(new GetBlobMessage(remoteHandle), handler)
-          val reportValue = report.get()
-          if (reportValue == null) {
-            throw new FailedToReadStreamException(error.get)
-          }
-
-          val (firstChunk, chunkFutures) = reportValue;
-          new BlobInputStream(firstChunk, chunkFutures, error)
+          openRemoteStream()
         }
 
-      consume(is);
+      try {
+        consume(is);
+      }
+      finally {
+        is.close();
+      }
+    }
+  }
+
+  private def openRemoteStream(): InputStream = {
+    //a channel not created by a connection pool has no pool to acquire another connection from
+    if (pool == null) {
+      throw new IllegalStateException(
+        s"Blob $id was not received over a pooled connection, it can't be read from $address");
+    }
+
+    if (settings.fetchInParallel(length)) {
+      new ParallelBlobInputStream(pool, address, remoteHandle, length, settings)
+    }
+    else {
+      val connection = RemoteBlob.acquireConnection(pool, address);
+      try {
+        val handler = new GetBlobMessageHandler(connection, settings.fetchWindowSize())
+        connection.writeAndFlush(new GetBlobMessage(remoteHandle, settings.fetchChunkSize()), handler)
+        new BlobInputStream(handler, connection)
+      }
+      catch {
+        case e: Throwable =>
+          connection.release();
+          throw e;
+      }
     }
   }
 }
 
-class BlobInputStream(firstChunk: BlobChunk, chunkFutures: ArrayBuffer[CompletableFuture[BlobChunk]], error: CompletableFuture[Throwable])
-  extends InputStream {
-  //maybe blob is validated
-  checkErrors();
+object RemoteBlob {
+  /**
+   * Acquires a connection to read a remote blob over. A failed acquisition explains that the blob needs a connection of
+   * its own, so that a starved pool is not mistaken for an unrelated pool problem.
+   */
+  def acquireConnection(pool: ConnectionPool, address: BoltServerAddress): Connection = {
+    //checked before acquisition starts, a connection acquired for a caller that can't wait for it would leak
+    EventLoopGroupFactory.assertNotInEventLoopThread();
+    try {
+      Futures.blockingGet(pool.acquire(address))
+    }
+    catch {
+      case e: ClientException =>
+        throw new ClientException(s"Unable to acquire a connection to $address to read a remote blob. Reading a blob " +
+          "needs a connection besides the one of the session that received it, consider a larger connection pool", e);
+    }
+  }
+}
 
-  var currentChunk: BlobChunk = firstChunk;
-  var currentChunkInputStream = new ByteArrayInputStream(firstChunk.bytes);
+/**
+ * Reads a remote blob directly from the buffers chunks were received in, bytes are copied once into the destination.
+ * Every chunk is released as soon as it is consumed. The given connection, if any, is released at the end of the blob
+ * or when the stream is closed, whichever comes first.
+ */
+class BlobInputStream(handler: GetBlobMessageHandler, connection: Connection = null)
+  extends InputStream {
+  //first chunk is awaited eagerly, so that failures are reported before the stream is consumed
+  private var currentChunk: BlobChunk = handler.nextChunk();
+  private var closed = false;
+  private var connectionReleased = connection == null;
 
   @throws[IOException]
   override def read(): Int = {
-    val byte = currentChunkInputStream.read();
-    if (byte != -1) {
-      byte
+    if (nextReadable() == null) {
+      -1
+    }
+    else {
+      currentChunk.content.readByte() & 0xFF
+    }
+  }
+
+  @throws[IOException]
+  override def read(bytes: Array[Byte], off: Int, len: Int): Int = {
+    if (off < 0 || len < 0 || len > bytes.length - off) {
+      throw new IndexOutOfBoundsException();
+    }
+
+    if (len == 0) {
+      0
+    }
+    else if (nextReadable() == null) {
+      -1
     }
-    //this chunk is consumed
     else {
+      val content = currentChunk.content;
+      val n = Math.min(len, content.readableBytes());
+      content.readBytes(bytes, off, n);
+      n
+    }
+  }
+
+  @throws[IOException]
+  override def skip(n: Long): Long = {
+    if (n <= 0 || nextReadable() == null) {
+      0
+    }
+    else {
+      val content = currentChunk.content;
+      val skipped = Math.min(n, content.readableBytes().toLong).toInt;
+      content.skipBytes(skipped);
+      skipped
+    }
+  }
+
+  override def available(): Int =
+    if (closed || currentChunk == null) 0 else currentChunk.content.readableBytes();
+
+  /**
+   * Writes the remaining bytes of this stream to the given channel, chunk by chunk, without intermediate copies.
+   *
+   * @return number of bytes written
+   */
+  @throws[IOException]
+  def transferTo(target: WritableByteChannel): Long = {
+    var transferred = 0L;
+    while (nextReadable() != null) {
+      val content = currentChunk.content;
+      val n = content.readBytes(target, content.readableBytes());
+      if (n < 0) {
+        throw new ClosedChannelException();
+      }
+      transferred += n;
+    }
+    transferred
+  }
+
+  /**
+   * @return a channel view of this stream, closing the channel closes the stream
+   */
+  def channel(): ReadableByteChannel = new ReadableByteChannel {
+    override def read(dst: ByteBuffer): Int = {
+      if (closed) {
+        throw new ClosedChannelException();
+      }
+
+      if (!dst.hasRemaining) {
+        0
+      }
+      else if (nextReadable() == null) {
+        -1
+      }
+      else {
+        val content = currentChunk.content;
+        val n = Math.min(dst.remaining(), content.readableBytes());
+        val limit = dst.limit();
+        dst.limit(dst.position() + n);
+        content.readBytes(dst);
+        dst.limit(limit);
+        n
+      }
+    }
+
+    override def isOpen: Boolean = !closed;
+
+    override def close(): Unit = BlobInputStream.this.close();
+  }
+
+  @throws[IOException]
+  override def close(): Unit = {
+    if (!closed) {
+      closed = true;
+      if (currentChunk != null) {
+        if (!currentChunk.isTailChunk) {
+          //stop buffering chunks nobody is going to read
+          handler.discard();
+        }
+        currentChunk.release();
+        currentChunk = null;
+      }
+      releaseConnection();
+    }
+  }
+
+  private def releaseConnection(): Unit = {
+    if (!connectionReleased) {
+      connectionReleased = true;
+      connection.release();
+    }
+  }
+
+  /**
+   * @return current chunk when it has readable bytes, the next one when it is consumed or null at end of stream
+   */
+  @throws[IOException]
+  private def nextReadable(): BlobChunk = {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+
+    while (currentChunk != null && !currentChunk.content.isReadable) {
+      val consumed = currentChunk;
       //end of file
-      if (currentChunk.isTailChunk) {
-        -1;
+      currentChunk = if (consumed.isTailChunk) null else handler.nextChunk();
+      consumed.release();
+    }
+
+    //all bytes are received, connection is not needed for reading the rest of buffered chunks
+    if (currentChunk == null || currentChunk.isTailChunk) {
+      releaseConnection();
+    }
+    currentChunk
+  }
+}
+
+/**
+ * Reads a large remote blob as consecutive ranges that are fetched at the same time, each over its own connection
+ * acquired from the pool. The blob is split into at most as many ranges as there are idle connections towards the
+ * server, a single range is fetched when there are none. Ranges are read in order and the connection of a range is
+ * released as soon as the range is received. Every range is flow controlled by its own fetch window.
+ */
+class ParallelBlobInputStream(pool: ConnectionPool, address: BoltServerAddress, remoteHandle: String, length: Long,
+                              settings: BlobSettings)
+  extends InputStream {
+
+  private class BlobRange(val connection: Connection, val handler: GetBlobMessageHandler) {
+    private var stream: BlobInputStream = null;
+
+    //first chunk of a range is awaited when the reader gets to it
+    def open(): BlobInputStream = {
+      if (stream == null) {
+        try {
+          stream = new BlobInputStream(handler, connection);
+        }
+        catch {
+          case e: Throwable =>
+            connection.release();
+            throw e;
+        }
+      }
+      stream
+    }
+
+    def available(): Int = if (stream == null) 0 else stream.available();
+
+    def close(): Unit = {
+      if (stream != null) {
+        stream.close();
       }
       else {
-        readNextChunk();
-        read();
+        try {
+          handler.discard();
+        }
+        finally {
+          connection.release();
+        }
       }
     }
   }
 
-  private def checkErrors(): Unit = {
-    if (error.isDone && error.get() != null) {
-      throw new FailedToReadStreamException(error.get);
+  private val ranges: Array[BlobRange] = fetchRanges();
+  private var current = 0;
+  private var closed = false;
+
+  private def fetchRanges(): Array[BlobRange] = {
+    //only connections idle at the moment are used for additional ranges, so that a blob does not wait for them
+    val parallelism = Math.max(1L, Math.min(Math.min(settings.fetchParallelism().toLong,
+      pool.idleConnections(address).toLong), length));
+    val connections = acquireConnections(parallelism.toInt);
+    val ranges = new ArrayBuffer[BlobRange](connections.length);
+    try {
+      val rangeSize = (length + connections.length - 1) / connections.length;
+      val offsets = (0L until length by rangeSize).toArray;
+
+      //all ranges are requested before any of them is read
+      for (i <- offsets.indices) {
+        val offset = offsets(i);
+        val handler = new GetBlobMessageHandler(connections(i), settings.fetchWindowSize());
+        connections(i).writeAndFlush(new GetBlobMessage(remoteHandle, settings.fetchChunkSize(), offset,
+          Math.min(rangeSize, length - offset)), handler);
+        ranges += new BlobRange(connections(i), handler);
+      }
+
+      //rounding up the range size may leave a connection without a range
+      connections.drop(offsets.length).foreach(_.release());
+      ranges.toArray
+    }
+    catch {
+      case e: Throwable =>
+        //the stream is never returned to be closed, ranges requested so far release their connections and
+        //connections without a range are released directly
+        ranges.foreach(range => Try(range.close()));
+        connections.drop(ranges.length).foreach(connection => Try(connection.release()));
+        throw e;
+    }
+  }
+
+  /**
+   * Acquires the connection the blob needs and up to `count - 1` additional ones. Additional connections are
+   * acquired concurrently and are optional: when any of them can't be acquired, for example because other readers took
+   * the idle connections in the meantime, the others are released and the blob is fetched over a single connection.
+   * This way concurrent reads of large blobs never wait for each other's connections for longer than the acquisition
+   * timeout.
+   */
+  private def acquireConnections(count: Int): Array[Connection] = {
+    val first = RemoteBlob.acquireConnection(pool, address);
+    val acquisitions = (1 until count).map(_ => pool.acquire(address));
+    val additional = acquisitions.map(acquisition => Try(Futures.blockingGet(acquisition)));
+
+    if (additional.forall(_.isSuccess)) {
+      (first +: additional.map(_.get)).toArray
+    }
+    else {
+      additional.filter(_.isSuccess).foreach(_.get.release());
+      Array(first)
     }
   }
 
   @throws[IOException]
-  private def readNextChunk() = {
-    val in = currentChunk.chunkId;
-    //TODO: discard
-    currentChunk = chunkFutures(in + 1).get();
-    checkErrors();
-    currentChunkInputStream = new ByteArrayInputStream(currentChunk.bytes);
+  override def read(): Int = readRanges(_.read());
+
+  @throws[IOException]
+  override def read(bytes: Array[Byte], off: Int, len: Int): Int =
+    if (len == 0) 0 else readRanges(_.read(bytes, off, len));
+
+  override def available(): Int =
+    if (closed || current >= ranges.length) 0 else ranges(current).available();
+
+  @throws[IOException]
+  override def close(): Unit = {
+    if (!closed) {
+      closed = true;
+      while (current < ranges.length) {
+        ranges(current).close();
+        current += 1;
+      }
+    }
+  }
+
+  /**
+   * Reads from the current range, moving on to the next range when the current one is consumed.
+   */
+  @throws[IOException]
+  private def readRanges(read: BlobInputStream => Int): Int = {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+
+    var n = -1;
+    while (n == -1 && current < ranges.length) {
+      n = read(ranges(current).open());
+      if (n == -1) {
+        ranges(current).close();
+        current += 1;
+      }
+    }
+    n
   }
 }
 
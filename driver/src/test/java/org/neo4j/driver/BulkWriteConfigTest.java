@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkWriteConfigTest
+{
+    @Test
+    void defaultConfigShouldHaveDefaultValues()
+    {
+        BulkWriteConfig config = BulkWriteConfig.defaultConfig();
+
+        assertEquals( "rows", config.parameterName() );
+        assertEquals( 1000, config.batchSize() );
+        assertEquals( 4 * 1024 * 1024, config.maxBatchBytes() );
+        assertEquals( 4, config.maxPendingBatches() );
+        assertEquals( 100, config.batchesPerTransaction() );
+        assertEquals( TransactionConfig.empty(), config.transactionConfig() );
+        assertEquals( ForkJoinPool.commonPool(), config.rowsExecutor() );
+    }
+
+    @Test
+    void shouldHaveConfiguredValues()
+    {
+        TransactionConfig txConfig = TransactionConfig.builder().withTimeout( Duration.ofSeconds( 42 ) ).build();
+        Executor rowsExecutor = Runnable::run;
+        BulkWriteConfig config = BulkWriteConfig.builder()
+                .withParameterName( "batch" )
+                .withBatchSize( 10 )
+                .withMaxBatchBytes( 2048 )
+                .withMaxPendingBatches( 2 )
+                .withBatchesPerTransaction( 5 )
+                .withTransactionConfig( txConfig )
+                .withRowsExecutor( rowsExecutor )
+                .build();
+
+        assertEquals( "batch", config.parameterName() );
+        assertEquals( 10, config.batchSize() );
+        assertEquals( 2048, config.maxBatchBytes() );
+        assertEquals( 2, config.maxPendingBatches() );
+        assertEquals( 5, config.batchesPerTransaction() );
+        assertEquals( txConfig, config.transactionConfig() );
+        assertEquals( rowsExecutor, config.rowsExecutor() );
+    }
+
+    @Test
+    void shouldDisallowNullOrEmptyParameterName()
+    {
+        assertThrows( NullPointerException.class, () -> BulkWriteConfig.builder().withParameterName( null ) );
+        assertThrows( IllegalArgumentException.class, () -> BulkWriteConfig.builder().withParameterName( "" ) );
+    }
+
+    @Test
+    void shouldDisallowNonPositiveBatchSize()
+    {
+        assertThrows( IllegalArgumentException.class, () -> BulkWriteConfig.builder().withBatchSize( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> BulkWriteConfig.builder().withBatchSize( -1 ) );
+    }
+
+    @Test
+    void shouldDisallowNonPositiveMaxBatchBytes()
+    {
+        assertThrows( IllegalArgumentException.class, () -> BulkWriteConfig.builder().withMaxBatchBytes( 0 ) );
+    }
+
+    @Test
+    void shouldDisallowNonPositiveMaxPendingBatches()
+    {
+        assertThrows( IllegalArgumentException.class, () -> BulkWriteConfig.builder().withMaxPendingBatches( 0 ) );
+    }
+
+    @Test
+    void shouldDisallowNonPositiveBatchesPerTransaction()
+    {
+        assertThrows( IllegalArgumentException.class, () -> BulkWriteConfig.builder().withBatchesPerTransaction( 0 ) );
+    }
+
+    @Test
+    void shouldDisallowNullTransactionConfig()
+    {
+        assertThrows( NullPointerException.class, () -> BulkWriteConfig.builder().withTransactionConfig( null ) );
+    }
+
+    @Test
+    void shouldDisallowNullRowsExecutor()
+    {
+        assertThrows( NullPointerException.class, () -> BulkWriteConfig.builder().withRowsExecutor( null ) );
+    }
+}
@@ -24,10 +24,12 @@ import java.io.File;
 import java.util.concurrent.TimeUnit;
 
 import org.neo4j.driver.Config;
+import org.neo4j.driver.internal.BlobSettings;
 import org.neo4j.driver.net.ServerAddressResolver;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -290,4 +292,244 @@ class ConfigTest
     {
         assertThrows( NullPointerException.class, () -> Config.builder().withResolver( null ) );
     }
+
+    @Test
+    void shouldHaveDefaultBlobFetchSettings()
+    {
+        Config config = Config.defaultConfig();
+
+        assertEquals( 16, config.blobFetchWindowSize() );
+        assertEquals( -1, config.blobFetchChunkSize() );
+        assertEquals( 1, config.blobFetchParallelism() );
+        assertEquals( 64 * 1024 * 1024, config.blobParallelFetchThreshold() );
+    }
+
+    @Test
+    void shouldAllowToConfigureBlobFetchSettings()
+    {
+        Config config = Config.builder().withBlobFetchWindow( 4 ).withBlobFetchChunkSize( 65536 ).build();
+
+        assertEquals( 4, config.blobFetchWindowSize() );
+        assertEquals( 65536, config.blobFetchChunkSize() );
+    }
+
+    @Test
+    void shouldNotAllowNonPositiveBlobFetchSettings()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withBlobFetchWindow( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withBlobFetchChunkSize( -1 ) );
+    }
+
+    @Test
+    void shouldAllowToConfigureBlobParallelFetch()
+    {
+        Config config = Config.builder().withBlobParallelFetch( 4, 1024 ).build();
+
+        assertEquals( 4, config.blobFetchParallelism() );
+        assertEquals( 1024, config.blobParallelFetchThreshold() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalBlobParallelFetchSettings()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withBlobParallelFetch( 0, 1024 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withBlobParallelFetch( 4, -1 ) );
+    }
+
+    @Test
+    void shouldNotEnableBlobCacheByDefault()
+    {
+        Config config = Config.defaultConfig();
+
+        assertFalse( config.isBlobCacheEnabled() );
+    }
+
+    @Test
+    void shouldAllowToEnableBlobCache()
+    {
+        Config config = Config.builder().withBlobCache( 1024 ).build();
+
+        assertTrue( config.isBlobCacheEnabled() );
+        assertEquals( 1024, config.blobCacheMemorySize() );
+        assertNull( config.blobCacheDirectory() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalBlobCacheSettings()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withBlobCache( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withBlobCache( 0, new File( "does-not-exist" ), 1024 ) );
+    }
+
+    @Test
+    void shouldNotAdvertiseBlobTransferHintsByDefault()
+    {
+        Config config = Config.defaultConfig();
+
+        assertEquals( -1, config.blobInlineThreshold() );
+        assertEquals( -1, config.maxRecordSize() );
+    }
+
+    @Test
+    void shouldChangeBlobTransferHints()
+    {
+        Config config = Config.builder().withBlobInlineThreshold( 0 ).withMaxRecordSize( 65536 ).build();
+
+        assertEquals( 0, config.blobInlineThreshold() );
+        assertEquals( 65536, config.maxRecordSize() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalBlobTransferHints()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withBlobInlineThreshold( -1 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withMaxRecordSize( 0 ) );
+    }
+
+    @Test
+    void shouldStreamLargeBlobsByDefault()
+    {
+        Config config = Config.defaultConfig();
+
+        assertEquals( BlobSettings.DEFAULT_STREAMING_THRESHOLD, config.blobStreamingThreshold() );
+        assertEquals( BlobSettings.DEFAULT_STREAMING_WINDOW_SIZE, config.blobStreamingWindowSize() );
+    }
+
+    @Test
+    void shouldChangeBlobStreamingSettings()
+    {
+        Config config = Config.builder().withBlobStreaming( 4096, 1024 ).build();
+
+        assertEquals( 4096, config.blobStreamingThreshold() );
+        assertEquals( 1024, config.blobStreamingWindowSize() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalBlobStreamingSettings()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withBlobStreaming( -1, 1024 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withBlobStreaming( 4096, 0 ) );
+    }
+
+    @Test
+    void shouldFetchAllRecordsByDefault()
+    {
+        Config config = Config.defaultConfig();
+
+        assertEquals( -1, config.fetchSize() );
+    }
+
+    @Test
+    void shouldChangeFetchSize()
+    {
+        Config config = Config.builder().withFetchSize( 100 ).build();
+
+        assertEquals( 100, config.fetchSize() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalFetchSize()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withFetchSize( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withFetchSize( -2 ) );
+    }
+
+    @Test
+    void shouldNotEnableFlushConsolidationByDefault()
+    {
+        Config config = Config.defaultConfig();
+
+        assertFalse( config.isFlushConsolidationEnabled() );
+        assertEquals( -1, config.flushConsolidationMaxDelayNanos() );
+    }
+
+    @Test
+    void shouldAllowToEnableFlushConsolidation()
+    {
+        Config config = Config.builder().withFlushConsolidation( 2, TimeUnit.MILLISECONDS, 65536 ).build();
+
+        assertTrue( config.isFlushConsolidationEnabled() );
+        assertEquals( TimeUnit.MILLISECONDS.toNanos( 2 ), config.flushConsolidationMaxDelayNanos() );
+        assertEquals( 65536, config.flushConsolidationMaxBytes() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalFlushConsolidationSettings()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withFlushConsolidation( -1, TimeUnit.MILLISECONDS, 1024 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withFlushConsolidation( 0, TimeUnit.MILLISECONDS, 0 ) );
+    }
+
+    @Test
+    void shouldUseDefaultMaxOutboundChunkSize()
+    {
+        assertEquals( 16383, Config.defaultConfig().maxOutboundChunkSize() );
+    }
+
+    @Test
+    void shouldChangeMaxOutboundChunkSize()
+    {
+        assertEquals( 65537, Config.builder().withMaxOutboundChunkSize( 65537 ).build().maxOutboundChunkSize() );
+        assertEquals( 3, Config.builder().withMaxOutboundChunkSize( 3 ).build().maxOutboundChunkSize() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalMaxOutboundChunkSize()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withMaxOutboundChunkSize( 2 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withMaxOutboundChunkSize( 65538 ) );
+    }
+
+    @Test
+    void shouldUseDefaultRecordBufferSize()
+    {
+        Config config = Config.defaultConfig();
+
+        assertEquals( 4 * 1024 * 1024, config.maxRecordBufferSizePerResult() );
+        assertEquals( 256 * 1024 * 1024, config.maxRecordBufferSizePerDriver() );
+    }
+
+    @Test
+    void shouldChangeRecordBufferSize()
+    {
+        Config config = Config.builder().withRecordBufferSize( 1024, 1024 * 1024 ).build();
+
+        assertEquals( 1024, config.maxRecordBufferSizePerResult() );
+        assertEquals( 1024 * 1024, config.maxRecordBufferSizePerDriver() );
+    }
+
+    @Test
+    void shouldNotAllowNonPositiveRecordBufferSize()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withRecordBufferSize( 0, 1024 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withRecordBufferSize( 1024, -1 ) );
+    }
+
+    @Test
+    void shouldNotRefreshRoutingTableInBackgroundByDefault()
+    {
+        Config config = Config.defaultConfig();
+
+        assertEquals( 0, config.routingTableRefreshTtlFraction() );
+        assertEquals( 0, config.routingSettings().backgroundRefreshTtlFraction() );
+    }
+
+    @Test
+    void shouldChangeRoutingTableRefreshInBackground()
+    {
+        Config config = Config.builder().withRoutingTableRefreshInBackground( 0.8 ).build();
+
+        assertEquals( 0.8, config.routingTableRefreshTtlFraction() );
+        assertEquals( 0.8, config.routingSettings().backgroundRefreshTtlFraction() );
+        assertEquals( 0, Config.builder().withRoutingTableRefreshInBackground( 0.8 ).withoutRoutingTableRefreshInBackground().build()
+                .routingTableRefreshTtlFraction() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalRoutingTableRefreshInBackground()
+    {
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withRoutingTableRefreshInBackground( 0 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withRoutingTableRefreshInBackground( 1 ) );
+        assertThrows( IllegalArgumentException.class, () -> Config.builder().withRoutingTableRefreshInBackground( Double.NaN ) );
+    }
 }
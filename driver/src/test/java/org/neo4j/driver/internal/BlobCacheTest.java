@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.neo4j.blob.BlobId;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+class BlobCacheTest
+{
+    @Test
+    void shouldCountHitsAndMisses() throws IOException
+    {
+        BlobCache cache = new BlobCache( 100, null, 0, DEV_NULL_LOGGING );
+        BlobId id = mock( BlobId.class );
+
+        assertNull( cache.get( id ) );
+        assertArrayEquals( bytes( 10 ), readAll( cache.put( id, 10, new ByteArrayInputStream( bytes( 10 ) ) ) ) );
+        assertArrayEquals( bytes( 10 ), readAll( cache.get( id ) ) );
+
+        assertEquals( 1, cache.hits() );
+        assertEquals( 1, cache.misses() );
+        assertEquals( 10, cache.memoryBytes() );
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedBlobs() throws IOException
+    {
+        BlobCache cache = new BlobCache( 100, null, 0, DEV_NULL_LOGGING );
+        BlobId id1 = mock( BlobId.class );
+        BlobId id2 = mock( BlobId.class );
+        BlobId id3 = mock( BlobId.class );
+
+        cache.put( id1, 40, new ByteArrayInputStream( bytes( 40 ) ) );
+        cache.put( id2, 40, new ByteArrayInputStream( bytes( 40 ) ) );
+        cache.get( id1 );
+        cache.put( id3, 40, new ByteArrayInputStream( bytes( 40 ) ) );
+
+        assertNotNull( cache.get( id1 ) );
+        assertNull( cache.get( id2 ) );
+        assertNotNull( cache.get( id3 ) );
+        assertEquals( 1, cache.evictions() );
+        assertEquals( 80, cache.memoryBytes() );
+    }
+
+    @Test
+    void shouldMoveEvictedBlobsToDisk() throws IOException
+    {
+        File directory = Files.createTempDirectory( Paths.get( "target" ), "blob-cache" ).toFile();
+        BlobCache cache = new BlobCache( 50, directory, 1000, DEV_NULL_LOGGING );
+        BlobId id1 = mock( BlobId.class );
+        BlobId id2 = mock( BlobId.class );
+        BlobId id3 = mock( BlobId.class );
+
+        cache.put( id1, 40, new ByteArrayInputStream( bytes( 40 ) ) );
+        cache.put( id2, 40, new ByteArrayInputStream( bytes( 40 ) ) );
+        cache.put( id3, 200, new ByteArrayInputStream( bytes( 200 ) ) );
+
+        assertArrayEquals( bytes( 40 ), readAll( cache.get( id1 ) ) );
+        assertArrayEquals( bytes( 200 ), readAll( cache.get( id3 ) ) );
+        assertEquals( 0, cache.evictions() );
+        assertEquals( 240, cache.diskBytes() );
+        assertEquals( 2, directory.list().length );
+
+        cache.close();
+        assertEquals( 0, cache.diskBytes() );
+        assertEquals( 0, directory.list().length );
+    }
+
+    @Test
+    void shouldDeleteFilesOfBlobsEvictedFromDisk() throws IOException
+    {
+        File directory = Files.createTempDirectory( Paths.get( "target" ), "blob-cache" ).toFile();
+        BlobCache cache = new BlobCache( 0, directory, 100, DEV_NULL_LOGGING );
+        BlobId id1 = mock( BlobId.class );
+        BlobId id2 = mock( BlobId.class );
+
+        cache.put( id1, 60, new ByteArrayInputStream( bytes( 60 ) ) );
+        cache.put( id2, 60, new ByteArrayInputStream( bytes( 60 ) ) );
+
+        assertNull( cache.get( id1 ) );
+        assertArrayEquals( bytes( 60 ), readAll( cache.get( id2 ) ) );
+        assertEquals( 1, cache.evictions() );
+        assertEquals( 60, cache.diskBytes() );
+        assertEquals( 1, directory.list().length );
+        cache.close();
+    }
+
+    @Test
+    void shouldOnlyCacheBlobsFittingIntoTiers()
+    {
+        BlobCache memoryOnly = new BlobCache( 100, null, 1000, DEV_NULL_LOGGING );
+        BlobCache withDisk = new BlobCache( 100, new File( "target" ), 1000, DEV_NULL_LOGGING );
+
+        assertTrue( memoryOnly.isCacheable( 50 ) );
+        assertFalse( memoryOnly.isCacheable( 51 ) );
+        assertTrue( withDisk.isCacheable( 1000 ) );
+        assertFalse( withDisk.isCacheable( 1001 ) );
+    }
+
+    @Test
+    void shouldKeepBlobsLargerThanHalfOfMemoryTierOnDisk() throws IOException
+    {
+        File directory = Files.createTempDirectory( Paths.get( "target" ), "blob-cache" ).toFile();
+        BlobCache cache = new BlobCache( 100, directory, 1000, DEV_NULL_LOGGING );
+        BlobId id1 = mock( BlobId.class );
+        BlobId id2 = mock( BlobId.class );
+
+        cache.put( id1, 40, new ByteArrayInputStream( bytes( 40 ) ) );
+        cache.put( id2, 60, new ByteArrayInputStream( bytes( 60 ) ) );
+
+        assertArrayEquals( bytes( 60 ), readAll( cache.get( id2 ) ) );
+        assertEquals( 40, cache.memoryBytes() );
+        assertEquals( 60, cache.diskBytes() );
+        assertEquals( 0, cache.evictions() );
+    }
+
+    @Test
+    void shouldFetchMissingBlobOnce() throws Exception
+    {
+        BlobCache cache = new BlobCache( 100, null, 0, DEV_NULL_LOGGING );
+        BlobId id = mock( BlobId.class );
+        AtomicInteger opened = new AtomicInteger();
+        CountDownLatch fetchStarted = new CountDownLatch( 1 );
+        CountDownLatch fetchAllowed = new CountDownLatch( 1 );
+        BlobCache.ContentSource source = () ->
+        {
+            opened.incrementAndGet();
+            fetchStarted.countDown();
+            await( fetchAllowed );
+            return new ByteArrayInputStream( bytes( 10 ) );
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        try
+        {
+            Future<byte[]> first = executor.submit( () -> readAll( cache.get( id, 10, source ) ) );
+            await( fetchStarted );
+            Future<byte[]> second = executor.submit( () -> readAll( cache.get( id, 10, source ) ) );
+            fetchAllowed.countDown();
+
+            assertArrayEquals( bytes( 10 ), first.get( 10, SECONDS ) );
+            assertArrayEquals( bytes( 10 ), second.get( 10, SECONDS ) );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+        assertEquals( 1, opened.get() );
+        assertEquals( 1, cache.misses() );
+        assertEquals( 1, cache.hits() );
+    }
+
+    @Test
+    void shouldNotCacheFailedFetch()
+    {
+        BlobCache cache = new BlobCache( 100, null, 0, DEV_NULL_LOGGING );
+        BlobId id = mock( BlobId.class );
+
+        assertThrows( IOException.class, () -> cache.get( id, 10, () -> new ByteArrayInputStream( bytes( 5 ) ) ) );
+
+        assertNull( cache.get( id ) );
+        assertEquals( 0, cache.memoryBytes() );
+    }
+
+    private static byte[] bytes( int length )
+    {
+        byte[] bytes = new byte[length];
+        for ( int i = 0; i < length; i++ )
+        {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+
+    private static void await( CountDownLatch latch )
+    {
+        try
+        {
+            assertTrue( latch.await( 10, SECONDS ) );
+        }
+        catch ( InterruptedException e )
+        {
+            throw new RuntimeException( e );
+        }
+    }
+
+    private static byte[] readAll( InputStream stream ) throws IOException
+    {
+        byte[] bytes = new byte[stream.available()];
+        assertEquals( bytes.length, stream.read( bytes ) );
+        assertEquals( -1, stream.read() );
+        return bytes;
+    }
+}
@@ -25,6 +25,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.net.URI;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.neo4j.driver.AuthToken;
@@ -53,8 +55,10 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -178,6 +182,20 @@ class DriverFactoryTest
         assertThat( provider instanceof InternalMetricsProvider, is( true ) );
     }
 
+    @Test
+    void shouldShutDownBlobStreamReadersWithEventLoopGroup() throws Exception
+    {
+        Bootstrap bootstrap = BootstrapFactory.newBootstrap( 1 );
+        Config config = Config.builder().withMaxConnectionPoolSize( 2 ).build();
+
+        ThreadPoolExecutor streamReaders = DriverFactory.createBlobStreamReaders( bootstrap, config );
+        assertEquals( 2, streamReaders.getMaximumPoolSize() );
+        assertFalse( streamReaders.isShutdown() );
+
+        bootstrap.config().group().shutdownGracefully( 0, 0, TimeUnit.SECONDS ).sync();
+        assertTrue( streamReaders.awaitTermination( 10, TimeUnit.SECONDS ) );
+    }
+
     private Driver createDriver( String uri, DriverFactory driverFactory )
     {
         return createDriver( uri, driverFactory, defaultConfig() );
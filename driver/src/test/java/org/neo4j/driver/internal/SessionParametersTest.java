@@ -103,4 +103,45 @@ class SessionParametersTest
         SessionParameters parameters2 = template().withBookmarks( Arrays.asList( "one", "two" ) ).build();
         assertThat( parameters2.bookmarks(), equalTo( Arrays.asList( "one", "two" ) ) );
     }
+
+    @Test
+    void shouldNotHaveBlobTransferHintsByDefault()
+    {
+        assertEquals( BlobTransferHints.EMPTY, empty().blobTransferHints() );
+    }
+
+    @Test
+    void shouldChangeBlobTransferHints()
+    {
+        SessionParameters parameters = template().withBlobInlineThreshold( 4096 ).withMaxRecordSize( 65536 ).build();
+
+        assertEquals( new BlobTransferHints( 4096, 65536 ), parameters.blobTransferHints() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalBlobTransferHints()
+    {
+        assertThrows( IllegalArgumentException.class, () -> template().withBlobInlineThreshold( -1 ) );
+        assertThrows( IllegalArgumentException.class, () -> template().withMaxRecordSize( 0 ) );
+    }
+
+    @Test
+    void shouldUseDriverFetchSizeByDefault()
+    {
+        assertNull( empty().fetchSize() );
+    }
+
+    @Test
+    void shouldChangeFetchSize()
+    {
+        SessionParameters parameters = template().withFetchSize( 100 ).build();
+
+        assertEquals( Long.valueOf( 100 ), parameters.fetchSize() );
+    }
+
+    @Test
+    void shouldNotAllowIllegalFetchSize()
+    {
+        assertThrows( IllegalArgumentException.class, () -> template().withFetchSize( 0 ) );
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.BulkWriteConfig;
+import org.neo4j.driver.Statement;
+import org.neo4j.driver.TransactionConfig;
+import org.neo4j.driver.async.StatementResultCursor;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.summary.BulkWriteSummary;
+import org.neo4j.driver.summary.ResultSummary;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.singletonMap;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.util.Futures.completedWithNull;
+import static org.neo4j.driver.internal.util.Futures.failedFuture;
+import static org.neo4j.driver.util.TestUtil.await;
+
+class BulkWriterTest
+{
+    private final NetworkSession session = mock( NetworkSession.class );
+    private final ExplicitTransaction tx = mock( ExplicitTransaction.class );
+
+    @BeforeEach
+    void setUp()
+    {
+        when( session.beginTransactionAsync( eq( AccessMode.WRITE ), any( TransactionConfig.class ) ) ).thenReturn( completedFuture( tx ) );
+        when( tx.commitAsync() ).thenReturn( completedWithNull() );
+        when( tx.rollbackAsync() ).thenReturn( completedWithNull() );
+    }
+
+    @Test
+    void shouldWriteRowsInBatches()
+    {
+        when( tx.runAsync( any( Statement.class ), eq( false ) ) ).thenAnswer( invocation -> successfulRun() );
+        BulkWriteConfig config = BulkWriteConfig.builder().withBatchSize( 10 ).withBatchesPerTransaction( 100 ).build();
+
+        BulkWriteSummary summary = await( new BulkWriter( session, "UNWIND $rows AS row CREATE (n {x: row.x})", rows( 25 ), config ).writeAsync() );
+
+        ArgumentCaptor<Statement> statements = ArgumentCaptor.forClass( Statement.class );
+        verify( tx, times( 3 ) ).runAsync( statements.capture(), eq( false ) );
+        List<Integer> batchSizes = new ArrayList<>();
+        for ( Statement statement : statements.getAllValues() )
+        {
+            batchSizes.add( statement.parameters().get( "rows" ).size() );
+        }
+        assertEquals( 10, (int) batchSizes.get( 0 ) );
+        assertEquals( 10, (int) batchSizes.get( 1 ) );
+        assertEquals( 5, (int) batchSizes.get( 2 ) );
+
+        assertEquals( 25, summary.rows() );
+        assertEquals( 3, summary.batches() );
+        assertEquals( 1, summary.transactions() );
+    }
+
+    @Test
+    void shouldCommitEveryConfiguredNumberOfBatches()
+    {
+        when( tx.runAsync( any( Statement.class ), eq( false ) ) ).thenAnswer( invocation -> successfulRun() );
+        BulkWriteConfig config = BulkWriteConfig.builder().withBatchSize( 2 ).withBatchesPerTransaction( 2 ).build();
+
+        BulkWriteSummary summary = await( new BulkWriter( session, "UNWIND $rows AS row CREATE ()", rows( 10 ), config ).writeAsync() );
+
+        verify( session, times( 3 ) ).beginTransactionAsync( AccessMode.WRITE, TransactionConfig.empty() );
+        verify( tx, times( 3 ) ).commitAsync();
+        assertEquals( 10, summary.rows() );
+        assertEquals( 5, summary.batches() );
+        assertEquals( 3, summary.transactions() );
+    }
+
+    @Test
+    void shouldLimitNumberOfPendingBatches()
+    {
+        List<CompletableFuture<StatementResultCursor>> runs = new ArrayList<>();
+        when( tx.runAsync( any( Statement.class ), eq( false ) ) ).thenAnswer( invocation ->
+        {
+            CompletableFuture<StatementResultCursor> run = new CompletableFuture<>();
+            synchronized ( runs )
+            {
+                runs.add( run );
+            }
+            return run;
+        } );
+        BulkWriteConfig config = BulkWriteConfig.builder().withBatchSize( 1 ).withMaxPendingBatches( 2 ).build();
+
+        CompletionStage<BulkWriteSummary> result = new BulkWriter( session, "UNWIND $rows AS row CREATE ()", rows( 3 ), config ).writeAsync();
+
+        // first batches are run in the common pool once the transaction has begun
+        verify( tx, timeout( 5_000 ).times( 2 ) ).runAsync( any( Statement.class ), eq( false ) );
+
+        completeRun( runs, 0 );
+        verify( tx, timeout( 5_000 ).times( 3 ) ).runAsync( any( Statement.class ), eq( false ) );
+
+        completeRun( runs, 1 );
+        completeRun( runs, 2 );
+        assertEquals( 3, await( result ).rows() );
+    }
+
+    @Test
+    void shouldRollbackWhenBatchFails()
+    {
+        ClientException error = new ClientException( "Unable to write" );
+        when( tx.runAsync( any( Statement.class ), eq( false ) ) ).thenReturn( failedFuture( error ) );
+
+        ClientException e = assertThrows( ClientException.class,
+                () -> await( new BulkWriter( session, "UNWIND $rows AS row CREATE ()", rows( 10 ), BulkWriteConfig.defaultConfig() ).writeAsync() ) );
+
+        assertEquals( error, e );
+        verify( tx ).rollbackAsync();
+        verify( tx, never() ).commitAsync();
+    }
+
+    @Test
+    void shouldPullRowsInConfiguredExecutor()
+    {
+        when( tx.runAsync( any( Statement.class ), eq( false ) ) ).thenAnswer( invocation -> successfulRun() );
+        List<String> pullingThreads = new ArrayList<>();
+        Iterator<Map<String,Object>> rows = rows( 4 );
+        Iterator<Map<String,Object>> recordingRows = new Iterator<Map<String,Object>>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return rows.hasNext();
+            }
+
+            @Override
+            public Map<String,Object> next()
+            {
+                synchronized ( pullingThreads )
+                {
+                    pullingThreads.add( Thread.currentThread().getName() );
+                }
+                return rows.next();
+            }
+        };
+        ExecutorService rowsExecutor = Executors.newSingleThreadExecutor( runnable -> new Thread( runnable, "bulk-rows" ) );
+        BulkWriteConfig config = BulkWriteConfig.builder().withBatchSize( 1 ).withRowsExecutor( rowsExecutor ).build();
+
+        try
+        {
+            BulkWriteSummary summary = await( new BulkWriter( session, "UNWIND $rows AS row CREATE ()", recordingRows, config ).writeAsync() );
+
+            assertEquals( 4, summary.rows() );
+            assertEquals( asList( "bulk-rows", "bulk-rows", "bulk-rows", "bulk-rows" ), pullingThreads );
+        }
+        finally
+        {
+            rowsExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldNotBeginTransactionWithoutRows()
+    {
+        BulkWriteSummary summary = await( new BulkWriter( session, "UNWIND $rows AS row CREATE ()", emptyIterator(),
+                BulkWriteConfig.defaultConfig() ).writeAsync() );
+
+        verify( session, never() ).beginTransactionAsync( any( AccessMode.class ), any( TransactionConfig.class ) );
+        assertEquals( 0, summary.rows() );
+        assertEquals( 0, summary.transactions() );
+    }
+
+    private static CompletionStage<StatementResultCursor> successfulRun()
+    {
+        StatementResultCursor cursor = mock( StatementResultCursor.class );
+        when( cursor.consumeAsync() ).thenReturn( completedFuture( mock( ResultSummary.class ) ) );
+        return completedFuture( cursor );
+    }
+
+    private static void completeRun( List<CompletableFuture<StatementResultCursor>> runs, int index )
+    {
+        CompletableFuture<StatementResultCursor> run;
+        synchronized ( runs )
+        {
+            run = runs.get( index );
+        }
+        run.complete( await( successfulRun() ) );
+    }
+
+    private static Iterator<Map<String,Object>> rows( int count )
+    {
+        List<Map<String,Object>> rows = new ArrayList<>();
+        for ( int i = 0; i < count; i++ )
+        {
+            rows.add( singletonMap( "x", i ) );
+        }
+        return rows.iterator();
+    }
+}
@@ -23,12 +23,14 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InOrder;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.neo4j.driver.Statement;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.exceptions.ClientException;
 import org.neo4j.driver.internal.Bookmarks;
+import org.neo4j.driver.async.StatementResultCursor;
 import org.neo4j.driver.internal.DefaultBookmarksHolder;
 import org.neo4j.driver.internal.messaging.request.PullAllMessage;
 import org.neo4j.driver.internal.messaging.request.RunMessage;
@@ -36,6 +38,7 @@ import org.neo4j.driver.internal.messaging.v4.BoltProtocolV4;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -51,6 +54,7 @@ import static org.mockito.Mockito.verify;
 import static org.neo4j.driver.util.TestUtil.await;
 import static org.neo4j.driver.util.TestUtil.connectionMock;
 import static org.neo4j.driver.util.TestUtil.runMessageWithStatementMatcher;
+import static org.neo4j.driver.util.TestUtil.runWithMetaMessageWithStatementMatcher;
 import static org.neo4j.driver.util.TestUtil.setupSuccessfulRun;
 import static org.neo4j.driver.util.TestUtil.setupSuccessfulRunAndPull;
 import static org.neo4j.driver.util.TestUtil.verifyRun;
@@ -89,6 +93,25 @@ class ExplicitTransactionTest
         verifyRun( connection, "RETURN 1" );
     }
 
+    @Test
+    void shouldFlushOnceOnRunAllAsync()
+    {
+        // Given
+        Connection connection = connectionMock( BoltProtocolV4.INSTANCE );
+        ExplicitTransaction tx = beginTx( connection );
+
+        // When
+        List<StatementResultCursor> cursors = await( tx.runAllAsync( asList( new Statement( "RETURN 1" ), new Statement( "RETURN 2" ) ) ) );
+
+        // Then
+        assertEquals( 2, cursors.size() );
+        InOrder inOrder = inOrder( connection );
+        inOrder.verify( connection ).write( argThat( runWithMetaMessageWithStatementMatcher( "RETURN 1" ) ), any(), any(), any() );
+        inOrder.verify( connection ).write( argThat( runWithMetaMessageWithStatementMatcher( "RETURN 2" ) ), any(), any(), any() );
+        inOrder.verify( connection ).flush();
+        verify( connection, never() ).writeAndFlush( any(), any(), any(), any() );
+    }
+
     @Test
     void shouldRollbackOnImplicitFailure()
     {
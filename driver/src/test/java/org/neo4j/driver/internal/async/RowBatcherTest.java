@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.neo4j.blob.Blob;
+import org.neo4j.driver.Value;
+
+import static java.util.Collections.singletonMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RowBatcherTest
+{
+    @Test
+    void shouldCutBatchesByNumberOfRows() throws Exception
+    {
+        RowBatcher batcher = new RowBatcher( rows( 7, "a" ), 3, Long.MAX_VALUE );
+
+        assertEquals( 3, batcher.next().size() );
+        assertEquals( 3, batcher.next().size() );
+        assertEquals( 1, batcher.next().size() );
+        assertFalse( batcher.hasNext() );
+        batcher.close();
+    }
+
+    @Test
+    void shouldCutBatchesByEncodedSize() throws Exception
+    {
+        String text = new String( new char[100] ).replace( '\0', 'a' );
+        // every row takes a little over 100 bytes, so two of them fit into 250 bytes
+        RowBatcher batcher = new RowBatcher( rows( 5, text ), 1000, 250 );
+
+        assertEquals( 2, batcher.next().size() );
+        assertEquals( 2, batcher.next().size() );
+        assertEquals( 1, batcher.next().size() );
+        assertFalse( batcher.hasNext() );
+        batcher.close();
+    }
+
+    @Test
+    void shouldPutOversizedRowIntoBatchOfItsOwn() throws Exception
+    {
+        List<Map<String,Object>> rows = new ArrayList<>();
+        rows.add( singletonMap( "x", "small" ) );
+        rows.add( singletonMap( "x", new String( new char[1000] ).replace( '\0', 'a' ) ) );
+        rows.add( singletonMap( "x", "small" ) );
+        RowBatcher batcher = new RowBatcher( rows.iterator(), 1000, 100 );
+
+        List<Value> first = batcher.next();
+        List<Value> second = batcher.next();
+        List<Value> third = batcher.next();
+
+        assertEquals( 1, first.size() );
+        assertEquals( "small", first.get( 0 ).get( "x" ).asString() );
+        assertEquals( 1, second.size() );
+        assertEquals( 1000, second.get( 0 ).get( "x" ).asString().length() );
+        assertEquals( 1, third.size() );
+        assertFalse( batcher.hasNext() );
+        batcher.close();
+    }
+
+    @Test
+    void shouldSizeBlobsByLengthWithoutReadingThem() throws Exception
+    {
+        Blob blob = mock( Blob.class );
+        when( blob.length() ).thenReturn( 200L );
+        List<Map<String,Object>> rows = new ArrayList<>();
+        for ( int i = 0; i < 5; i++ )
+        {
+            rows.add( singletonMap( "x", blob ) );
+        }
+        // every row takes a little over 200 bytes, so two of them fit into 500 bytes
+        RowBatcher batcher = new RowBatcher( rows.iterator(), 1000, 500 );
+
+        assertEquals( 2, batcher.next().size() );
+        assertEquals( 2, batcher.next().size() );
+        assertEquals( 1, batcher.next().size() );
+        assertFalse( batcher.hasNext() );
+        verify( blob, never() ).offerStream( any() );
+        batcher.close();
+    }
+
+    private static Iterator<Map<String,Object>> rows( int count, String value )
+    {
+        List<Map<String,Object>> rows = new ArrayList<>();
+        for ( int i = 0; i < count; i++ )
+        {
+            rows.add( singletonMap( "x", value ) );
+        }
+        return rows.iterator();
+    }
+}
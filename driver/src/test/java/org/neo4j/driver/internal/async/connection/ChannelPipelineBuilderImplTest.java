@@ -20,6 +20,7 @@ package org.neo4j.driver.internal.async.connection;
 
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import org.junit.jupiter.api.Test;
 
 import java.util.Iterator;
@@ -30,7 +31,10 @@ import org.neo4j.driver.internal.async.inbound.ChunkDecoder;
 import org.neo4j.driver.internal.async.inbound.InboundMessageDispatcher;
 import org.neo4j.driver.internal.async.inbound.InboundMessageHandler;
 import org.neo4j.driver.internal.async.inbound.MessageDecoder;
+import org.neo4j.driver.internal.async.outbound.FlushConsolidationHandler;
+import org.neo4j.driver.internal.async.outbound.FlushSettings;
 import org.neo4j.driver.internal.async.outbound.OutboundMessageHandler;
+import org.neo4j.driver.internal.metrics.InternalFlushMetrics;
 import org.neo4j.driver.internal.messaging.v1.MessageFormatV1;
 
 import static org.hamcrest.Matchers.instanceOf;
@@ -53,6 +57,30 @@ class ChannelPipelineBuilderImplTest
         assertThat( iterator.next().getValue(), instanceOf( MessageDecoder.class ) );
         assertThat( iterator.next().getValue(), instanceOf( InboundMessageHandler.class ) );
 
+        assertThat( iterator.next().getValue(), instanceOf( ChunkedWriteHandler.class ) );
+        assertThat( iterator.next().getValue(), instanceOf( OutboundMessageHandler.class ) );
+
+        assertThat( iterator.next().getValue(), instanceOf( ChannelErrorHandler.class ) );
+
+        assertFalse( iterator.hasNext() );
+    }
+
+    @Test
+    void shouldAddFlushConsolidationHandlerBeforeOtherOutboundHandlers()
+    {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        ChannelAttributes.setMessageDispatcher( channel, new InboundMessageDispatcher( channel, DEV_NULL_LOGGING ) );
+
+        new ChannelPipelineBuilderImpl( new FlushSettings( 0, 1024, new InternalFlushMetrics() ) )
+                .build( new MessageFormatV1(), channel.pipeline(), DEV_NULL_LOGGING );
+
+        Iterator<Map.Entry<String,ChannelHandler>> iterator = channel.pipeline().iterator();
+        assertThat( iterator.next().getValue(), instanceOf( ChunkDecoder.class ) );
+        assertThat( iterator.next().getValue(), instanceOf( MessageDecoder.class ) );
+        assertThat( iterator.next().getValue(), instanceOf( InboundMessageHandler.class ) );
+
+        assertThat( iterator.next().getValue(), instanceOf( FlushConsolidationHandler.class ) );
+        assertThat( iterator.next().getValue(), instanceOf( ChunkedWriteHandler.class ) );
         assertThat( iterator.next().getValue(), instanceOf( OutboundMessageHandler.class ) );
 
         assertThat( iterator.next().getValue(), instanceOf( ChannelErrorHandler.class ) );
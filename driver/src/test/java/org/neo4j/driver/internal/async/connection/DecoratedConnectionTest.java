@@ -24,6 +24,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import org.neo4j.driver.AccessMode;
+import org.neo4j.driver.internal.BlobTransferHints;
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.messaging.BoltProtocol;
 import org.neo4j.driver.internal.messaging.Message;
@@ -215,6 +216,22 @@ class DecoratedConnectionTest
         assertEquals( mode, connection.mode() );
     }
 
+    @Test
+    void shouldCopyWithBlobTransferHints()
+    {
+        Connection mockConnection = mock( Connection.class );
+        DecoratedConnection connection = new DecoratedConnection( mockConnection, "neo4j", READ );
+        BlobTransferHints hints = new BlobTransferHints( 1024, 4096 );
+
+        DecoratedConnection copy = connection.withBlobTransferHints( hints );
+
+        assertSame( mockConnection, copy.connection() );
+        assertEquals( "neo4j", copy.databaseName() );
+        assertEquals( READ, copy.mode() );
+        assertEquals( hints, copy.blobTransferHints() );
+        assertEquals( BlobTransferHints.EMPTY, connection.blobTransferHints() );
+    }
+
     @Test
     void shouldReturnConnection()
     {
@@ -21,16 +21,24 @@ package org.neo4j.driver.internal.async.connection;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.RoutingErrorHandler;
+import org.neo4j.driver.internal.cluster.loadbalancing.LoadBalancingStrategy;
 import org.neo4j.driver.internal.handlers.RoutingResponseHandler;
+import org.neo4j.driver.internal.messaging.request.RunMessage;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.spi.ResponseHandler;
 
 import static org.hamcrest.Matchers.instanceOf;
+import static java.util.Collections.emptyMap;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.neo4j.driver.AccessMode.READ;
 import static org.neo4j.driver.internal.messaging.request.DiscardAllMessage.DISCARD_ALL;
 import static org.neo4j.driver.internal.messaging.request.PullAllMessage.PULL_ALL;
@@ -61,6 +69,70 @@ class RoutingConnectionTest
         testHandlersWrappingWithMultipleMessages( true );
     }
 
+    @Test
+    void shouldReportResponseTimeOfRunMessageToLoadBalancingStrategy()
+    {
+        Connection connection = mock( Connection.class );
+        when( connection.serverAddress() ).thenReturn( BoltServerAddress.LOCAL_DEFAULT );
+        LoadBalancingStrategy strategy = mock( LoadBalancingStrategy.class );
+        RoutingConnection routingConnection = new RoutingConnection( connection, READ, mock( RoutingErrorHandler.class ), strategy );
+        RunMessage run = new RunMessage( "RETURN 1" );
+
+        routingConnection.writeAndFlush( run, mock( ResponseHandler.class ), PULL_ALL, mock( ResponseHandler.class ) );
+
+        ArgumentCaptor<ResponseHandler> runHandlerCaptor = ArgumentCaptor.forClass( ResponseHandler.class );
+        ArgumentCaptor<ResponseHandler> pullAllHandlerCaptor = ArgumentCaptor.forClass( ResponseHandler.class );
+        verify( connection ).writeAndFlush( eq( run ), runHandlerCaptor.capture(), eq( PULL_ALL ), pullAllHandlerCaptor.capture() );
+
+        runHandlerCaptor.getValue().onEnqueued( 0 );
+        pullAllHandlerCaptor.getValue().onEnqueued( 1 );
+
+        pullAllHandlerCaptor.getValue().onSuccess( emptyMap() );
+        verify( strategy, never() ).onResponseTime( any(), anyLong() );
+
+        runHandlerCaptor.getValue().onSuccess( emptyMap() );
+        verify( strategy ).onResponseTime( eq( BoltServerAddress.LOCAL_DEFAULT ), anyLong() );
+    }
+
+    @Test
+    void shouldNotReportResponseTimeOfRunMessageQueuedBehindOtherResponses()
+    {
+        Connection connection = mock( Connection.class );
+        when( connection.serverAddress() ).thenReturn( BoltServerAddress.LOCAL_DEFAULT );
+        LoadBalancingStrategy strategy = mock( LoadBalancingStrategy.class );
+        RoutingConnection routingConnection = new RoutingConnection( connection, READ, mock( RoutingErrorHandler.class ), strategy );
+        RunMessage run = new RunMessage( "RETURN 1" );
+
+        routingConnection.writeAndFlush( run, mock( ResponseHandler.class ) );
+
+        ArgumentCaptor<ResponseHandler> runHandlerCaptor = ArgumentCaptor.forClass( ResponseHandler.class );
+        verify( connection ).writeAndFlush( eq( run ), runHandlerCaptor.capture() );
+        // response to a pipelined message would include the time spent waiting for the earlier one
+        runHandlerCaptor.getValue().onEnqueued( 1 );
+        runHandlerCaptor.getValue().onSuccess( emptyMap() );
+
+        verify( strategy, never() ).onResponseTime( any(), anyLong() );
+    }
+
+    @Test
+    void shouldNotReportResponseTimeOfRunMessageWrittenWithoutFlush()
+    {
+        Connection connection = mock( Connection.class );
+        when( connection.serverAddress() ).thenReturn( BoltServerAddress.LOCAL_DEFAULT );
+        LoadBalancingStrategy strategy = mock( LoadBalancingStrategy.class );
+        RoutingConnection routingConnection = new RoutingConnection( connection, READ, mock( RoutingErrorHandler.class ), strategy );
+        RunMessage run = new RunMessage( "RETURN 1" );
+
+        routingConnection.write( run, mock( ResponseHandler.class ) );
+
+        ArgumentCaptor<ResponseHandler> runHandlerCaptor = ArgumentCaptor.forClass( ResponseHandler.class );
+        verify( connection ).write( eq( run ), runHandlerCaptor.capture() );
+        runHandlerCaptor.getValue().onEnqueued( 0 );
+        runHandlerCaptor.getValue().onSuccess( emptyMap() );
+
+        verify( strategy, never() ).onResponseTime( any(), anyLong() );
+    }
+
     private static void testHandlersWrappingWithSingleMessage( boolean flush )
     {
         Connection connection = mock( Connection.class );
@@ -19,9 +19,17 @@
 package org.neo4j.driver.internal.async.inbound;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
@@ -124,4 +132,114 @@ class ByteBufInputTest
 
         assertEquals( (byte) 42, input.peekByte() );
     }
+
+    @Test
+    void shouldReadRetainedSlice()
+    {
+        ByteBufInput input = new ByteBufInput();
+        ByteBuf buf = Unpooled.wrappedBuffer( new byte[]{1, 2, 3, 4, 5} );
+        input.start( buf, true );
+        input.readByte();
+
+        ByteBuf slice = input.readRetainedSlice( 3 );
+        input.stop();
+        buf.release();
+
+        assertEquals( 1, slice.refCnt() );
+        assertEquals( Unpooled.wrappedBuffer( new byte[]{2, 3, 4} ), slice );
+        assertEquals( 4, buf.readerIndex() );
+        slice.release();
+    }
+
+    @Test
+    void shouldForgetRetainBytesFlagWhenStopped()
+    {
+        ByteBufInput input = new ByteBufInput();
+        input.start( mock( ByteBuf.class ), true );
+        assertTrue( input.retainsBytes() );
+
+        input.stop();
+        input.start( mock( ByteBuf.class ) );
+
+        assertFalse( input.retainsBytes() );
+    }
+
+    @Test
+    void shouldReadUtf8FromHeapBuffer()
+    {
+        testReadUtf8( Unpooled.buffer(), "name" );
+        testReadUtf8( Unpooled.buffer(), "Gr\u00fc\u00dfe, \u65e5\u672c" );
+    }
+
+    @Test
+    void shouldReadUtf8FromDirectBuffer()
+    {
+        testReadUtf8( Unpooled.directBuffer(), "name" );
+        testReadUtf8( Unpooled.directBuffer(), "Gr\u00fc\u00dfe, \u65e5\u672c" );
+    }
+
+    @Test
+    void shouldReadLargeUtf8FromDirectBuffer()
+    {
+        char[] chars = new char[20_000];
+        Arrays.fill( chars, '\u00e4' );
+        testReadUtf8( Unpooled.directBuffer(), new String( chars ) );
+    }
+
+    @Test
+    void shouldReturnCachedShortStrings()
+    {
+        ByteBufInput input = new ByteBufInput( true );
+
+        String first = readUtf8( input, "name" );
+        String second = readUtf8( input, "name" );
+        String other = readUtf8( input, "age" );
+
+        assertEquals( "name", second );
+        assertSame( first, second );
+        assertEquals( "age", other );
+    }
+
+    @Test
+    void shouldNotCacheStringsByDefault()
+    {
+        ByteBufInput input = new ByteBufInput();
+
+        String first = readUtf8( input, "name" );
+        String second = readUtf8( input, "name" );
+
+        assertEquals( first, second );
+        assertNotSame( first, second );
+    }
+
+    private static void testReadUtf8( ByteBuf buf, String value )
+    {
+        ByteBufInput input = new ByteBufInput();
+        byte[] bytes = value.getBytes( UTF_8 );
+        buf.writeByte( 1 );
+        buf.writeBytes( bytes );
+        buf.writeByte( 2 );
+        input.start( buf );
+
+        assertEquals( 1, input.readByte() );
+        assertEquals( value, input.readUtf8( bytes.length ) );
+        assertEquals( 2, input.readByte() );
+        buf.release();
+    }
+
+    private static String readUtf8( ByteBufInput input, String value )
+    {
+        byte[] bytes = value.getBytes( UTF_8 );
+        ByteBuf buf = Unpooled.directBuffer().writeBytes( bytes );
+        input.start( buf );
+        try
+        {
+            return input.readUtf8( bytes.length );
+        }
+        finally
+        {
+            input.stop();
+            buf.release();
+        }
+    }
 }
@@ -45,8 +45,8 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.only;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.messaging.request.ResetMessage.RESET;
@@ -87,6 +87,20 @@ class InboundMessageDispatcherTest
         verify( handler ).onSuccess( metadata );
     }
 
+    @Test
+    void shouldTellEnqueuedHandlersAboutPendingResponses()
+    {
+        InboundMessageDispatcher dispatcher = newDispatcher();
+        ResponseHandler handler1 = mock( ResponseHandler.class );
+        ResponseHandler handler2 = mock( ResponseHandler.class );
+
+        dispatcher.enqueue( handler1 );
+        dispatcher.enqueue( handler2 );
+
+        verify( handler1 ).onEnqueued( 0 );
+        verify( handler2 ).onEnqueued( 1 );
+    }
+
     @Test
     void shouldDequeHandlerOnFailure()
     {
@@ -150,9 +164,9 @@ class InboundMessageDispatcherTest
         dispatcher.handleRecordMessage( fields2 );
         dispatcher.handleRecordMessage( fields3 );
 
-        verify( handler ).onRecord( fields1 );
-        verify( handler ).onRecord( fields2 );
-        verify( handler ).onRecord( fields3 );
+        verify( handler ).onRecord( fields1, 0 );
+        verify( handler ).onRecord( fields2, 0 );
+        verify( handler ).onRecord( fields3, 0 );
         assertEquals( 1, dispatcher.queuedHandlersCount() );
     }
 
@@ -216,7 +230,9 @@ class InboundMessageDispatcherTest
 
         dispatcher.handleFailureMessage( FAILURE_CODE, FAILURE_MESSAGE );
         verifyFailure( handler1 );
-        verify( handler2, only() ).canManageAutoRead();
+        verify( handler2 ).onEnqueued( 1 );
+        verify( handler2 ).canManageAutoRead();
+        verifyNoMoreInteractions( handler2 );
 
         dispatcher.handleIgnoredMessage();
         verifyFailure( handler2 );
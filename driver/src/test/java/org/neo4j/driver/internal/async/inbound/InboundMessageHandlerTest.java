@@ -48,8 +48,10 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
@@ -120,7 +122,22 @@ class InboundMessageHandlerTest
         Value[] fields = {value( 1 ), value( 2 ), value( 3 )};
         channel.writeInbound( writer.asByteBuf( new RecordMessage( fields ) ) );
 
-        verify( responseHandler ).onRecord( fields );
+        verify( responseHandler ).onRecord( fields, 6 );
+    }
+
+    @Test
+    void shouldNotDecodeRecordMessageWhenRecordsAreDiscarded()
+    {
+        ResponseHandler responseHandler = mock( ResponseHandler.class );
+        when( responseHandler.discardsRecords() ).thenReturn( true );
+        messageDispatcher.enqueue( responseHandler );
+
+        channel.writeInbound( writer.asByteBuf( new RecordMessage( new Value[]{value( 1 ), value( 2 )} ) ) );
+        channel.writeInbound( writer.asByteBuf( new SuccessMessage( new HashMap<>() ) ) );
+
+        verify( responseHandler, never() ).onRecord( any() );
+        verify( responseHandler, never() ).onRecord( any(), anyInt() );
+        verify( responseHandler ).onSuccess( new HashMap<>() );
     }
 
     @Test
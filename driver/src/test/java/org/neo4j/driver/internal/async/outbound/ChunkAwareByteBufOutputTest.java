@@ -19,16 +19,29 @@
 package org.neo4j.driver.internal.async.outbound;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.handler.stream.ChunkedStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.neo4j.driver.internal.logging.DevNullLogger.DEV_NULL_LOGGER;
 import static org.neo4j.driver.util.TestUtil.assertByteBufContains;
 
 class ChunkAwareByteBufOutputTest
@@ -413,4 +426,194 @@ class ChunkAwareByteBufOutputTest
                 (short) 5, (byte) 6, (byte) 7, (byte) 8, (byte) 9, (byte) 10 // chunk 6
         );
     }
+
+    @Test
+    void shouldThrowWhenStreamingNotEnabled()
+    {
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 16 );
+        output.start( Unpooled.buffer() );
+
+        assertThrows( IllegalStateException.class, () -> output.writeStream( new ChunkedStream( new ByteArrayInputStream( new byte[]{1} ) ) ) );
+    }
+
+    @Test
+    void shouldWriteStreamAsSeparateMessagePart() throws Exception
+    {
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 5 );
+        output.enableStreaming( UnpooledByteBufAllocator.DEFAULT, DEV_NULL_LOGGER );
+
+        ByteBuf head = Unpooled.buffer();
+        output.start( head );
+        output.writeByte( (byte) 1 );
+        output.writeStream( new ChunkedStream( new ByteArrayInputStream( new byte[]{2, 3, 4, 5, 6, 7, 8} ), 4 ) );
+        output.writeByte( (byte) 9 );
+        ByteBuf tail = output.stop();
+
+        List<Object> parts = new ArrayList<>();
+        output.drainStreamedParts( parts );
+        assertEquals( 2, parts.size() );
+        assertSame( head, parts.get( 0 ) );
+        assertThat( parts.get( 1 ), instanceOf( ChunkedMessageInput.class ) );
+
+        ChunkedMessageInput input = (ChunkedMessageInput) parts.get( 1 );
+        assertByteBufContains( head, (short) 1, (byte) 1 );
+        assertByteBufContains( input.readChunk( UnpooledByteBufAllocator.DEFAULT ),
+                (short) 3, (byte) 2, (byte) 3, (byte) 4, // chunk body can't be larger than 3 bytes
+                (short) 1, (byte) 5 );
+        assertByteBufContains( input.readChunk( UnpooledByteBufAllocator.DEFAULT ),
+                (short) 3, (byte) 6, (byte) 7, (byte) 8 );
+        assertNull( input.readChunk( UnpooledByteBufAllocator.DEFAULT ) );
+        assertTrue( input.isEndOfInput() );
+        assertByteBufContains( tail, (short) 1, (byte) 9 );
+    }
+
+    @Test
+    void shouldNotWriteEmptyChunkWhenStreamEndsMessage()
+    {
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 16 );
+        output.enableStreaming( UnpooledByteBufAllocator.DEFAULT, DEV_NULL_LOGGER );
+
+        ByteBuf head = Unpooled.buffer();
+        output.start( head );
+        output.writeByte( (byte) 1 );
+        output.writeStream( new ChunkedStream( new ByteArrayInputStream( new byte[]{2, 3} ) ) );
+        ByteBuf tail = output.stop();
+
+        output.releaseStreamedParts();
+        assertEquals( 0, tail.readableBytes() );
+        tail.release();
+    }
+
+    @Test
+    void shouldWriteLargeByteArrayAsCompositeOfChunksWithoutCopying()
+    {
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 4098 );
+        output.enableStreaming( UnpooledByteBufAllocator.DEFAULT, DEV_NULL_LOGGER );
+        byte[] data = new byte[ChunkAwareByteBufOutput.GATHERING_WRITE_THRESHOLD + 10];
+        data[0] = 2;
+        data[data.length - 1] = 8;
+
+        ByteBuf head = Unpooled.buffer();
+        output.start( head );
+        output.writeByte( (byte) 1 );
+        output.writeBytesGathering( data );
+        output.writeByte( (byte) 9 );
+        ByteBuf tail = output.stop();
+
+        List<Object> parts = new ArrayList<>();
+        output.drainStreamedParts( parts );
+        assertEquals( 2, parts.size() );
+        assertSame( head, parts.get( 0 ) );
+        assertThat( parts.get( 1 ), instanceOf( CompositeByteBuf.class ) );
+
+        CompositeByteBuf gathered = (CompositeByteBuf) parts.get( 1 );
+        // chunk body can't be larger than 4096 bytes, every chunk is a header followed by a slice of the array
+        assertEquals( 6, gathered.numComponents() );
+        assertSame( data, gathered.component( 1 ).array() );
+        assertEquals( 3 * 2 + data.length, gathered.readableBytes() );
+        assertEquals( 4096, gathered.readUnsignedShort() );
+        assertEquals( 2, gathered.readByte() );
+        gathered.skipBytes( 4095 );
+        assertEquals( 4096, gathered.readUnsignedShort() );
+        gathered.skipBytes( 4096 );
+        assertEquals( 10, gathered.readUnsignedShort() );
+        gathered.skipBytes( 9 );
+        assertEquals( 8, gathered.readByte() );
+        gathered.release();
+
+        assertByteBufContains( head, (short) 1, (byte) 1 );
+        assertByteBufContains( tail, (short) 1, (byte) 9 );
+    }
+
+    @Test
+    void shouldCopyLargeByteArrayWhenStreamingNotEnabled()
+    {
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 16 );
+        byte[] data = new byte[ChunkAwareByteBufOutput.GATHERING_WRITE_THRESHOLD];
+
+        ByteBuf buf = Unpooled.buffer();
+        output.start( buf );
+        output.writeBytesGathering( data );
+        ByteBuf tail = output.stop();
+
+        List<Object> parts = new ArrayList<>();
+        output.drainStreamedParts( parts );
+        assertEquals( 0, parts.size() );
+        assertSame( buf, tail );
+        // 14 byte chunk bodies, each with a 2 byte header
+        assertEquals( data.length + 2 * ((data.length + 13) / 14), tail.readableBytes() );
+        tail.release();
+    }
+
+    @Test
+    void shouldCopyLargeByteArrayWrittenAsPartOfValue()
+    {
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 16 );
+        output.enableStreaming( UnpooledByteBufAllocator.DEFAULT, DEV_NULL_LOGGER );
+        byte[] data = new byte[ChunkAwareByteBufOutput.GATHERING_WRITE_THRESHOLD];
+
+        ByteBuf buf = Unpooled.buffer();
+        output.start( buf );
+        output.writeBytes( data );
+        ByteBuf tail = output.stop();
+
+        List<Object> parts = new ArrayList<>();
+        output.drainStreamedParts( parts );
+        assertEquals( 0, parts.size() );
+        assertSame( buf, tail );
+        assertEquals( data.length + 2 * ((data.length + 13) / 14), tail.readableBytes() );
+        tail.release();
+    }
+
+    @Test
+    void shouldCountReallocationsOfGrowingBuffer()
+    {
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 16 );
+        ByteBuf buf = Unpooled.buffer( 4 );
+
+        output.start( buf );
+        output.writeLong( 42 );
+        output.writeLong( 43 );
+        ByteBuf tail = output.stop();
+
+        assertSame( buf, tail );
+        assertTrue( output.reallocations() > 0 );
+        assertByteBufContains( tail, (short) 16, 42L, 43L );
+    }
+
+    @Test
+    void shouldMoveToNewBufferWhenBufferCanNotGrow()
+    {
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 16 );
+        ByteBuf parent = Unpooled.buffer( 64 );
+        ByteBuf slice = parent.retainedSlice( 0, 8 );
+        slice.clear();
+
+        output.start( slice );
+        output.writeInt( 1 );
+        output.writeLong( 2 );
+        ByteBuf tail = output.stop();
+
+        assertEquals( 1, output.reallocations() );
+        assertEquals( 1, parent.refCnt() );
+        parent.release();
+        assertByteBufContains( tail, (short) 12, 1, 2L );
+    }
+
+    @Test
+    void shouldResetReallocationsWhenStarted()
+    {
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 16 );
+        output.start( Unpooled.buffer( 2 ) );
+        output.writeLong( 42 );
+        output.stop().release();
+
+        ByteBuf buf = Unpooled.buffer( 16 );
+        output.start( buf );
+        output.writeLong( 42 );
+        output.stop();
+
+        assertEquals( 0, output.reallocations() );
+        buf.release();
+    }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EncodeSizePredictorTest
+{
+    private static final byte SIGNATURE = 0x10;
+    private static final byte OTHER_SIGNATURE = 0x3F;
+
+    private final EncodeSizePredictor predictor = new EncodeSizePredictor();
+
+    @Test
+    void shouldPredictDefaultSizeForUnknownMessage()
+    {
+        assertEquals( EncodeSizePredictor.DEFAULT_SIZE, predictor.predict( SIGNATURE ) );
+    }
+
+    @Test
+    void shouldFollowLargerMessageRightAway()
+    {
+        predictor.record( SIGNATURE, 10_000 );
+
+        assertThat( predictor.predict( SIGNATURE ), greaterThanOrEqualTo( 10_000 ) );
+        assertEquals( EncodeSizePredictor.DEFAULT_SIZE, predictor.predict( OTHER_SIGNATURE ) );
+    }
+
+    @Test
+    void shouldDecaySlowlyTowardsSmallerMessages()
+    {
+        predictor.record( SIGNATURE, 10_000 );
+        int large = predictor.predict( SIGNATURE );
+
+        predictor.record( SIGNATURE, 1_000 );
+        int decayed = predictor.predict( SIGNATURE );
+        assertThat( decayed, lessThan( large ) );
+        assertThat( decayed, greaterThan( 1_000 ) );
+
+        for ( int i = 0; i < 100; i++ )
+        {
+            predictor.record( SIGNATURE, 1_000 );
+        }
+        assertThat( predictor.predict( SIGNATURE ), lessThan( 1_200 ) );
+    }
+
+    @Test
+    void shouldKeepPredictionWithinBounds()
+    {
+        predictor.record( SIGNATURE, Integer.MAX_VALUE / 2 );
+        assertEquals( EncodeSizePredictor.MAX_SIZE, predictor.predict( SIGNATURE ) );
+
+        predictor.record( OTHER_SIGNATURE, 1 );
+        assertEquals( EncodeSizePredictor.DEFAULT_SIZE, predictor.predict( OTHER_SIGNATURE ) );
+    }
+
+    @Test
+    void shouldSupportNegativeSignatures()
+    {
+        predictor.record( (byte) 0xFF, 10_000 );
+
+        assertThat( predictor.predict( (byte) 0xFF ), greaterThanOrEqualTo( 10_000 ) );
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.async.outbound;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.internal.metrics.InternalFlushMetrics;
+
+import static io.netty.buffer.Unpooled.wrappedBuffer;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FlushConsolidationHandlerTest
+{
+    private final InternalFlushMetrics metrics = new InternalFlushMetrics();
+    private EmbeddedChannel channel;
+
+    @AfterEach
+    void tearDown()
+    {
+        if ( channel != null )
+        {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    @Test
+    void shouldFlushRightAwayWhenConsolidationIsDisabled()
+    {
+        channel = newChannel( new FlushSettings( FlushSettings.CONSOLIDATION_DISABLED, 0, metrics ) );
+
+        writeAndFlush( 1, 2, 3 );
+        writeAndFlush( 4, 5 );
+
+        assertEquals( 3, readOutboundSize() );
+        assertEquals( 2, readOutboundSize() );
+        assertEquals( 2, metrics.requestedFlushes() );
+        assertEquals( 2, metrics.flushes() );
+        assertEquals( 0, metrics.savedFlushes() );
+        assertEquals( 5, metrics.flushedBytes() );
+    }
+
+    @Test
+    void shouldMergeFlushesRequestedInTheSameEventLoopIteration()
+    {
+        channel = newChannel( new FlushSettings( 0, 1024, metrics ) );
+
+        writeAndFlush( 1, 2, 3 );
+        writeAndFlush( 4, 5 );
+
+        assertNull( channel.readOutbound() );
+        assertEquals( 0, metrics.flushes() );
+
+        channel.runPendingTasks();
+
+        assertEquals( 3, readOutboundSize() );
+        assertEquals( 2, readOutboundSize() );
+        assertEquals( 2, metrics.requestedFlushes() );
+        assertEquals( 1, metrics.flushes() );
+        assertEquals( 1, metrics.savedFlushes() );
+        assertEquals( 5, metrics.flushedBytes() );
+        assertEquals( 5.0, metrics.averageBytesPerFlush() );
+    }
+
+    @Test
+    void shouldFlushRightAwayWhenEnoughBytesAreWritten()
+    {
+        channel = newChannel( new FlushSettings( 0, 4, metrics ) );
+
+        writeAndFlush( 1, 2 );
+        assertNull( channel.readOutbound() );
+
+        writeAndFlush( 3, 4 );
+        assertEquals( 2, readOutboundSize() );
+        assertEquals( 2, readOutboundSize() );
+        assertEquals( 2, metrics.requestedFlushes() );
+        assertEquals( 1, metrics.flushes() );
+    }
+
+    @Test
+    void shouldFlushBeforeClose()
+    {
+        channel = newChannel( new FlushSettings( 0, 1024, metrics ) );
+
+        writeAndFlush( 1, 2, 3 );
+        channel.close();
+
+        assertEquals( 3, readOutboundSize() );
+        assertEquals( 1, metrics.flushes() );
+    }
+
+    private static EmbeddedChannel newChannel( FlushSettings settings )
+    {
+        return new EmbeddedChannel( new FlushConsolidationHandler( settings ) );
+    }
+
+    private void writeAndFlush( int... bytes )
+    {
+        byte[] data = new byte[bytes.length];
+        for ( int i = 0; i < bytes.length; i++ )
+        {
+            data[i] = (byte) bytes[i];
+        }
+        channel.writeAndFlush( wrappedBuffer( data ) );
+    }
+
+    private int readOutboundSize()
+    {
+        ByteBuf buf = channel.readOutbound();
+        try
+        {
+            return buf.readableBytes();
+        }
+        finally
+        {
+            buf.release();
+        }
+    }
+}
@@ -36,6 +36,7 @@ import org.neo4j.driver.internal.messaging.Message;
 import org.neo4j.driver.internal.messaging.MessageFormat;
 import org.neo4j.driver.internal.messaging.request.RunMessage;
 import org.neo4j.driver.internal.messaging.v1.MessageFormatV1;
+import org.neo4j.driver.internal.metrics.InternalMessageEncodingMetrics;
 import org.neo4j.driver.internal.packstream.PackOutput;
 import org.neo4j.driver.internal.packstream.PackStream;
 import org.neo4j.driver.Value;
@@ -43,6 +44,8 @@ import org.neo4j.driver.Value;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -50,6 +53,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.async.connection.BoltProtocolUtil.DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES;
 import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
 import static org.neo4j.driver.internal.messaging.MessageFormat.Writer;
 import static org.neo4j.driver.internal.messaging.request.PullAllMessage.PULL_ALL;
@@ -120,6 +124,70 @@ class OutboundMessageHandlerTest
         assertThat( error.getCause(), instanceOf( PackStream.UnPackable.class ) );
     }
 
+    @Test
+    void shouldEncodeSmallMessagesIntoSharedBuffer()
+    {
+        InternalMessageEncodingMetrics metrics = new InternalMessageEncodingMetrics();
+        OutboundMessageHandler handler = new OutboundMessageHandler( mockMessageFormatWithWriter( 1, 2, 3 ), encodingSettings( metrics ), DEV_NULL_LOGGING );
+        channel.pipeline().addLast( handler );
+
+        assertTrue( channel.writeOutbound( PULL_ALL ) );
+        assertTrue( channel.writeOutbound( PULL_ALL ) );
+
+        ByteBuf buf1 = channel.readOutbound();
+        ByteBuf buf2 = channel.readOutbound();
+        assertSame( buf1.unwrap(), buf2.unwrap() );
+        assertEquals( 2, metrics.encodedMessages() );
+        assertEquals( 1, metrics.allocations() );
+        assertEquals( 0, metrics.reallocations() );
+        assertByteBufContains( buf1, (short) 3, (byte) 1, (byte) 2, (byte) 3, (short) 0 );
+        assertByteBufContains( buf2, (short) 3, (byte) 1, (byte) 2, (byte) 3, (short) 0 );
+    }
+
+    @Test
+    void shouldEncodeLargeMessageIntoBufferOfPredictedSize()
+    {
+        int[] body = new int[10_000];
+        InternalMessageEncodingMetrics metrics = new InternalMessageEncodingMetrics();
+        OutboundMessageHandler handler = new OutboundMessageHandler( mockMessageFormatWithWriter( body ), encodingSettings( metrics ), DEV_NULL_LOGGING );
+        channel.pipeline().addLast( handler );
+
+        // size of the first message is not known yet, it is encoded into the shared buffer
+        assertTrue( channel.writeOutbound( PULL_ALL ) );
+        assertEquals( 1, metrics.allocations() );
+
+        // second message is known to be large and gets a buffer of its own
+        assertTrue( channel.writeOutbound( PULL_ALL ) );
+        assertEquals( 2, metrics.allocations() );
+        assertEquals( 0, metrics.reallocations() );
+        assertEquals( 2, metrics.encodedMessages() );
+
+        ByteBuf buf1 = channel.readOutbound();
+        ByteBuf buf2 = channel.readOutbound();
+        assertNotSame( buf1.unwrap(), buf2.unwrap() );
+        assertEquals( 2 + body.length + 2, buf1.readableBytes() );
+        assertEquals( 2 + body.length + 2, buf2.readableBytes() );
+        buf1.release();
+        buf2.release();
+    }
+
+    @Test
+    void shouldReuseSharedBufferWhenMessagesAreWritten()
+    {
+        InternalMessageEncodingMetrics metrics = new InternalMessageEncodingMetrics();
+        OutboundMessageHandler handler = new OutboundMessageHandler( mockMessageFormatWithWriter( 1, 2, 3 ), encodingSettings( metrics ), DEV_NULL_LOGGING );
+        channel.pipeline().addLast( handler );
+
+        for ( int i = 0; i < 2 * OutboundMessageHandler.SHARED_BUFFER_SIZE / 7; i++ )
+        {
+            assertTrue( channel.writeOutbound( PULL_ALL ) );
+            ByteBuf buf = channel.readOutbound();
+            buf.release();
+        }
+
+        assertEquals( 1, metrics.allocations() );
+    }
+
     private static MessageFormat mockMessageFormatWithWriter( final int... bytesToWrite )
     {
         MessageFormat messageFormat = mock( MessageFormat.class );
@@ -149,6 +217,11 @@ class OutboundMessageHandlerTest
         return writer;
     }
 
+    private static EncodingSettings encodingSettings( InternalMessageEncodingMetrics metrics )
+    {
+        return new EncodingSettings( DEFAULT_MAX_OUTBOUND_CHUNK_SIZE_BYTES, metrics );
+    }
+
     private static OutboundMessageHandler newHandler( MessageFormat messageFormat )
     {
         return new OutboundMessageHandler( messageFormat, DEV_NULL_LOGGING );
@@ -181,4 +181,38 @@ class ClusterRoutingTableTest
         assertFalse( routingTable.isStaleFor( READ ) );
         assertFalse( routingTable.isStaleFor( WRITE ) );
     }
+
+    @Test
+    void shouldForgetAddressInAllRoles()
+    {
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( new FakeClock() );
+        routingTable.update( createClusterComposition( asList( A, B ), asList( A, C ), asList( D, A ) ) );
+
+        routingTable.forget( A );
+
+        assertArrayEquals( new BoltServerAddress[]{B}, routingTable.routers().toArray() );
+        assertArrayEquals( new BoltServerAddress[]{C}, routingTable.writers().toArray() );
+        assertArrayEquals( new BoltServerAddress[]{D}, routingTable.readers().toArray() );
+    }
+
+    @Test
+    void shouldExposeAddressesOfCurrentRoutingTable()
+    {
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( new FakeClock() );
+        routingTable.update( createClusterComposition( asList( A ), asList( B ), asList( C, D ) ) );
+        AddressSet readers = routingTable.readers();
+        AddressSet writers = routingTable.writers();
+
+        routingTable.forget( C );
+        assertArrayEquals( new BoltServerAddress[]{D}, readers.toArray() );
+
+        routingTable.update( createClusterComposition( asList( A ), asList( E ), asList( F ) ) );
+        assertArrayEquals( new BoltServerAddress[]{F}, readers.toArray() );
+        assertArrayEquals( new BoltServerAddress[]{E}, writers.toArray() );
+
+        routingTable.removeWriter( E );
+        assertArrayEquals( new BoltServerAddress[0], writers.toArray() );
+        assertTrue( routingTable.isStaleFor( WRITE ) );
+        assertFalse( routingTable.isStaleFor( READ ) );
+    }
 }
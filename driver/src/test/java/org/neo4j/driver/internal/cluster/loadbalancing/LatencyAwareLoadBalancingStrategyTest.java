@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.cluster.loadbalancing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.driver.internal.BoltServerAddress;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.util.FakeClock;
+
+import static java.util.Collections.singleton;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.internal.logging.DevNullLogging.DEV_NULL_LOGGING;
+
+class LatencyAwareLoadBalancingStrategyTest
+{
+    private static final BoltServerAddress ADDRESS_1 = new BoltServerAddress( "server", 1 );
+    private static final BoltServerAddress ADDRESS_2 = new BoltServerAddress( "server", 2 );
+    private static final BoltServerAddress ADDRESS_3 = new BoltServerAddress( "server", 3 );
+
+    private final ConnectionPool connectionPool = mock( ConnectionPool.class );
+    private final FakeClock clock = new FakeClock();
+    private LatencyAwareLoadBalancingStrategy strategy;
+
+    @BeforeEach
+    void setUp()
+    {
+        strategy = new LatencyAwareLoadBalancingStrategy( connectionPool, clock, DEV_NULL_LOGGING );
+    }
+
+    @Test
+    void shouldHandleEmptyReadersArray()
+    {
+        assertNull( strategy.selectReader( new BoltServerAddress[0] ) );
+    }
+
+    @Test
+    void shouldHandleEmptyWritersArray()
+    {
+        assertNull( strategy.selectWriter( new BoltServerAddress[0] ) );
+    }
+
+    @Test
+    void shouldHandleSingleAddress()
+    {
+        strategy.onResponseTime( ADDRESS_1, millisToNanos( 100 ) );
+
+        assertEquals( ADDRESS_1, strategy.selectReader( new BoltServerAddress[]{ADDRESS_1} ) );
+        assertEquals( ADDRESS_1, strategy.selectWriter( new BoltServerAddress[]{ADDRESS_1} ) );
+    }
+
+    @Test
+    void shouldSelectFasterOfTwoAddresses()
+    {
+        strategy.onResponseTime( ADDRESS_1, millisToNanos( 50 ) );
+        strategy.onResponseTime( ADDRESS_2, millisToNanos( 1 ) );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            assertEquals( ADDRESS_2, strategy.selectReader( new BoltServerAddress[]{ADDRESS_1, ADDRESS_2} ) );
+            assertEquals( ADDRESS_2, strategy.selectWriter( new BoltServerAddress[]{ADDRESS_1, ADDRESS_2} ) );
+        }
+    }
+
+    @Test
+    void shouldSelectLessConnectedOfTwoEquallyFastAddresses()
+    {
+        strategy.onResponseTime( ADDRESS_1, millisToNanos( 5 ) );
+        strategy.onResponseTime( ADDRESS_2, millisToNanos( 5 ) );
+        when( connectionPool.inUseConnections( ADDRESS_1 ) ).thenReturn( 1 );
+        when( connectionPool.inUseConnections( ADDRESS_2 ) ).thenReturn( 7 );
+
+        assertEquals( ADDRESS_1, strategy.selectReader( new BoltServerAddress[]{ADDRESS_1, ADDRESS_2} ) );
+    }
+
+    @Test
+    void shouldWeighResponseTimeAgainstActiveConnections()
+    {
+        strategy.onResponseTime( ADDRESS_1, millisToNanos( 10 ) );
+        strategy.onResponseTime( ADDRESS_2, millisToNanos( 1 ) );
+        when( connectionPool.inUseConnections( ADDRESS_1 ) ).thenReturn( 0 );
+        when( connectionPool.inUseConnections( ADDRESS_2 ) ).thenReturn( 20 );
+
+        assertEquals( ADDRESS_1, strategy.selectReader( new BoltServerAddress[]{ADDRESS_1, ADDRESS_2} ) );
+    }
+
+    @Test
+    void shouldSelectAddressWithoutMeasurement()
+    {
+        strategy.onResponseTime( ADDRESS_1, millisToNanos( 1 ) );
+
+        assertEquals( ADDRESS_2, strategy.selectReader( new BoltServerAddress[]{ADDRESS_1, ADDRESS_2} ) );
+    }
+
+    @Test
+    void shouldNeverSelectSlowestOfManyAddresses()
+    {
+        strategy.onResponseTime( ADDRESS_1, millisToNanos( 2 ) );
+        strategy.onResponseTime( ADDRESS_2, millisToNanos( 3 ) );
+        strategy.onResponseTime( ADDRESS_3, millisToNanos( 500 ) );
+        BoltServerAddress[] addresses = {ADDRESS_1, ADDRESS_2, ADDRESS_3};
+
+        for ( int i = 0; i < 100; i++ )
+        {
+            assertNotEquals( ADDRESS_3, strategy.selectReader( addresses ) );
+        }
+    }
+
+    @Test
+    void shouldComputeMovingAverage()
+    {
+        strategy.onResponseTime( ADDRESS_1, 100 );
+        assertEquals( 100, strategy.averageResponseTimeNanos( ADDRESS_1 ), 0.001 );
+
+        strategy.onResponseTime( ADDRESS_1, 200 );
+        assertEquals( 100 + 100 * LatencyAwareLoadBalancingStrategy.SAMPLE_WEIGHT, strategy.averageResponseTimeNanos( ADDRESS_1 ), 0.001 );
+    }
+
+    @Test
+    void shouldDecayAverageOverTime()
+    {
+        strategy.onResponseTime( ADDRESS_1, 1000 );
+
+        clock.progress( LatencyAwareLoadBalancingStrategy.DECAY_TIME_MILLIS );
+
+        assertEquals( 1000 * Math.exp( -1 ), strategy.averageResponseTimeNanos( ADDRESS_1 ), 0.001 );
+    }
+
+    @Test
+    void shouldSelectSlowAddressAgainWhenItsMeasurementIsOld()
+    {
+        strategy.onResponseTime( ADDRESS_1, TimeUnit.SECONDS.toNanos( 1 ) );
+        strategy.onResponseTime( ADDRESS_2, millisToNanos( 1 ) );
+        assertEquals( ADDRESS_2, strategy.selectReader( new BoltServerAddress[]{ADDRESS_1, ADDRESS_2} ) );
+
+        // fast address keeps being used and measured, slow one is not
+        clock.progress( 10 * LatencyAwareLoadBalancingStrategy.DECAY_TIME_MILLIS );
+        strategy.onResponseTime( ADDRESS_2, millisToNanos( 1 ) );
+
+        assertEquals( ADDRESS_1, strategy.selectReader( new BoltServerAddress[]{ADDRESS_1, ADDRESS_2} ) );
+    }
+
+    @Test
+    void shouldForgetResponseTimesOfRemovedAddresses()
+    {
+        strategy.onResponseTime( ADDRESS_1, 100 );
+        strategy.onResponseTime( ADDRESS_2, 200 );
+
+        strategy.retainAll( singleton( ADDRESS_2 ) );
+
+        assertEquals( 0, strategy.averageResponseTimeNanos( ADDRESS_1 ), 0.001 );
+        assertEquals( 200, strategy.averageResponseTimeNanos( ADDRESS_2 ), 0.001 );
+    }
+
+    private static long millisToNanos( long millis )
+    {
+        return TimeUnit.MILLISECONDS.toNanos( millis );
+    }
+}
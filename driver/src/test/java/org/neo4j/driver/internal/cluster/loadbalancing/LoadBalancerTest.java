@@ -18,16 +18,22 @@
  */
 package org.neo4j.driver.internal.cluster.loadbalancing;
 
+import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.GlobalEventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.async.connection.DecoratedConnection;
@@ -58,8 +64,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.BoltServerAddress.LOCAL_DEFAULT;
@@ -360,6 +369,157 @@ class LoadBalancerTest
         verify( rediscovery, never() ).lookupClusterComposition( routingTable, connectionPool );
     }
 
+    @Test
+    void shouldRefreshRoutingTableInBackgroundBeforeItExpires()
+    {
+        FakeClock clock = new FakeClock();
+        ConnectionPool connectionPool = newConnectionPoolMock();
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( clock, A );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        when( rediscovery.lookupClusterComposition( routingTable, connectionPool ) )
+                .thenReturn( completedFuture( new ClusterComposition( 10_000, asOrderedSet( B ), asOrderedSet( C ), asOrderedSet( A ) ) ) )
+                .thenReturn( completedFuture( new ClusterComposition( 20_000, asOrderedSet( D ), asOrderedSet( C ), asOrderedSet( A ) ) ) );
+        EventExecutorGroup eventExecutorGroup = newSchedulingEventExecutorGroupMock();
+
+        LoadBalancer loadBalancer = new LoadBalancer( connectionPool, routingTable, rediscovery, eventExecutorGroup, clock, 0.8, DEV_NULL_LOGGING );
+        assertNotNull( await( loadBalancer.acquireConnection( ABSENT_DB_NAME, READ ) ) );
+
+        ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass( Runnable.class );
+        verify( eventExecutorGroup ).schedule( refreshCaptor.capture(), eq( 8_000L ), eq( TimeUnit.MILLISECONDS ) );
+
+        clock.progress( 8_000 );
+        refreshCaptor.getValue().run();
+
+        verify( rediscovery, times( 2 ) ).lookupClusterComposition( routingTable, connectionPool );
+        assertArrayEquals( new BoltServerAddress[]{D}, routingTable.readers().toArray() );
+        // next refresh is scheduled at 80% of the new time to live
+        verify( eventExecutorGroup ).schedule( any( Runnable.class ), eq( 9_600L ), eq( TimeUnit.MILLISECONDS ) );
+    }
+
+    @Test
+    void shouldKeepUsingRoutingTableWhenRefreshInBackgroundFails()
+    {
+        FakeClock clock = new FakeClock();
+        ConnectionPool connectionPool = newConnectionPoolMock();
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( clock, A );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        when( rediscovery.lookupClusterComposition( routingTable, connectionPool ) )
+                .thenReturn( completedFuture( new ClusterComposition( 10_000, asOrderedSet( B ), asOrderedSet( C ), asOrderedSet( A ) ) ) )
+                .thenReturn( Futures.failedFuture( new ServiceUnavailableException( "Routers are down" ) ) );
+        EventExecutorGroup eventExecutorGroup = newSchedulingEventExecutorGroupMock();
+
+        LoadBalancer loadBalancer = new LoadBalancer( connectionPool, routingTable, rediscovery, eventExecutorGroup, clock, 0.8, DEV_NULL_LOGGING );
+        assertNotNull( await( loadBalancer.acquireConnection( ABSENT_DB_NAME, READ ) ) );
+
+        ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass( Runnable.class );
+        verify( eventExecutorGroup ).schedule( refreshCaptor.capture(), anyLong(), eq( TimeUnit.MILLISECONDS ) );
+        clock.progress( 8_000 );
+        refreshCaptor.getValue().run();
+
+        Connection connection = await( loadBalancer.acquireConnection( ABSENT_DB_NAME, READ ) );
+        assertEquals( B, connection.serverAddress() );
+        verify( rediscovery, times( 2 ) ).lookupClusterComposition( routingTable, connectionPool );
+    }
+
+    @Test
+    void shouldDropRoutingTableRefreshedInBackgroundWhenRefreshedInForegroundMeanwhile()
+    {
+        FakeClock clock = new FakeClock();
+        ConnectionPool connectionPool = newConnectionPoolMock();
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( clock, A );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        CompletableFuture<ClusterComposition> backgroundLookup = new CompletableFuture<>();
+        when( rediscovery.lookupClusterComposition( routingTable, connectionPool ) )
+                .thenReturn( completedFuture( new ClusterComposition( 10_000, asOrderedSet( B ), asOrderedSet( C ), asOrderedSet( A ) ) ) )
+                .thenReturn( backgroundLookup )
+                .thenReturn( completedFuture( new ClusterComposition( 30_000, asOrderedSet( E ), asOrderedSet( C ), asOrderedSet( A ) ) ) );
+        EventExecutorGroup eventExecutorGroup = newSchedulingEventExecutorGroupMock();
+
+        LoadBalancer loadBalancer = new LoadBalancer( connectionPool, routingTable, rediscovery, eventExecutorGroup, clock, 0.8, DEV_NULL_LOGGING );
+        assertNotNull( await( loadBalancer.acquireConnection( ABSENT_DB_NAME, READ ) ) );
+
+        ArgumentCaptor<Runnable> refreshCaptor = ArgumentCaptor.forClass( Runnable.class );
+        verify( eventExecutorGroup ).schedule( refreshCaptor.capture(), eq( 8_000L ), eq( TimeUnit.MILLISECONDS ) );
+        clock.progress( 8_000 );
+        refreshCaptor.getValue().run();
+
+        // background lookup is slow, routing table expires and is refreshed by the next acquisition
+        clock.progress( 3_000 );
+        assertEquals( E, await( loadBalancer.acquireConnection( ABSENT_DB_NAME, READ ) ).serverAddress() );
+
+        backgroundLookup.complete( new ClusterComposition( 20_000, asOrderedSet( D ), asOrderedSet( C ), asOrderedSet( A ) ) );
+
+        verify( rediscovery, times( 3 ) ).lookupClusterComposition( routingTable, connectionPool );
+        assertArrayEquals( new BoltServerAddress[]{E}, routingTable.readers().toArray() );
+    }
+
+    @Test
+    void shouldNotRefreshRoutingTableInBackgroundWhenDisabled()
+    {
+        ConnectionPool connectionPool = newConnectionPoolMock();
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( new FakeClock(), A );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        when( rediscovery.lookupClusterComposition( routingTable, connectionPool ) )
+                .thenReturn( completedFuture( new ClusterComposition( 10_000, asOrderedSet( B ), asOrderedSet( C ), asOrderedSet( A ) ) ) );
+        EventExecutorGroup eventExecutorGroup = newSchedulingEventExecutorGroupMock();
+
+        LoadBalancer loadBalancer = new LoadBalancer( connectionPool, routingTable, rediscovery, eventExecutorGroup, DEV_NULL_LOGGING );
+        assertNotNull( await( loadBalancer.acquireConnection( ABSENT_DB_NAME, READ ) ) );
+
+        verify( eventExecutorGroup, never() ).schedule( any( Runnable.class ), anyLong(), any( TimeUnit.class ) );
+    }
+
+    @Test
+    void shouldCancelRefreshInBackgroundWhenClosed()
+    {
+        ConnectionPool connectionPool = newConnectionPoolMock();
+        when( connectionPool.close() ).thenReturn( completedFuture( null ) );
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( new FakeClock(), A );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        when( rediscovery.lookupClusterComposition( routingTable, connectionPool ) )
+                .thenReturn( completedFuture( new ClusterComposition( 10_000, asOrderedSet( B ), asOrderedSet( C ), asOrderedSet( A ) ) ) );
+        EventExecutorGroup eventExecutorGroup = mock( EventExecutorGroup.class );
+        ScheduledFuture<?> scheduledRefresh = mock( ScheduledFuture.class );
+        when( eventExecutorGroup.schedule( any( Runnable.class ), anyLong(), any( TimeUnit.class ) ) ).then( invocation -> scheduledRefresh );
+
+        LoadBalancer loadBalancer = new LoadBalancer( connectionPool, routingTable, rediscovery, eventExecutorGroup, new FakeClock(), 0.8,
+                DEV_NULL_LOGGING );
+        assertNotNull( await( loadBalancer.acquireConnection( ABSENT_DB_NAME, READ ) ) );
+        await( loadBalancer.close() );
+
+        verify( scheduledRefresh ).cancel( false );
+    }
+
+    @Test
+    void shouldRediscoverOnceForConcurrentAcquisitionsWhenRoutingTableIsStale()
+    {
+        ConnectionPool connectionPool = newConnectionPoolMock();
+        ClusterRoutingTable routingTable = new ClusterRoutingTable( new FakeClock(), A );
+        Rediscovery rediscovery = mock( Rediscovery.class );
+        CompletableFuture<ClusterComposition> compositionFuture = new CompletableFuture<>();
+        when( rediscovery.lookupClusterComposition( routingTable, connectionPool ) ).thenReturn( compositionFuture );
+
+        LoadBalancer loadBalancer = new LoadBalancer( connectionPool, routingTable, rediscovery,
+                GlobalEventExecutor.INSTANCE, DEV_NULL_LOGGING );
+
+        CompletionStage<Connection> read = loadBalancer.acquireConnection( ABSENT_DB_NAME, READ );
+        CompletionStage<Connection> write = loadBalancer.acquireConnection( ABSENT_DB_NAME, WRITE );
+        compositionFuture.complete( new ClusterComposition( 42, asOrderedSet( B ), asOrderedSet( C ), asOrderedSet( A ) ) );
+
+        assertNotNull( await( read ) );
+        assertNotNull( await( write ) );
+        verify( rediscovery ).lookupClusterComposition( routingTable, connectionPool );
+        verify( connectionPool ).acquire( B );
+        verify( connectionPool ).acquire( C );
+    }
+
+    private static EventExecutorGroup newSchedulingEventExecutorGroupMock()
+    {
+        EventExecutorGroup eventExecutorGroup = mock( EventExecutorGroup.class );
+        when( eventExecutorGroup.schedule( any( Runnable.class ), anyLong(), any( TimeUnit.class ) ) ).then( invocation -> mock( ScheduledFuture.class ) );
+        return eventExecutorGroup;
+    }
+
     private static RoutingTable newStaleRoutingTableMock( AccessMode mode )
     {
         RoutingTable routingTable = mock( RoutingTable.class );
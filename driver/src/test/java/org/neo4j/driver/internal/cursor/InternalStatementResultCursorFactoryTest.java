@@ -32,6 +32,7 @@ import org.neo4j.driver.internal.handlers.PullAllResponseHandler;
 import org.neo4j.driver.internal.handlers.RunResponseHandler;
 import org.neo4j.driver.internal.handlers.pulln.BasicPullResponseHandler;
 import org.neo4j.driver.internal.messaging.Message;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.spi.Connection;
 
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -46,6 +47,7 @@ import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.util.Futures.completedWithNull;
 import static org.neo4j.driver.internal.util.Futures.failedFuture;
 import static org.neo4j.driver.internal.util.Futures.getNow;
+import static org.neo4j.driver.internal.util.MetadataExtractor.ABSENT_QUERY_ID;
 
 class InternalStatementResultCursorFactoryTest
 {
@@ -206,4 +208,19 @@ class InternalStatementResultCursorFactoryTest
         verify( connection ).writeAndFlush( any( Message.class ), any( RunResponseHandler.class ) );
         assertThat( getNow( cursorFuture ), instanceOf( RxStatementResultCursor.class ) );
     }
+
+    @Test
+    void shouldRequestFirstBatchOfRecordsWithFetchSize()
+    {
+        Connection connection = mock( Connection.class );
+        Message runMessage = mock( Message.class );
+        RunResponseHandler runHandler = mock( RunResponseHandler.class );
+        PullAllResponseHandler pullAllHandler = mock( PullAllResponseHandler.class );
+        StatementResultCursorFactory cursorFactory = new InternalStatementResultCursorFactory( connection, runMessage, runHandler,
+                mock( BasicPullResponseHandler.class ), pullAllHandler, false, 100 );
+
+        cursorFactory.asyncResult();
+
+        verify( connection ).writeAndFlush( runMessage, runHandler, new PullMessage( 100, ABSENT_QUERY_ID ), pullAllHandler );
+    }
 }
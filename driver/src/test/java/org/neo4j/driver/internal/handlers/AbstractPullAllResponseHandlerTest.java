@@ -30,6 +30,8 @@ import java.util.function.Function;
 
 import org.neo4j.driver.internal.BoltServerAddress;
 import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.messaging.request.DiscardMessage;
+import org.neo4j.driver.internal.messaging.request.PullMessage;
 import org.neo4j.driver.internal.spi.Connection;
 import org.neo4j.driver.internal.util.ServerVersion;
 import org.neo4j.driver.Record;
@@ -51,17 +53,22 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.neo4j.driver.internal.messaging.v1.BoltProtocolV1.METADATA_EXTRACTOR;
+import static org.neo4j.driver.internal.util.MetadataExtractor.ABSENT_QUERY_ID;
 import static org.neo4j.driver.Values.value;
 import static org.neo4j.driver.Values.values;
 import static org.neo4j.driver.util.TestUtil.await;
 
 class AbstractPullAllResponseHandlerTest
 {
+    private static final int RECORD_SIZE = 100;
+    private static final int RECORDS_IN_RESULT_BUFFER = 1000;
     @Test
     void shouldReturnNoFailureWhenAlreadySucceeded()
     {
@@ -591,9 +598,9 @@ class AbstractPullAllResponseHandlerTest
         Connection connection = connectionMock();
         AbstractPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
 
-        for ( int i = 0; i < AbstractPullAllResponseHandler.RECORD_BUFFER_HIGH_WATERMARK + 1; i++ )
+        for ( int i = 0; i < RECORDS_IN_RESULT_BUFFER + 1; i++ )
         {
-            handler.onRecord( values( 100, 200 ) );
+            handler.onRecord( values( 100, 200 ), RECORD_SIZE );
         }
 
         verify( connection ).disableAutoRead();
@@ -607,15 +614,16 @@ class AbstractPullAllResponseHandlerTest
         AbstractPullAllResponseHandler handler = newHandler( keys, connection );
 
         int i;
-        for ( i = 0; i < AbstractPullAllResponseHandler.RECORD_BUFFER_HIGH_WATERMARK + 1; i++ )
+        for ( i = 0; i < RECORDS_IN_RESULT_BUFFER + 1; i++ )
         {
-            handler.onRecord( values( 100, 200 ) );
+            handler.onRecord( values( 100, 200 ), RECORD_SIZE );
         }
 
         verify( connection, never() ).enableAutoRead();
         verify( connection ).disableAutoRead();
 
-        while ( i-- > AbstractPullAllResponseHandler.RECORD_BUFFER_LOW_WATERMARK - 1 )
+        // buffer drains below 30% of its size
+        while ( i-- > RECORDS_IN_RESULT_BUFFER * 3 / 10 - 1 )
         {
             Record record = await( handler.nextAsync() );
             assertNotNull( record );
@@ -626,6 +634,107 @@ class AbstractPullAllResponseHandlerTest
         verify( connection ).enableAutoRead();
     }
 
+    @Test
+    void shouldDisableAutoReadWhenRecordsOfAllResultsTakeTooManyBytes()
+    {
+        RecordBufferBudget budget = new RecordBufferBudget( 10 * RECORD_SIZE, 15 * RECORD_SIZE );
+        Connection connection1 = connectionMock( budget );
+        Connection connection2 = connectionMock( budget );
+        AbstractPullAllResponseHandler handler1 = newHandler( asList( "key1", "key2" ), connection1 );
+        AbstractPullAllResponseHandler handler2 = newHandler( asList( "key1", "key2" ), connection2 );
+
+        for ( int i = 0; i < 8; i++ )
+        {
+            handler1.onRecord( values( 1, 2 ), RECORD_SIZE );
+            handler2.onRecord( values( 3, 4 ), RECORD_SIZE );
+        }
+
+        verify( connection1, never() ).disableAutoRead();
+        verify( connection2 ).disableAutoRead();
+        assertEquals( 16 * RECORD_SIZE, budget.bufferedBytes() );
+        assertEquals( 16 * RECORD_SIZE, budget.peakBufferedBytes() );
+        assertEquals( 1, budget.pausedReads() );
+    }
+
+    @Test
+    void shouldKeepResultsPausedWhileRecordsOfAllResultsTakeTooManyBytes()
+    {
+        RecordBufferBudget budget = new RecordBufferBudget( 10 * RECORD_SIZE, 12 * RECORD_SIZE );
+        Connection connection1 = connectionMock( budget );
+        Connection connection2 = connectionMock( budget );
+        AbstractPullAllResponseHandler handler1 = newHandler( asList( "key1", "key2" ), connection1 );
+        AbstractPullAllResponseHandler handler2 = newHandler( asList( "key1", "key2" ), connection2 );
+
+        for ( int i = 0; i < 8; i++ )
+        {
+            handler1.onRecord( values( 1, 2 ), RECORD_SIZE );
+            handler2.onRecord( values( 3, 4 ), RECORD_SIZE );
+        }
+        verify( connection1, atLeastOnce() ).disableAutoRead();
+        verify( connection2, atLeastOnce() ).disableAutoRead();
+
+        // first result drains below its own low watermark, all results together are still above the driver low watermark
+        for ( int i = 0; i < 6; i++ )
+        {
+            assertNotNull( await( handler1.nextAsync() ) );
+        }
+        assertEquals( 10 * RECORD_SIZE, budget.bufferedBytes() );
+        verify( connection1, never() ).enableAutoRead();
+        verify( connection2, never() ).enableAutoRead();
+
+        // empty result reads again to make progress
+        assertNotNull( await( handler1.nextAsync() ) );
+        assertNotNull( await( handler1.nextAsync() ) );
+        verify( connection1 ).enableAutoRead();
+        verify( connection2, never() ).enableAutoRead();
+
+        // second result drains below its own low watermark, all results together are below the driver low watermark
+        for ( int i = 0; i < 6; i++ )
+        {
+            assertNotNull( await( handler2.nextAsync() ) );
+        }
+        verify( connection2 ).enableAutoRead();
+    }
+
+    @Test
+    void shouldReleaseBytesOfConsumedRecords()
+    {
+        RecordBufferBudget budget = new RecordBufferBudget( 10 * RECORD_SIZE, 100 * RECORD_SIZE );
+        AbstractPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connectionMock( budget ) );
+
+        for ( int i = 0; i < 4; i++ )
+        {
+            handler.onRecord( values( 1, 2 ), RECORD_SIZE );
+        }
+        assertEquals( 4 * RECORD_SIZE, budget.bufferedBytes() );
+
+        assertNotNull( await( handler.nextAsync() ) );
+        assertEquals( 3 * RECORD_SIZE, budget.bufferedBytes() );
+
+        handler.consumeAsync();
+        assertEquals( 0, budget.bufferedBytes() );
+        assertEquals( 4 * RECORD_SIZE, budget.peakBufferedBytes() );
+    }
+
+    @Test
+    void shouldNotCountRecordsOfFinishedResultTowardsAllResults()
+    {
+        RecordBufferBudget budget = new RecordBufferBudget( 10 * RECORD_SIZE, 100 * RECORD_SIZE );
+        AbstractPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connectionMock( budget ) );
+
+        handler.onRecord( values( 1, 2 ), RECORD_SIZE );
+        handler.onRecord( values( 3, 4 ), RECORD_SIZE );
+        assertEquals( 2 * RECORD_SIZE, budget.bufferedBytes() );
+
+        handler.onSuccess( emptyMap() );
+        assertEquals( 0, budget.bufferedBytes() );
+
+        assertNotNull( await( handler.nextAsync() ) );
+        assertNotNull( await( handler.nextAsync() ) );
+        assertNull( await( handler.nextAsync() ) );
+        assertEquals( 0, budget.bufferedBytes() );
+    }
+
     @Test
     void shouldNotDisableAutoReadWhenSummaryRequested()
     {
@@ -636,10 +745,10 @@ class AbstractPullAllResponseHandlerTest
         CompletableFuture<ResultSummary> summaryFuture = handler.summaryAsync().toCompletableFuture();
         assertFalse( summaryFuture.isDone() );
 
-        int recordCount = AbstractPullAllResponseHandler.RECORD_BUFFER_HIGH_WATERMARK + 10;
+        int recordCount = RECORDS_IN_RESULT_BUFFER + 10;
         for ( int i = 0; i < recordCount; i++ )
         {
-            handler.onRecord( values( "a", "b" ) );
+            handler.onRecord( values( "a", "b" ), RECORD_SIZE );
         }
 
         verify( connection, never() ).disableAutoRead();
@@ -672,10 +781,10 @@ class AbstractPullAllResponseHandlerTest
         CompletableFuture<Throwable> failureFuture = handler.failureAsync().toCompletableFuture();
         assertFalse( failureFuture.isDone() );
 
-        int recordCount = AbstractPullAllResponseHandler.RECORD_BUFFER_HIGH_WATERMARK + 5;
+        int recordCount = RECORDS_IN_RESULT_BUFFER + 5;
         for ( int i = 0; i < recordCount; i++ )
         {
-            handler.onRecord( values( 123, 456 ) );
+            handler.onRecord( values( 123, 456 ), RECORD_SIZE );
         }
 
         verify( connection, never() ).disableAutoRead();
@@ -760,9 +869,9 @@ class AbstractPullAllResponseHandlerTest
         AbstractPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ), connection );
         handler.disableAutoReadManagement();
 
-        for ( int i = 0; i < AbstractPullAllResponseHandler.RECORD_BUFFER_HIGH_WATERMARK + 1; i++ )
+        for ( int i = 0; i < RECORDS_IN_RESULT_BUFFER + 1; i++ )
         {
-            handler.onRecord( values( 100, 200 ) );
+            handler.onRecord( values( 100, 200 ), RECORD_SIZE );
         }
 
         verify( connection, never() ).disableAutoRead();
@@ -1056,6 +1165,189 @@ class AbstractPullAllResponseHandlerTest
         assertEquals( StatementType.READ_WRITE, summary2.statementType() );
     }
 
+    @Test
+    void shouldNotCompleteWhenMoreRecordsAvailable()
+    {
+        Connection connection = connectionMock();
+        AbstractPullAllResponseHandler handler = newHandler( singletonList( "key1" ), connection, 2 );
+
+        handler.onRecord( values( 1 ) );
+        handler.onRecord( values( 2 ) );
+        handler.onSuccess( singletonMap( "has_more", value( true ) ) );
+
+        assertFalse( handler.summaryAsync().toCompletableFuture().isDone() );
+    }
+
+    @Test
+    void shouldFetchNextBatchWhenBufferedRecordsRunLow()
+    {
+        Connection connection = connectionMock();
+        AbstractPullAllResponseHandler handler = newHandler( singletonList( "key1" ), connection, 10 );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            handler.onRecord( values( i ) );
+        }
+        handler.onSuccess( singletonMap( "has_more", value( true ) ) );
+
+        for ( int i = 0; i < 6; i++ )
+        {
+            await( handler.nextAsync() );
+        }
+        verify( connection, never() ).writeAndFlush( any(), any() );
+
+        await( handler.nextAsync() );
+        verify( connection ).writeAndFlush( new PullMessage( 10, ABSENT_QUERY_ID ), handler );
+    }
+
+    @Test
+    void shouldFetchNextBatchRightAwayWhenNoRecordsBuffered()
+    {
+        Connection connection = connectionMock();
+        AbstractPullAllResponseHandler handler = newHandler( singletonList( "key1" ), connection, 10 );
+        CompletableFuture<Record> recordFuture = handler.nextAsync().toCompletableFuture();
+
+        handler.onSuccess( singletonMap( "has_more", value( true ) ) );
+
+        verify( connection ).writeAndFlush( new PullMessage( 10, ABSENT_QUERY_ID ), handler );
+        assertFalse( recordFuture.isDone() );
+        handler.onRecord( values( 42 ) );
+        assertEquals( value( 42 ), await( recordFuture ).get( "key1" ) );
+    }
+
+    @Test
+    void shouldDiscardRemainingRecordsWhenConsumed()
+    {
+        Connection connection = connectionMock();
+        AbstractPullAllResponseHandler handler = newHandler( singletonList( "key1" ), connection, 1 );
+        handler.onRecord( values( 1 ) );
+        handler.onSuccess( singletonMap( "has_more", value( true ) ) );
+
+        CompletableFuture<ResultSummary> summaryFuture = handler.consumeAsync().toCompletableFuture();
+
+        verify( connection ).writeAndFlush( DiscardMessage.newDiscardAllMessage( ABSENT_QUERY_ID ), handler );
+        verify( connection, never() ).writeAndFlush( any( PullMessage.class ), any() );
+        assertFalse( summaryFuture.isDone() );
+
+        handler.onSuccess( emptyMap() );
+        assertNotNull( await( summaryFuture ) );
+    }
+
+    @Test
+    void shouldTellRecordsAreNotNeededWhenConsumed()
+    {
+        AbstractPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ) );
+        handler.onRecord( values( 1, 2 ) );
+        assertFalse( handler.discardsRecords() );
+
+        handler.consumeAsync();
+
+        assertTrue( handler.discardsRecords() );
+    }
+
+    @Test
+    void shouldDiscardRemainingRecordsWhenConsumedWhileBatchIsStreamed()
+    {
+        Connection connection = connectionMock();
+        AbstractPullAllResponseHandler handler = newHandler( singletonList( "key1" ), connection, 2 );
+        handler.onRecord( values( 1 ) );
+
+        handler.consumeAsync();
+        handler.onRecord( values( 2 ) );
+        handler.onSuccess( singletonMap( "has_more", value( true ) ) );
+
+        verify( connection ).writeAndFlush( DiscardMessage.newDiscardAllMessage( ABSENT_QUERY_ID ), handler );
+    }
+
+    @Test
+    void shouldFetchAllRemainingRecordsWhenListRequested()
+    {
+        Connection connection = connectionMock();
+        AbstractPullAllResponseHandler handler = newHandler( singletonList( "key1" ), connection, 1 );
+        handler.onRecord( values( 1 ) );
+        handler.onSuccess( singletonMap( "has_more", value( true ) ) );
+
+        CompletableFuture<List<Record>> listFuture = handler.listAsync( Function.identity() ).toCompletableFuture();
+
+        verify( connection ).writeAndFlush( new PullMessage( -1, ABSENT_QUERY_ID ), handler );
+        handler.onRecord( values( 2 ) );
+        handler.onRecord( values( 3 ) );
+        handler.onSuccess( emptyMap() );
+        assertEquals( 3, await( listFuture ).size() );
+    }
+
+    @Test
+    void shouldReturnBufferedRecordsFromBlockingCalls()
+    {
+        AbstractPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ) );
+        handler.onRecord( values( 1, 2 ) );
+        handler.onRecord( values( 3, 4 ) );
+
+        assertEquals( new InternalRecord( asList( "key1", "key2" ), values( 1, 2 ) ), handler.peekBlocking( () -> {} ) );
+        assertEquals( new InternalRecord( asList( "key1", "key2" ), values( 1, 2 ) ), handler.nextBlocking( () -> {} ) );
+        assertEquals( new InternalRecord( asList( "key1", "key2" ), values( 3, 4 ) ), handler.nextBlocking( () -> {} ) );
+    }
+
+    @Test
+    void shouldReturnNullFromBlockingCallsWhenSucceeded()
+    {
+        AbstractPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ) );
+        handler.onRecord( values( 1, 2 ) );
+        handler.onSuccess( emptyMap() );
+
+        assertNotNull( handler.nextBlocking( () -> {} ) );
+        assertNull( handler.peekBlocking( () -> {} ) );
+        assertNull( handler.nextBlocking( () -> {} ) );
+    }
+
+    @Test
+    void shouldRethrowFailureFromBlockingCalls()
+    {
+        AbstractPullAllResponseHandler handler = newHandler();
+        RuntimeException error = new RuntimeException( "Hi!" );
+        handler.onFailure( error );
+
+        RuntimeException e = assertThrows( RuntimeException.class, () -> handler.peekBlocking( () -> {} ) );
+        assertEquals( error, e );
+        // failure is propagated only once
+        assertNull( handler.peekBlocking( () -> {} ) );
+    }
+
+    @Test
+    void shouldWaitForRecordInBlockingNext()
+    {
+        AbstractPullAllResponseHandler handler = newHandler( asList( "key1", "key2" ) );
+
+        CompletableFuture<Record> recordFuture = CompletableFuture.supplyAsync( () -> handler.nextBlocking( () -> {} ) );
+        handler.onRecord( values( 1, 2 ) );
+
+        assertEquals( new InternalRecord( asList( "key1", "key2" ), values( 1, 2 ) ), await( recordFuture ) );
+    }
+
+    @Test
+    void shouldWaitForFailureInBlockingPeek()
+    {
+        AbstractPullAllResponseHandler handler = newHandler();
+        RuntimeException error = new RuntimeException( "Hi!" );
+
+        CompletableFuture<Record> recordFuture = CompletableFuture.supplyAsync( () -> handler.peekBlocking( () -> {} ) );
+        handler.onFailure( error );
+
+        RuntimeException e = assertThrows( RuntimeException.class, () -> await( recordFuture ) );
+        assertEquals( error, e );
+    }
+
+    @Test
+    void shouldStopWaitingInBlockingPeekWhenConsumed()
+    {
+        AbstractPullAllResponseHandler handler = newHandler();
+
+        CompletableFuture<Record> recordFuture = CompletableFuture.supplyAsync( () -> handler.peekBlocking( () -> {} ) );
+        handler.consumeAsync();
+
+        assertNull( await( recordFuture ) );
+    }
+
     private static AbstractPullAllResponseHandler newHandler()
     {
         return newHandler( new Statement( "RETURN 1" ) );
@@ -1089,11 +1381,24 @@ class AbstractPullAllResponseHandlerTest
         return new TestPullAllResponseHandler( statement, runResponseHandler, connection );
     }
 
+    private static AbstractPullAllResponseHandler newHandler( List<String> statementKeys, Connection connection, long fetchSize )
+    {
+        RunResponseHandler runResponseHandler = new RunResponseHandler( new CompletableFuture<>(), METADATA_EXTRACTOR );
+        runResponseHandler.onSuccess( singletonMap( "fields", value( statementKeys ) ) );
+        return new TestPullAllResponseHandler( new Statement( "RETURN 1" ), runResponseHandler, connection, fetchSize );
+    }
+
     private static Connection connectionMock()
+    {
+        return connectionMock( new RecordBufferBudget( RECORDS_IN_RESULT_BUFFER * RECORD_SIZE, Long.MAX_VALUE ) );
+    }
+
+    private static Connection connectionMock( RecordBufferBudget recordBufferBudget )
     {
         Connection connection = mock( Connection.class );
         when( connection.serverAddress() ).thenReturn( BoltServerAddress.LOCAL_DEFAULT );
         when( connection.serverVersion() ).thenReturn( ServerVersion.v3_2_0 );
+        when( connection.recordBufferBudget() ).thenReturn( recordBufferBudget );
         return connection;
     }
 
@@ -1111,6 +1416,11 @@ class AbstractPullAllResponseHandlerTest
             super( statement, runResponseHandler, connection, METADATA_EXTRACTOR );
         }
 
+        TestPullAllResponseHandler( Statement statement, RunResponseHandler runResponseHandler, Connection connection, long fetchSize )
+        {
+            super( statement, runResponseHandler, connection, METADATA_EXTRACTOR, fetchSize );
+        }
+
         @Override
         protected void afterSuccess( Map<String,Value> metadata )
         {
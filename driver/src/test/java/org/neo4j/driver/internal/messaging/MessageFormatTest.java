@@ -42,10 +42,14 @@ import org.neo4j.driver.internal.util.messaging.KnowledgeableMessageFormat;
 import org.neo4j.driver.internal.util.messaging.MemorizingInboundMessageDispatcher;
 import org.neo4j.driver.internal.messaging.v1.MessageFormatV1;
 import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.value.DoubleListValue;
+import org.neo4j.driver.internal.value.ListValue;
+import org.neo4j.driver.internal.value.LongListValue;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.ClientException;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonMap;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -87,6 +91,29 @@ class MessageFormatTest
         assertSerializesValue( value( asList( "k", 12, "a", "banana" ) ) );
     }
 
+    @Test
+    void shouldUnpackListsOfNumbersIntoPrimitiveArrays() throws Throwable
+    {
+        assertThat( serializedValue( value( new long[]{1, -200, Long.MAX_VALUE} ) ), instanceOf( LongListValue.class ) );
+        assertThat( serializedValue( value( asList( 1, 2, 3 ) ) ), instanceOf( LongListValue.class ) );
+        assertThat( serializedValue( value( new double[]{1.5, -0.25, Double.NaN} ) ), instanceOf( DoubleListValue.class ) );
+
+        assertSerializesValue( value( new long[]{1, -200, Long.MAX_VALUE} ) );
+        assertSerializesValue( value( new double[]{1.5, -0.25, Double.MAX_VALUE} ) );
+    }
+
+    @Test
+    void shouldUnpackMixedListsIntoValues() throws Throwable
+    {
+        Value mixed = value( asList( 1L, 2L, 3.0, "four" ) );
+        Value unpacked = serializedValue( mixed );
+
+        assertEquals( ListValue.class, unpacked.getClass() );
+        assertEquals( mixed, unpacked );
+        assertEquals( value( asList( 1.0, 2L ) ), serializedValue( value( asList( 1.0, 2L ) ) ) );
+        assertEquals( value( emptyList() ), serializedValue( value( emptyList() ) ) );
+    }
+
     @Test
     void shouldUnpackNodeRelationshipAndPath() throws Throwable
     {
@@ -153,6 +180,16 @@ class MessageFormatTest
         assertSerializes( new RecordMessage( new Value[]{value} ) );
     }
 
+    private Value serializedValue( Value value ) throws Throwable
+    {
+        EmbeddedChannel channel = newEmbeddedChannel( new KnowledgeableMessageFormat() );
+
+        ByteBuf packed = pack( new RecordMessage( new Value[]{value} ), channel );
+        RecordMessage unpackedMessage = (RecordMessage) unpack( packed, channel );
+
+        return unpackedMessage.fields()[0];
+    }
+
     private void assertSerializes( Message message ) throws Throwable
     {
         EmbeddedChannel channel = newEmbeddedChannel( new KnowledgeableMessageFormat() );
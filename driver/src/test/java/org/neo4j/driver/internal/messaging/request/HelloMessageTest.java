@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.BlobTransferHints;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -60,4 +61,18 @@ class HelloMessageTest
 
         assertThat( message.toString(), not( containsString( "SecretPassword" ) ) );
     }
+
+    @Test
+    void shouldIncludeBlobTransferHints()
+    {
+        Map<String,Value> authToken = new HashMap<>();
+        authToken.put( "user", value( "Alice" ) );
+
+        HelloMessage message = new HelloMessage( "MyDriver/1.0.2", authToken, new BlobTransferHints( 4096, BlobTransferHints.NOT_CONFIGURED ) );
+
+        Map<String,Value> expectedMetadata = new HashMap<>( authToken );
+        expectedMetadata.put( "user_agent", value( "MyDriver/1.0.2" ) );
+        expectedMetadata.put( "blob_inline_threshold", value( 4096L ) );
+        assertEquals( expectedMetadata, message.metadata() );
+    }
 }
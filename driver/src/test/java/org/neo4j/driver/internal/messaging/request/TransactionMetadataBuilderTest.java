@@ -18,6 +18,7 @@
  */
 package org.neo4j.driver.internal.messaging.request;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -29,6 +30,7 @@ import java.util.Map;
 
 import org.neo4j.driver.AccessMode;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.BlobTransferHints;
 import org.neo4j.driver.internal.Bookmarks;
 
 import static java.util.Arrays.asList;
@@ -94,4 +96,15 @@ public class TransactionMetadataBuilderTest
 
         assertEquals( expectedMetadata, metadata );
     }
+
+    @Test
+    void shouldIncludeBlobTransferHints()
+    {
+        Map<String,Value> metadata = buildMetadata( null, null, ABSENT_DB_NAME, WRITE, Bookmarks.empty(), new BlobTransferHints( 0, 1024 ) );
+
+        Map<String,Value> expectedMetadata = new HashMap<>();
+        expectedMetadata.put( "blob_inline_threshold", value( 0L ) );
+        expectedMetadata.put( "max_record_size", value( 1024L ) );
+        assertEquals( expectedMetadata, metadata );
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.messaging.v5;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.async.inbound.ByteBufInput;
+import org.neo4j.driver.internal.messaging.ValueCodec;
+import org.neo4j.driver.internal.packstream.PackStream;
+import org.neo4j.driver.internal.types.TypeConstructor;
+import org.neo4j.driver.internal.util.io.ByteBufOutput;
+import org.neo4j.driver.internal.value.InternalValue;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.neo4j.driver.Values.value;
+
+class ValueUnpackerV5Test
+{
+    private static final byte CUSTOM_MARKER = (byte) 0xE7;
+
+    @Test
+    void shouldUnpackValuesWithCustomMarkersUsingCodec() throws IOException
+    {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        CustomCodec codec = new CustomCodec();
+        ByteBuf buf = Unpooled.buffer();
+        PackStream.Packer packer = new PackStream.Packer( new ByteBufOutput( buf ) );
+        packer.packListHeader( 3 );
+        buf.writeByte( CUSTOM_MARKER ).writeInt( 42 );
+        packer.pack( "string" );
+        buf.writeByte( CUSTOM_MARKER ).writeInt( -1 );
+
+        ByteBufInput input = new ByteBufInput();
+        input.setChannel( channel );
+        input.start( buf );
+        Value[] values = new ValueUnpackerV5( input, codec ).unpackArray();
+        input.stop();
+
+        assertArrayEquals( new Value[]{value( 42 ), value( "string" ), value( -1 )}, values );
+        assertSame( channel, codec.lastChannel );
+        buf.release();
+    }
+
+    private static class CustomCodec implements ValueCodec
+    {
+        Channel lastChannel;
+
+        @Override
+        public TypeConstructor typeConstructor()
+        {
+            return TypeConstructor.BLOB;
+        }
+
+        @Override
+        public byte[] markers()
+        {
+            return new byte[]{CUSTOM_MARKER};
+        }
+
+        @Override
+        public void pack( InternalValue value, PackStream.Packer packer ) throws IOException
+        {
+            packer.output().writeByte( CUSTOM_MARKER ).writeInt( value.asInt() );
+        }
+
+        @Override
+        public Value unpack( PackStream.Unpacker unpacker, Channel channel ) throws IOException
+        {
+            lastChannel = channel;
+            unpacker.input().readByte();
+            return value( unpacker.input().readInt() );
+        }
+    }
+}
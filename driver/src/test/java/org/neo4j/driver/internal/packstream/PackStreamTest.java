@@ -437,6 +437,66 @@ public class PackStreamTest
 
     }
 
+    @Test
+    void testCanPackAndUnpackPrimitiveArrays() throws Throwable
+    {
+        // Given
+        Machine machine = new Machine();
+
+        // When
+        PackStream.Packer packer = machine.packer();
+        packer.pack( (Object) new int[]{1, -200, 70_000} );
+        packer.pack( (Object) new long[]{5_000_000_000L} );
+        packer.pack( (Object) new short[]{-16, 300} );
+        packer.pack( (Object) new double[]{1.5} );
+        packer.pack( (Object) new float[]{0.5f, -2f} );
+        packer.pack( (Object) new boolean[]{true, false} );
+        packer.pack( (Object) new String[]{"eins", "zwei"} );
+
+        // Then
+        PackStream.Unpacker unpacker = newUnpacker( machine.output() );
+
+        assertThat( unpacker.unpackListHeader(), equalTo( 3L ) );
+        assertThat( unpacker.unpackLong(), equalTo( 1L ) );
+        assertThat( unpacker.unpackLong(), equalTo( -200L ) );
+        assertThat( unpacker.unpackLong(), equalTo( 70_000L ) );
+
+        assertThat( unpacker.unpackListHeader(), equalTo( 1L ) );
+        assertThat( unpacker.unpackLong(), equalTo( 5_000_000_000L ) );
+
+        assertThat( unpacker.unpackListHeader(), equalTo( 2L ) );
+        assertThat( unpacker.unpackLong(), equalTo( -16L ) );
+        assertThat( unpacker.unpackLong(), equalTo( 300L ) );
+
+        assertThat( unpacker.unpackListHeader(), equalTo( 1L ) );
+        assertThat( unpacker.unpackDouble(), equalTo( 1.5 ) );
+
+        assertThat( unpacker.unpackListHeader(), equalTo( 2L ) );
+        assertThat( unpacker.unpackDouble(), equalTo( 0.5 ) );
+        assertThat( unpacker.unpackDouble(), equalTo( -2.0 ) );
+
+        assertThat( unpacker.unpackListHeader(), equalTo( 2L ) );
+        assertThat( unpacker.unpackBoolean(), equalTo( true ) );
+        assertThat( unpacker.unpackBoolean(), equalTo( false ) );
+
+        assertThat( unpacker.unpackListHeader(), equalTo( 2L ) );
+        assertThat( unpacker.unpackString(), equalTo( "eins" ) );
+        assertThat( unpacker.unpackString(), equalTo( "zwei" ) );
+    }
+
+    @Test
+    void testPacksElementsOfIntegerArraysInNarrowestEncoding() throws Throwable
+    {
+        // Given
+        Machine machine = new Machine();
+
+        // When
+        machine.packer().pack( new long[]{1, 2, 3} );
+
+        // Then
+        assertArrayEquals( new byte[]{(byte) 0x93, 1, 2, 3}, machine.output() );
+    }
+
     @Test
     void testCanPackAndUnpackListOfString() throws Throwable
     {
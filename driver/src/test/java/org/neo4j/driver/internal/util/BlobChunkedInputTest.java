@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+import org.neo4j.driver.internal.value.InlineBlob;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BlobChunkedInputTest
+{
+    private static final UnpooledByteBufAllocator ALLOCATOR = UnpooledByteBufAllocator.DEFAULT;
+
+    private final ExecutorService readers = Executors.newSingleThreadExecutor();
+    private final Semaphore resumed = new Semaphore( 0 );
+
+    @AfterEach
+    void tearDown()
+    {
+        readers.shutdownNow();
+    }
+
+    @Test
+    void shouldReadBlobWindowByWindow() throws Exception
+    {
+        byte[] bytes = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+        BlobChunkedInput input = new BlobChunkedInput( new InlineBlob( bytes, null, bytes.length, null ), 4, ALLOCATOR,
+                resumed::release, readers );
+
+        List<Integer> windowSizes = new ArrayList<>();
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        while ( !input.isEndOfInput() )
+        {
+            ByteBuf window = nextWindow( input );
+            windowSizes.add( window.readableBytes() );
+            byte[] windowBytes = new byte[window.readableBytes()];
+            window.readBytes( windowBytes );
+            content.write( windowBytes );
+            window.release();
+        }
+
+        assertEquals( asList( 4, 4, 2 ), windowSizes );
+        assertArrayEquals( bytes, content.toByteArray() );
+        assertEquals( bytes.length, input.progress() );
+        assertNull( input.readChunk( ALLOCATOR ) );
+    }
+
+    @Test
+    void shouldNotOpenBlobStreamBeforeFirstRead()
+    {
+        ExecutorService executor = mock( ExecutorService.class );
+        BlobChunkedInput input = new BlobChunkedInput( new InlineBlob( new byte[8], null, 8, null ), 4, ALLOCATOR,
+                resumed::release, executor );
+
+        assertFalse( input.isEndOfInput() );
+        input.close();
+
+        verify( executor, never() ).execute( any() );
+    }
+
+    @Test
+    void shouldFailWhenBlobStreamIsShorterThanBlobLength()
+    {
+        BlobChunkedInput input = new BlobChunkedInput( new InlineBlob( new byte[3], null, 10, null ), 4, ALLOCATOR,
+                resumed::release, readers );
+
+        IOException error = assertThrows( IOException.class, () -> nextWindow( input ) );
+        assertTrue( error.getCause().getMessage().startsWith( "blob stream ended after 3 bytes" ) );
+    }
+
+    private ByteBuf nextWindow( BlobChunkedInput input ) throws Exception
+    {
+        ByteBuf window = input.readChunk( ALLOCATOR );
+        while ( window == null )
+        {
+            // reader resumes the input once the next window is ready
+            assertTrue( resumed.tryAcquire( 10, SECONDS ) );
+            window = input.readChunk( ALLOCATOR );
+        }
+        return window;
+    }
+}
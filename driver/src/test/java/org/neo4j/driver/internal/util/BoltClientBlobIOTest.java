@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.blob.BlobId;
+import org.neo4j.blob.MimeType;
+import org.neo4j.driver.internal.async.outbound.ChunkAwareByteBufOutput;
+import org.neo4j.driver.internal.value.InlineBlob;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.neo4j.driver.internal.logging.DevNullLogger.DEV_NULL_LOGGER;
+
+class BoltClientBlobIOTest
+{
+    private static final MimeType OCTET_STREAM = MimeType.fromText( "application/octet-stream" );
+
+    @Test
+    void shouldGatherInlineBlobAsSinglePart()
+    {
+        byte[] bytes = new byte[100 * 4096];
+        bytes[0] = 1;
+        bytes[bytes.length - 1] = 2;
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 4098 );
+        output.enableStreaming( UnpooledByteBufAllocator.DEFAULT, DEV_NULL_LOGGER );
+
+        ByteBuf head = Unpooled.buffer();
+        output.start( head );
+        BoltClientBlobIO.packBlob( new InlineBlob( bytes, BlobId.EMPTY(), bytes.length, OCTET_STREAM ), output );
+        ByteBuf tail = output.stop();
+
+        List<Object> parts = new ArrayList<>();
+        output.drainStreamedParts( parts );
+        // blob header, then the whole blob content in one part, no part per read from the blob stream
+        assertEquals( 2, parts.size() );
+        assertSame( head, parts.get( 0 ) );
+        assertThat( parts.get( 1 ), instanceOf( CompositeByteBuf.class ) );
+
+        CompositeByteBuf gathered = (CompositeByteBuf) parts.get( 1 );
+        assertEquals( 2 * 100, gathered.numComponents() );
+        assertEquals( 100 * 2 + bytes.length, gathered.readableBytes() );
+        assertEquals( 4096, gathered.readUnsignedShort() );
+        assertEquals( 1, gathered.readByte() );
+        gathered.skipBytes( gathered.readableBytes() - 1 );
+        assertEquals( 2, gathered.readByte() );
+
+        gathered.release();
+        head.release();
+        tail.release();
+    }
+
+    @Test
+    void shouldCopyInlineBlobWhenStreamingNotEnabled()
+    {
+        byte[] bytes = new byte[100 * 4096];
+        ChunkAwareByteBufOutput output = new ChunkAwareByteBufOutput( 4098 );
+
+        ByteBuf buf = Unpooled.buffer();
+        output.start( buf );
+        BoltClientBlobIO.packBlob( new InlineBlob( bytes, BlobId.EMPTY(), bytes.length, OCTET_STREAM ), output );
+        ByteBuf tail = output.stop();
+
+        List<Object> parts = new ArrayList<>();
+        output.drainStreamedParts( parts );
+        assertEquals( 0, parts.size() );
+        assertSame( buf, tail );
+        tail.release();
+    }
+}
@@ -71,6 +71,7 @@ class MetadataExtractorTest
         List<String> keys = asList( "hello", " ", "world", "!" );
         List<String> extractedKeys = extractor.extractStatementKeys( singletonMap( "fields", value( keys ) ) );
         assertEquals( keys, extractedKeys );
+        assertEquals( 3, extractedKeys.indexOf( "!" ) );
     }
 
     @Test
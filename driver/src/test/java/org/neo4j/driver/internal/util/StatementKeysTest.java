@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.internal.InternalRecord;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.Values.NULL;
+import static org.neo4j.driver.Values.value;
+
+class StatementKeysTest
+{
+    @Test
+    void shouldBehaveAsListOfKeys()
+    {
+        List<String> keys = asList( "name", "age", "city" );
+        StatementKeys statementKeys = new StatementKeys( keys );
+
+        assertEquals( keys, statementKeys );
+        assertEquals( statementKeys, keys );
+        assertEquals( keys.hashCode(), statementKeys.hashCode() );
+        assertEquals( 3, statementKeys.size() );
+        assertEquals( "age", statementKeys.get( 1 ) );
+    }
+
+    @Test
+    void shouldLookUpIndexOfKey()
+    {
+        StatementKeys statementKeys = new StatementKeys( asList( "name", "age", "city" ) );
+
+        assertEquals( 0, statementKeys.indexOf( "name" ) );
+        assertEquals( 2, statementKeys.indexOf( "city" ) );
+        assertEquals( -1, statementKeys.indexOf( "country" ) );
+        assertTrue( statementKeys.contains( "age" ) );
+        assertFalse( statementKeys.contains( "country" ) );
+        assertFalse( statementKeys.contains( null ) );
+    }
+
+    @Test
+    void shouldReturnFirstIndexOfDuplicateKey()
+    {
+        StatementKeys statementKeys = new StatementKeys( asList( "n", "m", "n" ) );
+
+        assertEquals( 0, statementKeys.indexOf( "n" ) );
+        assertEquals( 2, statementKeys.lastIndexOf( "n" ) );
+    }
+
+    @Test
+    void shouldBeImmutable()
+    {
+        StatementKeys statementKeys = new StatementKeys( asList( "name", "age" ) );
+
+        assertThrows( UnsupportedOperationException.class, () -> statementKeys.add( "city" ) );
+        assertThrows( UnsupportedOperationException.class, () -> statementKeys.remove( 0 ) );
+    }
+
+    @Test
+    void shouldBeUsedForFieldLookupsOfRecord()
+    {
+        InternalRecord record = new InternalRecord( new StatementKeys( asList( "name", "age" ) ), new Value[]{value( "Alice" ), value( 42 )} );
+
+        assertEquals( value( 42 ), record.get( "age" ) );
+        assertEquals( 0, record.index( "name" ) );
+        assertTrue( record.containsKey( "name" ) );
+        assertEquals( NULL, record.get( "city" ) );
+    }
+}
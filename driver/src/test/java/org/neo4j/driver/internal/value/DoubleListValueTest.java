@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.value.LossyCoercion;
+import org.neo4j.driver.exceptions.value.Uncoercible;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.neo4j.driver.Values.NULL;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.Values.values;
+
+class DoubleListValueTest
+{
+    @Test
+    void shouldHaveSensibleToString()
+    {
+        assertThat( new DoubleListValue( 1.5, 2, -3.25 ).toString(), equalTo( "[1.5, 2.0, -3.25]" ) );
+    }
+
+    @Test
+    void shouldBeEqualToListOfFloatValues()
+    {
+        Value doubles = new DoubleListValue( 1.5, 2.5 );
+        Value values = new ListValue( values( 1.5, 2.5 ) );
+
+        assertEquals( values, doubles );
+        assertEquals( doubles, values );
+        assertEquals( values.hashCode(), doubles.hashCode() );
+    }
+
+    @Test
+    void shouldAccessElements()
+    {
+        Value doubles = new DoubleListValue( 1.5, 2.5 );
+
+        assertEquals( value( 2.5 ), doubles.get( 1 ) );
+        assertEquals( NULL, doubles.get( -1 ) );
+        assertEquals( asList( 1.5, 2.5 ), doubles.asList() );
+    }
+
+    @Test
+    void shouldReturnPrimitiveArrays()
+    {
+        assertArrayEquals( new double[]{1.5, 2.5}, new DoubleListValue( 1.5, 2.5 ).asDoubleArray() );
+        assertArrayEquals( new long[]{1, 2}, new DoubleListValue( 1, 2 ).asLongArray() );
+        assertThrows( LossyCoercion.class, () -> new DoubleListValue( 1.5 ).asLongArray() );
+    }
+
+    @Test
+    void shouldConvertListOfValuesToPrimitiveArrays()
+    {
+        Value values = new ListValue( values( 1, 2 ) );
+
+        assertArrayEquals( new long[]{1, 2}, values.asLongArray() );
+        assertArrayEquals( new double[]{1, 2}, values.asDoubleArray() );
+        assertThrows( Uncoercible.class, () -> new ListValue( values( "a" ) ).asLongArray() );
+        assertThrows( Uncoercible.class, () -> value( "a" ).asDoubleArray() );
+    }
+}
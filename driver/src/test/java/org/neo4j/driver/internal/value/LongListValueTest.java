@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import org.junit.jupiter.api.Test;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.value.LossyCoercion;
+import org.neo4j.driver.internal.types.InternalTypeSystem;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.neo4j.driver.Values.NULL;
+import static org.neo4j.driver.Values.ofLong;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.Values.values;
+
+class LongListValueTest
+{
+    @Test
+    void shouldHaveSensibleToString()
+    {
+        assertThat( new LongListValue( 1, 2, 3 ).toString(), equalTo( "[1, 2, 3]" ) );
+    }
+
+    @Test
+    void shouldHaveCorrectType()
+    {
+        assertThat( new LongListValue().type(), equalTo( InternalTypeSystem.TYPE_SYSTEM.LIST() ) );
+    }
+
+    @Test
+    void shouldBeEqualToListOfIntegerValues()
+    {
+        Value longs = new LongListValue( 1, 2, 3 );
+        Value values = new ListValue( values( 1, 2, 3 ) );
+
+        assertEquals( values, longs );
+        assertEquals( longs, values );
+        assertEquals( values.hashCode(), longs.hashCode() );
+        assertEquals( new LongListValue( 1, 2, 3 ), longs );
+        assertNotEquals( new DoubleListValue( 1, 2, 3 ), longs );
+        assertNotEquals( new LongListValue( 1, 2 ), longs );
+    }
+
+    @Test
+    void shouldAccessElements()
+    {
+        Value longs = new LongListValue( 1, 2, 3 );
+
+        assertEquals( 3, longs.size() );
+        assertEquals( value( 2 ), longs.get( 1 ) );
+        assertEquals( NULL, longs.get( 3 ) );
+        assertEquals( asList( 1L, 2L, 3L ), longs.asList() );
+        assertEquals( asList( 1L, 2L, 3L ), longs.asList( ofLong() ) );
+        assertTrue( new LongListValue().isEmpty() );
+    }
+
+    @Test
+    void shouldReturnPrimitiveArrays()
+    {
+        Value longs = new LongListValue( 1, 2, 3 );
+
+        assertArrayEquals( new long[]{1, 2, 3}, longs.asLongArray() );
+        assertArrayEquals( new double[]{1, 2, 3}, longs.asDoubleArray() );
+        assertThrows( LossyCoercion.class, () -> new LongListValue( Long.MAX_VALUE - 1 ).asDoubleArray() );
+    }
+
+    @Test
+    void shouldNotExposeBackingArrayThroughAccessors()
+    {
+        long[] array = {1, 2, 3};
+        Value longs = new LongListValue( array );
+
+        longs.asLongArray()[0] = 42;
+
+        assertEquals( 1, array[0] );
+    }
+}
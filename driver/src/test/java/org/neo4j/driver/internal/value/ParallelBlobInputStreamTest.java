@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.BlobSettings;
+import org.neo4j.driver.internal.GetBlobMessage;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.util.Futures;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.BoltServerAddress.LOCAL_DEFAULT;
+
+class ParallelBlobInputStreamTest
+{
+    private static final byte[] CONTENT = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+    private static final BlobSettings SETTINGS = new BlobSettings( 16, BlobSettings.NOT_CONFIGURED, 4, 0 );
+
+    private final List<Connection> connections = new ArrayList<>();
+    private final List<String> requestedRanges = new ArrayList<>();
+
+    @Test
+    void shouldSplitBlobIntoRangesAndReadThemInOrder() throws IOException
+    {
+        ConnectionPool pool = newPool( 4 );
+
+        byte[] bytes = readAll( new ParallelBlobInputStream( pool, LOCAL_DEFAULT, "blob", CONTENT.length, SETTINGS ) );
+
+        assertArrayEquals( CONTENT, bytes );
+        assertEquals( asList( "[0, 3)", "[3, 6)", "[6, 9)", "[9, 10)" ), requestedRanges );
+        verifyAllConnectionsReleased( 4 );
+    }
+
+    @Test
+    void shouldNotSplitBlobIntoMoreRangesThanIdleConnections() throws IOException
+    {
+        ConnectionPool pool = newPool( 2 );
+
+        byte[] bytes = readAll( new ParallelBlobInputStream( pool, LOCAL_DEFAULT, "blob", CONTENT.length, SETTINGS ) );
+
+        assertArrayEquals( CONTENT, bytes );
+        assertEquals( asList( "[0, 5)", "[5, 10)" ), requestedRanges );
+        verifyAllConnectionsReleased( 2 );
+    }
+
+    @Test
+    void shouldFetchSingleRangeWhenNoConnectionIsIdle() throws IOException
+    {
+        ConnectionPool pool = newPool( 0 );
+
+        byte[] bytes = readAll( new ParallelBlobInputStream( pool, LOCAL_DEFAULT, "blob", CONTENT.length, SETTINGS ) );
+
+        assertArrayEquals( CONTENT, bytes );
+        assertEquals( asList( "[0, 10)" ), requestedRanges );
+        verifyAllConnectionsReleased( 1 );
+    }
+
+    @Test
+    void shouldFetchSingleRangeWhenAdditionalConnectionCanNotBeAcquired() throws IOException
+    {
+        ConnectionPool pool = newPool( 3 );
+        doAnswer( invocation -> completedFuture( newConnection() ) )
+                .doAnswer( invocation -> completedFuture( newConnection() ) )
+                .doReturn( Futures.failedFuture( new ClientException( "Unable to acquire connection" ) ) )
+                .when( pool ).acquire( LOCAL_DEFAULT );
+
+        byte[] bytes = readAll( new ParallelBlobInputStream( pool, LOCAL_DEFAULT, "blob", CONTENT.length, SETTINGS ) );
+
+        assertArrayEquals( CONTENT, bytes );
+        assertEquals( asList( "[0, 10)" ), requestedRanges );
+        verifyAllConnectionsReleased( 2 );
+    }
+
+    @Test
+    void shouldReleaseConnectionsOfUnreadRangesWhenClosed() throws IOException
+    {
+        ConnectionPool pool = newPool( 4 );
+
+        InputStream stream = new ParallelBlobInputStream( pool, LOCAL_DEFAULT, "blob", CONTENT.length, SETTINGS );
+        assertEquals( 0, stream.read() );
+        stream.close();
+
+        verifyAllConnectionsReleased( 4 );
+    }
+
+    @Test
+    void shouldReleaseAllConnectionsWhenRangeCanNotBeRequested()
+    {
+        ConnectionPool pool = newPool( 4 );
+        doAnswer( invocation -> completedFuture( newConnection() ) )
+                .doAnswer( invocation -> completedFuture( newFailingConnection() ) )
+                .doAnswer( invocation -> completedFuture( newConnection() ) )
+                .when( pool ).acquire( LOCAL_DEFAULT );
+
+        assertThrows( IllegalStateException.class,
+                () -> new ParallelBlobInputStream( pool, LOCAL_DEFAULT, "blob", CONTENT.length, SETTINGS ) );
+
+        verifyAllConnectionsReleased( 4 );
+    }
+
+    private ConnectionPool newPool( int idleConnections )
+    {
+        ConnectionPool pool = mock( ConnectionPool.class );
+        when( pool.idleConnections( LOCAL_DEFAULT ) ).thenReturn( idleConnections );
+        when( pool.acquire( LOCAL_DEFAULT ) ).thenAnswer( invocation -> completedFuture( newConnection() ) );
+        return pool;
+    }
+
+    /**
+     * @return connection that answers a ranged blob request with a single chunk holding the range
+     */
+    private Connection newConnection()
+    {
+        Connection connection = mock( Connection.class );
+        doAnswer( invocation ->
+        {
+            GetBlobMessage request = invocation.getArgument( 0 );
+            ResponseHandler handler = invocation.getArgument( 1 );
+            int offset = (int) request.offset();
+            int length = (int) request.length();
+            requestedRanges.add( "[" + offset + ", " + (offset + length) + ")" );
+
+            byte[] range = Arrays.copyOfRange( CONTENT, offset, offset + length );
+            handler.onRecord( new Value[]{value( 0 ), value( offset ), value( length ), value( range ), value( true ),
+                    value( CONTENT.length )} );
+            handler.onSuccess( emptyMap() );
+            return null;
+        } ).when( connection ).writeAndFlush( any(), any() );
+        connections.add( connection );
+        return connection;
+    }
+
+    private Connection newFailingConnection()
+    {
+        Connection connection = mock( Connection.class );
+        doThrow( new IllegalStateException( "Connection is closed" ) ).when( connection ).writeAndFlush( any(), any() );
+        connections.add( connection );
+        return connection;
+    }
+
+    private void verifyAllConnectionsReleased( int expectedConnections )
+    {
+        assertEquals( expectedConnections, connections.size() );
+        for ( Connection connection : connections )
+        {
+            verify( connection, times( 1 ) ).release();
+        }
+    }
+
+    private static byte[] readAll( InputStream stream ) throws IOException
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4];
+        int read;
+        while ( (read = stream.read( buffer, 0, buffer.length )) != -1 )
+        {
+            bytes.write( buffer, 0, read );
+        }
+        stream.close();
+        return bytes.toByteArray();
+    }
+}
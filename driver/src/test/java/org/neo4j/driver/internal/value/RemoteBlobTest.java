@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2002-2019 "Neo4j,"
+ * Neo4j Sweden AB [http://neo4j.com]
+ *
+ * This file is part of Neo4j.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.driver.internal.value;
+
+import io.netty.channel.EventLoopGroup;
+import org.junit.jupiter.api.Test;
+import scala.runtime.AbstractFunction1;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.blob.BlobId;
+import org.neo4j.driver.Value;
+import org.neo4j.driver.exceptions.ClientException;
+import org.neo4j.driver.internal.BlobSettings;
+import org.neo4j.driver.internal.GetBlobMessageHandler;
+import org.neo4j.driver.internal.async.connection.EventLoopGroupFactory;
+import org.neo4j.driver.internal.spi.Connection;
+import org.neo4j.driver.internal.spi.ConnectionPool;
+import org.neo4j.driver.internal.spi.ResponseHandler;
+import org.neo4j.driver.internal.util.Futures;
+
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.neo4j.driver.Values.value;
+import static org.neo4j.driver.internal.BoltServerAddress.LOCAL_DEFAULT;
+import static org.neo4j.driver.internal.util.Matchers.blockingOperationInEventLoopError;
+
+class RemoteBlobTest
+{
+    private static final byte[] CONTENT = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+    private final Connection connection = mock( Connection.class );
+    private final ConnectionPool pool = mock( ConnectionPool.class );
+
+    @Test
+    void shouldReleaseConnectionWhenAllBytesAreReceived()
+    {
+        when( pool.acquire( LOCAL_DEFAULT ) ).thenReturn( completedFuture( connection ) );
+        respondWith( CONTENT, true );
+
+        byte[] bytes = newBlob( pool ).offerStream( new AbstractFunction1<InputStream,byte[]>()
+        {
+            @Override
+            public byte[] apply( InputStream stream )
+            {
+                byte[] read = readAll( stream );
+                // stream is still open, connection is not needed for the buffered rest of the blob
+                verify( connection ).release();
+                return read;
+            }
+        } );
+
+        assertArrayEquals( CONTENT, bytes );
+        verify( connection ).release();
+    }
+
+    @Test
+    void shouldReleaseConnectionWhenClosedBeforeEndOfBlob()
+    {
+        when( pool.acquire( LOCAL_DEFAULT ) ).thenReturn( completedFuture( connection ) );
+        // first chunk of a longer blob, the rest is never received
+        respondWith( CONTENT, false );
+
+        int first = newBlob( pool ).offerStream( new AbstractFunction1<InputStream,Integer>()
+        {
+            @Override
+            public Integer apply( InputStream stream )
+            {
+                try
+                {
+                    int read = stream.read();
+                    verify( connection, never() ).release();
+                    return read;
+                }
+                catch ( IOException e )
+                {
+                    throw new UncheckedIOException( e );
+                }
+            }
+        } );
+
+        assertEquals( 0, first );
+        verify( connection ).release();
+    }
+
+    @Test
+    void shouldReleaseConnectionWhenRequestFails()
+    {
+        when( pool.acquire( LOCAL_DEFAULT ) ).thenReturn( completedFuture( connection ) );
+        doAnswer( invocation ->
+        {
+            ResponseHandler handler = invocation.getArgument( 1 );
+            handler.onFailure( new ClientException( "Blob not found" ) );
+            return null;
+        } ).when( connection ).writeAndFlush( any(), any() );
+
+        assertThrows( FailedToReadStreamException.class, () -> readBlob( newBlob( pool ) ) );
+        verify( connection ).release();
+    }
+
+    @Test
+    void shouldFailClearlyWithoutConnectionPool()
+    {
+        IllegalStateException e = assertThrows( IllegalStateException.class, () -> readBlob( newBlob( null ) ) );
+        assertThat( e.getMessage(), containsString( "not received over a pooled connection" ) );
+    }
+
+    @Test
+    void shouldExplainFailedConnectionAcquisition()
+    {
+        when( pool.acquire( LOCAL_DEFAULT ) ).thenReturn(
+                Futures.failedFuture( new ClientException( "Unable to acquire connection from the pool" ) ) );
+
+        ClientException e = assertThrows( ClientException.class, () -> readBlob( newBlob( pool ) ) );
+        assertThat( e.getMessage(), containsString( "consider a larger connection pool" ) );
+    }
+
+    @Test
+    void shouldFailToReadBlobInEventLoopThreadWithoutAcquiringConnection() throws Exception
+    {
+        RemoteBlob blob = newBlob( pool );
+
+        ExecutionException e = assertThrows( ExecutionException.class, () -> inEventLoop( () -> readBlob( blob ) ) );
+        assertThat( e.getCause(), is( blockingOperationInEventLoopError() ) );
+        verify( pool, never() ).acquire( any() );
+    }
+
+    @Test
+    void shouldFailToWaitForChunkInEventLoopThread() throws Exception
+    {
+        GetBlobMessageHandler handler = new GetBlobMessageHandler( connection, 16 );
+
+        ExecutionException e = assertThrows( ExecutionException.class, () -> inEventLoop( handler::nextChunk ) );
+        assertThat( e.getCause(), is( blockingOperationInEventLoopError() ) );
+    }
+
+    private static <T> T inEventLoop( Callable<T> task ) throws Exception
+    {
+        EventLoopGroup eventLoopGroup = EventLoopGroupFactory.newEventLoopGroup( 1 );
+        try
+        {
+            return eventLoopGroup.submit( task ).get( 10, TimeUnit.SECONDS );
+        }
+        finally
+        {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    private void respondWith( byte[] chunk, boolean tail )
+    {
+        doAnswer( invocation ->
+        {
+            ResponseHandler handler = invocation.getArgument( 1 );
+            handler.onRecord( new Value[]{value( 0 ), value( 0 ), value( chunk.length ), value( chunk ), value( tail ),
+                    value( CONTENT.length )} );
+            if ( tail )
+            {
+                handler.onSuccess( emptyMap() );
+            }
+            return null;
+        } ).when( connection ).writeAndFlush( any(), any() );
+    }
+
+    private static RemoteBlob newBlob( ConnectionPool pool )
+    {
+        return new RemoteBlob( pool, LOCAL_DEFAULT, "blob", mock( BlobId.class ), CONTENT.length, null,
+                BlobSettings.DEFAULT );
+    }
+
+    private static byte[] readBlob( RemoteBlob blob )
+    {
+        return blob.offerStream( new AbstractFunction1<InputStream,byte[]>()
+        {
+            @Override
+            public byte[] apply( InputStream stream )
+            {
+                return readAll( stream );
+            }
+        } );
+    }
+
+    private static byte[] readAll( InputStream stream )
+    {
+        try
+        {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4];
+            int read;
+            while ( (read = stream.read( buffer, 0, buffer.length )) != -1 )
+            {
+                bytes.write( buffer, 0, read );
+            }
+            return bytes.toByteArray();
+        }
+        catch ( IOException e )
+        {
+            throw new UncheckedIOException( e );
+        }
+    }
+}
@@ -22,8 +22,10 @@ import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 
+import java.util.Iterator;
 import java.util.Map;
 
+import org.neo4j.driver.BulkWriteConfig;
 import org.neo4j.driver.Record;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.Statement;
@@ -32,6 +34,7 @@ import org.neo4j.driver.Transaction;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.TransactionWork;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.summary.BulkWriteSummary;
 import org.neo4j.driver.types.TypeSystem;
 
 /**
@@ -106,6 +109,12 @@ public class SessionExtension extends DatabaseExtension implements Session, Befo
         return realSession.writeTransaction( work, config );
     }
 
+    @Override
+    public BulkWriteSummary writeBulk( String statementTemplate, Iterator<? extends Map<String,Object>> rows, BulkWriteConfig config )
+    {
+        return realSession.writeBulk( statementTemplate, rows, config );
+    }
+
     @Override
     public String lastBookmark()
     {